@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListChangeEvent;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.databinding.observable.map.IObservableMap;
+import org.eclipse.core.databinding.observable.map.MapChangeEvent;
+import org.eclipse.core.databinding.observable.map.MapDiff;
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.core.databinding.observable.set.SetChangeEvent;
+import org.eclipse.core.databinding.observable.set.SetDiff;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+
+/**
+ * The change events deferred during a batch of a realm. Events of the same
+ * type fired by the same {@link ChangeManager} are merged into a single event
+ * which is fired when the batch ends.
+ *
+ * @see Realm#runBatch(Runnable)
+ * @since 1.14
+ */
+/* package */final class ChangeBatch {
+
+	/**
+	 * The merged events of a change manager, by listener type, in the order
+	 * in which the first event of each type was deferred. Change managers are
+	 * compared by identity since observable collections implement
+	 * <code>equals</code> by content.
+	 */
+	private final Map<ChangeManager, Map<Object, MergedEvent>> events = new IdentityHashMap<>();
+
+	/** The change managers in the order in which they deferred events. */
+	private final List<ChangeManager> managers = new ArrayList<>();
+
+	/**
+	 * Defers the given event if it can be merged.
+	 *
+	 * @param manager
+	 *            the change manager firing the event
+	 * @param event
+	 *            the event
+	 * @return <code>true</code> if the event has been deferred,
+	 *         <code>false</code> if it has to be fired immediately
+	 */
+	boolean defer(ChangeManager manager, ObservableEvent event) {
+		Object listenerType = event.getListenerType();
+		Map<Object, MergedEvent> managerEvents = events.get(manager);
+		MergedEvent merged = managerEvents != null ? managerEvents.get(listenerType) : null;
+		if (merged == null) {
+			merged = createMergedEvent(event);
+			if (merged == null)
+				return false;
+			if (managerEvents == null) {
+				managerEvents = new LinkedHashMap<>(4);
+				events.put(manager, managerEvents);
+				managers.add(manager);
+			}
+			managerEvents.put(listenerType, merged);
+		}
+		merged.merge(event);
+		return true;
+	}
+
+	/**
+	 * Fires the merged events.
+	 */
+	void fire() {
+		for (ChangeManager manager : managers) {
+			for (MergedEvent merged : events.get(manager).values()) {
+				ObservableEvent event = merged.createEvent();
+				if (event != null)
+					manager.fireEvent(event);
+			}
+		}
+	}
+
+	private static MergedEvent createMergedEvent(ObservableEvent event) {
+		if (event instanceof ChangeEvent)
+			return new MergedChangeEvent();
+		if (event instanceof ListChangeEvent)
+			return new MergedListChangeEvent<>();
+		if (event instanceof SetChangeEvent)
+			return new MergedSetChangeEvent<>();
+		if (event instanceof MapChangeEvent)
+			return new MergedMapChangeEvent<>();
+		if (event instanceof ValueChangeEvent)
+			return new MergedValueChangeEvent<>();
+		// stale, dispose, value changing and unknown events are not deferred
+		return null;
+	}
+
+	private static abstract class MergedEvent {
+		abstract void merge(ObservableEvent event);
+
+		/**
+		 * @return the merged event, or <code>null</code> if the merged
+		 *         changes cancel each other out
+		 */
+		abstract ObservableEvent createEvent();
+	}
+
+	private static final class MergedChangeEvent extends MergedEvent {
+		private ObservableEvent first;
+
+		@Override
+		void merge(ObservableEvent event) {
+			if (first == null)
+				first = event;
+		}
+
+		@Override
+		ObservableEvent createEvent() {
+			return first;
+		}
+	}
+
+	private static final class MergedListChangeEvent<E> extends MergedEvent {
+		private IObservableList<E> source;
+		private final List<ListDiffEntry<E>> entries = new ArrayList<>();
+
+		@SuppressWarnings("unchecked")
+		@Override
+		void merge(ObservableEvent event) {
+			ListChangeEvent<E> listEvent = (ListChangeEvent<E>) event;
+			source = listEvent.getObservableList();
+			Collections.addAll(entries, listEvent.diff.getDifferences());
+		}
+
+		@Override
+		ObservableEvent createEvent() {
+			return entries.isEmpty() ? null : new ListChangeEvent<>(source, Diffs.createListDiff(entries));
+		}
+	}
+
+	private static final class MergedSetChangeEvent<E> extends MergedEvent {
+		private IObservableSet<E> source;
+		private final Set<E> additions = new HashSet<>();
+		private final Set<E> removals = new HashSet<>();
+
+		@SuppressWarnings("unchecked")
+		@Override
+		void merge(ObservableEvent event) {
+			SetChangeEvent<E> setEvent = (SetChangeEvent<E>) event;
+			source = setEvent.getObservableSet();
+			SetDiff<E> diff = setEvent.diff;
+			for (E element : diff.getRemovals()) {
+				if (!additions.remove(element))
+					removals.add(element);
+			}
+			for (E element : diff.getAdditions()) {
+				if (!removals.remove(element))
+					additions.add(element);
+			}
+		}
+
+		@Override
+		ObservableEvent createEvent() {
+			if (additions.isEmpty() && removals.isEmpty())
+				return null;
+			return new SetChangeEvent<>(source, Diffs.createSetDiff(additions, removals));
+		}
+	}
+
+	private static final class MergedMapChangeEvent<K, V> extends MergedEvent {
+		private IObservableMap<K, V> source;
+
+		/** The keys which were contained before the batch, with their values. */
+		private final Map<K, V> oldValues = new HashMap<>();
+
+		/** The keys which are contained after the batch, with their values. */
+		private final Map<K, V> newValues = new HashMap<>();
+
+		/** All changed keys. */
+		private final Set<K> keys = new HashSet<>();
+
+		@SuppressWarnings("unchecked")
+		@Override
+		void merge(ObservableEvent event) {
+			MapChangeEvent<K, V> mapEvent = (MapChangeEvent<K, V>) event;
+			source = mapEvent.getObservableMap();
+			MapDiff<K, V> diff = mapEvent.diff;
+			for (K key : diff.getRemovedKeys()) {
+				if (keys.add(key))
+					oldValues.put(key, diff.getOldValue(key));
+				newValues.remove(key);
+			}
+			for (K key : diff.getChangedKeys()) {
+				if (keys.add(key))
+					oldValues.put(key, diff.getOldValue(key));
+				newValues.put(key, diff.getNewValue(key));
+			}
+			for (K key : diff.getAddedKeys()) {
+				keys.add(key);
+				newValues.put(key, diff.getNewValue(key));
+			}
+		}
+
+		@Override
+		ObservableEvent createEvent() {
+			Set<K> addedKeys = new HashSet<>();
+			Set<K> removedKeys = new HashSet<>();
+			Set<K> changedKeys = new HashSet<>();
+			for (K key : keys) {
+				boolean wasContained = oldValues.containsKey(key);
+				boolean isContained = newValues.containsKey(key);
+				if (wasContained && isContained) {
+					if (!Objects.equals(oldValues.get(key), newValues.get(key)))
+						changedKeys.add(key);
+				} else if (wasContained) {
+					removedKeys.add(key);
+				} else if (isContained) {
+					addedKeys.add(key);
+				}
+			}
+			if (addedKeys.isEmpty() && removedKeys.isEmpty() && changedKeys.isEmpty())
+				return null;
+			return new MapChangeEvent<>(source,
+					Diffs.createMapDiff(addedKeys, removedKeys, changedKeys, oldValues, newValues));
+		}
+	}
+
+	private static final class MergedValueChangeEvent<T> extends MergedEvent {
+		private IObservableValue<T> source;
+		private T oldValue;
+
+		/**
+		 * The diff of the last event, whose new value is only read when the
+		 * batch ends since computed values calculate it lazily.
+		 */
+		private ValueDiff<T> lastDiff;
+
+		@SuppressWarnings("unchecked")
+		@Override
+		void merge(ObservableEvent event) {
+			ValueChangeEvent<T> valueEvent = (ValueChangeEvent<T>) event;
+			if (source == null)
+				oldValue = valueEvent.diff.getOldValue();
+			source = valueEvent.getObservableValue();
+			lastDiff = valueEvent.diff;
+		}
+
+		@Override
+		ObservableEvent createEvent() {
+			T newValue = lastDiff.getNewValue();
+			if (Objects.equals(oldValue, newValue))
+				return null;
+			return new ValueChangeEvent<>(source, Diffs.createValueDiff(oldValue, newValue));
+		}
+	}
+}
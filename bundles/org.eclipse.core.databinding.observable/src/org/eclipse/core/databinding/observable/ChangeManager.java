@@ -17,6 +17,7 @@
 
 package org.eclipse.core.databinding.observable;
 
+import org.eclipse.core.internal.databinding.observable.ComputedScheduler;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ListenerList;
 
@@ -114,9 +115,21 @@ import org.eclipse.core.runtime.ListenerList;
 		Object listenerType = event.getListenerType();
 		int listenerTypeIndex = findListenerTypeIndex(listenerType);
 		if (listenerTypeIndex != -1) {
-			for (IObservablesListener listener : listenerLists[listenerTypeIndex]) {
-				event.dispatch(listener);
+			if (realm.deferEvent(this, event)) {
+				return;
 			}
+			// computed observables notified of the event are propagated once
+			// all listeners have been notified
+			ComputedScheduler scheduler = realm.getComputedScheduler();
+			scheduler.beginDispatch();
+			try {
+				for (IObservablesListener listener : listenerLists[listenerTypeIndex]) {
+					event.dispatch(listener);
+				}
+			} finally {
+				scheduler.endDispatch();
+			}
+			scheduler.propagate();
 		}
 	}
 
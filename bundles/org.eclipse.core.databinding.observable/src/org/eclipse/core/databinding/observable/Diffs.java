@@ -18,6 +18,7 @@
 package org.eclipse.core.databinding.observable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -31,7 +32,11 @@ import org.eclipse.core.databinding.observable.list.ListDiff;
 import org.eclipse.core.databinding.observable.list.ListDiffEntry;
 import org.eclipse.core.databinding.observable.map.MapDiff;
 import org.eclipse.core.databinding.observable.set.SetDiff;
+import org.eclipse.core.databinding.observable.value.DoubleValueDiff;
+import org.eclipse.core.databinding.observable.value.IntValueDiff;
+import org.eclipse.core.databinding.observable.value.LongValueDiff;
 import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.internal.databinding.observable.ListDiffComputer;
 
 /**
  * @since 1.0
@@ -204,8 +209,11 @@ public class Diffs {
 	 */
 	@SuppressWarnings("unchecked")
 	public static <V> ValueDiff<V> unmodifiableDiff(ValueDiff<? extends V> diff) {
-		// If the diff is already unmodifiable, there's no need to wrap it again
-		if (diff instanceof UnmodifiableValueDiff) {
+		// If the diff is already unmodifiable, there's no need to wrap it again.
+		// Primitive diffs are immutable, and are kept so that listeners can
+		// still read their values without boxing.
+		if (diff instanceof UnmodifiableValueDiff || diff instanceof IntValueDiff || diff instanceof LongValueDiff
+				|| diff instanceof DoubleValueDiff) {
 			return (ValueDiff<V>) diff;
 		}
 
@@ -214,7 +222,9 @@ public class Diffs {
 
 	/**
 	 * Returns a {@link ListDiff} describing the change between the specified
-	 * old and new list states.
+	 * old and new list states. The states are copied, the entries of the diff
+	 * are computed when they are first requested. Elements contained in both
+	 * states at different positions are reported as moves.
 	 *
 	 * @param <E>
 	 *            the list element type
@@ -227,9 +237,25 @@ public class Diffs {
 	 * @since 1.6
 	 */
 	public static <E> ListDiff<E> computeListDiff(List<? extends E> oldList, List<? extends E> newList) {
-		List<ListDiffEntry<E>> diffEntries = new ArrayList<>();
-		createListDiffs(new ArrayList<>(oldList), newList, diffEntries);
-		return createListDiff(diffEntries);
+		final Object[] oldElements = oldList.toArray();
+		final Object[] newElements = newList.toArray();
+		return new ListDiff<>() {
+			ListDiffEntry<E>[] differences;
+
+			@Override
+			public ListDiffEntry<E>[] getDifferences() {
+				if (differences == null) {
+					List<ListDiffEntry<E>> entries = ListDiffComputer.computeDifferences(oldElements, newElements);
+					differences = entries.toArray(new ListDiffEntry[entries.size()]);
+				}
+				return differences;
+			}
+
+			@Override
+			public boolean isEmpty() {
+				return differences == null ? Arrays.equals(oldElements, newElements) : differences.length == 0;
+			}
+		};
 	}
 
 	/**
@@ -262,95 +288,6 @@ public class Diffs {
 		};
 	}
 
-	/**
-	 * adapted from EMF's ListDifferenceAnalyzer
-	 */
-	private static <E> void createListDiffs(List<E> oldList, List<? extends E> newList,
-			List<ListDiffEntry<E>> listDiffs) {
-		int index = 0;
-		for (E newValue : newList) {
-			if (oldList.size() <= index) {
-				// append newValue to newList
-				listDiffs.add(createListDiffEntry(index, true, newValue));
-			} else {
-				boolean done;
-				do {
-					done = true;
-					E oldValue = oldList.get(index);
-					if (oldValue == null ? newValue != null : !oldValue
-							.equals(newValue)) {
-						int oldIndexOfNewValue = listIndexOf(oldList, newValue,
-								index);
-						if (oldIndexOfNewValue != -1) {
-							int newIndexOfOldValue = listIndexOf(newList,
-									oldValue, index);
-							if (newIndexOfOldValue == -1) {
-								// removing oldValue from list[index]
-								listDiffs.add(createListDiffEntry(index, false,
-										oldValue));
-								oldList.remove(index);
-								done = false;
-							} else if (newIndexOfOldValue > oldIndexOfNewValue) {
-								// moving oldValue from list[index] to
-								// [newIndexOfOldValue]
-								if (oldList.size() <= newIndexOfOldValue) {
-									// The element cannot be moved to the
-									// correct index
-									// now, however later iterations will insert
-									// elements
-									// in front of it, eventually moving it into
-									// the
-									// correct spot.
-									newIndexOfOldValue = oldList.size() - 1;
-								}
-								listDiffs.add(createListDiffEntry(index, false,
-										oldValue));
-								oldList.remove(index);
-								listDiffs.add(createListDiffEntry(
-										newIndexOfOldValue, true, oldValue));
-								oldList.add(newIndexOfOldValue, oldValue);
-								done = false;
-							} else {
-								// move newValue from list[oldIndexOfNewValue]
-								// to [index]
-								listDiffs.add(createListDiffEntry(
-										oldIndexOfNewValue, false, newValue));
-								oldList.remove(oldIndexOfNewValue);
-								listDiffs.add(createListDiffEntry(index, true,
-										newValue));
-								oldList.add(index, newValue);
-							}
-						} else {
-							// add newValue at list[index]
-							oldList.add(index, newValue);
-							listDiffs.add(createListDiffEntry(index, true,
-									newValue));
-						}
-					}
-				} while (!done);
-			}
-			++index;
-		}
-		for (int i = oldList.size(); i > index;) {
-			// remove excess trailing elements not present in newList
-			listDiffs.add(createListDiffEntry(--i, false, oldList.get(i)));
-		}
-	}
-
-	/**
-	 * @return the index, or -1 if not found
-	 */
-	private static <E> int listIndexOf(List<E> list, Object object, int index) {
-		int size = list.size();
-		for (int i = index; i < size; i++) {
-			Object candidate = list.get(i);
-			if (candidate == null ? object == null : candidate.equals(object)) {
-				return i;
-			}
-		}
-		return -1;
-	}
-
 	/**
 	 * Checks whether the two objects are <code>null</code> -- allowing for
 	 * <code>null</code>.
@@ -576,6 +513,78 @@ public class Diffs {
 		};
 	}
 
+	/**
+	 * Creates a diff between two <code>int</code> values which does not box the
+	 * values unless they are requested as objects.
+	 *
+	 * @param oldValue the old value
+	 * @param newValue the new value
+	 * @return a value diff
+	 * @since 1.14
+	 */
+	public static IntValueDiff createIntValueDiff(final int oldValue, final int newValue) {
+		return new IntValueDiff() {
+
+			@Override
+			public int getOldIntValue() {
+				return oldValue;
+			}
+
+			@Override
+			public int getNewIntValue() {
+				return newValue;
+			}
+		};
+	}
+
+	/**
+	 * Creates a diff between two <code>long</code> values which does not box the
+	 * values unless they are requested as objects.
+	 *
+	 * @param oldValue the old value
+	 * @param newValue the new value
+	 * @return a value diff
+	 * @since 1.14
+	 */
+	public static LongValueDiff createLongValueDiff(final long oldValue, final long newValue) {
+		return new LongValueDiff() {
+
+			@Override
+			public long getOldLongValue() {
+				return oldValue;
+			}
+
+			@Override
+			public long getNewLongValue() {
+				return newValue;
+			}
+		};
+	}
+
+	/**
+	 * Creates a diff between two <code>double</code> values which does not box the
+	 * values unless they are requested as objects.
+	 *
+	 * @param oldValue the old value
+	 * @param newValue the new value
+	 * @return a value diff
+	 * @since 1.14
+	 */
+	public static DoubleValueDiff createDoubleValueDiff(final double oldValue, final double newValue) {
+		return new DoubleValueDiff() {
+
+			@Override
+			public double getOldDoubleValue() {
+				return oldValue;
+			}
+
+			@Override
+			public double getNewDoubleValue() {
+				return newValue;
+			}
+		};
+	}
+
 	/**
 	 * @param <E>
 	 *            the set element type
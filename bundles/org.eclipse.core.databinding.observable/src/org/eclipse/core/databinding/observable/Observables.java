@@ -44,6 +44,8 @@ import org.eclipse.core.internal.databinding.observable.DelayedObservableValue;
 import org.eclipse.core.internal.databinding.observable.EmptyObservableList;
 import org.eclipse.core.internal.databinding.observable.EmptyObservableSet;
 import org.eclipse.core.internal.databinding.observable.MapEntryObservableValue;
+import org.eclipse.core.internal.databinding.observable.RealmBridgeObservableList;
+import org.eclipse.core.internal.databinding.observable.RealmBridgeObservableValue;
 import org.eclipse.core.internal.databinding.observable.StalenessObservableValue;
 import org.eclipse.core.internal.databinding.observable.UnmodifiableObservableList;
 import org.eclipse.core.internal.databinding.observable.UnmodifiableObservableMap;
@@ -105,6 +107,75 @@ public class Observables {
 		return new DelayedObservableValue<>(delay, observable);
 	}
 
+	/**
+	 * Returns an unmodifiable observable value in the given realm which
+	 * presents the value of the given observable value of another realm, for
+	 * example of a {@link WorkerRealm}. All changes of the observable which
+	 * happen before the returned value is updated in its realm are marshaled to
+	 * that realm as a single value change event.
+	 * <p>
+	 * The returned value is stale until the value of <code>observable</code>
+	 * has been received. The value of <code>observable</code> is handed over to
+	 * the given realm, so it must either be immutable or not be modified after
+	 * it has been set.
+	 * </p>
+	 * <p>
+	 * This method must be invoked from within the given realm.
+	 * </p>
+	 *
+	 * @param <T>
+	 *            the value type
+	 *
+	 * @param realm
+	 *            the realm of the returned value
+	 * @param observable
+	 *            the observable value to present
+	 * @return an unmodifiable observable value in the given realm presenting
+	 *         the value of <code>observable</code>
+	 *
+	 * @since 1.14
+	 */
+	public static <T> IObservableValue<T> observeInRealm(Realm realm, IObservableValue<T> observable) {
+		Assert.isNotNull(realm, "Argument 'realm' cannot be null"); //$NON-NLS-1$
+		Assert.isNotNull(observable, "Argument 'observable' cannot be null"); //$NON-NLS-1$
+		return new RealmBridgeObservableValue<>(realm, observable);
+	}
+
+	/**
+	 * Returns an unmodifiable observable list in the given realm which
+	 * presents the contents of the given observable list of another realm, for
+	 * example a {@link org.eclipse.core.databinding.observable.list.ComputedList}
+	 * of a {@link WorkerRealm}. All changes of the observable which happen
+	 * before the returned list is updated in its realm are marshaled to that
+	 * realm as a single list change event with the net difference.
+	 * <p>
+	 * The returned list is stale until the contents of <code>observable</code>
+	 * have been received. The elements of <code>observable</code> are handed
+	 * over to the given realm, so they must either be immutable or not be
+	 * modified once they have been added.
+	 * </p>
+	 * <p>
+	 * This method must be invoked from within the given realm.
+	 * </p>
+	 *
+	 * @param <E>
+	 *            the element type
+	 *
+	 * @param realm
+	 *            the realm of the returned list
+	 * @param observable
+	 *            the observable list to present
+	 * @return an unmodifiable observable list in the given realm presenting the
+	 *         contents of <code>observable</code>
+	 *
+	 * @since 1.14
+	 */
+	public static <E> IObservableList<E> observeInRealm(Realm realm, IObservableList<E> observable) {
+		Assert.isNotNull(realm, "Argument 'realm' cannot be null"); //$NON-NLS-1$
+		Assert.isNotNull(observable, "Argument 'observable' cannot be null"); //$NON-NLS-1$
+		return new RealmBridgeObservableList<>(realm, observable);
+	}
+
 	/**
 	 * Returns an unmodifiable observable value backed by the given observable
 	 * value.
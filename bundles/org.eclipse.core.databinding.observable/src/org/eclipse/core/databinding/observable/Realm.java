@@ -21,7 +21,9 @@ import java.util.Timer;
 import java.util.TimerTask;
 
 import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.internal.databinding.observable.ComputedScheduler;
 import org.eclipse.core.internal.databinding.observable.Queue;
+import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.SafeRunner;
@@ -128,6 +130,12 @@ public abstract class Realm {
 
 	Queue workQueue = new Queue();
 
+	private int batchDepth;
+
+	private ChangeBatch changeBatch;
+
+	private ComputedScheduler computedScheduler;
+
 	/**
 	 * Runs the given runnable. If an exception occurs within the runnable, it is
 	 * logged and not re-thrown. If the runnable implements {@link ISafeRunnable},
@@ -324,6 +332,81 @@ public abstract class Realm {
 		}
 	}
 
+	/**
+	 * Runs the given runnable as a batch of changes. Change, list change, set
+	 * change, map change and value change events fired by observables of this
+	 * realm while the runnable runs are deferred; when the batch ends, the
+	 * events of each observable are merged and one event per observable and
+	 * event type is fired. Changes which cancel each other out are dropped from
+	 * the merged diffs. Stale, dispose and value changing events are fired
+	 * immediately.
+	 * <p>
+	 * Batches may be nested, the events are fired when the outermost batch
+	 * ends. Note that observables which derive their state from the events of
+	 * other observables, such as computed or detail observables, are only
+	 * updated when the batch ends.
+	 * </p>
+	 * <p>
+	 * This method must be called from within this realm.
+	 * </p>
+	 *
+	 * @param runnable
+	 *            the runnable making the changes
+	 * @since 1.14
+	 */
+	public void runBatch(Runnable runnable) {
+		Assert.isTrue(isCurrent(), "This operation must be run within the realm"); //$NON-NLS-1$
+		if (batchDepth++ == 0) {
+			changeBatch = new ChangeBatch();
+		}
+		try {
+			runnable.run();
+		} finally {
+			if (--batchDepth == 0) {
+				ChangeBatch batch = changeBatch;
+				changeBatch = null;
+				batch.fire();
+			}
+		}
+	}
+
+	/**
+	 * Returns whether a batch of changes is running in this realm.
+	 *
+	 * @return <code>true</code> if change events are currently deferred
+	 * @see #runBatch(Runnable)
+	 * @since 1.14
+	 */
+	public boolean isBatching() {
+		return batchDepth > 0;
+	}
+
+	/**
+	 * Defers the given event until the current batch ends.
+	 *
+	 * @param manager
+	 *            the change manager firing the event
+	 * @param event
+	 *            the event
+	 * @return <code>true</code> if the event has been deferred
+	 */
+	/* package */boolean deferEvent(ChangeManager manager, ObservableEvent event) {
+		return changeBatch != null && changeBatch.defer(manager, event);
+	}
+
+	/**
+	 * Returns the scheduler propagating changes through the computed
+	 * observables of this realm.
+	 *
+	 * @return the scheduler of this realm
+	 */
+	/* package */ComputedScheduler getComputedScheduler() {
+		if (computedScheduler == null) {
+			computedScheduler = ComputedScheduler.getScheduler(this);
+		}
+		return computedScheduler;
+	}
+
 	/**
 	 * Sets the provided <code>realm</code> as the default for the duration of
 	 * {@link Runnable#run()} and resets the previous realm after completion.
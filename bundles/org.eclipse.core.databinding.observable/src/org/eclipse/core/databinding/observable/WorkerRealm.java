@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * A realm which executes all runnables on a single designated worker thread.
+ * Observables of a worker realm, for example models, computed lists or the
+ * model side of bindings, are accessed and notify their listeners off the UI
+ * thread, so that expensive conversions, validations and computations do not
+ * block the UI.
+ * <p>
+ * The worker realm is the default realm of its thread. Observables created by
+ * runnables executed in the worker realm without an explicit realm therefore
+ * belong to the worker realm.
+ * </p>
+ * <p>
+ * Observables of a worker realm can be presented in another realm, e.g. the
+ * realm of the display, using bindings or the observables returned by
+ * {@link Observables#observeInRealm(Realm, org.eclipse.core.databinding.observable.list.IObservableList)}
+ * and
+ * {@link Observables#observeInRealm(Realm, org.eclipse.core.databinding.observable.value.IObservableValue)}.
+ * </p>
+ * <p>
+ * The worker thread is a daemon thread which is started when the first
+ * runnable is executed, and stopped when the realm is disposed.
+ * </p>
+ *
+ * @since 1.14
+ */
+public class WorkerRealm extends Realm {
+
+	private final ExecutorService executor;
+
+	private volatile Thread thread;
+
+	/**
+	 * Creates a new worker realm.
+	 *
+	 * @param name
+	 *            the name of the worker thread
+	 */
+	public WorkerRealm(String name) {
+		executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread newThread = new Thread(() -> runWithDefault(this, runnable), name);
+			newThread.setDaemon(true);
+			thread = newThread;
+			return newThread;
+		});
+	}
+
+	@Override
+	public boolean isCurrent() {
+		return Thread.currentThread() == thread;
+	}
+
+	/**
+	 * Causes the <code>run()</code> method of the runnable to be invoked on the
+	 * worker thread. Runnables are executed in the order in which they were
+	 * passed to this method. If the realm has been disposed, the runnable is
+	 * not executed.
+	 */
+	@Override
+	public void asyncExec(Runnable runnable) {
+		try {
+			executor.execute(() -> safeRun(runnable));
+		} catch (RejectedExecutionException e) {
+			// the realm has been disposed
+		}
+	}
+
+	/**
+	 * Runs the runnable directly if called on the worker thread, otherwise
+	 * waits until the worker thread has run it. If the realm has been
+	 * disposed, the runnable is not executed.
+	 */
+	@Override
+	protected void syncExec(Runnable runnable) {
+		if (isCurrent()) {
+			safeRun(runnable);
+			return;
+		}
+		Future<?> future;
+		try {
+			future = executor.submit(() -> safeRun(runnable));
+		} catch (RejectedExecutionException e) {
+			// the realm has been disposed
+			return;
+		}
+		try {
+			future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// not thrown since safeRun handles all exceptions
+		}
+	}
+
+	/**
+	 * Stops the worker thread once the runnables which have already been
+	 * passed to {@link #asyncExec(Runnable)} have been executed. Runnables
+	 * passed to this realm afterwards are not executed.
+	 */
+	public void dispose() {
+		executor.shutdown();
+	}
+
+	/**
+	 * Returns whether this realm has been disposed.
+	 *
+	 * @return <code>true</code> if the realm has been disposed
+	 */
+	public boolean isDisposed() {
+		return executor.isShutdown();
+	}
+}
@@ -23,15 +23,14 @@ import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-import org.eclipse.core.databinding.observable.ChangeEvent;
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.IChangeListener;
 import org.eclipse.core.databinding.observable.IObservable;
-import org.eclipse.core.databinding.observable.IStaleListener;
 import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.internal.databinding.observable.ComputedScheduler;
 
 /**
  * A lazily calculated list that automatically computes and registers listeners
@@ -39,6 +38,11 @@ import org.eclipse.core.databinding.observable.value.IObservableValue;
  * {@link IObservable} objects. Any change to one of the observable dependencies
  * causes the list to be recomputed.
  * <p>
+ * Changes are propagated through computed observables of the same realm in
+ * dependency order, see
+ * {@link org.eclipse.core.databinding.observable.value.ComputedValue}.
+ * </p>
+ * <p>
  * This class is thread safe. All state accessing methods must be invoked from
  * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
  * listeners may be invoked from any thread.
@@ -88,7 +92,10 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 	private boolean dirty = true;
 	private boolean stale = false;
 
-	private IObservable[] dependencies = new IObservable[0];
+	/**
+	 * The list before the pending change notification.
+	 */
+	private List<E> oldList;
 
 	/**
 	 * Factory method to create {@link ComputedList} objects in an easy manner.
@@ -156,6 +163,7 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 	public ComputedList(Realm realm, Object elementType) {
 		super(realm);
 		this.elementType = elementType;
+		this.privateInterface = new PrivateInterface(realm);
 	}
 
 	/**
@@ -169,17 +177,15 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 	 * </p>
 	 *
 	 * <p>
-	 * The IChangeListener stores each observable in the dependencies list. This
-	 * is registered as the listener when calling ObservableTracker, to detect
-	 * every observable that is used by computeValue.
-	 * </p>
-	 *
-	 * <p>
-	 * The IChangeListener is attached to every dependency.
+	 * The scheduler node is attached to every dependency and marks this list
+	 * dirty when a dependency changes.
 	 * </p>
 	 */
-	private class PrivateInterface implements Runnable, IChangeListener,
-			IStaleListener {
+	private class PrivateInterface extends ComputedScheduler.Node implements Runnable {
+		PrivateInterface(Realm realm) {
+			super(realm, ComputedList.this);
+		}
+
 		@Override
 		public void run() {
 			cachedList = calculate();
@@ -194,12 +200,45 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 		}
 
 		@Override
-		public void handleChange(ChangeEvent event) {
-			makeDirty();
+		protected boolean makeDirty() {
+			if (dirty)
+				return false;
+			dirty = true;
+			// copy the old list, keeping the list of an earlier change not yet
+			// notified
+			if (!isNotificationPending())
+				oldList = new ArrayList<>(cachedList);
+			return true;
+		}
+
+		@Override
+		protected boolean isObserved() {
+			return hasListeners();
+		}
+
+		@Override
+		protected void fireChange() {
+			final List<E> oldList = ComputedList.this.oldList;
+			ComputedList.this.oldList = null;
+			if (dirty)
+				makeStale();
+			// Fire the "dirty" event. This implementation recomputes the new
+			// list lazily.
+			fireListChange(new ListDiff<E>() {
+				ListDiffEntry<E>[] differences;
+
+				@Override
+				public ListDiffEntry<E>[] getDifferences() {
+					if (differences == null) {
+						differences = Diffs.computeListDiff(oldList, getList()).getDifferences();
+					}
+					return differences;
+				}
+			});
 		}
 	}
 
-	private PrivateInterface privateInterface = new PrivateInterface();
+	private final PrivateInterface privateInterface;
 
 	private Object elementType;
 
@@ -220,33 +259,22 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 	}
 
 	final List<E> doGetList() {
+		privateInterface.read();
 		if (dirty) {
 			// This line will do the following:
 			// - Run the calculate method
-			// - While doing so, add any observable that is touched to the
-			// dependencies list
-			IObservable[] newDependencies = ObservableTracker.runAndMonitor(
-					privateInterface, privateInterface, null);
+			// - While doing so, listen to any observable that is touched,
+			// keeping the listeners of dependencies which are still used
+			IObservable[] newDependencies = privateInterface.compute(privateInterface);
 
 			// If any dependencies are stale, a stale event will be fired here
 			// even if we were already stale before recomputing. This is in case
 			// clients assume that a list change is indicative of non-staleness.
 			stale = false;
-			for (IObservable newDependency : newDependencies) {
-				if (newDependency.isStale()) {
-					makeStale();
-					break;
-				}
-			}
-
-			if (!stale) {
-				for (IObservable newDependency : newDependencies) {
-					newDependency.addStaleListener(privateInterface);
-				}
+			if (ComputedScheduler.isAnyStale(newDependencies)) {
+				makeStale();
 			}
 
-			dependencies = newDependencies;
-
 			dirty = false;
 		}
 
@@ -267,42 +295,6 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 	 */
 	protected abstract List<E> calculate();
 
-	private void makeDirty() {
-		if (!dirty) {
-			dirty = true;
-
-			makeStale();
-
-			stopListening();
-
-			// copy the old list
-			final List<E> oldList = new ArrayList<>(cachedList);
-			// Fire the "dirty" event. This implementation recomputes the new
-			// list lazily.
-			fireListChange(new ListDiff<E>() {
-				ListDiffEntry<E>[] differences;
-
-				@Override
-				public ListDiffEntry<E>[] getDifferences() {
-					if (differences == null) {
-						differences = Diffs.computeListDiff(oldList, getList()).getDifferences();
-					}
-					return differences;
-				}
-			});
-		}
-	}
-
-	private void stopListening() {
-		if (dependencies != null) {
-			for (IObservable observable : dependencies) {
-				observable.removeChangeListener(privateInterface);
-				observable.removeStaleListener(privateInterface);
-			}
-			dependencies = null;
-		}
-	}
-
 	private void makeStale() {
 		if (!stale) {
 			stale = true;
@@ -348,19 +340,27 @@ public abstract class ComputedList<E> extends AbstractObservableList<E> {
 		// been executed. It is their job to figure out what to do with those
 		// notifications.
 		getRealm().exec(() -> {
-			if (dependencies == null) {
-				// We are not currently listening.
+			if (dirty) {
+				// We do not notify changes until we are recomputed.
 				// But someone is listening for changes. Call getValue()
-				// to make sure we start listening to the observables we
-				// depend on.
+				// to make sure we are notified of changes of the
+				// observables we depend on.
 				getList();
 			}
 		});
 	}
 
+	@Override
+	protected void lastListenerRemoved() {
+		super.lastListenerRemoved();
+		// Stop listening to our dependencies, so that we can be garbage
+		// collected if nobody else references us.
+		privateInterface.lastListenerRemoved();
+	}
+
 	@Override
 	public synchronized void dispose() {
-		stopListening();
+		privateInterface.dispose();
 		super.dispose();
 	}
 }
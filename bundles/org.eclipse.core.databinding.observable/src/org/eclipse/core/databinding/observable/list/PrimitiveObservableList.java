@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.list;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.runtime.Assert;
+
+/**
+ * Common implementation of the observable lists which store their elements
+ * unboxed in an array of a primitive type. It maintains the size and capacity
+ * of the array, implements the {@link java.util.List} methods in terms of
+ * boxed elements and creates the change events. Subclasses only provide the
+ * access to the array and the primitive variants of the accessors, which use
+ * {@link #openGap(int)}, {@link #fireAdded(int)}, {@link #fireReplaced(int,
+ * Object)}, {@link #removeAt(int)} and {@link #replaceAll(Object)} to update
+ * the array.
+ *
+ * @param <E>
+ *            the boxed type of the elements
+ * @param <A>
+ *            the type of the array holding the elements
+ */
+abstract class PrimitiveObservableList<E, A> extends AbstractObservableList<E> {
+
+	/**
+	 * The elements, followed by unused capacity.
+	 */
+	A elements;
+
+	/**
+	 * The number of elements.
+	 */
+	int size;
+
+	PrimitiveObservableList(Realm realm, A elements, int size) {
+		super(realm);
+		this.elements = elements;
+		this.size = size;
+	}
+
+	/**
+	 * @param length
+	 *            the length of the array
+	 * @return a new array of the given length
+	 */
+	abstract A newArray(int length);
+
+	/**
+	 * @param array
+	 *            an array of elements
+	 * @return the length of the given array
+	 */
+	abstract int length(A array);
+
+	/**
+	 * @param array
+	 *            an array of elements
+	 * @param index
+	 *            the position of the element
+	 * @return the boxed element at the given position of the array
+	 */
+	abstract E box(A array, int index);
+
+	/**
+	 * Stores the given element at the given position of the array.
+	 *
+	 * @param array
+	 *            an array of elements
+	 * @param index
+	 *            the position of the element
+	 * @param element
+	 *            the element, not <code>null</code>
+	 */
+	abstract void unbox(A array, int index, E element);
+
+	/**
+	 * @param oldArray
+	 *            an array of elements
+	 * @param newArray
+	 *            another array of elements
+	 * @param index
+	 *            the position of the elements
+	 * @return whether the elements at the given position of both arrays are
+	 *         identical
+	 */
+	abstract boolean isSame(A oldArray, A newArray, int index);
+
+	@Override
+	protected int doGetSize() {
+		return size;
+	}
+
+	@Override
+	public E get(int index) {
+		ObservableTracker.getterCalled(this);
+		Objects.checkIndex(index, size);
+		return box(elements, index);
+	}
+
+	@Override
+	public E set(int index, E element) {
+		checkRealm();
+		checkElement(element);
+		Objects.checkIndex(index, size);
+		E oldElement = box(elements, index);
+		if (!oldElement.equals(element)) {
+			unbox(elements, index, element);
+			fireReplaced(index, oldElement);
+		}
+		return oldElement;
+	}
+
+	@Override
+	public boolean add(E element) {
+		add(size, element);
+		return true;
+	}
+
+	@Override
+	public void add(int index, E element) {
+		checkRealm();
+		checkElement(element);
+		Objects.checkIndex(index, size + 1);
+		openGap(index);
+		unbox(elements, index, element);
+		fireAdded(index);
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends E> c) {
+		return addAll(size, c);
+	}
+
+	@Override
+	public boolean addAll(int index, Collection<? extends E> c) {
+		checkRealm();
+		Objects.checkIndex(index, size + 1);
+		Object[] added = c.toArray();
+		if (added.length == 0) {
+			return false;
+		}
+		for (Object element : added) {
+			checkElement(element);
+		}
+		ensureCapacity(size + added.length);
+		System.arraycopy(elements, index, elements, index + added.length, size - index);
+		for (int i = 0; i < added.length; i++) {
+			@SuppressWarnings("unchecked")
+			E element = (E) added[i];
+			unbox(elements, index + i, element);
+		}
+		size += added.length;
+		modCount++;
+		if (hasListeners()) {
+			@SuppressWarnings("unchecked")
+			ListDiffEntry<E>[] entries = new ListDiffEntry[added.length];
+			for (int i = 0; i < added.length; i++) {
+				entries[i] = Diffs.createListDiffEntry(index + i, true, box(elements, index + i));
+			}
+			fireListChange(Diffs.createListDiff(entries));
+		}
+		return true;
+	}
+
+	@Override
+	public E remove(int index) {
+		checkRealm();
+		Objects.checkIndex(index, size);
+		E oldElement = box(elements, index);
+		removeAt(index);
+		return oldElement;
+	}
+
+	@Override
+	public E move(int oldIndex, int newIndex) {
+		checkRealm();
+		Objects.checkIndex(oldIndex, size);
+		Objects.checkIndex(newIndex, size);
+		E element = box(elements, oldIndex);
+		if (oldIndex == newIndex) {
+			return element;
+		}
+		if (oldIndex < newIndex) {
+			System.arraycopy(elements, oldIndex + 1, elements, oldIndex, newIndex - oldIndex);
+		} else {
+			System.arraycopy(elements, newIndex, elements, newIndex + 1, oldIndex - newIndex);
+		}
+		unbox(elements, newIndex, element);
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(Diffs.createListDiffEntry(oldIndex, false, element),
+					Diffs.createListDiffEntry(newIndex, true, element)));
+		}
+		return element;
+	}
+
+	@Override
+	public void clear() {
+		checkRealm();
+		replaceAll(newArray(0));
+	}
+
+	/**
+	 * Inserts room for one element at the given position, which the caller
+	 * fills before calling {@link #fireAdded(int)}.
+	 *
+	 * @param index
+	 *            the position of the new element
+	 */
+	final void openGap(int index) {
+		ensureCapacity(size + 1);
+		System.arraycopy(elements, index, elements, index + 1, size - index);
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Fires the addition of the element at the given position, if there are
+	 * listeners.
+	 *
+	 * @param index
+	 *            the position of the added element
+	 */
+	final void fireAdded(int index) {
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(Diffs.createListDiffEntry(index, true, box(elements, index))));
+		}
+	}
+
+	/**
+	 * Fires the replacement of the given element by the element at the given
+	 * position. Callers which hold the old element unboxed only call this if
+	 * there are listeners, to avoid boxing it.
+	 *
+	 * @param index
+	 *            the position of the replaced element
+	 * @param oldElement
+	 *            the replaced element
+	 */
+	final void fireReplaced(int index, E oldElement) {
+		if (hasListeners()) {
+			fireListChange(Diffs.createListDiff(Diffs.createListDiffEntry(index, false, oldElement),
+					Diffs.createListDiffEntry(index, true, box(elements, index))));
+		}
+	}
+
+	/**
+	 * Removes the element at the given position and fires its removal, if
+	 * there are listeners.
+	 *
+	 * @param index
+	 *            the position of the element
+	 */
+	final void removeAt(int index) {
+		E oldElement = hasListeners() ? box(elements, index) : null;
+		System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+		size--;
+		modCount++;
+		if (oldElement != null) {
+			fireListChange(Diffs.createListDiff(Diffs.createListDiffEntry(index, false, oldElement)));
+		}
+	}
+
+	/**
+	 * Replaces all elements with the given array, which is not copied, and
+	 * fires a single change event for the elements which changed.
+	 *
+	 * @param newElements
+	 *            the new elements
+	 */
+	final void replaceAll(A newElements) {
+		A oldElements = elements;
+		int oldSize = size;
+		elements = newElements;
+		size = length(newElements);
+		modCount++;
+		if (hasListeners()) {
+			ReplaceDiff diff = new ReplaceDiff(oldElements, oldSize, newElements);
+			if (!diff.isEmpty()) {
+				fireListChange(diff);
+			}
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		int length = length(elements);
+		if (capacity > length) {
+			A newElements = newArray(Math.max(capacity, length + (length >> 1) + 1));
+			System.arraycopy(elements, 0, newElements, 0, size);
+			elements = newElements;
+		}
+	}
+
+	private void checkElement(Object element) {
+		Assert.isNotNull(element, "Primitive lists cannot contain null"); //$NON-NLS-1$
+	}
+
+	/**
+	 * The diff between two arrays of elements, consisting of replacements of
+	 * the changed elements at the positions which exist before and after the
+	 * change, followed by the removals or additions at the end. The entries
+	 * are created when they are first requested.
+	 */
+	private final class ReplaceDiff extends ListDiff<E> {
+		private final A oldElements;
+		private final int oldSize;
+		private final A newElements;
+		private final int newSize;
+		private final int[] changedIndices;
+		private ListDiffEntry<E>[] differences;
+
+		ReplaceDiff(A oldElements, int oldSize, A newElements) {
+			this.oldElements = oldElements;
+			this.oldSize = oldSize;
+			this.newElements = newElements;
+			this.newSize = length(newElements);
+			int commonSize = Math.min(oldSize, newSize);
+			int[] indices = new int[commonSize];
+			int count = 0;
+			for (int i = 0; i < commonSize; i++) {
+				if (!isSame(oldElements, newElements, i)) {
+					indices[count++] = i;
+				}
+			}
+			this.changedIndices = Arrays.copyOf(indices, count);
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return changedIndices.length == 0 && oldSize == newSize;
+		}
+
+		@Override
+		public ListDiffEntry<E>[] getDifferences() {
+			if (differences == null) {
+				@SuppressWarnings("unchecked")
+				ListDiffEntry<E>[] entries = new ListDiffEntry[2 * changedIndices.length
+						+ Math.abs(oldSize - newSize)];
+				int count = 0;
+				for (int index : changedIndices) {
+					entries[count++] = Diffs.createListDiffEntry(index, false, box(oldElements, index));
+					entries[count++] = Diffs.createListDiffEntry(index, true, box(newElements, index));
+				}
+				// remove from the back, which is cheaper for most lists
+				for (int i = oldSize - 1; i >= newSize; i--) {
+					entries[count++] = Diffs.createListDiffEntry(i, false, box(oldElements, i));
+				}
+				for (int i = oldSize; i < newSize; i++) {
+					entries[count++] = Diffs.createListDiffEntry(i, true, box(newElements, i));
+				}
+				differences = entries;
+			}
+			return differences;
+		}
+	}
+}
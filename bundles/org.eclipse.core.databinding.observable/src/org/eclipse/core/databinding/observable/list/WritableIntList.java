@@ -0,0 +1,227 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.list;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Mutable (writable) implementation of {@link IObservableList} of
+ * <code>int</code> values.
+ * <p>
+ * The elements are stored unboxed in an array. They can be read and written
+ * without boxing using {@link #getInt(int)}, {@link #setInt(int, int)}, {@link
+ * #addInt(int)}, {@link #removeInt(int)}, {@link #toIntArray()} and {@link
+ * #setInts(int[])}, and change events are only created if there are listeners.
+ * Setting an element to its current value does not fire a change event. The
+ * entries of the diff fired by {@link #setInts(int[])} are only created when
+ * they are requested, and only for the elements which changed. Since the
+ * elements are boxed whenever they are read as objects, reading the same
+ * element twice may return different but equal objects. The element type of
+ * this list is <code>Integer.TYPE</code> and it never contains
+ * <code>null</code>.
+ * </p>
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @since 1.14
+ *
+ */
+public class WritableIntList extends PrimitiveObservableList<Integer, int[]> {
+
+	/**
+	 * Creates an empty list in the default realm.
+	 */
+	public WritableIntList() {
+		this(Realm.getDefault());
+	}
+
+	/**
+	 * Creates an empty list in the given realm.
+	 *
+	 * @param realm
+	 *            the realm
+	 */
+	public WritableIntList(Realm realm) {
+		this(realm, new int[0]);
+	}
+
+	/**
+	 * Creates a list in the default realm containing the given elements. The
+	 * array is copied.
+	 *
+	 * @param elements
+	 *            the initial elements
+	 */
+	public WritableIntList(int[] elements) {
+		this(Realm.getDefault(), elements);
+	}
+
+	/**
+	 * Creates a list in the given realm containing the given elements. The
+	 * array is copied.
+	 *
+	 * @param realm
+	 *            the realm
+	 * @param elements
+	 *            the initial elements
+	 */
+	public WritableIntList(Realm realm, int[] elements) {
+		super(realm, elements.clone(), elements.length);
+	}
+
+	@Override
+	int[] newArray(int length) {
+		return new int[length];
+	}
+
+	@Override
+	int length(int[] array) {
+		return array.length;
+	}
+
+	@Override
+	Integer box(int[] array, int index) {
+		return array[index];
+	}
+
+	@Override
+	void unbox(int[] array, int index, Integer element) {
+		array[index] = element;
+	}
+
+	@Override
+	boolean isSame(int[] oldArray, int[] newArray, int index) {
+		return oldArray[index] == newArray[index];
+	}
+
+	/**
+	 * Returns the element at the given position without boxing it.
+	 *
+	 * @param index
+	 *            the position of the element
+	 * @return the element at the given position
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range
+	 */
+	public int getInt(int index) {
+		ObservableTracker.getterCalled(this);
+		Objects.checkIndex(index, size);
+		return elements[index];
+	}
+
+	/**
+	 * Returns a new array containing the elements of this list.
+	 *
+	 * @return the elements
+	 */
+	public int[] toIntArray() {
+		ObservableTracker.getterCalled(this);
+		return Arrays.copyOf(elements, size);
+	}
+
+	/**
+	 * Replaces the element at the given position without boxing it.
+	 *
+	 * @param index
+	 *            the position of the element
+	 * @param element
+	 *            the new element
+	 * @return the previous element at the given position
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range
+	 */
+	public int setInt(int index, int element) {
+		checkRealm();
+		Objects.checkIndex(index, size);
+		int oldElement = elements[index];
+		if (oldElement != element) {
+			elements[index] = element;
+			if (hasListeners()) {
+				fireReplaced(index, oldElement);
+			}
+		}
+		return oldElement;
+	}
+
+	/**
+	 * Appends the given element without boxing it.
+	 *
+	 * @param element
+	 *            the element to append
+	 */
+	public void addInt(int element) {
+		addInt(size, element);
+	}
+
+	/**
+	 * Inserts the given element at the given position without boxing it.
+	 *
+	 * @param index
+	 *            the position of the new element
+	 * @param element
+	 *            the element to insert
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range
+	 */
+	public void addInt(int index, int element) {
+		checkRealm();
+		Objects.checkIndex(index, size + 1);
+		openGap(index);
+		elements[index] = element;
+		fireAdded(index);
+	}
+
+	/**
+	 * Removes the element at the given position without boxing it.
+	 *
+	 * @param index
+	 *            the position of the element
+	 * @return the removed element
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of range
+	 */
+	public int removeInt(int index) {
+		checkRealm();
+		Objects.checkIndex(index, size);
+		int oldElement = elements[index];
+		removeAt(index);
+		return oldElement;
+	}
+
+	/**
+	 * Replaces all elements of this list with the given elements, firing a
+	 * single change event for the elements which changed. The array is
+	 * copied.
+	 *
+	 * @param newElements
+	 *            the new elements
+	 */
+	public void setInts(int[] newElements) {
+		checkRealm();
+		replaceAll(newElements.clone());
+	}
+
+	@Override
+	public Object getElementType() {
+		return Integer.TYPE;
+	}
+}
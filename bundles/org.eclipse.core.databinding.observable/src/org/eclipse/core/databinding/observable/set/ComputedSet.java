@@ -22,15 +22,14 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
 
-import org.eclipse.core.databinding.observable.ChangeEvent;
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.IChangeListener;
 import org.eclipse.core.databinding.observable.IObservable;
-import org.eclipse.core.databinding.observable.IStaleListener;
 import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.internal.databinding.observable.ComputedScheduler;
 
 /**
  * A lazily calculated set that automatically computes and registers listeners
@@ -38,6 +37,11 @@ import org.eclipse.core.databinding.observable.value.IObservableValue;
  * {@link IObservable} objects. Any change to one of the observable dependencies
  * causes the set to be recomputed.
  * <p>
+ * Changes are propagated through computed observables of the same realm in
+ * dependency order, see
+ * {@link org.eclipse.core.databinding.observable.value.ComputedValue}.
+ * </p>
+ * <p>
  * This class is thread safe. All state accessing methods must be invoked from
  * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
  * listeners may be invoked from any thread.
@@ -84,7 +88,10 @@ public abstract class ComputedSet<E> extends AbstractObservableSet<E> {
 	private boolean dirty = true;
 	private boolean stale = false;
 
-	private IObservable[] dependencies = new IObservable[0];
+	/**
+	 * The set before the pending change notification.
+	 */
+	private Set<E> oldSet;
 
 	/**
 	 * Factory method to create {@link ComputedSet} objects in an easy manner.
@@ -152,6 +159,7 @@ public abstract class ComputedSet<E> extends AbstractObservableSet<E> {
 	public ComputedSet(Realm realm, Object elementType) {
 		super(realm);
 		this.elementType = elementType;
+		this.privateInterface = new PrivateInterface(realm);
 	}
 
 	/**
@@ -165,17 +173,15 @@ public abstract class ComputedSet<E> extends AbstractObservableSet<E> {
 	 * </p>
 	 *
 	 * <p>
-	 * The IChangeListener stores each observable in the dependencies list. This
-	 * is registered as the listener when calling ObservableTracker, to detect
-	 * every observable that is used by computeValue.
-	 * </p>
-	 *
-	 * <p>
-	 * The IChangeListener is attached to every dependency.
+	 * The scheduler node is attached to every dependency and marks this set
+	 * dirty when a dependency changes.
 	 * </p>
 	 */
-	private class PrivateInterface implements Runnable, IChangeListener,
-			IStaleListener {
+	private class PrivateInterface extends ComputedScheduler.Node implements Runnable {
+		PrivateInterface(Realm realm) {
+			super(realm, ComputedSet.this);
+		}
+
 		@Override
 		public void run() {
 			cachedSet = calculate();
@@ -190,12 +196,53 @@ public abstract class ComputedSet<E> extends AbstractObservableSet<E> {
 		}
 
 		@Override
-		public void handleChange(ChangeEvent event) {
-			makeDirty();
+		protected boolean makeDirty() {
+			if (dirty)
+				return false;
+			dirty = true;
+			// copy the old set, keeping the set of an earlier change not yet
+			// notified
+			if (!isNotificationPending())
+				oldSet = new HashSet<>(cachedSet);
+			return true;
+		}
+
+		@Override
+		protected boolean isObserved() {
+			return hasListeners();
+		}
+
+		@Override
+		protected void fireChange() {
+			final Set<E> oldSet = ComputedSet.this.oldSet;
+			ComputedSet.this.oldSet = null;
+			if (dirty)
+				makeStale();
+			// Fire the "dirty" event. This implementation recomputes the new
+			// set lazily.
+			fireSetChange(new SetDiff<E>() {
+				SetDiff<E> delegate;
+
+				private SetDiff<E> getDelegate() {
+					if (delegate == null)
+						delegate = Diffs.computeSetDiff(oldSet, getSet());
+					return delegate;
+				}
+
+				@Override
+				public Set<E> getAdditions() {
+					return getDelegate().getAdditions();
+				}
+
+				@Override
+				public Set<E> getRemovals() {
+					return getDelegate().getRemovals();
+				}
+			});
 		}
 	}
 
-	private PrivateInterface privateInterface = new PrivateInterface();
+	private final PrivateInterface privateInterface;
 
 	private Object elementType;
 
@@ -214,33 +261,22 @@ public abstract class ComputedSet<E> extends AbstractObservableSet<E> {
 	}
 
 	final Set<E> doGetSet() {
+		privateInterface.read();
 		if (dirty) {
 			// This line will do the following:
 			// - Run the calculate method
-			// - While doing so, add any observable that is touched to the
-			// dependencies list
-			IObservable[] newDependencies = ObservableTracker.runAndMonitor(
-privateInterface, privateInterface, null);
+			// - While doing so, listen to any observable that is touched,
+			// keeping the listeners of dependencies which are still used
+			IObservable[] newDependencies = privateInterface.compute(privateInterface);
 
 			// If any dependencies are stale, a stale event will be fired here
 			// even if we were already stale before recomputing. This is in case
 			// clients assume that a set change is indicative of non-staleness.
 			stale = false;
-			for (IObservable newDependency : newDependencies) {
-				if (newDependency.isStale()) {
-					makeStale();
-					break;
-				}
-			}
-
-			if (!stale) {
-				for (IObservable newDependency : newDependencies) {
-					newDependency.addStaleListener(privateInterface);
-				}
+			if (ComputedScheduler.isAnyStale(newDependencies)) {
+				makeStale();
 			}
 
-			dependencies = newDependencies;
-
 			dirty = false;
 		}
 
@@ -257,53 +293,6 @@ privateInterface, privateInterface, null);
 	 */
 	protected abstract Set<E> calculate();
 
-	private void makeDirty() {
-		if (!dirty) {
-			dirty = true;
-
-			// copy the old set
-			// bug 414297: moved before makeStale(), as cachedSet may be
-			// overwritten
-			// in makeStale() if a listener calls isStale()
-			final Set<E> oldSet = new HashSet<>(cachedSet);
-			makeStale();
-
-			stopListening();
-
-			// Fire the "dirty" event. This implementation recomputes the new
-			// set lazily.
-			fireSetChange(new SetDiff<E>() {
-				SetDiff<E> delegate;
-
-				private SetDiff<E> getDelegate() {
-					if (delegate == null)
-						delegate = Diffs.computeSetDiff(oldSet, getSet());
-					return delegate;
-				}
-
-				@Override
-				public Set<E> getAdditions() {
-					return getDelegate().getAdditions();
-				}
-
-				@Override
-				public Set<E> getRemovals() {
-					return getDelegate().getRemovals();
-				}
-			});
-		}
-	}
-
-	private void stopListening() {
-		if (dependencies != null) {
-			for (IObservable observable : dependencies) {
-				observable.removeChangeListener(privateInterface);
-				observable.removeStaleListener(privateInterface);
-			}
-			dependencies = null;
-		}
-	}
-
 	private void makeStale() {
 		if (!stale) {
 			stale = true;
@@ -350,19 +339,27 @@ privateInterface, privateInterface, null);
 		// been executed. It is their job to figure out what to do with those
 		// notifications.
 		getRealm().exec(() -> {
-			if (dependencies == null) {
-				// We are not currently listening.
+			if (dirty) {
+				// We do not notify changes until we are recomputed.
 				// But someone is listening for changes. Call getValue()
-				// to make sure we start listening to the observables we
-				// depend on.
+				// to make sure we are notified of changes of the
+				// observables we depend on.
 				getSet();
 			}
 		});
 	}
 
+	@Override
+	protected void lastListenerRemoved() {
+		super.lastListenerRemoved();
+		// Stop listening to our dependencies, so that we can be garbage
+		// collected if nobody else references us.
+		privateInterface.lastListenerRemoved();
+	}
+
 	@Override
 	public synchronized void dispose() {
-		stopListening();
+		privateInterface.dispose();
 		super.dispose();
 	}
 }
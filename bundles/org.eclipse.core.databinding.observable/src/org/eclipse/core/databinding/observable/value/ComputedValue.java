@@ -20,14 +20,13 @@ package org.eclipse.core.databinding.observable.value;
 import java.util.Objects;
 import java.util.function.Supplier;
 
-import org.eclipse.core.databinding.observable.ChangeEvent;
 import org.eclipse.core.databinding.observable.IChangeListener;
 import org.eclipse.core.databinding.observable.IObservable;
-import org.eclipse.core.databinding.observable.IStaleListener;
 import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.StaleEvent;
 import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.internal.databinding.observable.ComputedScheduler;
 
 /**
  * A Lazily calculated value that automatically computes and registers listeners
@@ -35,6 +34,13 @@ import org.eclipse.core.databinding.observable.list.IObservableList;
  * {@link IObservable} objects. Any change to one of the observable dependencies
  * causes the value to be recomputed.
  * <p>
+ * Changes are propagated through computed observables of the same realm in
+ * dependency order: when a dependency changes, all computed observables
+ * depending on it directly or indirectly are marked dirty before any of them
+ * notifies its listeners, so each of them is recomputed at most once per
+ * change.
+ * </p>
+ * <p>
  * This class is thread safe. All state accessing methods must be invoked from
  * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
  * listeners may be invoked from any thread.
@@ -81,10 +87,9 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	private T cachedValue = null;
 
 	/**
-	 * Array of observables this computed value depends on. This field has a
-	 * value of <code>null</code> if we are not currently listening.
+	 * The value before the pending change notification.
 	 */
-	private IObservable[] dependencies = null;
+	private T oldValue = null;
 
 	/**
 	 * Factory method to create {@link ComputedValue} objects in an easy manner.
@@ -139,6 +144,7 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	public ComputedValue(Realm realm, Object valueType) {
 		super(realm);
 		this.valueType = valueType;
+		this.privateInterface = new PrivateInterface(realm);
 	}
 
 	/**
@@ -152,17 +158,15 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	 * </p>
 	 *
 	 * <p>
-	 * The IChangeListener stores each observable in the dependencies list. This
-	 * is registered as the listener when calling ObservableTracker, to detect
-	 * every observable that is used by computeValue.
-	 * </p>
-	 *
-	 * <p>
-	 * The IChangeListener is attached to every dependency.
+	 * The scheduler node is attached to every dependency and marks this value
+	 * dirty when a dependency changes.
 	 * </p>
 	 */
-	private class PrivateInterface implements Runnable, IChangeListener,
-			IStaleListener {
+	private class PrivateInterface extends ComputedScheduler.Node implements Runnable {
+		PrivateInterface(Realm realm) {
+			super(realm, ComputedValue.this);
+		}
+
 		@Override
 		public void run() {
 			cachedValue = calculate();
@@ -177,36 +181,58 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 		}
 
 		@Override
-		public void handleChange(ChangeEvent event) {
-			makeDirty();
+		protected boolean makeDirty() {
+			if (dirty)
+				return false;
+			dirty = true;
+			// keep the value of an earlier change not yet notified
+			if (!isNotificationPending())
+				oldValue = cachedValue;
+			return true;
+		}
+
+		@Override
+		protected boolean isObserved() {
+			return hasListeners();
+		}
+
+		@Override
+		protected void fireChange() {
+			// copy the old value
+			final T oldValue = ComputedValue.this.oldValue;
+			ComputedValue.this.oldValue = null;
+			// Fire the "dirty" event. This implementation recomputes the new
+			// value lazily.
+			fireValueChange(new ValueDiff<T>() {
+
+				@Override
+				public T getOldValue() {
+					return oldValue;
+				}
+
+				@Override
+				public T getNewValue() {
+					return getValue();
+				}
+			});
 		}
 	}
 
-	private PrivateInterface privateInterface = new PrivateInterface();
+	private final PrivateInterface privateInterface;
 
 	private Object valueType;
 
 	@Override
 	protected final T doGetValue() {
+		privateInterface.read();
 		if (dirty) {
 			// This line will do the following:
 			// - Run the calculate method
-			// - While doing so, add any observable that is touched to the
-			// dependencies list
-			IObservable[] newDependencies = ObservableTracker.runAndMonitor(
-					privateInterface, privateInterface, null);
-
-			stale = false;
-			for (IObservable observable : newDependencies) {
-				// Add a change listener to the new dependency.
-				if (observable.isStale()) {
-					stale = true;
-				} else {
-					observable.addStaleListener(privateInterface);
-				}
-			}
+			// - While doing so, listen to any observable that is touched,
+			// keeping the listeners of dependencies which are still used
+			IObservable[] newDependencies = privateInterface.compute(privateInterface);
 
-			dependencies = newDependencies;
+			stale = ComputedScheduler.isAnyStale(newDependencies);
 
 			dirty = false;
 		}
@@ -225,39 +251,7 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	protected abstract T calculate();
 
 	protected final void makeDirty() {
-		if (!dirty) {
-			dirty = true;
-
-			stopListening();
-
-			// copy the old value
-			final T oldValue = cachedValue;
-			// Fire the "dirty" event. This implementation recomputes the new
-			// value lazily.
-			fireValueChange(new ValueDiff<T>() {
-
-				@Override
-				public T getOldValue() {
-					return oldValue;
-				}
-
-				@Override
-				public T getNewValue() {
-					return getValue();
-				}
-			});
-		}
-	}
-
-	private void stopListening() {
-		// Stop listening for dependency changes.
-		if (dependencies != null) {
-			for (IObservable observable : dependencies) {
-				observable.removeChangeListener(privateInterface);
-				observable.removeStaleListener(privateInterface);
-			}
-			dependencies = null;
-		}
+		privateInterface.invalidate();
 	}
 
 	@Override
@@ -300,12 +294,12 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 	 */
 	private void computeValueForListeners() {
 		getRealm().exec(() -> {
-			if (dependencies == null) {
-				// We are not currently listening.
+			if (dirty) {
+				// We do not notify changes until we are recomputed.
 				if (hasListeners()) {
 					// But someone is listening for changes. Call getValue()
-					// to make sure we start listening to the observables we
-					// depend on.
+					// to make sure we are notified of changes of the
+					// observables we depend on.
 					getValue();
 				}
 			}
@@ -321,10 +315,18 @@ public abstract class ComputedValue<T> extends AbstractObservableValue<T> {
 		computeValueForListeners();
 	}
 
+	@Override
+	protected void lastListenerRemoved() {
+		super.lastListenerRemoved();
+		// Stop listening to our dependencies, so that we can be garbage
+		// collected if nobody else references us.
+		privateInterface.lastListenerRemoved();
+	}
+
 	@Override
 	public synchronized void dispose() {
 		super.dispose();
-		stopListening();
+		privateInterface.dispose();
 	}
 
 }
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+/**
+ * A {@link ValueDiff} between two <code>double</code> values. Listeners can
+ * read the values without boxing them using {@link #getOldDoubleValue()} and
+ * {@link #getNewDoubleValue()}.
+ *
+ * @see org.eclipse.core.databinding.observable.Diffs#createDoubleValueDiff(double, double)
+ * @since 1.14
+ *
+ */
+public abstract class DoubleValueDiff extends ValueDiff<Double> {
+	/**
+	 * Creates a value diff.
+	 */
+	public DoubleValueDiff() {
+	}
+
+	/**
+	 * @return the old value
+	 */
+	public abstract double getOldDoubleValue();
+
+	/**
+	 * @return the new value
+	 */
+	public abstract double getNewDoubleValue();
+
+	@Override
+	public final Double getOldValue() {
+		return getOldDoubleValue();
+	}
+
+	@Override
+	public final Double getNewValue() {
+		return getNewDoubleValue();
+	}
+}
@@ -0,0 +1,54 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * An {@link IObservableValue} of a <code>long</code> value, which can be read
+ * and written without boxing it. Its value type is <code>Long.TYPE</code>, its
+ * value is never <code>null</code> and the diffs of its value change events
+ * are {@link LongValueDiff}s.
+ *
+ * @noimplement This interface is not intended to be implemented by clients.
+ *              Clients should instead subclass one of the classes that
+ *              implement this interface.
+ *
+ * @see WritableLongValue
+ *
+ * @since 1.14
+ */
+public interface IObservableLongValue extends IObservableValue<Long> {
+
+	/**
+	 * Returns the value without boxing it. Must be invoked in the
+	 * {@link Realm} of the observable.
+	 *
+	 * @return the current value
+	 * @TrackedGetter
+	 */
+	public long getLongValue();
+
+	/**
+	 * Sets the value without boxing it. Must be invoked in the {@link Realm}
+	 * of the observable.
+	 *
+	 * @param value
+	 *            the value to set
+	 * @throws UnsupportedOperationException
+	 *             if this observable value cannot be set.
+	 */
+	public void setLongValue(long value);
+}
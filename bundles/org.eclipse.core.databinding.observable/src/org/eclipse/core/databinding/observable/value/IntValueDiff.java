@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+/**
+ * A {@link ValueDiff} between two <code>int</code> values. Listeners can read
+ * the values without boxing them using {@link #getOldIntValue()} and {@link
+ * #getNewIntValue()}.
+ *
+ * @see org.eclipse.core.databinding.observable.Diffs#createIntValueDiff(int, int)
+ * @since 1.14
+ *
+ */
+public abstract class IntValueDiff extends ValueDiff<Integer> {
+	/**
+	 * Creates a value diff.
+	 */
+	public IntValueDiff() {
+	}
+
+	/**
+	 * @return the old value
+	 */
+	public abstract int getOldIntValue();
+
+	/**
+	 * @return the new value
+	 */
+	public abstract int getNewIntValue();
+
+	@Override
+	public final Integer getOldValue() {
+		return getOldIntValue();
+	}
+
+	@Override
+	public final Integer getNewValue() {
+		return getNewIntValue();
+	}
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+/**
+ * A {@link ValueDiff} between two <code>long</code> values. Listeners can read
+ * the values without boxing them using {@link #getOldLongValue()} and {@link
+ * #getNewLongValue()}.
+ *
+ * @see org.eclipse.core.databinding.observable.Diffs#createLongValueDiff(long, long)
+ * @since 1.14
+ *
+ */
+public abstract class LongValueDiff extends ValueDiff<Long> {
+	/**
+	 * Creates a value diff.
+	 */
+	public LongValueDiff() {
+	}
+
+	/**
+	 * @return the old value
+	 */
+	public abstract long getOldLongValue();
+
+	/**
+	 * @return the new value
+	 */
+	public abstract long getNewLongValue();
+
+	@Override
+	public final Long getOldValue() {
+		return getOldLongValue();
+	}
+
+	@Override
+	public final Long getNewValue() {
+		return getNewLongValue();
+	}
+}
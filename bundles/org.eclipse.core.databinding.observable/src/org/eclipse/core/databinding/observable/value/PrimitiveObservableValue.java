@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.runtime.Assert;
+
+/**
+ * Common implementation of the observable values which store their value
+ * unboxed. Subclasses hold the value and implement {@link #doGetValue()} and
+ * {@link #unboxAndSet(Object)}, which sets the unboxed value and fires a
+ * primitive diff.
+ *
+ * @param <T>
+ *            the boxed type of the value
+ */
+abstract class PrimitiveObservableValue<T> extends AbstractObservableValue<T> {
+
+	private final Object valueType;
+
+	PrimitiveObservableValue(Realm realm, Object valueType) {
+		super(realm);
+		this.valueType = valueType;
+	}
+
+	/**
+	 * @param value
+	 *            The value to set, not <code>null</code>.
+	 */
+	@Override
+	protected final void doSetValue(T value) {
+		Assert.isNotNull(value, "Primitive values cannot be null"); //$NON-NLS-1$
+		unboxAndSet(value);
+	}
+
+	/**
+	 * Sets the value after unboxing it.
+	 *
+	 * @param value
+	 *            the value to set, not <code>null</code>
+	 */
+	abstract void unboxAndSet(T value);
+
+	@Override
+	public Object getValueType() {
+		return valueType;
+	}
+}
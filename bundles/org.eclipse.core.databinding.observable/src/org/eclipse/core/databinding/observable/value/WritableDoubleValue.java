@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Mutable (writable) implementation of {@link IObservableValue} that will
+ * maintain a <code>double</code> value and fire change events when the value
+ * changes.
+ * <p>
+ * The value is stored unboxed. It can be read and written without boxing using
+ * {@link #getDoubleValue()} and {@link #setDoubleValue(double)}, and change
+ * events are only created if there are listeners. The diffs of the change
+ * events are {@link DoubleValueDiff}s, whose values can be read without boxing
+ * as well. The value type of this observable is <code>Double.TYPE</code> and
+ * its value is never <code>null</code>.
+ * </p>
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @since 1.14
+ *
+ */
+public class WritableDoubleValue extends PrimitiveObservableValue<Double> implements IObservableDoubleValue {
+
+	private double value;
+
+	/**
+	 * Constructs a new instance with the default realm and a value of
+	 * <code>0</code>.
+	 */
+	public WritableDoubleValue() {
+		this(Realm.getDefault(), 0);
+	}
+
+	/**
+	 * Constructs a new instance with the default realm.
+	 *
+	 * @param initialValue
+	 *            the initial value
+	 */
+	public WritableDoubleValue(double initialValue) {
+		this(Realm.getDefault(), initialValue);
+	}
+
+	/**
+	 * Constructs a new instance with the provided <code>realm</code> and a
+	 * value of <code>0</code>.
+	 *
+	 * @param realm
+	 *            the realm
+	 */
+	public WritableDoubleValue(Realm realm) {
+		this(realm, 0);
+	}
+
+	/**
+	 * Constructs a new instance.
+	 *
+	 * @param realm
+	 *            the realm
+	 * @param initialValue
+	 *            the initial value
+	 */
+	public WritableDoubleValue(Realm realm, double initialValue) {
+		super(realm, Double.TYPE);
+		this.value = initialValue;
+	}
+
+	@Override
+	public double getDoubleValue() {
+		ObservableTracker.getterCalled(this);
+		return value;
+	}
+
+	@Override
+	public void setDoubleValue(double value) {
+		checkRealm();
+		updateDoubleValue(value);
+	}
+
+	@Override
+	protected Double doGetValue() {
+		return value;
+	}
+
+	@Override
+	void unboxAndSet(Double newValue) {
+		updateDoubleValue(newValue);
+	}
+
+	private void updateDoubleValue(double newValue) {
+		double oldValue = value;
+		if (Double.compare(oldValue, newValue) != 0) {
+			value = newValue;
+			if (hasListeners()) {
+				fireValueChange(Diffs.createDoubleValueDiff(oldValue, newValue));
+			}
+		}
+	}
+}
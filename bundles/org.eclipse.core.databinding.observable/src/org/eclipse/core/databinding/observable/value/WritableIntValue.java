@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.observable.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+
+/**
+ * Mutable (writable) implementation of {@link IObservableValue} that will
+ * maintain a <code>int</code> value and fire change events when the value
+ * changes.
+ * <p>
+ * The value is stored unboxed. It can be read and written without boxing using
+ * {@link #getIntValue()} and {@link #setIntValue(int)}, and change events are
+ * only created if there are listeners. The diffs of the change events are
+ * {@link IntValueDiff}s, whose values can be read without boxing as well. The
+ * value type of this observable is <code>Integer.TYPE</code> and its value is
+ * never <code>null</code>.
+ * </p>
+ * <p>
+ * This class is thread safe. All state accessing methods must be invoked from
+ * the {@link Realm#isCurrent() current realm}. Methods for adding and removing
+ * listeners may be invoked from any thread.
+ * </p>
+ *
+ * @since 1.14
+ *
+ */
+public class WritableIntValue extends PrimitiveObservableValue<Integer> implements IObservableIntValue {
+
+	private int value;
+
+	/**
+	 * Constructs a new instance with the default realm and a value of
+	 * <code>0</code>.
+	 */
+	public WritableIntValue() {
+		this(Realm.getDefault(), 0);
+	}
+
+	/**
+	 * Constructs a new instance with the default realm.
+	 *
+	 * @param initialValue
+	 *            the initial value
+	 */
+	public WritableIntValue(int initialValue) {
+		this(Realm.getDefault(), initialValue);
+	}
+
+	/**
+	 * Constructs a new instance with the provided <code>realm</code> and a
+	 * value of <code>0</code>.
+	 *
+	 * @param realm
+	 *            the realm
+	 */
+	public WritableIntValue(Realm realm) {
+		this(realm, 0);
+	}
+
+	/**
+	 * Constructs a new instance.
+	 *
+	 * @param realm
+	 *            the realm
+	 * @param initialValue
+	 *            the initial value
+	 */
+	public WritableIntValue(Realm realm, int initialValue) {
+		super(realm, Integer.TYPE);
+		this.value = initialValue;
+	}
+
+	@Override
+	public int getIntValue() {
+		ObservableTracker.getterCalled(this);
+		return value;
+	}
+
+	@Override
+	public void setIntValue(int value) {
+		checkRealm();
+		updateIntValue(value);
+	}
+
+	@Override
+	protected Integer doGetValue() {
+		return value;
+	}
+
+	@Override
+	void unboxAndSet(Integer newValue) {
+		updateIntValue(newValue);
+	}
+
+	private void updateIntValue(int newValue) {
+		int oldValue = value;
+		if (oldValue != newValue) {
+			value = newValue;
+			if (hasListeners()) {
+				fireValueChange(Diffs.createIntValueDiff(oldValue, newValue));
+			}
+		}
+	}
+}
@@ -0,0 +1,467 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import org.eclipse.core.databinding.observable.ChangeEvent;
+import org.eclipse.core.databinding.observable.IChangeListener;
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.internal.databinding.identity.IdentitySet;
+
+/**
+ * Propagates changes through the computed observables of a realm.
+ * <p>
+ * The scheduler knows which computed observables read which other computed
+ * observables. When a dependency of a computed observable changes, the
+ * computed observable and all computed observables depending on it are marked
+ * dirty at once, before any listener is notified (push). The dirty
+ * observables are then notified in topological order, lowest level first, and
+ * recompute lazily when read (pull). Every computed observable is therefore
+ * recomputed at most once per change, and no listener sees a computed value
+ * derived from both old and new values of its dependencies.
+ * </p>
+ * <p>
+ * The propagation starts once the event which changed a dependency has been
+ * dispatched to all its listeners, so that all computed observables affected
+ * by the change are dirty before the first one is notified.
+ * </p>
+ * <p>
+ * Computed observables nobody listens to stop listening to their dependencies
+ * once they are dirty, so that they can be garbage collected. They listen
+ * again when they are recomputed.
+ * </p>
+ * <p>
+ * All methods must be invoked from within the realm of the scheduler.
+ * </p>
+ *
+ * @since 1.14
+ */
+public final class ComputedScheduler {
+
+	private static final Map<Realm, ComputedScheduler> schedulers = new WeakHashMap<>();
+
+	/**
+	 * The node which is currently being computed, or <code>null</code>.
+	 */
+	private Node computing;
+
+	/**
+	 * The nodes to notify, by level.
+	 */
+	private final List<Deque<Node>> queue = new ArrayList<>();
+
+	/**
+	 * The lowest level which may contain nodes to notify.
+	 */
+	private int minLevel;
+
+	/**
+	 * The number of nodes to notify.
+	 */
+	private int queueSize;
+
+	/**
+	 * The number of events being dispatched.
+	 */
+	private int dispatchDepth;
+
+	private boolean propagating;
+
+	private ComputedScheduler() {
+	}
+
+	/**
+	 * Returns the scheduler of the given realm.
+	 *
+	 * @param realm
+	 *            the realm
+	 * @return the scheduler of the realm
+	 */
+	public static ComputedScheduler getScheduler(Realm realm) {
+		synchronized (schedulers) {
+			return schedulers.computeIfAbsent(realm, r -> new ComputedScheduler());
+		}
+	}
+
+	/**
+	 * Marks the given node and all nodes depending on it dirty and notifies
+	 * them, see {@link #propagate()}.
+	 *
+	 * @param node
+	 *            the node whose dependencies changed
+	 */
+	void invalidate(Node node) {
+		Deque<Node> pending = new ArrayDeque<>();
+		pending.push(node);
+		while (!pending.isEmpty()) {
+			Node next = pending.pop();
+			if (next.disposed || !next.makeDirty())
+				continue;
+			if (!next.isObserved()) {
+				// nobody is notified, nor depends on the node
+				next.release();
+				continue;
+			}
+			if (!next.queued) {
+				next.queued = true;
+				enqueue(next);
+			}
+			for (Node dependent : next.dependents) {
+				pending.push(dependent);
+			}
+		}
+		propagate();
+	}
+
+	private void enqueue(Node node) {
+		while (queue.size() <= node.level) {
+			queue.add(new ArrayDeque<>());
+		}
+		queue.get(node.level).add(node);
+		queueSize++;
+		minLevel = Math.min(minLevel, node.level);
+	}
+
+	private Node poll() {
+		for (; minLevel < queue.size(); minLevel++) {
+			Node node = queue.get(minLevel).poll();
+			if (node != null) {
+				queueSize--;
+				return node;
+			}
+		}
+		minLevel = 0;
+		return null;
+	}
+
+	/**
+	 * Notifies the dirty nodes in topological order, unless an event is being
+	 * dispatched or a propagation is already running, in which case they are
+	 * notified when that dispatch or propagation completes.
+	 */
+	public void propagate() {
+		if (propagating || dispatchDepth > 0 || queueSize == 0)
+			return;
+		propagating = true;
+		try {
+			Node node;
+			while ((node = poll()) != null) {
+				node.queued = false;
+				if (!node.disposed)
+					node.fireChange();
+			}
+		} finally {
+			propagating = false;
+		}
+	}
+
+	/**
+	 * Returns whether any of the given observables is stale. The observables
+	 * are not recorded as dependencies of a computation reading the computed
+	 * observable which depends on them.
+	 *
+	 * @param observables
+	 *            the dependencies of a computed observable
+	 * @return <code>true</code> if any of the observables is stale
+	 */
+	public static boolean isAnyStale(IObservable[] observables) {
+		ObservableTracker.setIgnore(true);
+		try {
+			for (IObservable observable : observables) {
+				if (observable.isStale())
+					return true;
+			}
+			return false;
+		} finally {
+			ObservableTracker.setIgnore(false);
+		}
+	}
+
+	/**
+	 * Notifies the scheduler that an event is being dispatched to the
+	 * listeners of an observable of the realm.
+	 */
+	public void beginDispatch() {
+		dispatchDepth++;
+	}
+
+	/**
+	 * Notifies the scheduler that an event has been dispatched.
+	 */
+	public void endDispatch() {
+		dispatchDepth--;
+	}
+
+	/**
+	 * Raises the levels of the nodes depending on the given node above the
+	 * level of the given node.
+	 */
+	private static void raiseDependents(Node node) {
+		Deque<Node> pending = new ArrayDeque<>();
+		pending.push(node);
+		while (!pending.isEmpty()) {
+			Node next = pending.pop();
+			for (Node dependent : next.dependents) {
+				if (dependent.level <= next.level) {
+					dependent.level = next.level + 1;
+					pending.push(dependent);
+				}
+			}
+		}
+	}
+
+	/**
+	 * A computed observable known to the scheduler. Nodes listen for changes
+	 * and staleness of the dependencies of the computed observable, subclasses
+	 * handle the staleness.
+	 *
+	 * @since 1.14
+	 */
+	public static abstract class Node implements IChangeListener, IStaleListener {
+		private static final Node[] EMPTY_NODES = new Node[0];
+
+		private final Realm realm;
+
+		private final ComputedScheduler scheduler;
+
+		private final IObservable observable;
+
+		/**
+		 * The observables read by the last computation, or <code>null</code>
+		 * if the node is not listening to its dependencies.
+		 */
+		private IObservable[] dependencies;
+
+		/**
+		 * The nodes of the computed observables read by the last computation.
+		 */
+		private Node[] nodeDependencies = EMPTY_NODES;
+
+		/**
+		 * The nodes whose last computation read this node.
+		 */
+		private final Set<Node> dependents = new IdentitySet<>();
+
+		/**
+		 * The nodes read by the current computation of this node, or
+		 * <code>null</code> if this node is not being computed.
+		 */
+		private List<Node> readNodes;
+
+		/**
+		 * Greater than the level of every node this node depends on.
+		 */
+		private int level;
+
+		private boolean queued;
+
+		private boolean disposed;
+
+		/**
+		 * @param realm
+		 *            the realm of the computed observable
+		 * @param observable
+		 *            the computed observable
+		 */
+		protected Node(Realm realm, IObservable observable) {
+			this.realm = realm;
+			this.scheduler = getScheduler(realm);
+			this.observable = observable;
+		}
+
+		/**
+		 * Runs the given computation and listens to the observables it reads.
+		 * The listeners of observables read by the previous computation are
+		 * kept.
+		 *
+		 * @param computation
+		 *            the computation
+		 * @return the observables read by the computation
+		 */
+		public final IObservable[] compute(Runnable computation) {
+			Node lastComputing = scheduler.computing;
+			List<Node> lastReadNodes = readNodes;
+			scheduler.computing = this;
+			readNodes = new ArrayList<>();
+			IObservable[] newDependencies;
+			List<Node> newReadNodes;
+			try {
+				newDependencies = ObservableTracker.runAndMonitor(computation, null, null);
+			} finally {
+				newReadNodes = readNodes;
+				readNodes = lastReadNodes;
+				scheduler.computing = lastComputing;
+			}
+			if (disposed)
+				return newDependencies;
+
+			Set<IObservable> oldDependencies = dependencies == null ? Collections.emptySet()
+					: new IdentitySet<>(List.of(dependencies));
+			for (IObservable dependency : newDependencies) {
+				if (!oldDependencies.remove(dependency)) {
+					dependency.addChangeListener(this);
+					dependency.addStaleListener(this);
+				}
+			}
+			for (IObservable dependency : oldDependencies) {
+				dependency.removeChangeListener(this);
+				dependency.removeStaleListener(this);
+			}
+			dependencies = newDependencies;
+
+			updateNodeDependencies(newDependencies, newReadNodes);
+			return newDependencies;
+		}
+
+		private void updateNodeDependencies(IObservable[] newDependencies, List<Node> newReadNodes) {
+			Node[] newNodeDependencies = EMPTY_NODES;
+			if (!newReadNodes.isEmpty()) {
+				// only nodes read while the ObservableTracker was not ignoring
+				// them are dependencies
+				Set<IObservable> tracked = new IdentitySet<>(List.of(newDependencies));
+				List<Node> nodes = new ArrayList<>(newReadNodes.size());
+				for (Node node : newReadNodes) {
+					if (tracked.remove(node.observable))
+						nodes.add(node);
+				}
+				newNodeDependencies = nodes.toArray(new Node[nodes.size()]);
+			}
+			for (Node node : nodeDependencies) {
+				node.dependents.remove(this);
+			}
+			int newLevel = 0;
+			for (Node node : newNodeDependencies) {
+				node.dependents.add(this);
+				newLevel = Math.max(newLevel, node.level + 1);
+			}
+			nodeDependencies = newNodeDependencies;
+			if (newLevel != level) {
+				level = newLevel;
+				raiseDependents(this);
+			}
+		}
+
+		/**
+		 * Records that the computed observable has been read. Must be called
+		 * whenever the value of the computed observable is read.
+		 */
+		public final void read() {
+			Node reader = scheduler.computing;
+			if (reader != null && reader != this && reader.readNodes != null)
+				reader.readNodes.add(this);
+		}
+
+		/**
+		 * Marks the computed observable and all computed observables depending
+		 * on it dirty and notifies them.
+		 */
+		public final void invalidate() {
+			scheduler.invalidate(this);
+		}
+
+		@Override
+		public final void handleChange(ChangeEvent event) {
+			// changes of computed dependencies have already been propagated
+			for (Node node : nodeDependencies) {
+				if (node.observable == event.getObservable())
+					return;
+			}
+			scheduler.invalidate(this);
+		}
+
+		/**
+		 * Returns whether the computed observable is still to be notified of
+		 * an earlier change.
+		 *
+		 * @return <code>true</code> if a notification is pending
+		 */
+		public final boolean isNotificationPending() {
+			return queued;
+		}
+
+		/**
+		 * Makes the computed observable dirty and stops listening to its
+		 * dependencies unless somebody listens to it again. Must be called
+		 * whenever the last listener has been removed from the computed
+		 * observable, may be called from any thread.
+		 */
+		public final void lastListenerRemoved() {
+			realm.exec(() -> {
+				if (!disposed && !isObserved()) {
+					makeDirty();
+					release();
+				}
+			});
+		}
+
+		/**
+		 * Stops listening to the dependencies of the computed observable.
+		 */
+		public final void dispose() {
+			disposed = true;
+			release();
+		}
+
+		/**
+		 * Stops listening to the dependencies of the dirty computed observable
+		 * until it is recomputed.
+		 */
+		private void release() {
+			if (dependencies != null) {
+				for (IObservable dependency : dependencies) {
+					dependency.removeChangeListener(this);
+					dependency.removeStaleListener(this);
+				}
+				dependencies = null;
+			}
+			for (Node node : nodeDependencies) {
+				node.dependents.remove(this);
+			}
+			nodeDependencies = EMPTY_NODES;
+		}
+
+		/**
+		 * Marks the computed observable dirty.
+		 *
+		 * @return <code>true</code> if the computed observable was not dirty
+		 */
+		protected abstract boolean makeDirty();
+
+		/**
+		 * Notifies the listeners of the computed observable that it has been
+		 * made dirty.
+		 */
+		protected abstract void fireChange();
+
+		/**
+		 * Returns whether anybody listens to the computed observable, which
+		 * includes the computed observables depending on it.
+		 *
+		 * @return <code>true</code> if the computed observable has listeners
+		 */
+		protected abstract boolean isObserved();
+	}
+}
@@ -0,0 +1,463 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+
+/**
+ * Computes the entries of a list diff in O((N+M) log N) time for lists of
+ * unique elements and in O((N+M) D) time otherwise.
+ * <p>
+ * Elements are classified by a longest common subsequence of the two lists:
+ * elements of the subsequence are kept, elements contained in both lists but
+ * not in the subsequence are moved, all other elements are added or removed.
+ * The subsequence is the longest increasing subsequence of the matching old
+ * indices if no element occurs twice in either list, and is computed with
+ * Myers' algorithm otherwise. If the edit distance of lists with duplicate
+ * elements exceeds {@link #MAX_EDIT_DISTANCE}, equal elements are paired by
+ * their occurrence and the longest increasing subsequence of the pairs is used
+ * instead.
+ * </p>
+ * <p>
+ * Every moved element results in a removal immediately followed by an addition
+ * of the element, which {@link org.eclipse.core.databinding.observable.list.ListDiff#accept}
+ * reports as a move.
+ * </p>
+ *
+ * @since 1.14
+ */
+public final class ListDiffComputer {
+
+	/**
+	 * The maximal edit distance up to which Myers' algorithm is used for lists
+	 * with duplicate elements.
+	 */
+	private static final int MAX_EDIT_DISTANCE = 1024;
+
+	private final Object[] oldElements;
+	private final Object[] newElements;
+
+	/** The index of the matching new element of each old element, or -1. */
+	private final int[] oldMatch;
+
+	/** The index of the matching old element of each new element, or -1. */
+	private final int[] newMatch;
+
+	/** Whether each old element is part of the common subsequence. */
+	private final boolean[] kept;
+
+	private ListDiffComputer(Object[] oldElements, Object[] newElements) {
+		this.oldElements = oldElements;
+		this.newElements = newElements;
+		oldMatch = new int[oldElements.length];
+		newMatch = new int[newElements.length];
+		kept = new boolean[oldElements.length];
+		Arrays.fill(oldMatch, -1);
+		Arrays.fill(newMatch, -1);
+	}
+
+	/**
+	 * Computes the entries which transform the old list into the new list when
+	 * applied in order.
+	 *
+	 * @param <E>
+	 *            the list element type
+	 * @param oldElements
+	 *            the elements of the old list
+	 * @param newElements
+	 *            the elements of the new list
+	 * @return the entries of the diff
+	 */
+	public static <E> List<ListDiffEntry<E>> computeDifferences(Object[] oldElements, Object[] newElements) {
+		ListDiffComputer computer = new ListDiffComputer(oldElements, newElements);
+		computer.match();
+		return computer.createEntries();
+	}
+
+	private void match() {
+		int oldEnd = oldElements.length;
+		int newEnd = newElements.length;
+		int start = 0;
+		while (start < oldEnd && start < newEnd && Objects.equals(oldElements[start], newElements[start])) {
+			keep(start, start);
+			start++;
+		}
+		while (oldEnd > start && newEnd > start && Objects.equals(oldElements[oldEnd - 1], newElements[newEnd - 1])) {
+			keep(--oldEnd, --newEnd);
+		}
+		if (start == oldEnd || start == newEnd)
+			return;
+
+		// id, number of old occurrences, number of new occurrences, last old index
+		Map<Object, int[]> counts = new HashMap<>();
+		int[] oldIds = new int[oldEnd - start];
+		int[] newIds = new int[newEnd - start];
+		boolean unique = true;
+		for (int i = start; i < oldEnd; i++) {
+			int[] count = counts.computeIfAbsent(oldElements[i], k -> new int[] { counts.size(), 0, 0, 0 });
+			unique &= ++count[1] == 1;
+			count[3] = i;
+			oldIds[i - start] = count[0];
+		}
+		for (int i = start; i < newEnd; i++) {
+			int[] count = counts.computeIfAbsent(newElements[i], k -> new int[] { counts.size(), 0, 0, -1 });
+			unique &= ++count[2] == 1;
+			newIds[i - start] = count[0];
+		}
+
+		if (unique) {
+			int[] pairs = new int[2 * (newEnd - start)];
+			int size = 0;
+			for (int i = start; i < newEnd; i++) {
+				int[] count = counts.get(newElements[i]);
+				if (count[1] > 0) {
+					pairs[size++] = i;
+					pairs[size++] = count[3];
+				}
+			}
+			keepIncreasing(pairs, size);
+		} else {
+			int[] oldCounts = new int[counts.size()];
+			int[] newCounts = new int[counts.size()];
+			for (int[] count : counts.values()) {
+				oldCounts[count[0]] = count[1];
+				newCounts[count[0]] = count[2];
+			}
+			// elements which occur in only one of the lists can never match
+			int[] a = new int[oldIds.length];
+			int[] aIndices = new int[oldIds.length];
+			int n = 0;
+			for (int i = 0; i < oldIds.length; i++) {
+				if (newCounts[oldIds[i]] > 0) {
+					a[n] = oldIds[i];
+					aIndices[n++] = start + i;
+				}
+			}
+			int[] b = new int[newIds.length];
+			int[] bIndices = new int[newIds.length];
+			int m = 0;
+			for (int i = 0; i < newIds.length; i++) {
+				if (oldCounts[newIds[i]] > 0) {
+					b[m] = newIds[i];
+					bIndices[m++] = start + i;
+				}
+			}
+			if (!keepMyers(a, aIndices, n, b, bIndices, m))
+				keepOccurrences(a, aIndices, n, b, bIndices, m, counts.size());
+		}
+		matchMoves(start, oldEnd, newEnd);
+	}
+
+	private void keep(int oldIndex, int newIndex) {
+		oldMatch[oldIndex] = newIndex;
+		newMatch[newIndex] = oldIndex;
+		kept[oldIndex] = true;
+	}
+
+	/**
+	 * Keeps the longest subsequence of the given pairs with increasing old
+	 * indices.
+	 *
+	 * @param pairs
+	 *            the new and old index of each pair, ordered by new index
+	 * @param size
+	 *            the number of used array elements
+	 */
+	private void keepIncreasing(int[] pairs, int size) {
+		int count = size / 2;
+		int[] tails = new int[count];
+		int[] predecessors = new int[count];
+		int length = 0;
+		for (int i = 0; i < count; i++) {
+			int oldIndex = pairs[2 * i + 1];
+			int low = 0;
+			int high = length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (pairs[2 * tails[mid] + 1] < oldIndex)
+					low = mid + 1;
+				else
+					high = mid;
+			}
+			predecessors[i] = low > 0 ? tails[low - 1] : -1;
+			tails[low] = i;
+			if (low == length)
+				length++;
+		}
+		for (int i = length > 0 ? tails[length - 1] : -1; i != -1; i = predecessors[i])
+			keep(pairs[2 * i + 1], pairs[2 * i]);
+	}
+
+	/**
+	 * Keeps a longest common subsequence computed with Myers' algorithm.
+	 *
+	 * @return <code>false</code> if the edit distance exceeds
+	 *         {@link #MAX_EDIT_DISTANCE}
+	 */
+	private boolean keepMyers(int[] a, int[] aIndices, int n, int[] b, int[] bIndices, int m) {
+		if (n == 0 || m == 0)
+			return true;
+		int limit = Math.min(n + m, MAX_EDIT_DISTANCE);
+		int offset = limit + 1;
+		int[] v = new int[2 * limit + 3];
+		int[][] trace = new int[limit + 1][];
+		for (int d = 0; d <= limit; d++) {
+			for (int k = -d; k <= d; k += 2) {
+				int x = k == -d || k != d && v[offset + k - 1] < v[offset + k + 1] ? v[offset + k + 1] : v[offset + k - 1] + 1;
+				int y = x - k;
+				while (x < n && y < m && a[x] == b[y]) {
+					x++;
+					y++;
+				}
+				v[offset + k] = x;
+				if (x >= n && y >= m) {
+					keepMyersPath(trace, d, n, m, aIndices, bIndices);
+					return true;
+				}
+			}
+			trace[d] = Arrays.copyOfRange(v, offset - d, offset + d + 1);
+		}
+		return false;
+	}
+
+	private void keepMyersPath(int[][] trace, int distance, int n, int m, int[] aIndices, int[] bIndices) {
+		int x = n;
+		int y = m;
+		for (int d = distance; d > 0; d--) {
+			int[] previous = trace[d - 1];
+			int k = x - y;
+			int previousK = k == -d || k != d && previous[k - 1 + d - 1] < previous[k + 1 + d - 1] ? k + 1 : k - 1;
+			int previousX = previous[previousK + d - 1];
+			int previousY = previousX - previousK;
+			while (x > previousX && y > previousY)
+				keep(aIndices[--x], bIndices[--y]);
+			x = previousX;
+			y = previousY;
+		}
+		while (x > 0 && y > 0)
+			keep(aIndices[--x], bIndices[--y]);
+	}
+
+	/**
+	 * Pairs the equal elements by their occurrence and keeps the longest
+	 * subsequence of the pairs with increasing old indices.
+	 */
+	private void keepOccurrences(int[] a, int[] aIndices, int n, int[] b, int[] bIndices, int m, int ids) {
+		int[] heads = new int[ids];
+		int[] next = new int[n];
+		int[] tails = new int[ids];
+		Arrays.fill(heads, -1);
+		for (int i = n - 1; i >= 0; i--) {
+			next[i] = heads[a[i]];
+			heads[a[i]] = i;
+		}
+		System.arraycopy(heads, 0, tails, 0, ids);
+		int[] pairs = new int[2 * m];
+		int size = 0;
+		for (int j = 0; j < m; j++) {
+			int i = tails[b[j]];
+			if (i != -1) {
+				tails[b[j]] = next[i];
+				pairs[size++] = bIndices[j];
+				pairs[size++] = aIndices[i];
+			}
+		}
+		keepIncreasing(pairs, size);
+	}
+
+	/**
+	 * Pairs the equal elements which are not kept as moves.
+	 */
+	private void matchMoves(int start, int oldEnd, int newEnd) {
+		Map<Object, ArrayDeque<Integer>> removed = new HashMap<>();
+		for (int i = start; i < oldEnd; i++) {
+			if (oldMatch[i] == -1)
+				removed.computeIfAbsent(oldElements[i], k -> new ArrayDeque<>()).add(i);
+		}
+		if (removed.isEmpty())
+			return;
+		for (int i = start; i < newEnd; i++) {
+			if (newMatch[i] == -1) {
+				ArrayDeque<Integer> indices = removed.get(newElements[i]);
+				if (indices != null && !indices.isEmpty()) {
+					int oldIndex = indices.poll();
+					oldMatch[oldIndex] = i;
+					newMatch[i] = oldIndex;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates the entries by walking the new list.
+	 * <p>
+	 * The elements of the old list which have not been consumed yet are
+	 * tracked in slots, ordered as they appear in the list being transformed.
+	 * Every old element has a slot at its original position; a moved element
+	 * which has to make way for a kept element is moved in front of the next
+	 * kept element following its target and has a second slot there.
+	 * </p>
+	 */
+	private <E> List<ListDiffEntry<E>> createEntries() {
+		int oldSize = oldElements.length;
+		int newSize = newElements.length;
+
+		int[] moveCounts = new int[oldSize + 1];
+		int[] moveTargets = new int[oldSize];
+		int moves = 0;
+		for (int i = newSize - 1, nextKept = oldSize; i >= 0; i--) {
+			int oldIndex = newMatch[i];
+			if (oldIndex == -1)
+				continue;
+			if (kept[oldIndex]) {
+				nextKept = oldIndex;
+			} else {
+				moveTargets[oldIndex] = nextKept;
+				moveCounts[nextKept]++;
+				moves++;
+			}
+		}
+		int[] slots = new int[oldSize];
+		int[] moveSlots = new int[oldSize];
+		int[] owners = new int[oldSize + moves];
+		int preceding = 0;
+		for (int i = 0; i < oldSize; i++) {
+			preceding += moveCounts[i];
+			slots[i] = i + preceding;
+			owners[slots[i]] = i;
+		}
+		for (int i = 0, rank = 0; i < newSize; i++) {
+			int oldIndex = newMatch[i];
+			if (oldIndex != -1 && !kept[oldIndex]) {
+				moveSlots[oldIndex] = moveTargets[oldIndex] + rank++;
+				owners[moveSlots[oldIndex]] = oldIndex;
+			}
+		}
+
+		SlotSet remaining = new SlotSet(oldSize + moves);
+		for (int i = 0; i < oldSize; i++)
+			remaining.add(slots[i]);
+		boolean[] movedAway = new boolean[oldSize];
+		List<ListDiffEntry<E>> entries = new ArrayList<>();
+		for (int i = 0; i < newSize; i++) {
+			int oldIndex = newMatch[i];
+			if (oldIndex == -1) {
+				entries.add(entry(i, true, newElements[i]));
+			} else if (kept[oldIndex] || movedAway[oldIndex]) {
+				int slot = kept[oldIndex] ? slots[oldIndex] : moveSlots[oldIndex];
+				for (int first = remaining.first(); first != slot; first = remaining.first()) {
+					int blocking = owners[first];
+					remaining.remove(first);
+					entries.add(entry(i, false, oldElements[blocking]));
+					if (oldMatch[blocking] != -1) {
+						movedAway[blocking] = true;
+						int moveSlot = moveSlots[blocking];
+						entries.add(entry(i + remaining.rank(moveSlot), true, newElements[oldMatch[blocking]]));
+						remaining.add(moveSlot);
+					}
+				}
+				remaining.remove(slot);
+			} else {
+				for (int first = remaining.first(); oldMatch[owners[first]] == -1; first = remaining.first()) {
+					remaining.remove(first);
+					entries.add(entry(i, false, oldElements[owners[first]]));
+				}
+				int slot = slots[oldIndex];
+				entries.add(entry(i + remaining.rank(slot), false, oldElements[oldIndex]));
+				entries.add(entry(i, true, newElements[i]));
+				remaining.remove(slot);
+			}
+		}
+		for (int slot = oldSize + moves - 1, position = newSize + remaining.size() - 1; slot >= 0; slot--) {
+			if (remaining.contains(slot))
+				entries.add(entry(position--, false, oldElements[owners[slot]]));
+		}
+		return entries;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <E> ListDiffEntry<E> entry(int position, boolean isAddition, Object element) {
+		return Diffs.createListDiffEntry(position, isAddition, (E) element);
+	}
+
+	/**
+	 * A set of slots supporting rank queries in logarithmic time.
+	 */
+	private static final class SlotSet {
+		private final boolean[] contained;
+		private final int[] tree;
+		private int size;
+
+		SlotSet(int capacity) {
+			contained = new boolean[capacity];
+			tree = new int[capacity + 1];
+		}
+
+		void add(int slot) {
+			contained[slot] = true;
+			size++;
+			update(slot, 1);
+		}
+
+		void remove(int slot) {
+			contained[slot] = false;
+			size--;
+			update(slot, -1);
+		}
+
+		boolean contains(int slot) {
+			return contained[slot];
+		}
+
+		int size() {
+			return size;
+		}
+
+		private void update(int slot, int delta) {
+			for (int i = slot + 1; i < tree.length; i += i & -i)
+				tree[i] += delta;
+		}
+
+		/**
+		 * @return the number of contained slots before the given slot
+		 */
+		int rank(int slot) {
+			int rank = 0;
+			for (int i = slot; i > 0; i -= i & -i)
+				rank += tree[i];
+			return rank;
+		}
+
+		/**
+		 * @return the first contained slot, which must exist
+		 */
+		int first() {
+			int index = 0;
+			for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+				if (index + step < tree.length && tree[index + step] == 0)
+					index += step;
+			}
+			return index;
+		}
+	}
+}
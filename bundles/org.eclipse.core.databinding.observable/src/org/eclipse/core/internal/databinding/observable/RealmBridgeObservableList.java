@@ -0,0 +1,181 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.IListChangeListener;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.ListDiff;
+import org.eclipse.core.databinding.observable.list.ListDiffEntry;
+import org.eclipse.core.databinding.observable.list.ObservableList;
+
+/**
+ * An unmodifiable {@link IObservableList} presenting the contents of an
+ * observable list of another realm.
+ * <p>
+ * The changes of the source list are collected in the realm of the source
+ * list. A single update is then scheduled in the realm of this list, which
+ * applies all changes collected until it runs and fires one change event with
+ * the net difference. Any number of changes of the source list between two
+ * updates therefore cost the realm of this list one event.
+ * </p>
+ * <p>
+ * The list is stale until the contents of the source list have been received,
+ * and afterwards whenever the source list was stale at its last change.
+ * </p>
+ *
+ * @param <E>
+ *            the type of the elements in the list
+ *
+ * @since 1.14
+ */
+public class RealmBridgeObservableList<E> extends ObservableList<E> {
+
+	private final IObservableList<E> source;
+
+	private final Object lock = new Object();
+
+	/**
+	 * The contents of the source list when this list started listening to it,
+	 * or <code>null</code> if they have already been applied. Guarded by
+	 * {@link #lock}.
+	 */
+	private List<E> pendingContents;
+
+	/**
+	 * The changes of the source list which have not been applied yet. Guarded
+	 * by {@link #lock}.
+	 */
+	private List<ListDiffEntry<? extends E>> pendingEntries = new ArrayList<>();
+
+	/**
+	 * The staleness of the source list at its last change. Guarded by
+	 * {@link #lock}.
+	 */
+	private boolean pendingStale;
+
+	/**
+	 * Whether an update has been scheduled in the realm of this list. Guarded
+	 * by {@link #lock}.
+	 */
+	private boolean updateScheduled;
+
+	private volatile boolean bridgeDisposed;
+
+	private final IListChangeListener<E> sourceChangeListener = event -> {
+		synchronized (lock) {
+			Collections.addAll(pendingEntries, event.diff.getDifferences());
+			scheduleUpdate();
+		}
+	};
+
+	private final IStaleListener sourceStaleListener = event -> {
+		synchronized (lock) {
+			scheduleUpdate();
+		}
+	};
+
+	/**
+	 * Constructs a list in the given realm presenting the contents of the
+	 * given list. Must be invoked from within the given realm.
+	 *
+	 * @param realm
+	 *            the realm of this list
+	 * @param source
+	 *            the list whose contents to present
+	 */
+	public RealmBridgeObservableList(Realm realm, IObservableList<E> source) {
+		super(realm, new ArrayList<>(), source.getElementType());
+		this.source = source;
+		setStale(true);
+		source.getRealm().exec(() -> {
+			if (bridgeDisposed)
+				return;
+			ObservableTracker.setIgnore(true);
+			try {
+				source.addListChangeListener(sourceChangeListener);
+				source.addStaleListener(sourceStaleListener);
+				synchronized (lock) {
+					pendingContents = new ArrayList<>(source);
+					pendingEntries.clear();
+					scheduleUpdate();
+				}
+			} finally {
+				ObservableTracker.setIgnore(false);
+			}
+		});
+	}
+
+	/**
+	 * Records the staleness of the source list and schedules an update unless
+	 * one is already pending. Must be invoked in the realm of the source list
+	 * while holding {@link #lock}.
+	 */
+	private void scheduleUpdate() {
+		pendingStale = source.isStale();
+		if (!updateScheduled) {
+			updateScheduled = true;
+			getRealm().asyncExec(this::update);
+		}
+	}
+
+	private void update() {
+		List<E> contents;
+		List<ListDiffEntry<? extends E>> entries;
+		boolean newStale;
+		synchronized (lock) {
+			updateScheduled = false;
+			contents = pendingContents;
+			pendingContents = null;
+			entries = pendingEntries;
+			pendingEntries = new ArrayList<>();
+			newStale = pendingStale;
+		}
+		if (isDisposed())
+			return;
+
+		List<E> newList = contents != null ? contents : new ArrayList<>(wrappedList);
+		for (ListDiffEntry<? extends E> entry : entries) {
+			if (entry.isAddition())
+				newList.add(entry.getPosition(), entry.getElement());
+			else
+				newList.remove(entry.getPosition());
+		}
+		ListDiff<E> diff = Diffs.computeListDiff(wrappedList, newList);
+		wrappedList = newList;
+		setStale(newStale);
+		if (!diff.isEmpty())
+			fireListChange(diff);
+	}
+
+	@Override
+	public synchronized void dispose() {
+		if (!bridgeDisposed) {
+			bridgeDisposed = true;
+			source.getRealm().exec(() -> {
+				source.removeListChangeListener(sourceChangeListener);
+				source.removeStaleListener(sourceStaleListener);
+			});
+		}
+		super.dispose();
+	}
+}
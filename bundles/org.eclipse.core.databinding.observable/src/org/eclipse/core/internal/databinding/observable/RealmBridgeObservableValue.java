@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.internal.databinding.observable;
+
+import java.util.Objects;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.IStaleListener;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IValueChangeListener;
+
+/**
+ * An unmodifiable {@link IObservableValue} presenting the value of an
+ * observable value of another realm.
+ * <p>
+ * The changes of the source value are collected in the realm of the source
+ * value. A single update is then scheduled in the realm of this value, which
+ * fires one change event from the value before the first change to the value
+ * after the last change collected until it runs.
+ * </p>
+ * <p>
+ * The value is stale until the value of the source has been received, and
+ * afterwards whenever the source value was stale at its last change.
+ * </p>
+ *
+ * @param <T>
+ *            the type of the value
+ *
+ * @since 1.14
+ */
+public class RealmBridgeObservableValue<T> extends AbstractObservableValue<T> {
+
+	private final IObservableValue<T> source;
+
+	private final Object lock = new Object();
+
+	/**
+	 * The last value of the source which has not been applied yet. Guarded by
+	 * {@link #lock}.
+	 */
+	private T pendingValue;
+
+	/**
+	 * Whether {@link #pendingValue} has not been applied yet. Guarded by
+	 * {@link #lock}.
+	 */
+	private boolean valuePending;
+
+	/**
+	 * The staleness of the source value at its last change. Guarded by
+	 * {@link #lock}.
+	 */
+	private boolean pendingStale;
+
+	/**
+	 * Whether an update has been scheduled in the realm of this value. Guarded
+	 * by {@link #lock}.
+	 */
+	private boolean updateScheduled;
+
+	private volatile boolean bridgeDisposed;
+
+	private T value;
+
+	private boolean stale = true;
+
+	private final IValueChangeListener<T> sourceChangeListener = event -> {
+		synchronized (lock) {
+			pendingValue = event.diff.getNewValue();
+			valuePending = true;
+			scheduleUpdate();
+		}
+	};
+
+	private final IStaleListener sourceStaleListener = event -> {
+		synchronized (lock) {
+			scheduleUpdate();
+		}
+	};
+
+	/**
+	 * Constructs a value in the given realm presenting the value of the given
+	 * observable value. Must be invoked from within the given realm.
+	 *
+	 * @param realm
+	 *            the realm of this value
+	 * @param source
+	 *            the value to present
+	 */
+	public RealmBridgeObservableValue(Realm realm, IObservableValue<T> source) {
+		super(realm);
+		this.source = source;
+		source.getRealm().exec(() -> {
+			if (bridgeDisposed)
+				return;
+			ObservableTracker.setIgnore(true);
+			try {
+				source.addValueChangeListener(sourceChangeListener);
+				source.addStaleListener(sourceStaleListener);
+				synchronized (lock) {
+					pendingValue = source.getValue();
+					valuePending = true;
+					scheduleUpdate();
+				}
+			} finally {
+				ObservableTracker.setIgnore(false);
+			}
+		});
+	}
+
+	/**
+	 * Records the staleness of the source value and schedules an update unless
+	 * one is already pending. Must be invoked in the realm of the source value
+	 * while holding {@link #lock}.
+	 */
+	private void scheduleUpdate() {
+		pendingStale = source.isStale();
+		if (!updateScheduled) {
+			updateScheduled = true;
+			getRealm().asyncExec(this::update);
+		}
+	}
+
+	private void update() {
+		T newValue;
+		boolean changed;
+		boolean newStale;
+		synchronized (lock) {
+			updateScheduled = false;
+			newValue = pendingValue;
+			changed = valuePending;
+			pendingValue = null;
+			valuePending = false;
+			newStale = pendingStale;
+		}
+		if (isDisposed())
+			return;
+
+		boolean wasStale = stale;
+		stale = newStale;
+		T oldValue = value;
+		if (changed && !Objects.equals(oldValue, newValue)) {
+			value = newValue;
+			fireValueChange(Diffs.createValueDiff(oldValue, newValue));
+		} else if (!wasStale && newStale) {
+			fireStale();
+		}
+	}
+
+	@Override
+	protected T doGetValue() {
+		return value;
+	}
+
+	@Override
+	public Object getValueType() {
+		return source.getValueType();
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return stale;
+	}
+
+	@Override
+	public synchronized void dispose() {
+		if (!bridgeDisposed) {
+			bridgeDisposed = true;
+			source.getRealm().exec(() -> {
+				source.removeValueChangeListener(sourceChangeListener);
+				source.removeStaleListener(sourceStaleListener);
+			});
+		}
+		super.dispose();
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableDoubleValue;
+import org.eclipse.core.databinding.observable.value.DoubleValueDiff;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.internal.databinding.property.value.SimplePropertyObservableDoubleValue;
+
+/**
+ * Simplified abstract implementation of an IValueProperty of
+ * <code>double</code> values, which can be read, written and observed without
+ * boxing them. The observables returned by {@link #observe(Realm, Object)}
+ * are {@link IObservableDoubleValue}s which fire {@link DoubleValueDiff}s.
+ * <p>
+ * Subclasses must implement these methods:
+ * <ul>
+ * <li>{@link #doGetDoubleValue(Object)}
+ * <li>{@link #doSetDoubleValue(Object, double)}
+ * <li>{@link #adaptListener(ISimplePropertyListener)}
+ * </ul>
+ * <p>
+ * In addition, we recommended overriding {@link #toString()} to return a
+ * description suitable for debugging purposes.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public abstract class SimpleDoubleValueProperty<S> extends SimpleValueProperty<S, Double> {
+
+	/**
+	 * Returns the value of the property on the specified source object without
+	 * boxing it, or <code>0</code> if the source object is
+	 * <code>null</code>.
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @return the current value of the source's value property
+	 */
+	public double getDoubleValue(S source) {
+		if (source == null) {
+			return 0;
+		}
+		return doGetDoubleValue(source);
+	}
+
+	/**
+	 * Sets the source's value property to the specified value without boxing
+	 * it. Does nothing if the source object is <code>null</code>.
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @param value
+	 *            the new value
+	 */
+	public void setDoubleValue(S source, double value) {
+		if (source != null) {
+			doSetDoubleValue(source, value);
+		}
+	}
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source
+	 * @return the current value of the source's value property
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract double doGetDoubleValue(S source);
+
+	/**
+	 * Sets the source's value property to the specified value
+	 *
+	 * @param source
+	 *            the property source
+	 * @param value
+	 *            the new value
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract void doSetDoubleValue(S source, double value);
+
+	@Override
+	public Object getValueType() {
+		return Double.TYPE;
+	}
+
+	@Override
+	protected final Double doGetValue(S source) {
+		return doGetDoubleValue(source);
+	}
+
+	@Override
+	protected final void doSetValue(S source, Double value) {
+		doSetDoubleValue(source, value);
+	}
+
+	@Override
+	public IObservableDoubleValue observe(S source) {
+		return observe(Realm.getDefault(), source);
+	}
+
+	@Override
+	public IObservableDoubleValue observe(Realm realm, S source) {
+		return new SimplePropertyObservableDoubleValue<>(realm, source, this);
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableIntValue;
+import org.eclipse.core.databinding.observable.value.IntValueDiff;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.internal.databinding.property.value.SimplePropertyObservableIntValue;
+
+/**
+ * Simplified abstract implementation of an IValueProperty of
+ * <code>int</code> values, which can be read, written and observed without
+ * boxing them. The observables returned by {@link #observe(Realm, Object)}
+ * are {@link IObservableIntValue}s which fire {@link IntValueDiff}s.
+ * <p>
+ * Subclasses must implement these methods:
+ * <ul>
+ * <li>{@link #doGetIntValue(Object)}
+ * <li>{@link #doSetIntValue(Object, int)}
+ * <li>{@link #adaptListener(ISimplePropertyListener)}
+ * </ul>
+ * <p>
+ * In addition, we recommended overriding {@link #toString()} to return a
+ * description suitable for debugging purposes.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public abstract class SimpleIntValueProperty<S> extends SimpleValueProperty<S, Integer> {
+
+	/**
+	 * Returns the value of the property on the specified source object without
+	 * boxing it, or <code>0</code> if the source object is
+	 * <code>null</code>.
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @return the current value of the source's value property
+	 */
+	public int getIntValue(S source) {
+		if (source == null) {
+			return 0;
+		}
+		return doGetIntValue(source);
+	}
+
+	/**
+	 * Sets the source's value property to the specified value without boxing
+	 * it. Does nothing if the source object is <code>null</code>.
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @param value
+	 *            the new value
+	 */
+	public void setIntValue(S source, int value) {
+		if (source != null) {
+			doSetIntValue(source, value);
+		}
+	}
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source
+	 * @return the current value of the source's value property
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract int doGetIntValue(S source);
+
+	/**
+	 * Sets the source's value property to the specified value
+	 *
+	 * @param source
+	 *            the property source
+	 * @param value
+	 *            the new value
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract void doSetIntValue(S source, int value);
+
+	@Override
+	public Object getValueType() {
+		return Integer.TYPE;
+	}
+
+	@Override
+	protected final Integer doGetValue(S source) {
+		return doGetIntValue(source);
+	}
+
+	@Override
+	protected final void doSetValue(S source, Integer value) {
+		doSetIntValue(source, value);
+	}
+
+	@Override
+	public IObservableIntValue observe(S source) {
+		return observe(Realm.getDefault(), source);
+	}
+
+	@Override
+	public IObservableIntValue observe(Realm realm, S source) {
+		return new SimplePropertyObservableIntValue<>(realm, source, this);
+	}
+}
@@ -0,0 +1,121 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableLongValue;
+import org.eclipse.core.databinding.observable.value.LongValueDiff;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.internal.databinding.property.value.SimplePropertyObservableLongValue;
+
+/**
+ * Simplified abstract implementation of an IValueProperty of
+ * <code>long</code> values, which can be read, written and observed without
+ * boxing them. The observables returned by {@link #observe(Realm, Object)}
+ * are {@link IObservableLongValue}s which fire {@link LongValueDiff}s.
+ * <p>
+ * Subclasses must implement these methods:
+ * <ul>
+ * <li>{@link #doGetLongValue(Object)}
+ * <li>{@link #doSetLongValue(Object, long)}
+ * <li>{@link #adaptListener(ISimplePropertyListener)}
+ * </ul>
+ * <p>
+ * In addition, we recommended overriding {@link #toString()} to return a
+ * description suitable for debugging purposes.
+ *
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public abstract class SimpleLongValueProperty<S> extends SimpleValueProperty<S, Long> {
+
+	/**
+	 * Returns the value of the property on the specified source object without
+	 * boxing it, or <code>0</code> if the source object is
+	 * <code>null</code>.
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @return the current value of the source's value property
+	 */
+	public long getLongValue(S source) {
+		if (source == null) {
+			return 0;
+		}
+		return doGetLongValue(source);
+	}
+
+	/**
+	 * Sets the source's value property to the specified value without boxing
+	 * it. Does nothing if the source object is <code>null</code>.
+	 *
+	 * @param source
+	 *            the property source (may be null)
+	 * @param value
+	 *            the new value
+	 */
+	public void setLongValue(S source, long value) {
+		if (source != null) {
+			doSetLongValue(source, value);
+		}
+	}
+
+	/**
+	 * Returns the value of the property on the specified source object
+	 *
+	 * @param source
+	 *            the property source
+	 * @return the current value of the source's value property
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract long doGetLongValue(S source);
+
+	/**
+	 * Sets the source's value property to the specified value
+	 *
+	 * @param source
+	 *            the property source
+	 * @param value
+	 *            the new value
+	 * @noreference This method is not intended to be referenced by clients.
+	 */
+	protected abstract void doSetLongValue(S source, long value);
+
+	@Override
+	public Object getValueType() {
+		return Long.TYPE;
+	}
+
+	@Override
+	protected final Long doGetValue(S source) {
+		return doGetLongValue(source);
+	}
+
+	@Override
+	protected final void doSetValue(S source, Long value) {
+		doSetLongValue(source, value);
+	}
+
+	@Override
+	public IObservableLongValue observe(S source) {
+		return observe(Realm.getDefault(), source);
+	}
+
+	@Override
+	public IObservableLongValue observe(Realm realm, S source) {
+		return new SimplePropertyObservableLongValue<>(realm, source, this);
+	}
+}
@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.AbstractObservableValue;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.IPropertyObservable;
+import org.eclipse.core.databinding.property.SimplePropertyEvent;
+import org.eclipse.core.databinding.property.value.SimpleValueProperty;
+
+/**
+ * Common implementation of the observables of the primitive value properties.
+ * Like {@link SimplePropertyObservableValue} it caches the value while there
+ * are listeners, but subclasses keep the cached value unboxed and fire
+ * primitive diffs.
+ *
+ * @param <S>
+ *            type of the source object
+ * @param <T>
+ *            the boxed type of the value of the property
+ * @param <P>
+ *            type of the property
+ */
+abstract class PrimitivePropertyObservableValue<S, T, P extends SimpleValueProperty<S, T>>
+		extends AbstractObservableValue<T> implements IPropertyObservable<P> {
+	S source;
+	P property;
+
+	/**
+	 * Whether the value is being set, so that the change events of the source
+	 * are ignored.
+	 */
+	boolean updating = false;
+
+	private boolean stale;
+
+	private INativePropertyListener<S> listener;
+
+	PrimitivePropertyObservableValue(Realm realm, S source, P property) {
+		super(realm);
+		this.source = source;
+		this.property = property;
+	}
+
+	/**
+	 * Reads the value of the property into the cache.
+	 */
+	abstract void cacheValue();
+
+	/**
+	 * Reads the value of the property into the cache, keeping the previously
+	 * cached value for {@link #fireCachedValueChange()}.
+	 *
+	 * @return whether the value differs from the previously cached value
+	 */
+	abstract boolean updateCachedValue();
+
+	/**
+	 * Fires the change from the previously cached value to the cached value.
+	 */
+	abstract void fireCachedValueChange();
+
+	@Override
+	protected void firstListenerAdded() {
+		if (!isDisposed() && listener == null) {
+			listener = property.adaptListener(event -> {
+				if (!isDisposed() && !updating) {
+					getRealm().exec(() -> {
+						if (event.type == SimplePropertyEvent.CHANGE) {
+							notifyIfChanged();
+						} else if (event.type == SimplePropertyEvent.STALE && !stale) {
+							stale = true;
+							fireStale();
+						}
+					});
+				}
+			});
+		}
+		getRealm().exec(() -> {
+			cacheValue();
+			stale = false;
+			if (listener != null)
+				listener.addTo(source);
+		});
+	}
+
+	@Override
+	protected void lastListenerRemoved() {
+		if (listener != null)
+			listener.removeFrom(source);
+		stale = false;
+	}
+
+	final void notifyIfChanged() {
+		if (hasListeners()) {
+			if (updateCachedValue() || stale) {
+				stale = false;
+				fireCachedValueChange();
+			}
+		}
+	}
+
+	@Override
+	public Object getValueType() {
+		return property.getValueType();
+	}
+
+	@Override
+	public Object getObserved() {
+		return source;
+	}
+
+	@Override
+	public P getProperty() {
+		return property;
+	}
+
+	@Override
+	public boolean isStale() {
+		ObservableTracker.getterCalled(this);
+		return stale;
+	}
+
+	@Override
+	public synchronized void dispose() {
+		if (!isDisposed()) {
+			if (listener != null)
+				listener.removeFrom(source);
+			source = null;
+			property = null;
+			listener = null;
+			stale = false;
+		}
+		super.dispose();
+	}
+}
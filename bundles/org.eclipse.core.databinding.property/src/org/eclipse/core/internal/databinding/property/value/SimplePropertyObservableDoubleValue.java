@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableDoubleValue;
+import org.eclipse.core.databinding.property.value.SimpleDoubleValueProperty;
+
+/**
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public class SimplePropertyObservableDoubleValue<S>
+		extends PrimitivePropertyObservableValue<S, Double, SimpleDoubleValueProperty<S>>
+		implements IObservableDoubleValue {
+	private double cachedValue;
+	private double oldValue;
+
+	public SimplePropertyObservableDoubleValue(Realm realm, S source, SimpleDoubleValueProperty<S> property) {
+		super(realm, source, property);
+	}
+
+	@Override
+	void cacheValue() {
+		cachedValue = property.getDoubleValue(source);
+	}
+
+	@Override
+	boolean updateCachedValue() {
+		oldValue = cachedValue;
+		cachedValue = property.getDoubleValue(source);
+		return Double.compare(oldValue, cachedValue) != 0;
+	}
+
+	@Override
+	void fireCachedValueChange() {
+		fireValueChange(Diffs.createDoubleValueDiff(oldValue, cachedValue));
+	}
+
+	@Override
+	public double getDoubleValue() {
+		ObservableTracker.getterCalled(this);
+		notifyIfChanged();
+		return property.getDoubleValue(source);
+	}
+
+	@Override
+	public void setDoubleValue(double value) {
+		checkRealm();
+		updating = true;
+		try {
+			property.setDoubleValue(source, value);
+		} finally {
+			updating = false;
+		}
+
+		notifyIfChanged();
+	}
+
+	@Override
+	protected Double doGetValue() {
+		return getDoubleValue();
+	}
+
+	@Override
+	protected void doSetValue(Double value) {
+		setDoubleValue(value);
+	}
+}
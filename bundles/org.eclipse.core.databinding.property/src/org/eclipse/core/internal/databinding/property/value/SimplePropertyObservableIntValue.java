@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableIntValue;
+import org.eclipse.core.databinding.property.value.SimpleIntValueProperty;
+
+/**
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public class SimplePropertyObservableIntValue<S>
+		extends PrimitivePropertyObservableValue<S, Integer, SimpleIntValueProperty<S>>
+		implements IObservableIntValue {
+	private int cachedValue;
+	private int oldValue;
+
+	public SimplePropertyObservableIntValue(Realm realm, S source, SimpleIntValueProperty<S> property) {
+		super(realm, source, property);
+	}
+
+	@Override
+	void cacheValue() {
+		cachedValue = property.getIntValue(source);
+	}
+
+	@Override
+	boolean updateCachedValue() {
+		oldValue = cachedValue;
+		cachedValue = property.getIntValue(source);
+		return oldValue != cachedValue;
+	}
+
+	@Override
+	void fireCachedValueChange() {
+		fireValueChange(Diffs.createIntValueDiff(oldValue, cachedValue));
+	}
+
+	@Override
+	public int getIntValue() {
+		ObservableTracker.getterCalled(this);
+		notifyIfChanged();
+		return property.getIntValue(source);
+	}
+
+	@Override
+	public void setIntValue(int value) {
+		checkRealm();
+		updating = true;
+		try {
+			property.setIntValue(source, value);
+		} finally {
+			updating = false;
+		}
+
+		notifyIfChanged();
+	}
+
+	@Override
+	protected Integer doGetValue() {
+		return getIntValue();
+	}
+
+	@Override
+	protected void doSetValue(Integer value) {
+		setIntValue(value);
+	}
+}
@@ -0,0 +1,84 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.internal.databinding.property.value;
+
+import org.eclipse.core.databinding.observable.Diffs;
+import org.eclipse.core.databinding.observable.ObservableTracker;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableLongValue;
+import org.eclipse.core.databinding.property.value.SimpleLongValueProperty;
+
+/**
+ * @param <S>
+ *            type of the source object
+ * @since 1.11
+ */
+public class SimplePropertyObservableLongValue<S>
+		extends PrimitivePropertyObservableValue<S, Long, SimpleLongValueProperty<S>>
+		implements IObservableLongValue {
+	private long cachedValue;
+	private long oldValue;
+
+	public SimplePropertyObservableLongValue(Realm realm, S source, SimpleLongValueProperty<S> property) {
+		super(realm, source, property);
+	}
+
+	@Override
+	void cacheValue() {
+		cachedValue = property.getLongValue(source);
+	}
+
+	@Override
+	boolean updateCachedValue() {
+		oldValue = cachedValue;
+		cachedValue = property.getLongValue(source);
+		return oldValue != cachedValue;
+	}
+
+	@Override
+	void fireCachedValueChange() {
+		fireValueChange(Diffs.createLongValueDiff(oldValue, cachedValue));
+	}
+
+	@Override
+	public long getLongValue() {
+		ObservableTracker.getterCalled(this);
+		notifyIfChanged();
+		return property.getLongValue(source);
+	}
+
+	@Override
+	public void setLongValue(long value) {
+		checkRealm();
+		updating = true;
+		try {
+			property.setLongValue(source, value);
+		} finally {
+			updating = false;
+		}
+
+		notifyIfChanged();
+	}
+
+	@Override
+	protected Long doGetValue() {
+		return getLongValue();
+	}
+
+	@Override
+	protected void doSetValue(Long value) {
+		setLongValue(value);
+	}
+}
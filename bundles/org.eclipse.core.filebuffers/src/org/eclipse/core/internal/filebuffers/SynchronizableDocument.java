@@ -13,10 +13,13 @@
  *******************************************************************************/
 package org.eclipse.core.internal.filebuffers;
 
+import java.util.Objects;
+
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.BadPartitioningException;
 import org.eclipse.jface.text.BadPositionCategoryException;
 import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.DocumentRewriteSession;
 import org.eclipse.jface.text.DocumentRewriteSessionType;
 import org.eclipse.jface.text.IDocumentExtension4;
@@ -37,6 +40,11 @@ import org.eclipse.jface.text.Position;
 public class SynchronizableDocument extends Document implements ISynchronizable {
 
 	private Object fLockObject;
+	/**
+	 * The content shared by the views handed out since this document was last modified, or
+	 * <code>null</code> if there are none.
+	 */
+	private Snapshot fSnapshot;
 
 	@Override
 	public synchronized void setLockObject(Object lockObject) {
@@ -120,6 +128,125 @@ public class SynchronizableDocument extends Document implements ISynchronizable
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If this document has a lock object, the returned view is a snapshot: it keeps the content
+	 * this document had when the view was created. The views share the content of this document
+	 * until it is modified, which copies the content once for all views created since the
+	 * previous modification.
+	 * </p>
+	 */
+	@Override
+	public CharSequence getCharSequence() {
+		Object lockObject= getLockObject();
+		if (lockObject == null) {
+			return super.getCharSequence();
+		}
+		synchronized (lockObject) {
+			if (fSnapshot == null)
+				fSnapshot= new Snapshot(super.getCharSequence(), lockObject);
+			return new SnapshotCharSequence(fSnapshot, 0, fSnapshot.fLength);
+		}
+	}
+
+	@Override
+	protected void fireDocumentAboutToBeChanged(DocumentEvent event) {
+		super.fireDocumentAboutToBeChanged(event);
+		// listeners may have requested views as well
+		Snapshot snapshot= fSnapshot;
+		if (snapshot != null) {
+			fSnapshot= null;
+			snapshot.detach();
+		}
+	}
+
+	/**
+	 * The content of this document at the time the views sharing it were created. It reads the
+	 * text store of this document while holding the lock object until this document is about to
+	 * be modified, and copies the content at that point.
+	 */
+	private static final class Snapshot {
+
+		private final Object fLockObject;
+		private final int fLength;
+		/** The view of the text store, guarded by the lock object */
+		private CharSequence fText;
+		/** The copied content once this document has been modified */
+		private volatile String fDetachedText;
+
+		Snapshot(CharSequence text, Object lockObject) {
+			fText= text;
+			fLockObject= lockObject;
+			fLength= text.length();
+		}
+
+		/**
+		 * Copies the content before the text store is modified. Called while holding the lock
+		 * object.
+		 */
+		void detach() {
+			fDetachedText= fText.toString();
+			fText= null;
+		}
+
+		char charAt(int index) {
+			String detachedText= fDetachedText;
+			if (detachedText != null)
+				return detachedText.charAt(index);
+			synchronized (fLockObject) {
+				return fText != null ? fText.charAt(index) : fDetachedText.charAt(index);
+			}
+		}
+
+		String substring(int start, int end) {
+			String detachedText= fDetachedText;
+			if (detachedText != null)
+				return detachedText.substring(start, end);
+			synchronized (fLockObject) {
+				return fText != null ? fText.subSequence(start, end).toString() : fDetachedText.substring(start, end);
+			}
+		}
+	}
+
+	/**
+	 * A range of a {@link Snapshot}.
+	 */
+	private static final class SnapshotCharSequence implements CharSequence {
+
+		private final Snapshot fSnapshot;
+		private final int fOffset;
+		private final int fLength;
+
+		SnapshotCharSequence(Snapshot snapshot, int offset, int length) {
+			fSnapshot= snapshot;
+			fOffset= offset;
+			fLength= length;
+		}
+
+		@Override
+		public int length() {
+			return fLength;
+		}
+
+		@Override
+		public char charAt(int index) {
+			Objects.checkIndex(index, fLength);
+			return fSnapshot.charAt(fOffset + index);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			Objects.checkFromToIndex(start, end, fLength);
+			return new SnapshotCharSequence(fSnapshot, fOffset + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return fSnapshot.substring(fOffset, fOffset + fLength);
+		}
+	}
+
 	@Override
 	public String get(int offset, int length) throws BadLocationException {
 		Object lockObject= getLockObject();
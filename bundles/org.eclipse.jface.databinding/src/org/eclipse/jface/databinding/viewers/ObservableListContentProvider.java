@@ -50,6 +50,14 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 	private ObservableCollectionContentProvider<E> impl;
 
 	private static class Impl<E> extends ObservableCollectionContentProvider<E> implements IListChangeListener<E> {
+		/**
+		 * The number of diff entries above which the viewer is refreshed
+		 * instead of being updated for each entry, e.g. for the merged diff of
+		 * a {@link org.eclipse.core.databinding.observable.Realm#runBatch(Runnable)
+		 * batch}.
+		 */
+		private static final int REFRESH_THRESHOLD = 100;
+
 		private Viewer viewer;
 
 		Impl(IViewerUpdater<E> explicitViewerUpdater) {
@@ -118,7 +126,20 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 				realizedElements.removeAll(knownElementRemovals);
 			}
 
-			if (suspendRedraw[0])
+			if (hasDefaultViewerUpdater() && event.diff.getDifferences().length > REFRESH_THRESHOLD) {
+				viewer.refresh();
+			} else {
+				updateViewer(event, suspendRedraw[0]);
+			}
+
+			if (realizedElements != null) {
+				realizedElements.addAll(knownElementAdditions);
+			}
+			knownElements.removeAll(knownElementRemovals);
+		}
+
+		private void updateViewer(ListChangeEvent<? extends E> event, boolean suspendRedraw) {
+			if (suspendRedraw)
 				viewer.getControl().setRedraw(false);
 			try {
 				event.diff.accept(new ListDiffVisitor<E>() {
@@ -143,14 +164,9 @@ public class ObservableListContentProvider<E> implements IStructuredContentProvi
 					}
 				});
 			} finally {
-				if (suspendRedraw[0])
+				if (suspendRedraw)
 					viewer.getControl().setRedraw(true);
 			}
-
-			if (realizedElements != null) {
-				realizedElements.addAll(knownElementAdditions);
-			}
-			knownElements.removeAll(knownElementRemovals);
 		}
 	}
 
@@ -0,0 +1,50 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.internal.databinding.swt;
+
+import org.eclipse.core.databinding.observable.value.IObservableIntValue;
+import org.eclipse.swt.widgets.Widget;
+
+/**
+ * An {@link SWTObservableValueDecorator} of an {@link IObservableIntValue},
+ * which reads and writes the value without boxing it.
+ */
+public class SWTObservableIntValueDecorator extends SWTObservableValueDecorator<Integer>
+		implements IObservableIntValue {
+	private IObservableIntValue decorated;
+
+	public SWTObservableIntValueDecorator(IObservableIntValue decorated, Widget widget) {
+		super(decorated, widget);
+		this.decorated = decorated;
+	}
+
+	@Override
+	public int getIntValue() {
+		getterCalled();
+		return decorated.getIntValue();
+	}
+
+	@Override
+	public void setIntValue(int value) {
+		checkRealm();
+		decorated.setIntValue(value);
+	}
+
+	@Override
+	public synchronized void dispose() {
+		super.dispose();
+		decorated = null;
+	}
+}
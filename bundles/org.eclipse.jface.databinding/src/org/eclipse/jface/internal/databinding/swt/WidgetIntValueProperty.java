@@ -15,15 +15,50 @@
 
 package org.eclipse.jface.internal.databinding.swt;
 
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableIntValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.value.SimpleIntValueProperty;
+import org.eclipse.jface.databinding.swt.ISWTObservableValue;
 import org.eclipse.jface.databinding.swt.WidgetValueProperty;
 import org.eclipse.swt.widgets.Widget;
 
 /**
+ * The observables of this property are {@link IObservableIntValue}s, which
+ * read and write the value of the widget and fire their change events
+ * without boxing the value.
+ *
  * @param <S> type of the source object
  *
  * @since 3.3
  */
 public abstract class WidgetIntValueProperty<S extends Widget> extends WidgetValueProperty<S, Integer> {
+	private final SimpleIntValueProperty<S> intProperty = new SimpleIntValueProperty<>() {
+		@Override
+		protected int doGetIntValue(S source) {
+			return WidgetIntValueProperty.this.doGetIntValue(source);
+		}
+
+		@Override
+		protected void doSetIntValue(S source, int value) {
+			WidgetIntValueProperty.this.doSetIntValue(source, value);
+		}
+
+		@Override
+		public INativePropertyListener<S> adaptListener(
+				ISimplePropertyListener<S, ValueDiff<? extends Integer>> listener) {
+			return WidgetIntValueProperty.this.adaptListener(listener);
+		}
+
+		@Override
+		public String toString() {
+			return WidgetIntValueProperty.this.toString();
+		}
+	};
+
 	WidgetIntValueProperty() {
 		super();
 	}
@@ -51,6 +86,19 @@ public abstract class WidgetIntValueProperty<S extends Widget> extends WidgetVal
 		doSetIntValue(source, value);
 	}
 
+	@Override
+	public ISWTObservableValue<Integer> observe(Realm realm, S source) {
+		return wrapObservable(intProperty.observe(realm, source), source);
+	}
+
+	@Override
+	protected ISWTObservableValue<Integer> wrapObservable(IObservableValue<Integer> observable, Widget widget) {
+		if (observable instanceof IObservableIntValue) {
+			return new SWTObservableIntValueDecorator((IObservableIntValue) observable, widget);
+		}
+		return super.wrapObservable(observable, widget);
+	}
+
 	abstract protected int doGetIntValue(S source);
 
 	abstract void doSetIntValue(S source, int intValue);
@@ -222,6 +222,16 @@ public abstract class ObservableCollectionContentProvider<E> implements IStructu
 	 */
 	protected abstract void removeCollectionChangeListener(IObservableCollection<E> collection);
 
+	/**
+	 * Returns whether the viewer is updated by a viewer updater created for
+	 * its type rather than one given by the client.
+	 *
+	 * @return whether the viewer updater has not been given by the client
+	 */
+	protected final boolean hasDefaultViewerUpdater() {
+		return explicitViewerUpdater == null;
+	}
+
 	/**
 	 * Returns whether the viewer is disposed. Collection change listeners in
 	 * subclasses should verify that the viewer is not disposed before sending
@@ -17,6 +17,7 @@
 package org.eclipse.jface.text.source.projection;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
 
@@ -239,6 +240,26 @@ public class ProjectionViewer extends SourceViewer implements ITextViewerExtensi
 			return fList.iterator();
 		}
 
+		/**
+		 * Returns the projection document all add and remove commands of this queue refer to.
+		 *
+		 * @return the projection document or <code>null</code> if there are no add and remove
+		 *         commands or if they refer to different projection documents
+		 * @since 3.26
+		 */
+		ProjectionDocument getProjection() {
+			ProjectionDocument projection= null;
+			for (ProjectionCommand command : fList) {
+				if (command.fType == ProjectionCommand.INVALIDATE_PRESENTATION)
+					continue;
+				if (projection == null)
+					projection= command.fProjection;
+				else if (projection != command.fProjection)
+					return null;
+			}
+			return projection;
+		}
+
 		void clear() {
 			fList.clear();
 			fExpectedExecutionCosts= -1;
@@ -971,7 +992,11 @@ public class ProjectionViewer extends SourceViewer implements ITextViewerExtensi
 			if (commandQueue.passedRedrawCostsThreshold()) {
 				setRedraw(false);
 				try {
-					executeProjectionCommands(commandQueue, false);
+					ProjectionDocument projection= commandQueue.getProjection();
+					if (projection != null)
+						replaceMasterDocumentRanges(projection);
+					else
+						executeProjectionCommands(commandQueue, false);
 				} catch (IllegalArgumentException x) {
 					reinitializeProjection();
 				} finally {
@@ -1193,32 +1218,70 @@ public class ProjectionViewer extends SourceViewer implements ITextViewerExtensi
 			IDocument master= getDocument();
 			if (master != null) {
 				IDocument slave= manager.createSlaveDocument(master);
-				if (slave instanceof ProjectionDocument) {
+				if (slave instanceof ProjectionDocument)
 					projection= (ProjectionDocument) slave;
-					addMasterDocumentRange(projection, 0, master.getLength());
-				}
 			}
 		}
 
-		if (projection != null) {
-			Iterator<Annotation> e= fProjectionAnnotationModel.getAnnotationIterator();
-			while (e.hasNext()) {
-				ProjectionAnnotation annotation= (ProjectionAnnotation) e.next();
-				if (annotation.isCollapsed()) {
-					Position position= fProjectionAnnotationModel.getPosition(annotation);
-					if (position != null) {
-						IRegion[] regions= computeCollapsedRegions(position);
-						if (regions != null)
-							for (IRegion region : regions) {
-								removeMasterDocumentRange(projection, region.getOffset(), region.getLength());
+		if (projection != null)
+			replaceMasterDocumentRanges(projection);
+
+		replaceVisibleDocument(projection);
+	}
+
+	/**
+	 * Replaces the master ranges of the given projection document with the ranges which stay
+	 * visible with the collapsed annotations of the projection annotation model. The projection
+	 * document is updated at once rather than by adding and removing one range after the other,
+	 * which matters when many annotations change at once, e.g. on expand or collapse all. While
+	 * the modification is processed, the viewer no longer handles projection changes, as it is
+	 * causing them.
+	 *
+	 * @param projection the projection document
+	 * @throws BadLocationException in case a collapsed region is invalid
+	 * @see ProjectionDocument#replaceMasterDocumentRanges(IRegion[])
+	 * @since 3.26
+	 */
+	private void replaceMasterDocumentRanges(ProjectionDocument projection) throws BadLocationException {
+		IDocument master= projection.getMasterDocument();
+
+		List<IRegion> collapsed= new ArrayList<>();
+		Iterator<Annotation> e= fProjectionAnnotationModel.getAnnotationIterator();
+		while (e.hasNext()) {
+			ProjectionAnnotation annotation= (ProjectionAnnotation) e.next();
+			if (annotation.isCollapsed()) {
+				Position position= fProjectionAnnotationModel.getPosition(annotation);
+				if (position != null) {
+					IRegion[] regions= computeCollapsedRegions(position);
+					if (regions != null) {
+						for (IRegion region : regions) {
+							// make sure the document range is strictly line based, see removeMasterDocumentRange
+							int end= region.getOffset() + region.getLength();
+							int offset= toLineStart(master, region.getOffset(), false);
+							collapsed.add(new Region(offset, toLineStart(master, end, true) - offset));
 						}
 					}
 				}
 			}
+		}
+		collapsed.sort(Comparator.comparingInt(IRegion::getOffset));
 
+		List<IRegion> visible= new ArrayList<>(collapsed.size() + 1);
+		int offset= 0;
+		for (IRegion region : collapsed) {
+			if (offset < region.getOffset())
+				visible.add(new Region(offset, region.getOffset() - offset));
+			offset= Math.max(offset, region.getOffset() + region.getLength());
 		}
+		if (offset < master.getLength())
+			visible.add(new Region(offset, master.getLength() - offset));
 
-		replaceVisibleDocument(projection);
+		try {
+			fHandleProjectionChanges= false;
+			projection.replaceMasterDocumentRanges(visible.toArray(new IRegion[visible.size()]));
+		} finally {
+			fHandleProjectionChanges= true;
+		}
 	}
 
 	@Override
@@ -55,6 +55,12 @@ public final class PaintManager implements KeyListener, MouseListener, ISelectio
 			super(category);
 		}
 
+		@Override
+		protected boolean isSkippingUnaffectedPositions() {
+			// positions ending right before an insertion are still investigated
+			return true;
+		}
+
 		/**
 		 * If an insertion happens at a position's offset, the
 		 * position is extended rather than shifted. Also, if something is added
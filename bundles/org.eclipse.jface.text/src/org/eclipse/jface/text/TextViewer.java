@@ -348,6 +348,12 @@ public class TextViewer extends Viewer implements
 			super(category);
 		}
 
+		@Override
+		protected boolean isSkippingUnaffectedPositions() {
+			// only positions overlapping or following an insertion are extended or shifted
+			return true;
+		}
+
 		/**
 		 * If an insertion happens at the selection's start offset,
 		 * the position is extended rather than shifted.
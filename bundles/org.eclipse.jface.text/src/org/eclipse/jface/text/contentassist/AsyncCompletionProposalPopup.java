@@ -70,6 +70,14 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 
 	private PopupVisibleTimer fPopupVisibleTimer= new PopupVisibleTimer();
 
+	/**
+	 * The proposal showing the progress of the current computation if the proposals are streamed,
+	 * <code>null</code> otherwise.
+	 *
+	 * @since 3.26
+	 */
+	private ComputingProposal fComputingProposal;
+
 	private static final class ComputingProposal implements ICompletionProposal, ICompletionProposalExtension {
 
 		private final int fOffset;
@@ -185,22 +193,42 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 	}
 
 	private void computeAndPopulateProposals(int offset, Consumer<List<ICompletionProposal>> callback, boolean createSelector, boolean autoActivated, boolean autoInsert) {
+		final boolean streaming= fContentAssistant.isStreamingProposals();
 		List<CompletableFuture<List<ICompletionProposal>>> computationFutures= buildCompletionFuturesOrJobs(offset);
 		toCancelFutures.addAll(computationFutures);
-		fComputedProposals= Collections.synchronizedList(new ArrayList<>());
-		List<CompletableFuture<Void>> populateFutures= computationFutures.stream().map(future -> future.thenAccept(fComputedProposals::addAll)).collect(Collectors.toList());
+		final List<ICompletionProposal> computedProposals= Collections.synchronizedList(new ArrayList<>());
+		fComputedProposals= computedProposals;
+		fComputingProposal= null;
+		// when streaming, the batches are sorted in the computing threads and merged in the UI thread
+		List<CompletableFuture<List<ICompletionProposal>>> populateFutures= computationFutures.stream().map(future -> future.thenApply(proposals -> {
+			if (streaming) {
+				return sortedCopy(proposals);
+			}
+			computedProposals.addAll(proposals);
+			return proposals;
+		})).collect(Collectors.toList());
 		toCancelFutures.addAll(populateFutures);
 		CompletableFuture<?> aggregatedPopulateFuture= CompletableFuture.allOf(populateFutures.toArray(new CompletableFuture[populateFutures.size()]));
 		toCancelFutures.add(aggregatedPopulateFuture);
 
 		boolean useAsyncMode= false;
 		try {
-			aggregatedPopulateFuture.get(MAX_WAIT_IN_MS, TimeUnit.MILLISECONDS);
+			if (streaming) {
+				useAsyncMode= !aggregatedPopulateFuture.isDone();
+			} else {
+				aggregatedPopulateFuture.get(MAX_WAIT_IN_MS, TimeUnit.MILLISECONDS);
+			}
 		} catch (TimeoutException e) {
 			useAsyncMode= true;
 		} catch (ExecutionException | InterruptedException ex) {
 			// nothing to do
 		}
+		if (streaming && !useAsyncMode) {
+			for (CompletableFuture<List<ICompletionProposal>> future : populateFutures) {
+				if (!future.isCompletedExceptionally() && !future.isCancelled())
+					mergeProposals(computedProposals, future.join());
+			}
+		}
 		if (!useAsyncMode) {
 			int count= fComputedProposals.size();
 			if (count == 0 && hideWhenNoProposals(autoActivated)) {
@@ -228,12 +256,16 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 			}
 			ComputingProposal computingProposal= new ComputingProposal(offset, populateFutures.size());
 			fComputedProposals.add(0, computingProposal);
+			if (streaming) {
+				fComputingProposal= computingProposal;
+			}
 			setProposals(fComputedProposals, false);
 			AtomicInteger remaining= new AtomicInteger(populateFutures.size());
+			AtomicInteger unmerged= new AtomicInteger(populateFutures.size());
 			final List<ICompletionProposal> requestSpecificProposals= fComputedProposals; //fComputedProposals can be changed/reset later
-			populateFutures= populateFutures.stream().map(future -> future.thenRun(() -> {
+			List<CompletableFuture<Void>> displayFutures= populateFutures.stream().map(future -> future.thenAccept(batch -> {
 				computingProposal.setRemaining(remaining.decrementAndGet());
-				if (remaining.get() == 0) {
+				if (!streaming && remaining.get() == 0) {
 					requestSpecificProposals.remove(computingProposal);
 				}
 				Control control= fContentAssistSubjectControlAdapter.getControl();
@@ -244,6 +276,12 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 						if (offset != fInvocationOffset || fComputedProposals != requestSpecificProposals) {
 							return;
 						}
+						if (streaming) {
+							mergeProposals(requestSpecificProposals, batch);
+							if (unmerged.decrementAndGet() == 0) {
+								requestSpecificProposals.remove(computingProposal);
+							}
+						}
 						boolean stillComputing= fComputedProposals.contains(computingProposal);
 						if (autoInsert
 								&& !autoActivated
@@ -264,7 +302,11 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 									|| (!stillComputing && !fComputedProposals.isEmpty());
 
 							if ((autoActivated && hasProposals) || !autoActivated) {
-								setProposals(fComputedProposals, false);
+								if (streaming) {
+									showStreamedProposals(batch, stillComputing);
+								} else {
+									setProposals(fComputedProposals, false);
+								}
 								displayProposals(true);
 							} else if (isValid(fProposalShell) && (!fProposalShell.isVisible() || !hasProposals) && remaining.get() == 0) {
 								hide(); // we only tear down if the popup is not visible or it is visible but has no proposals.
@@ -273,13 +315,108 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 					});
 				}
 			})).collect(Collectors.toList());
-			toCancelFutures.addAll(populateFutures);
-			fAggregatedPopulateFuture= CompletableFuture.allOf(populateFutures.toArray(new CompletableFuture[populateFutures.size()]));
+			toCancelFutures.addAll(displayFutures);
+			fAggregatedPopulateFuture= CompletableFuture.allOf(displayFutures.toArray(new CompletableFuture[displayFutures.size()]));
 			toCancelFutures.add(fAggregatedPopulateFuture);
 		}
 		displayProposals(!autoActivated);
 	}
 
+	/**
+	 * Returns a copy of the given proposals that is sorted with the sorter, if any.
+	 *
+	 * @param proposals the proposals
+	 * @return the sorted copy of the proposals
+	 * @since 3.26
+	 */
+	private List<ICompletionProposal> sortedCopy(List<ICompletionProposal> proposals) {
+		List<ICompletionProposal> sorted= new ArrayList<>(proposals);
+		if (fSorter != null) {
+			sortProposals(sorted);
+		}
+		return sorted;
+	}
+
+	/**
+	 * Merges the given sorted batch of proposals into the sorted list of proposals. The computing
+	 * proposal stays at the head of the list.
+	 *
+	 * @param proposals the sorted proposals, possibly starting with the computing proposal
+	 * @param batch the sorted batch of proposals to merge
+	 * @since 3.26
+	 */
+	private void mergeProposals(List<ICompletionProposal> proposals, List<ICompletionProposal> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		synchronized (proposals) {
+			int start= !proposals.isEmpty() && proposals.get(0) instanceof ComputingProposal ? 1 : 0;
+			List<ICompletionProposal> merged= merge(proposals.subList(start, proposals.size()), batch);
+			proposals.subList(start, proposals.size()).clear();
+			proposals.addAll(merged);
+		}
+	}
+
+	/**
+	 * Merges two sorted lists of proposals in linear time. Of equal proposals, the ones of the first
+	 * list come first.
+	 *
+	 * @param first the first sorted list
+	 * @param second the second sorted list
+	 * @return the sorted list containing the proposals of both lists
+	 * @since 3.26
+	 */
+	private List<ICompletionProposal> merge(List<ICompletionProposal> first, List<ICompletionProposal> second) {
+		List<ICompletionProposal> merged= new ArrayList<>(first.size() + second.size());
+		if (fSorter == null) {
+			merged.addAll(first);
+			merged.addAll(second);
+			return merged;
+		}
+		int i= 0;
+		int j= 0;
+		while (i < first.size() && j < second.size()) {
+			if (fSorter.compare(second.get(j), first.get(i)) < 0) {
+				merged.add(second.get(j++));
+			} else {
+				merged.add(first.get(i++));
+			}
+		}
+		merged.addAll(first.subList(i, first.size()));
+		merged.addAll(second.subList(j, second.size()));
+		return merged;
+	}
+
+	/**
+	 * Shows the proposals after a batch has been merged into the computed proposals. If the
+	 * proposals have been filtered since the invocation, only the batch is validated and merged
+	 * into the shown proposals, which are neither filtered nor sorted again.
+	 *
+	 * @param batch the sorted batch of proposals that has been merged
+	 * @param stillComputing <code>true</code> if more proposals are being computed
+	 * @since 3.26
+	 */
+	private void showStreamedProposals(List<ICompletionProposal> batch, boolean stillComputing) {
+		List<ICompletionProposal> proposals;
+		if (fFilterOffset == fInvocationOffset || fFilteredProposals == null) {
+			proposals= new ArrayList<>(fComputedProposals);
+		} else {
+			List<ICompletionProposal> valid= computeValidProposals(batch, fFilterOffset, null);
+			List<ICompletionProposal> shown= new ArrayList<>(fFilteredProposals.size());
+			for (ICompletionProposal proposal : fFilteredProposals) {
+				if (proposal != fEmptyProposal && !(proposal instanceof ComputingProposal)) {
+					shown.add(proposal);
+				}
+			}
+			// proposals that cannot be validated are shown until the next keystroke restarts the session
+			proposals= merge(shown, valid != null ? valid : batch);
+			if (stillComputing) {
+				proposals.add(0, fComputingProposal);
+			}
+		}
+		setProposals(proposals, false);
+	}
+
 	@Override
 	void displayProposals(boolean showPopup) {
 		if (showPopup) {
@@ -346,6 +483,17 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 	@Override
 	protected List<ICompletionProposal> computeFilteredProposals(int offset, DocumentEvent event) {
 		if (fAggregatedPopulateFuture != null && !fAggregatedPopulateFuture.isDone()) {
+			if (fComputingProposal != null) {
+				// streaming: filter the proposals computed so far, later batches are validated when they are merged
+				List<ICompletionProposal> filtered= super.computeFilteredProposals(offset, event);
+				if (filtered == null || filtered == fComputedProposals) {
+					return filtered;
+				}
+				if (fComputedProposals.contains(fComputingProposal)) {
+					filtered.add(0, fComputingProposal);
+				}
+				return filtered;
+			}
 			// user typed a char & computation still pending -> let all futures complete then invoke "filterProposals" upon completion
 			fAggregatedPopulateFuture.thenRun(this::filterProposals);
 			return fComputedProposals;
@@ -374,6 +522,7 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 		for (IContentAssistProcessor processor : processors) {
 			futures.add(CompletableFuture.supplyAsync(() -> {
 				AtomicReference<List<ICompletionProposal>> result= new AtomicReference<>();
+				long start= System.nanoTime();
 				SafeRunner.run(() -> {
 					ICompletionProposal[] proposals= processor.computeCompletionProposals(fViewer, invocationOffset);
 					if (proposals == null) {
@@ -388,6 +537,7 @@ class AsyncCompletionProposalPopup extends CompletionProposalPopup {
 					// in completion popup and providing details
 					return Collections.emptyList();
 				}
+				fContentAssistant.fireProposalsComputedEvent(processor, System.nanoTime() - start, proposals.size());
 				return proposals;
 			}));
 		}
@@ -419,7 +419,7 @@ class CompletionProposalPopup implements IContentAssistListener {
 	 *
 	 * @since 3.2
 	 */
-	private final EmptyProposal fEmptyProposal= new EmptyProposal();
+	final EmptyProposal fEmptyProposal= new EmptyProposal();
 	/**
 	 * The text for the empty proposal, or <code>null</code> to use the default text.
 	 *
@@ -1177,7 +1177,7 @@ class CompletionProposalPopup implements IContentAssistListener {
 				proposals= Collections.singletonList(fEmptyProposal);
 			}
 
-			if (fSorter != null && !fIsInitialSort) {
+			if (fSorter != null && !fIsInitialSort && !fContentAssistant.isStreamingProposals()) {
 				sortProposals(proposals);
 			}
 			fIsInitialSort= false;
@@ -1558,6 +1558,28 @@ class CompletionProposalPopup implements IContentAssistListener {
 			return null;
 		}
 
+		List<ICompletionProposal> filtered= computeValidProposals(proposals, offset, event);
+		if (filtered == null) {
+			// restore original behavior
+			fIsFilteredSubset= false;
+			fInvocationOffset= offset;
+			fContentAssistant.fireSessionRestartEvent();
+			fComputedProposals= computeProposals(fInvocationOffset);
+			return fComputedProposals;
+		}
+		return filtered;
+	}
+
+	/**
+	 * Returns the given proposals that are still valid at the given offset, keeping their order.
+	 *
+	 * @param proposals the proposals to validate
+	 * @param offset the offset
+	 * @param event the merged document event, may be <code>null</code>
+	 * @return the valid proposals, or <code>null</code> if one of the proposals cannot be validated
+	 * @since 3.26
+	 */
+	List<ICompletionProposal> computeValidProposals(List<ICompletionProposal> proposals, int offset, DocumentEvent event) {
 		IDocument document= fContentAssistSubjectControlAdapter.getDocument();
 		int length= proposals.size();
 		List<ICompletionProposal> filtered= new ArrayList<>(length);
@@ -1582,12 +1604,7 @@ class CompletionProposalPopup implements IContentAssistListener {
 					// Make sure that poorly behaved completion proposers do not break filtering.
 				}
 			} else {
-				// restore original behavior
-				fIsFilteredSubset= false;
-				fInvocationOffset= offset;
-				fContentAssistant.fireSessionRestartEvent();
-				fComputedProposals= computeProposals(fInvocationOffset);
-				return fComputedProposals;
+				return null;
 			}
 		}
 
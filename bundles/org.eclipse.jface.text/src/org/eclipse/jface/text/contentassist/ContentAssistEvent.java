@@ -36,9 +36,26 @@ public final class ContentAssistEvent {
 	 * @since 3.4
 	 */
 	ContentAssistEvent(IContentAssistant ca, IContentAssistProcessor proc, boolean isAutoActivated) {
+		this(ca, proc, isAutoActivated, -1, -1);
+	}
+
+	/**
+	 * Creates a new event.
+	 *
+	 * @param ca the assistant
+	 * @param proc the processor
+	 * @param isAutoActivated whether content assist was triggered by auto activation
+	 * @param computationTime the time in nanoseconds the processor took to compute its proposals,
+	 *            or <code>-1</code>
+	 * @param proposalCount the number of proposals computed by the processor, or <code>-1</code>
+	 * @since 3.26
+	 */
+	ContentAssistEvent(IContentAssistant ca, IContentAssistProcessor proc, boolean isAutoActivated, long computationTime, int proposalCount) {
 		assistant= ca;
 		processor= proc;
 		this.isAutoActivated= isAutoActivated;
+		this.computationTime= computationTime;
+		this.proposalCount= proposalCount;
 	}
 
 	/**
@@ -68,4 +85,26 @@ public final class ContentAssistEvent {
 	 * @since 3.4
 	 */
 	public final boolean isAutoActivated;
+	/**
+	 * The time in nanoseconds the processor took to compute its proposals.
+	 * <p>
+	 * <strong>Note:</strong> This field is only valid in
+	 * {@link ICompletionListenerExtension3#proposalsComputed(ContentAssistEvent)}, it is
+	 * <code>-1</code> otherwise.
+	 * </p>
+	 *
+	 * @since 3.26
+	 */
+	public final long computationTime;
+	/**
+	 * The number of proposals computed by the processor.
+	 * <p>
+	 * <strong>Note:</strong> This field is only valid in
+	 * {@link ICompletionListenerExtension3#proposalsComputed(ContentAssistEvent)}, it is
+	 * <code>-1</code> otherwise.
+	 * </p>
+	 *
+	 * @since 3.26
+	 */
+	public final int proposalCount;
 }
\ No newline at end of file
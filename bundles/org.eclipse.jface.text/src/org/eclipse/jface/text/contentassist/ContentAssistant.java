@@ -31,6 +31,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.SWTError;
@@ -932,6 +933,12 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 	private IInformationControlCreator fInformationControlCreator;
 	private int fAutoActivationDelay= DEFAULT_AUTO_ACTIVATION_DELAY;
 	private boolean fIsAutoActivated= false;
+	/**
+	 * Whether the current content assist session was triggered by auto activation.
+	 *
+	 * @since 3.26
+	 */
+	private volatile boolean fIsSessionAutoActivated= false;
 	private boolean fIsAutoInserting= false;
 	private int fProposalPopupOrientation= PROPOSAL_OVERLAY;
 	private int fContextInfoPopupOrientation= CONTEXT_INFO_ABOVE;
@@ -1087,6 +1094,13 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 	 */
 	private boolean fAutoActivateCompletionOnType= false;
 
+	/**
+	 * Tells whether the proposals are streamed into the popup as they are computed.
+	 *
+	 * @since 3.26
+	 */
+	private boolean fStreamingProposals;
+
 
 	/**
 	 * Creates a new content assistant. The content assistant is not automatically activated,
@@ -2022,18 +2036,19 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 		if (processors != null) {
 			processors.forEach(p -> {
 				if (p instanceof ISubjectControlContentAssistProcessor) {
+					long start= System.nanoTime();
+					AtomicReference<ICompletionProposal[]> computed= new AtomicReference<>();
 					// Ensure that the assist session ends cleanly even if the processor throws an exception.
 					SafeRunner.run(new ExceptionLoggingSafeRunnable(COMPLETION_ERROR_MESSAGE_KEY) {
 						@Override
 						public void run() throws Exception {
 							ICompletionProposal[] proposals= ((ISubjectControlContentAssistProcessor) p)
 									.computeCompletionProposals(contentAssistSubjectControl, offset);
-							if (proposals != null) {
-								result.addAll(Arrays.asList(proposals));
-							}
+							computed.set(proposals == null ? new ICompletionProposal[0] : proposals);
 							fLastErrorMessage= p.getErrorMessage();
 						}
 					});
+					addComputedProposals(p, start, computed.get(), result);
 				}
 			});
 		}
@@ -2056,24 +2071,42 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 		final Set<IContentAssistProcessor> processors= getProcessors(viewer, offset);
 		final List<ICompletionProposal> res = new ArrayList<>();
 		if (processors != null && !processors.isEmpty()) {
-			// Ensure that the assist session ends cleanly even if the processor throws an exception.
-			SafeRunner.run(new ExceptionLoggingSafeRunnable(COMPLETION_ERROR_MESSAGE_KEY) {
-				@Override
-				public void run() throws Exception {
-					processors.forEach(p -> {
+			processors.forEach(p -> {
+				long start= System.nanoTime();
+				AtomicReference<ICompletionProposal[]> computed= new AtomicReference<>();
+				// Ensure that the assist session ends cleanly even if the processor throws an exception.
+				SafeRunner.run(new ExceptionLoggingSafeRunnable(COMPLETION_ERROR_MESSAGE_KEY) {
+					@Override
+					public void run() throws Exception {
 						ICompletionProposal[] proposals= p.computeCompletionProposals(viewer, offset);
-						if (proposals != null) {
-							res.addAll(Arrays.asList(proposals));
-						}
+						computed.set(proposals == null ? new ICompletionProposal[0] : proposals);
 						fLastErrorMessage= p.getErrorMessage();
-					});
-				}
+					}
+				});
+				addComputedProposals(p, start, computed.get(), res);
 			});
 		}
 
 		return res.isEmpty() ? null : res.toArray(new ICompletionProposal[res.size()]);
 	}
 
+	/**
+	 * Reports the proposals a processor has computed to the completion listeners and adds them
+	 * to the given list.
+	 *
+	 * @param processor the processor
+	 * @param start the value of {@link System#nanoTime()} before the processor was called
+	 * @param proposals the computed proposals, or <code>null</code> if the processor failed
+	 * @param result the list to add the proposals to
+	 * @since 3.26
+	 */
+	private void addComputedProposals(IContentAssistProcessor processor, long start, ICompletionProposal[] proposals, List<ICompletionProposal> result) {
+		if (proposals == null)
+			return;
+		fireProposalsComputedEvent(processor, System.nanoTime() - start, proposals.length);
+		result.addAll(Arrays.asList(proposals));
+	}
+
 	/**
 	 * Returns an array of context information objects computed based on the specified document
 	 * position. The position is used to determine the appropriate content assist processor to
@@ -2474,6 +2507,7 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 	 * @since 3.2
 	 */
 	void fireSessionBeginEvent(boolean isAutoActivated) {
+		fIsSessionAutoActivated= isAutoActivated;
 		if (fContentAssistSubjectControlAdapter != null && !isProposalPopupActive()) {
 			Set<IContentAssistProcessor> processors= getProcessors(fContentAssistSubjectControlAdapter, fContentAssistSubjectControlAdapter.getSelectedRange().x);
 			if (processors != null) {
@@ -2630,6 +2664,28 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 		}
 	}
 
+	/**
+	 * Fires an event after a processor has computed its proposals, see
+	 * {@link ICompletionListenerExtension3}. Each listener is notified in its own safe runner, so
+	 * that a failing listener neither affects other listeners nor the proposals.
+	 *
+	 * @param processor the processor that computed the proposals
+	 * @param computationTime the time in nanoseconds the processor took
+	 * @param proposalCount the number of computed proposals
+	 * @since 3.26
+	 */
+	void fireProposalsComputedEvent(IContentAssistProcessor processor, long computationTime, int proposalCount) {
+		ContentAssistEvent event= null;
+		for (ICompletionListener listener : fCompletionListeners) {
+			if (listener instanceof ICompletionListenerExtension3) {
+				if (event == null)
+					event= new ContentAssistEvent(this, processor, fIsSessionAutoActivated, computationTime, proposalCount);
+				ContentAssistEvent computed= event;
+				SafeRunner.run(() -> ((ICompletionListenerExtension3) listener).proposalsComputed(computed));
+			}
+		}
+	}
+
 	/*
 	 * @see org.eclipse.jface.text.contentassist.IContentAssistantExtension3#setInvocationTrigger(org.eclipse.jface.bindings.keys.KeySequence)
 	 * @since 3.2
@@ -2779,4 +2835,34 @@ public class ContentAssistant implements IContentAssistant, IContentAssistantExt
 	boolean isAutoActivateCompletionOnType() {
 		return fAutoActivateCompletionOnType;
 	}
+
+	/**
+	 * Sets whether the proposals of an asynchronous content assistant are streamed into the popup.
+	 * In streaming mode the proposals of each processor are shown as soon as the processor has
+	 * computed them instead of waiting for the other processors, and each batch is merged into the
+	 * already sorted proposals. Typing filters the shown proposals without waiting for the
+	 * remaining processors and keeps their order, so the sorter set with
+	 * {@link #setSorter(ICompletionProposalSorter)} must not depend on the offset at which the
+	 * proposals are filtered.
+	 * <p>
+	 * This has no effect if this content assistant is not asynchronous.
+	 * </p>
+	 *
+	 * @param streaming <code>true</code> to stream the proposals, <code>false</code> otherwise
+	 * @since 3.26
+	 */
+	public void setStreamingProposals(boolean streaming) {
+		fStreamingProposals= streaming;
+	}
+
+	/**
+	 * Tells whether the proposals are streamed into the popup.
+	 *
+	 * @return <code>true</code> if the proposals are streamed, <code>false</code> otherwise
+	 * @see #setStreamingProposals(boolean)
+	 * @since 3.26
+	 */
+	boolean isStreamingProposals() {
+		return fAsynchronous && fStreamingProposals;
+	}
 }
@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.contentassist;
+
+
+/**
+ * Extends {@link org.eclipse.jface.text.contentassist.ICompletionListener} with an additional
+ * notification after each processor has computed its proposals, which allows to identify slow
+ * processors.
+ * <p>
+ * Clients may implement this interface.
+ * </p>
+ *
+ * @since 3.26
+ */
+public interface ICompletionListenerExtension3 {
+
+	/**
+	 * Called after a processor has computed its completion proposals. The time the processor took
+	 * and the number of proposals it computed are available from
+	 * {@link ContentAssistEvent#computationTime} and {@link ContentAssistEvent#proposalCount}.
+	 * <p>
+	 * <strong>Note:</strong> If the content assistant computes the proposals asynchronously, this
+	 * method is called in the thread that computed the proposals, which is not necessarily the UI
+	 * thread.
+	 * </p>
+	 *
+	 * @param event the content assist event
+	 */
+	void proposalsComputed(ContentAssistEvent event);
+
+}
@@ -192,6 +192,12 @@ public class ContentFormatter implements IContentFormatter {
 			super(category);
 		}
 
+		@Override
+		protected boolean isSkippingUnaffectedPositions() {
+			// only positions inside the removed text are kept instead of deleted
+			return true;
+		}
+
 		@Override
 		protected boolean notDeleted() {
 			return true;
@@ -68,6 +68,12 @@ public class MultiPassContentFormatter implements IContentFormatter, IContentFor
 			super(category);
 		}
 
+		@Override
+		protected boolean isSkippingUnaffectedPositions() {
+			// only positions inside the removed text are moved instead of deleted
+			return true;
+		}
+
 		@Override
 		protected final boolean notDeleted() {
 
@@ -19,6 +19,7 @@ import java.util.Iterator;
 import java.util.Map;
 
 import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.custom.StyledText;
 
 import org.eclipse.core.runtime.Assert;
 
@@ -40,11 +41,15 @@ import org.eclipse.jface.text.ITextListener;
 import org.eclipse.jface.text.ITextViewer;
 import org.eclipse.jface.text.ITextViewerExtension5;
 import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.IViewportListener;
+import org.eclipse.jface.text.JFaceTextUtil;
+import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.TextEvent;
 import org.eclipse.jface.text.TextPresentation;
 import org.eclipse.jface.text.TextUtilities;
 import org.eclipse.jface.text.TypedPosition;
+import org.eclipse.jface.text.source.ILineRange;
 
 
 
@@ -52,9 +57,14 @@ import org.eclipse.jface.text.TypedPosition;
  * Standard implementation of <code>IPresentationReconciler</code>. This
  * implementation assumes that the tasks performed by its presentation damagers
  * and repairers are lightweight and of low cost. This presentation reconciler
- * runs in the UI thread and always repairs the complete damage caused by a
- * document change rather than just the portion overlapping with the viewer's
- * viewport.
+ * runs in the UI thread and by default always repairs the complete damage
+ * caused by a document change rather than just the portion overlapping with
+ * the viewer's viewport.
+ * <p>
+ * Clients can ask the reconciler to repair the damage in and around the viewport first and to
+ * repair the remainder in slices while the user interface is idle, see
+ * {@link #setViewportFirst(boolean)}.
+ * </p>
  * <p>
  * Usually, clients instantiate this class and configure it before using it.
  * </p>
@@ -63,13 +73,33 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 
 	/** Prefix of the name of the position category for tracking damage regions. */
 	protected final static String TRACKED_PARTITION= "__reconciler_tracked_partition"; //$NON-NLS-1$
+	/**
+	 * Prefix of the name of the position category for tracking damage whose repair is pending.
+	 *
+	 * @since 3.26
+	 */
+	private final static String PENDING_DAMAGE= "__reconciler_pending_damage"; //$NON-NLS-1$
+	/**
+	 * The minimal number of lines above and below the viewport that are repaired together with
+	 * the viewport.
+	 *
+	 * @since 3.26
+	 */
+	private final static int MINIMAL_VIEWPORT_MARGIN= 50;
+	/**
+	 * The number of lines of pending damage that are repaired at once while the user interface
+	 * is idle.
+	 *
+	 * @since 3.26
+	 */
+	private final static int IDLE_REPAIR_LINES= 500;
 
 
 	/**
 	 * Internal listener class.
 	 */
 	class InternalListener implements
-			ITextInputListener, IDocumentListener, ITextListener,
+			ITextInputListener, IDocumentListener, ITextListener, IViewportListener,
 			IDocumentPartitioningListener, IDocumentPartitioningListenerExtension, IDocumentPartitioningListenerExtension2 {
 
 		/** Set to <code>true</code> if between a document about to be changed and a changed event. */
@@ -92,6 +122,11 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 					oldDocument.removePositionUpdater(fPositionUpdater);
 					oldDocument.removePositionCategory(fPositionCategory);
 
+					if (fViewportFirst) {
+						oldDocument.removePositionUpdater(fPendingDamageUpdater);
+						oldDocument.removePositionCategory(fPendingDamageCategory);
+					}
+
 				} catch (BadPositionCategoryException x) {
 					// should not happened for former input documents;
 				}
@@ -112,6 +147,11 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 				newDocument.addPositionCategory(fPositionCategory);
 				newDocument.addPositionUpdater(fPositionUpdater);
 
+				if (fViewportFirst) {
+					newDocument.addPositionCategory(fPendingDamageCategory);
+					newDocument.addPositionUpdater(fPendingDamageUpdater);
+				}
+
 				newDocument.addDocumentPartitioningListener(this);
 				newDocument.addDocumentListener(this);
 				fViewer.addTextListener(this);
@@ -218,6 +258,13 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 			fChangedDocumentPartitions= null;
 		}
 
+		@Override
+		public void viewportChanged(int verticalOffset) {
+			IDocument document= fViewer.getDocument();
+			if (document != null && fCachedRedrawState && !fDocumentChanging)
+				repairPendingDamage(document, getViewportRegion(document));
+		}
+
 		/**
 		 * Translates the given text event into the corresponding range of the viewer's document.
 		 *
@@ -265,6 +312,26 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 	 * @since 3.0
 	 */
 	private String fPartitioning;
+	/**
+	 * Tells whether damage outside the viewport is repaired lazily.
+	 * @since 3.26
+	 */
+	private boolean fViewportFirst= false;
+	/**
+	 * The name of the position category to track the damage whose repair is pending.
+	 * @since 3.26
+	 */
+	private String fPendingDamageCategory;
+	/**
+	 * The position updater for the pending damage's position category.
+	 * @since 3.26
+	 */
+	private IPositionUpdater fPendingDamageUpdater;
+	/**
+	 * Tells whether the repair of pending damage is scheduled.
+	 * @since 3.26
+	 */
+	private boolean fIdleRepairScheduled= false;
 
 	/**
 	 * Creates a new presentation reconciler. There are no damagers or repairers
@@ -276,6 +343,28 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 		fPartitioning= IDocumentExtension3.DEFAULT_PARTITIONING;
 		fPositionCategory= TRACKED_PARTITION + hashCode();
 		fPositionUpdater= new DefaultPositionUpdater(fPositionCategory);
+		fPendingDamageCategory= PENDING_DAMAGE + hashCode();
+		fPendingDamageUpdater= new DefaultPositionUpdater(fPendingDamageCategory);
+	}
+
+	/**
+	 * Sets whether this presentation reconciler repairs damage in and around the viewer's
+	 * viewport first. If enabled, damage beyond the lines around the viewport is remembered and
+	 * repaired in slices while the user interface is idle, or as soon as it is scrolled into
+	 * view. This speeds up opening and changing large documents whose damage covers many lines,
+	 * e.g. after a partitioning change.
+	 * <p>
+	 * Damage is split at line starts, i.e. the repairers must be able to repair a partition
+	 * starting from any of its lines. Must be called before the reconciler is installed.
+	 * </p>
+	 *
+	 * @param viewportFirst <code>true</code> to repair damage in and around the viewport first,
+	 *            <code>false</code> to always repair the complete damage at once
+	 * @since 3.26
+	 */
+	public void setViewportFirst(boolean viewportFirst) {
+		Assert.isTrue(fViewer == null);
+		fViewportFirst= viewportFirst;
 	}
 
 	/**
@@ -346,6 +435,8 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 
 		fViewer= viewer;
 		fViewer.addTextInputListener(fInternalListener);
+		if (fViewportFirst)
+			fViewer.addViewportListener(fInternalListener);
 
 		IDocument document= viewer.getDocument();
 		if (document != null)
@@ -355,6 +446,8 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 	@Override
 	public void uninstall() {
 		fViewer.removeTextInputListener(fInternalListener);
+		if (fViewportFirst)
+			fViewer.removeViewportListener(fInternalListener);
 
 		// Ensure we uninstall all listeners
 		fInternalListener.inputDocumentAboutToBeChanged(fViewer.getDocument(), null);
@@ -546,12 +639,236 @@ public class PresentationReconciler implements IPresentationReconciler, IPresent
 	 */
 	private void processDamage(IRegion damage, IDocument document) {
 		if (damage != null && damage.getLength() > 0) {
+			if (fViewportFirst) {
+				damage= deferDamageOutside(damage, getViewportRegion(document), document);
+				if (damage == null)
+					return;
+			}
 			TextPresentation p= createPresentation(damage, document);
 			if (p != null)
 				applyTextRegionCollection(p);
 		}
 	}
 
+	/**
+	 * Returns the lines that are visible in the viewer together with a margin of lines above and
+	 * below them. If nothing is visible, the first lines of the document are returned.
+	 *
+	 * @param document the viewer's document
+	 * @return the region of the lines around the viewport, starting and ending at line starts
+	 * @since 3.26
+	 */
+	private IRegion getViewportRegion(IDocument document) {
+		ILineRange lines= JFaceTextUtil.getVisibleModelLines(fViewer);
+		int startLine= 0;
+		int numberOfLines= 0;
+		if (lines != null) {
+			startLine= lines.getStartLine();
+			numberOfLines= lines.getNumberOfLines();
+		}
+		int margin= Math.max(numberOfLines, MINIMAL_VIEWPORT_MARGIN);
+		int lastLine= document.getNumberOfLines() - 1;
+		try {
+			int start= document.getLineOffset(Math.max(0, startLine - margin));
+			int endLine= startLine + numberOfLines + margin;
+			int end= endLine > lastLine ? document.getLength() : document.getLineOffset(endLine);
+			return new Region(start, end - start);
+		} catch (BadLocationException x) {
+			return new Region(0, document.getLength());
+		}
+	}
+
+	/**
+	 * Remembers the parts of the given damage outside the given region as pending damage, and
+	 * schedules their repair.
+	 *
+	 * @param damage the damage
+	 * @param region the region in which damage is repaired at once
+	 * @param document the document whose presentation must be repaired
+	 * @return the part of the damage inside the region, or <code>null</code> if none
+	 * @since 3.26
+	 */
+	private IRegion deferDamageOutside(IRegion damage, IRegion region, IDocument document) {
+		int start= damage.getOffset();
+		int end= start + damage.getLength();
+		int regionStart= region.getOffset();
+		int regionEnd= regionStart + region.getLength();
+		if (regionStart <= start && end <= regionEnd)
+			return damage;
+
+		if (start < regionStart)
+			addPendingDamage(start, Math.min(end, regionStart), document);
+		if (regionEnd < end)
+			addPendingDamage(Math.max(start, regionEnd), end, document);
+		scheduleIdleRepair();
+
+		start= Math.max(start, regionStart);
+		end= Math.min(end, regionEnd);
+		return start < end ? new Region(start, end - start) : null;
+	}
+
+	/**
+	 * Adds the given range to the pending damage, merging it with the pending damage it
+	 * overlaps or touches.
+	 *
+	 * @param start the start offset of the range
+	 * @param end the end offset of the range
+	 * @param document the document whose presentation must be repaired
+	 * @since 3.26
+	 */
+	private void addPendingDamage(int start, int end, IDocument document) {
+		try {
+			for (Position pending : document.getPositions(fPendingDamageCategory)) {
+				int pendingEnd= pending.getOffset() + pending.getLength();
+				if (pending.getOffset() <= end && start <= pendingEnd) {
+					start= Math.min(start, pending.getOffset());
+					end= Math.max(end, pendingEnd);
+					document.removePosition(fPendingDamageCategory, pending);
+				}
+			}
+			document.addPosition(fPendingDamageCategory, new Position(start, end - start));
+		} catch (BadLocationException x) {
+			// the damage is inside the document
+		} catch (BadPositionCategoryException x) {
+			// the category is defined for the input document
+		}
+	}
+
+	/**
+	 * Repairs the pending damage inside the given region.
+	 *
+	 * @param document the document whose presentation must be repaired
+	 * @param region the region to repair
+	 * @since 3.26
+	 */
+	private void repairPendingDamage(IDocument document, IRegion region) {
+		int regionStart= region.getOffset();
+		int regionEnd= regionStart + region.getLength();
+		try {
+			for (Position pending : getPendingDamage(document)) {
+				int start= pending.getOffset();
+				int end= start + pending.getLength();
+				if (end <= regionStart || regionEnd <= start)
+					continue;
+
+				document.removePosition(fPendingDamageCategory, pending);
+				if (start < regionStart)
+					document.addPosition(fPendingDamageCategory, new Position(start, regionStart - start));
+				if (regionEnd < end)
+					document.addPosition(fPendingDamageCategory, new Position(regionEnd, end - regionEnd));
+
+				start= Math.max(start, regionStart);
+				end= Math.min(end, regionEnd);
+				TextPresentation p= createPresentation(new Region(start, end - start), document);
+				if (p != null)
+					applyTextRegionCollection(p);
+			}
+		} catch (BadLocationException x) {
+			// the pending damage is inside the document
+		} catch (BadPositionCategoryException x) {
+			// the category is defined for the input document
+		}
+	}
+
+	/**
+	 * Returns the pending damage, after removing the pending damage that has been deleted from
+	 * the document.
+	 *
+	 * @param document the document whose presentation must be repaired
+	 * @return the pending damage
+	 * @throws BadPositionCategoryException if the category is not defined for the document
+	 * @since 3.26
+	 */
+	private Position[] getPendingDamage(IDocument document) throws BadPositionCategoryException {
+		Position[] pending= document.getPositions(fPendingDamageCategory);
+		for (Position p : pending) {
+			if (p.isDeleted() || p.getLength() == 0) {
+				for (Position q : pending) {
+					if (q.isDeleted() || q.getLength() == 0)
+						document.removePosition(fPendingDamageCategory, q);
+				}
+				return document.getPositions(fPendingDamageCategory);
+			}
+		}
+		return pending;
+	}
+
+	/**
+	 * Schedules the repair of the next slice of pending damage in the display thread, unless it
+	 * is scheduled already.
+	 *
+	 * @since 3.26
+	 */
+	private void scheduleIdleRepair() {
+		if (fIdleRepairScheduled)
+			return;
+
+		StyledText textWidget= fViewer.getTextWidget();
+		if (textWidget == null || textWidget.isDisposed())
+			return;
+
+		fIdleRepairScheduled= true;
+		textWidget.getDisplay().asyncExec(() -> {
+			fIdleRepairScheduled= false;
+			if (fViewer != null && fViewer.getTextWidget() == textWidget && !textWidget.isDisposed())
+				repairIdleSlice(fViewer.getDocument());
+		});
+	}
+
+	/**
+	 * Repairs a slice of the pending damage closest to the viewport, and schedules the repair
+	 * of the remaining pending damage.
+	 *
+	 * @param document the document whose presentation must be repaired
+	 * @since 3.26
+	 */
+	private void repairIdleSlice(IDocument document) {
+		if (document == null || !fInternalListener.fCachedRedrawState || fInternalListener.fDocumentChanging)
+			return;
+
+		try {
+			Position[] pending= getPendingDamage(document);
+			if (pending.length == 0)
+				return;
+
+			IRegion viewport= getViewportRegion(document);
+			int viewportEnd= viewport.getOffset() + viewport.getLength();
+			Position closest= null;
+			int closestDistance= Integer.MAX_VALUE;
+			for (Position p : pending) {
+				int distance= Math.max(p.getOffset() - viewportEnd, viewport.getOffset() - (p.getOffset() + p.getLength()));
+				if (distance < closestDistance) {
+					closest= p;
+					closestDistance= distance;
+				}
+			}
+
+			IRegion slice;
+			if (closest.getOffset() < viewport.getOffset()) {
+				// repair upwards from the viewport
+				int end= closest.getOffset() + closest.getLength();
+				int line= document.getLineOfOffset(Math.max(closest.getOffset(), end - 1));
+				int start= Math.max(closest.getOffset(), document.getLineOffset(Math.max(0, line - IDLE_REPAIR_LINES + 1)));
+				slice= new Region(start, end - start);
+			} else {
+				int start= closest.getOffset();
+				int line= document.getLineOfOffset(start) + IDLE_REPAIR_LINES;
+				int end= line >= document.getNumberOfLines() ? document.getLength() : document.getLineOffset(line);
+				end= Math.min(end, start + closest.getLength());
+				slice= new Region(start, end - start);
+			}
+			repairPendingDamage(document, slice);
+
+			if (getPendingDamage(document).length > 0)
+				scheduleIdleRepair();
+
+		} catch (BadLocationException x) {
+			// the pending damage is inside the document
+		} catch (BadPositionCategoryException x) {
+			// the category is defined for the input document
+		}
+	}
+
 	/**
 	 * Applies the given text presentation to the text viewer the presentation
 	 * reconciler is installed on.
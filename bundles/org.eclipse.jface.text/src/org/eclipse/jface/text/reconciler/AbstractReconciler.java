@@ -13,6 +13,10 @@
  *******************************************************************************/
 package org.eclipse.jface.text.reconciler;
 
+import java.util.IdentityHashMap;
+import java.util.LongSummaryStatistics;
+import java.util.Map;
+
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -20,6 +24,7 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextInputListener;
 import org.eclipse.jface.text.ITextViewer;
 
@@ -233,7 +238,7 @@ abstract public class AbstractReconciler implements IReconciler {
 		public void documentChanged(DocumentEvent e) {
 
 			if (fThread.isActive() || !fThread.isDirty() && fThread.isAlive()) {
-				if (!fIsAllowedToModifyDocument && Thread.currentThread() == fThread)
+				if (!fIsAllowedToModifyDocument && isReconcilingThread())
 					throw new UnsupportedOperationException("The reconciler thread is not allowed to modify the document"); //$NON-NLS-1$
 				aboutToBeReconciledInternal();
 			}
@@ -295,6 +300,13 @@ abstract public class AbstractReconciler implements IReconciler {
 		}
 	}
 
+	/**
+	 * The reconciler for which the current thread reconciles, if it is not the reconciler's
+	 * background thread.
+	 * @since 3.26
+	 */
+	static final ThreadLocal<AbstractReconciler> fgReconciling= new ThreadLocal<>();
+
 	/** Queue to manage the changes applied to the text viewer. */
 	private DirtyRegionQueue fDirtyRegionQueue;
 	/** The background thread. */
@@ -316,6 +328,13 @@ abstract public class AbstractReconciler implements IReconciler {
 	private boolean fIsAllowedToModifyDocument= true;
 
 
+	/**
+	 * The durations and latencies of the reconciling strategies' reconciles.
+	 * @since 3.26
+	 */
+	private final Map<IReconcilingStrategy, LongSummaryStatistics[]> fStatistics= new IdentityHashMap<>();
+
+
 	/** The text viewer's document. */
 	private IDocument fDocument;
 	/** The text viewer */
@@ -633,14 +652,95 @@ abstract public class AbstractReconciler implements IReconciler {
 	protected void reconcilerReset() {
 	}
 
+	/**
+	 * Lets the given reconciling strategy reconcile the given partition of the given dirty
+	 * region, and records the duration and latency of the reconcile.
+	 *
+	 * @param strategy the reconciling strategy
+	 * @param dirtyRegion the dirty region, or <code>null</code> if the whole document is
+	 *            reconciled
+	 * @param partition the partition to reconcile
+	 * @since 3.26
+	 */
+	void reconcile(IReconcilingStrategy strategy, DirtyRegion dirtyRegion, IRegion partition) {
+		long start= System.nanoTime();
+		if (dirtyRegion != null)
+			strategy.reconcile(dirtyRegion, partition);
+		else
+			strategy.reconcile(partition);
+		long end= System.nanoTime();
+
+		synchronized (fStatistics) {
+			LongSummaryStatistics[] statistics= fStatistics.computeIfAbsent(strategy, s -> new LongSummaryStatistics[] { new LongSummaryStatistics(), new LongSummaryStatistics() });
+			statistics[0].accept(end - start);
+			if (dirtyRegion != null)
+				statistics[1].accept(end - dirtyRegion.getTimeStamp());
+		}
+	}
+
+	/**
+	 * Returns how long the given reconciling strategy took to reconcile a partition of a dirty
+	 * region, or of the whole document.
+	 *
+	 * @param strategy the reconciling strategy
+	 * @return a snapshot of the durations of the strategy's reconciles, in nanoseconds
+	 * @since 3.26
+	 */
+	public LongSummaryStatistics getReconcileDurations(IReconcilingStrategy strategy) {
+		return getStatistics(strategy, 0);
+	}
+
+	/**
+	 * Returns how long it took from a change of the document until the given reconciling
+	 * strategy had reconciled it. The whole document is not reconciled because of a particular
+	 * change, so such reconciles are not included.
+	 *
+	 * @param strategy the reconciling strategy
+	 * @return a snapshot of the latencies of the strategy's reconciles, in nanoseconds
+	 * @since 3.26
+	 */
+	public LongSummaryStatistics getReconcileLatencies(IReconcilingStrategy strategy) {
+		return getStatistics(strategy, 1);
+	}
+
+	/**
+	 * Returns a snapshot of the given statistics of the given reconciling strategy.
+	 *
+	 * @param strategy the reconciling strategy
+	 * @param index the index of the statistics
+	 * @return a snapshot of the statistics
+	 * @since 3.26
+	 */
+	private LongSummaryStatistics getStatistics(IReconcilingStrategy strategy, int index) {
+		LongSummaryStatistics snapshot= new LongSummaryStatistics();
+		synchronized (fStatistics) {
+			LongSummaryStatistics[] statistics= fStatistics.get(strategy);
+			if (statistics != null)
+				snapshot.combine(statistics[index]);
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Tells whether the current thread reconciles for this reconciler, either as its background
+	 * thread or on its behalf.
+	 *
+	 * @return <code>true</code> if the current thread reconciles for this reconciler
+	 * @since 3.26
+	 */
+	private boolean isReconcilingThread() {
+		return Thread.currentThread() == fThread || fgReconciling.get() == this;
+	}
+
 	/**
 	 * Tells whether the code is running in this reconciler's
-	 * background thread.
+	 * background thread, or in a thread that reconciles on its behalf,
+	 * see {@link Reconciler#setConcurrentReconciling(boolean)}.
 	 *
 	 * @return <code>true</code> if running in this reconciler's background thread
 	 * @since 3.4
 	 */
 	protected boolean isRunningInReconcilerThread() {
-		return Thread.currentThread() == fThread;
+		return isReconcilingThread();
 	}
 }
@@ -38,6 +38,11 @@ public class DirtyRegion implements ITypedRegion {
 	private String fType;
 	/** The text which has been inserted. */
 	private String fText;
+	/**
+	 * The time of the oldest change this region describes, see {@link System#nanoTime()}.
+	 * @since 3.26
+	 */
+	private long fTimeStamp;
 
 	/**
 	 * Creates a new dirty region.
@@ -52,6 +57,7 @@ public class DirtyRegion implements ITypedRegion {
 		fLength= length;
 		fType= normalizeTypeValue(type);
 		fText= text;
+		fTimeStamp= System.nanoTime();
 	}
 
 	/**
@@ -108,5 +114,45 @@ public class DirtyRegion implements ITypedRegion {
 		fOffset= start;
 		fLength= end - start;
 		fText= (dr.fText == null ? fText : (fText == null) ? dr.fText : fText + dr.fText);
+		fTimeStamp= Math.min(fTimeStamp, dr.fTimeStamp);
+	}
+
+	/**
+	 * Folds the given change into the receiver if the receiver is an insertion and the change
+	 * lies inside the inserted text, i.e. inserts text into or removes text from the inserted
+	 * text.
+	 *
+	 * @param dr the dirty region describing the change, which happened after the receiver's change
+	 * @return <code>true</code> if the change has been folded into the receiver
+	 * @since 3.26
+	 */
+	boolean foldIntoInsertion(DirtyRegion dr) {
+		if (fType != INSERT || fText == null || fText.length() != fLength)
+			return false;
+
+		int start= dr.fOffset - fOffset;
+		if (start < 0)
+			return false;
+
+		if (dr.fType == INSERT && dr.fText != null && start <= fLength) {
+			fText= fText.substring(0, start) + dr.fText + fText.substring(start);
+		} else if (dr.fType == REMOVE && start + dr.fLength <= fLength) {
+			fText= fText.substring(0, start) + fText.substring(start + dr.fLength);
+		} else {
+			return false;
+		}
+		fLength= fText.length();
+		fTimeStamp= Math.min(fTimeStamp, dr.fTimeStamp);
+		return true;
+	}
+
+	/**
+	 * Returns the time of the oldest change this region describes.
+	 *
+	 * @return the time of the oldest change, see {@link System#nanoTime()}
+	 * @since 3.26
+	 */
+	long getTimeStamp() {
+		return fTimeStamp;
 	}
 }
@@ -20,7 +20,7 @@ import java.util.List;
 /**
  * Queue used by {@link org.eclipse.jface.text.reconciler.AbstractReconciler} to manage
  * dirty regions. When a dirty region is inserted into the queue, the queue tries
- * to fold it into the neighboring dirty region.
+ * to fold it into the neighboring dirty region, or into the text inserted by it.
  *
  * @see org.eclipse.jface.text.reconciler.AbstractReconciler
  * @see org.eclipse.jface.text.reconciler.DirtyRegion
@@ -61,6 +61,11 @@ class DirtyRegionQueue {
 					}
 				}
 
+		// If the dirty region being added changes the text inserted by the last
+		// dirty region, e.g. when correcting a typo, then fold it into the insertion.
+		if (!wasMerged && lastDR != null)
+			wasMerged= lastDR.foldIntoInsertion(dr);
+
 		if (!wasMerged)
 			// Don't merge- just add the new one onto the queue.
 			fDirtyRegions.add(dr);
@@ -71,11 +71,11 @@ public class MonoReconciler extends AbstractReconciler {
 	protected void process(DirtyRegion dirtyRegion) {
 
 		if(dirtyRegion != null)
-			fStrategy.reconcile(dirtyRegion, dirtyRegion);
+			reconcile(fStrategy, dirtyRegion, dirtyRegion);
 		else {
 			IDocument document= getDocument();
 			if (document != null)
-				fStrategy.reconcile(new Region(0, document.getLength()));
+				reconcile(fStrategy, null, new Region(0, document.getLength()));
 		}
 	}
 
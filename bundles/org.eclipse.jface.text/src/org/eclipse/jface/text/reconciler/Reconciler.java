@@ -16,8 +16,16 @@ package org.eclipse.jface.text.reconciler;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -39,6 +47,11 @@ import org.eclipse.jface.text.TypedRegion;
  * The reconciler is configured with a set of {@linkplain org.eclipse.jface.text.reconciler.IReconcilingStrategy reconciling strategies}
  * each of which is responsible for a particular content type.
  * <p>
+ * By default the strategies reconcile one after the other in the reconciler's background
+ * thread. Clients can let different strategies reconcile concurrently, see
+ * {@link #setConcurrentReconciling(boolean)}.
+ * </p>
+ * <p>
  * Usually, clients instantiate this class and configure it before using it.
  * </p>
  *
@@ -56,6 +69,17 @@ public class Reconciler extends AbstractReconciler implements IReconcilerExtensi
 	 *@since 3.0
 	 */
 	private String fPartitioning;
+	/**
+	 * Tells whether different reconciling strategies reconcile concurrently.
+	 * @since 3.26
+	 */
+	private boolean fConcurrentReconciling= false;
+
+	/**
+	 * The executor shared by all reconcilers whose strategies reconcile concurrently.
+	 * @since 3.26
+	 */
+	private static ExecutorService fgExecutor;
 
 	/**
 	 * Creates a new reconciler with the following configuration: it is
@@ -84,6 +108,25 @@ public class Reconciler extends AbstractReconciler implements IReconcilerExtensi
 		return fPartitioning;
 	}
 
+	/**
+	 * Tells the reconciler whether different reconciling strategies may reconcile a dirty
+	 * region concurrently. If enabled, the strategies reconcile their partitions of a dirty
+	 * region in a pool of threads shared by all reconcilers, whose size is bounded by the
+	 * number of processors. The reconciler's background thread waits until all strategies are
+	 * done. Once the progress monitor is canceled because of a newer change, the strategies
+	 * that are not done do not reconcile further partitions.
+	 * <p>
+	 * Each strategy still reconciles in one thread at a time, but different strategies must not
+	 * depend on each other.
+	 * </p>
+	 *
+	 * @param concurrent <code>true</code> if different strategies may reconcile concurrently
+	 * @since 3.26
+	 */
+	public void setConcurrentReconciling(boolean concurrent) {
+		fConcurrentReconciling= concurrent;
+	}
+
 	/**
 	 * Registers a given reconciling strategy for a particular content type.
 	 * If there is already a strategy registered for this type, the new strategy
@@ -140,16 +183,123 @@ public class Reconciler extends AbstractReconciler implements IReconcilerExtensi
 
 		ITypedRegion[] regions= computePartitioning(region.getOffset(), region.getLength());
 
+		if (fConcurrentReconciling) {
+			processConcurrently(dirtyRegion, regions);
+			return;
+		}
+
 		for (ITypedRegion r : regions) {
 			IReconcilingStrategy s= getReconcilingStrategy(r.getType());
 			if (s == null)
 				continue;
 
-			if(dirtyRegion != null)
-				s.reconcile(dirtyRegion, r);
-			else
-				s.reconcile(r);
+			reconcile(s, dirtyRegion, r);
+		}
+	}
+
+	/**
+	 * Lets each reconciling strategy reconcile its partitions of the given dirty region in the
+	 * shared executor, and waits until all strategies are done.
+	 *
+	 * @param dirtyRegion the dirty region, or <code>null</code> if the whole document is
+	 *            reconciled
+	 * @param regions the partitions of the dirty region
+	 * @since 3.26
+	 */
+	private void processConcurrently(DirtyRegion dirtyRegion, ITypedRegion[] regions) {
+		Map<IReconcilingStrategy, List<ITypedRegion>> partitions= new LinkedHashMap<>();
+		for (ITypedRegion r : regions) {
+			IReconcilingStrategy s= getReconcilingStrategy(r.getType());
+			if (s != null)
+				partitions.computeIfAbsent(s, k -> new ArrayList<>()).add(r);
+		}
+
+		IProgressMonitor monitor= getProgressMonitor();
+		if (partitions.size() == 1) {
+			Map.Entry<IReconcilingStrategy, List<ITypedRegion>> entry= partitions.entrySet().iterator().next();
+			reconcile(entry.getKey(), dirtyRegion, entry.getValue(), monitor);
+			return;
+		}
+
+		List<Future<?>> futures= new ArrayList<>(partitions.size());
+		for (Map.Entry<IReconcilingStrategy, List<ITypedRegion>> entry : partitions.entrySet()) {
+			futures.add(getExecutor().submit(() -> {
+				fgReconciling.set(this);
+				try {
+					reconcile(entry.getKey(), dirtyRegion, entry.getValue(), monitor);
+				} finally {
+					fgReconciling.remove();
+				}
+			}));
+		}
+
+		boolean interrupted= false;
+		Throwable failure= null;
+		for (Future<?> future : futures) {
+			while (true) {
+				try {
+					future.get();
+					break;
+				} catch (InterruptedException x) {
+					// the strategy must be done before the next dirty region is processed
+					interrupted= true;
+				} catch (ExecutionException x) {
+					if (failure == null)
+						failure= x.getCause();
+					break;
+				}
+			}
+		}
+
+		if (interrupted)
+			Thread.currentThread().interrupt();
+		if (failure instanceof RuntimeException)
+			throw (RuntimeException) failure;
+		if (failure instanceof Error)
+			throw (Error) failure;
+		if (failure != null)
+			throw new IllegalStateException(failure);
+	}
+
+	/**
+	 * Lets the given strategy reconcile the given partitions of the given dirty region until
+	 * the progress monitor is canceled.
+	 *
+	 * @param strategy the reconciling strategy
+	 * @param dirtyRegion the dirty region, or <code>null</code> if the whole document is
+	 *            reconciled
+	 * @param partitions the partitions the strategy is responsible for
+	 * @param monitor the progress monitor
+	 * @since 3.26
+	 */
+	private void reconcile(IReconcilingStrategy strategy, DirtyRegion dirtyRegion, List<ITypedRegion> partitions, IProgressMonitor monitor) {
+		for (ITypedRegion r : partitions) {
+			if (monitor.isCanceled())
+				return;
+			reconcile(strategy, dirtyRegion, r);
+		}
+	}
+
+	/**
+	 * Returns the executor shared by all reconcilers whose strategies reconcile concurrently.
+	 *
+	 * @return the shared executor
+	 * @since 3.26
+	 */
+	private static synchronized ExecutorService getExecutor() {
+		if (fgExecutor == null) {
+			int threads= Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+			AtomicInteger count= new AtomicInteger();
+			ThreadPoolExecutor executor= new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+				Thread thread= new Thread(r, Reconciler.class.getName() + " #" + count.incrementAndGet()); //$NON-NLS-1$
+				thread.setPriority(Thread.MIN_PRIORITY);
+				thread.setDaemon(true);
+				return thread;
+			});
+			executor.allowCoreThreadTimeOut(true);
+			fgExecutor= executor;
 		}
+		return fgExecutor;
 	}
 
 	@Override
@@ -14,6 +14,10 @@
 package org.eclipse.jface.text.rules;
 
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.custom.StyleRange;
 
@@ -37,6 +41,10 @@ import org.eclipse.jface.text.presentation.IPresentationRepairer;
  * the document and to determine its damage and new text presentation.
  * The tokens returned by the scanner are supposed to return text attributes
  * as their data.
+ * <p>
+ * Clients can let the damager/repairer scan line by line and cache the tokens
+ * of each line, see {@link #setLineCacheSize(int)}.
+ * </p>
  *
  * @see ITokenScanner
  * @since 2.0
@@ -50,6 +58,32 @@ public class DefaultDamagerRepairer implements IPresentationDamager, IPresentati
 	protected ITokenScanner fScanner;
 	/** The default text attribute if non is returned as data by the current token */
 	protected TextAttribute fDefaultTextAttribute;
+	/**
+	 * The tokens of the recently scanned lines, by line content, or <code>null</code> if lines
+	 * are not cached.
+	 * @since 3.26
+	 */
+	private Map<String, LineTokens> fLineCache;
+
+	/**
+	 * The tokens the scanner returned for a line.
+	 *
+	 * @since 3.26
+	 */
+	private static class LineTokens {
+		/** The tokens */
+		final IToken[] tokens;
+		/** The offsets of the tokens, relative to the start of the line */
+		final int[] offsets;
+		/** The lengths of the tokens */
+		final int[] lengths;
+
+		LineTokens(IToken[] tokens, int[] offsets, int[] lengths) {
+			this.tokens= tokens;
+			this.offsets= offsets;
+			this.lengths= lengths;
+		}
+	}
 
 	/**
 	 * Creates a damager/repairer that uses the given scanner and returns the given default
@@ -84,6 +118,36 @@ public class DefaultDamagerRepairer implements IPresentationDamager, IPresentati
 		fDefaultTextAttribute= new TextAttribute(null);
 	}
 
+	/**
+	 * Sets the number of lines whose tokens are cached. If the cache is enabled, the scanner
+	 * scans each line of a region separately, and lines whose content is cached are not scanned
+	 * again. This requires that the scanner does not return tokens that span lines, which holds
+	 * for scanners whose multi-line constructs are separate partitions.
+	 * <p>
+	 * The tokens are cached rather than their text attributes, so that changes of the tokens'
+	 * data are reflected by cached lines.
+	 * </p>
+	 *
+	 * @param size the maximal number of cached lines, or <code>0</code> to scan whole regions
+	 *            without caching
+	 * @since 3.26
+	 */
+	public void setLineCacheSize(int size) {
+		Assert.isLegal(size >= 0);
+		if (size == 0) {
+			fLineCache= null;
+			return;
+		}
+		fLineCache= new LinkedHashMap<String, LineTokens>(16, 0.75f, true) {
+			private static final long serialVersionUID= 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, LineTokens> eldest) {
+				return size() > size;
+			}
+		};
+	}
+
 	/*
 	 * @see IPresentationDamager#setDocument(IDocument)
 	 * @see IPresentationRepairer#setDocument(IDocument)
@@ -167,6 +231,15 @@ public class DefaultDamagerRepairer implements IPresentationDamager, IPresentati
 			return;
 		}
 
+		if (fLineCache != null) {
+			try {
+				createLinePresentation(presentation, region);
+				return;
+			} catch (BadLocationException x) {
+				// the region is inside the document, fall back to scanning the region as a whole
+			}
+		}
+
 		int lastStart= region.getOffset();
 		int length= 0;
 		boolean firstToken= true;
@@ -198,6 +271,96 @@ public class DefaultDamagerRepairer implements IPresentationDamager, IPresentati
 		addRange(presentation, lastStart, length, lastAttribute);
 	}
 
+	/**
+	 * Adds the style information of the given region to the given text presentation, scanning
+	 * line by line and taking the tokens of lines from the cache if possible.
+	 *
+	 * @param presentation the text presentation to be extended
+	 * @param region the region to be styled
+	 * @throws BadLocationException if the region is not inside the document
+	 * @since 3.26
+	 */
+	private void createLinePresentation(TextPresentation presentation, ITypedRegion region) throws BadLocationException {
+		int end= region.getOffset() + region.getLength();
+		int lastStart= region.getOffset();
+		int length= 0;
+		boolean firstToken= true;
+		TextAttribute lastAttribute= getTokenTextAttribute(Token.UNDEFINED);
+
+		int offset= region.getOffset();
+		int line= fDocument.getLineOfOffset(offset);
+		while (offset < end) {
+			int lineOffset= fDocument.getLineOffset(line);
+			int lineEnd= Math.min(lineOffset + fDocument.getLineLength(line), end);
+			LineTokens lineTokens;
+			if (offset == lineOffset) {
+				String content= fDocument.get(offset, lineEnd - offset);
+				lineTokens= fLineCache.get(content);
+				if (lineTokens == null) {
+					lineTokens= scanLine(offset, lineEnd - offset);
+					fLineCache.put(content, lineTokens);
+				}
+			} else {
+				// rules may depend on the column, only cache lines scanned from their start
+				lineTokens= scanLine(offset, lineEnd - offset);
+			}
+
+			for (int i= 0; i < lineTokens.tokens.length; i++) {
+				TextAttribute attribute= getTokenTextAttribute(lineTokens.tokens[i]);
+				if (lastAttribute != null && lastAttribute.equals(attribute)) {
+					length += lineTokens.lengths[i];
+					firstToken= false;
+				} else {
+					if (!firstToken)
+						addRange(presentation, lastStart, length, lastAttribute);
+					firstToken= false;
+					lastAttribute= attribute;
+					lastStart= offset + lineTokens.offsets[i];
+					length= lineTokens.lengths[i];
+				}
+			}
+
+			offset= lineEnd;
+			line++;
+		}
+
+		addRange(presentation, lastStart, length, lastAttribute);
+	}
+
+	/**
+	 * Scans the given line, or the part of a line.
+	 *
+	 * @param offset the offset of the line
+	 * @param length the length of the line
+	 * @return the tokens of the line
+	 * @since 3.26
+	 */
+	private LineTokens scanLine(int offset, int length) {
+		int count= 0;
+		IToken[] tokens= new IToken[8];
+		int[] offsets= new int[8];
+		int[] lengths= new int[8];
+
+		fScanner.setRange(fDocument, offset, length);
+		while (true) {
+			IToken token= fScanner.nextToken();
+			if (token.isEOF())
+				break;
+
+			if (count == tokens.length) {
+				tokens= Arrays.copyOf(tokens, 2 * count);
+				offsets= Arrays.copyOf(offsets, 2 * count);
+				lengths= Arrays.copyOf(lengths, 2 * count);
+			}
+			tokens[count]= token;
+			offsets[count]= fScanner.getTokenOffset() - offset;
+			lengths[count]= fScanner.getTokenLength();
+			count++;
+		}
+
+		return new LineTokens(Arrays.copyOf(tokens, count), Arrays.copyOf(offsets, count), Arrays.copyOf(lengths, count));
+	}
+
 	/**
 	 * Returns a text attribute encoded in the given token. If the token's
 	 * data is not <code>null</code> and a text attribute it is assumed that
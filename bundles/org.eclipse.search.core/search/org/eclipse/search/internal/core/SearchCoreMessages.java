@@ -39,9 +39,11 @@ public final class SearchCoreMessages extends NLS {
 	public static String PatternConstructor_error_unicode_escape_sequence;
 	public static String TextSearchVisitor_patterntoocomplex0;
 	public static String TextSearchVisitor_scanning;
+	public static String TextSearchVisitor_scanning_throughput;
 	public static String TextSearchVisitor_error;
 	public static String TextSearchVisitor_unsupportedcharset;
 	public static String TextSearchVisitor_illegalcharset;
+	public static String TrigramIndex_job_name;
 	static {
 		NLS.initializeMessages(BUNDLE_NAME, SearchCoreMessages.class);
 	}
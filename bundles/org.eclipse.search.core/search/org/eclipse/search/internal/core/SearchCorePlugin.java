@@ -17,11 +17,13 @@ import org.osgi.framework.BundleContext;
 
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Plugin;
 import org.eclipse.core.runtime.Status;
 
 import org.eclipse.search.internal.core.text.DirtyFileProvider;
 import org.eclipse.search.internal.core.text.TextSearchEngineRegistry;
+import org.eclipse.search.internal.core.text.TrigramIndex;
 
 public class SearchCorePlugin extends Plugin {
 	/**
@@ -36,6 +38,7 @@ public class SearchCorePlugin extends Plugin {
 	private TextSearchEngineRegistry fTextSearchEngineRegistry;
 	private DirtyFileProvider fDirtyFileSearchParticipant;
 	private DirtyFileSearchParticipantServiceTracker fDirtyFileSearchParticipantTracker;
+	private TrigramIndex fTextSearchIndex;
 
 	/**
 	 * @return Returns the search plugin instance.
@@ -58,7 +61,12 @@ public class SearchCorePlugin extends Plugin {
 
 	@Override
 	public void stop(BundleContext context) throws Exception {
-		// do nothing
+		synchronized (this) {
+			if (fTextSearchIndex != null) {
+				fTextSearchIndex.dispose();
+				fTextSearchIndex = null;
+			}
+		}
 	}
 
 	public TextSearchEngineRegistry getTextSearchEngineRegistry() {
@@ -68,6 +76,26 @@ public class SearchCorePlugin extends Plugin {
 		return fTextSearchEngineRegistry;
 	}
 
+	/**
+	 * Returns the text search index if it is enabled by the preference
+	 * {@link TrigramIndex#PREFERENCE_ENABLED}. The index is started when it is
+	 * first requested and stopped when the preference is turned off.
+	 *
+	 * @return the index or <code>null</code> if it is disabled
+	 */
+	public synchronized TrigramIndex getTextSearchIndex() {
+		boolean enabled = Platform.getPreferencesService().getBoolean(PLUGIN_ID, TrigramIndex.PREFERENCE_ENABLED,
+				false, null);
+		if (enabled && fTextSearchIndex == null) {
+			fTextSearchIndex = new TrigramIndex(getStateLocation().append("trigrams").toFile()); //$NON-NLS-1$
+			fTextSearchIndex.start();
+		} else if (!enabled && fTextSearchIndex != null) {
+			fTextSearchIndex.dispose();
+			fTextSearchIndex = null;
+		}
+		return fTextSearchIndex;
+	}
+
 	public DirtyFileProvider getDirtyFileDiscovery() {
 		if (fDirtyFileSearchParticipant == null) {
 			this.fDirtyFileSearchParticipantTracker.open();
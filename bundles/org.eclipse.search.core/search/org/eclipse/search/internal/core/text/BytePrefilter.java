@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * Rejects file contents that cannot contain a match of a search pattern without decoding them.
+ * <p>
+ * The filter extracts an ASCII literal which every match of the pattern must contain. In
+ * ASCII-compatible encodings (UTF-8, ISO-8859-1 and US-ASCII) such a literal is always encoded
+ * as the same bytes, and no other character is encoded using these bytes. Hence, file contents
+ * that do not contain these bytes cannot contain a match.
+ * </p>
+ */
+public final class BytePrefilter {
+
+	/**
+	 * The minimal length of a literal that is worth searching for.
+	 */
+	private static final int MIN_LITERAL_LENGTH= 3;
+
+	private final byte[] fLiteral;
+	private final boolean fIgnoreCase;
+
+	private BytePrefilter(String literal, boolean ignoreCase) {
+		fLiteral= literal.getBytes(StandardCharsets.US_ASCII);
+		fIgnoreCase= ignoreCase;
+		if (ignoreCase) {
+			for (int i= 0; i < fLiteral.length; i++)
+				fLiteral[i]= toLowerCase(fLiteral[i]);
+		}
+	}
+
+	/**
+	 * Creates a filter for the given pattern.
+	 *
+	 * @param pattern the search pattern
+	 * @return the filter, or <code>null</code> if no literal can be extracted from the pattern
+	 */
+	public static BytePrefilter create(Pattern pattern) {
+		String literal= findRequiredLiteral(pattern);
+		if (literal == null || literal.length() < MIN_LITERAL_LENGTH)
+			return null;
+
+		boolean ignoreCase= (pattern.flags() & Pattern.CASE_INSENSITIVE) != 0;
+		for (int i= 0; i < literal.length(); i++) {
+			char ch= literal.charAt(i);
+			if (ch >= 0x80)
+				return null;
+			// the only letters that are case-insensitively equal to non-ASCII characters
+			if (ignoreCase && "iIkKsS".indexOf(ch) != -1) //$NON-NLS-1$
+				return null;
+		}
+		return new BytePrefilter(literal, ignoreCase);
+	}
+
+	/**
+	 * Returns the longest literal that is contained in every match of the given pattern, ignoring
+	 * the pattern's case sensitivity.
+	 *
+	 * @param pattern the search pattern
+	 * @return the literal, or <code>null</code> if the pattern is too complex
+	 */
+	static String findRequiredLiteral(Pattern pattern) {
+		int flags= pattern.flags();
+		if ((flags & (Pattern.COMMENTS | Pattern.CANON_EQ)) != 0)
+			return null;
+		return (flags & Pattern.LITERAL) != 0 ? pattern.pattern() : findRequiredLiteral(pattern.pattern());
+	}
+
+	/**
+	 * Returns the longest literal that is contained in every match of the given regular
+	 * expression. Only concatenations of quoted or plain literals, wildcards, word boundaries and
+	 * anchors are analyzed.
+	 *
+	 * @param regex the regular expression
+	 * @return the literal, or <code>null</code> if the expression is too complex
+	 */
+	static String findRequiredLiteral(String regex) {
+		String best= null;
+		StringBuilder run= new StringBuilder();
+		int length= regex.length();
+		int i= 0;
+		while (i < length) {
+			char ch= regex.charAt(i);
+			if (regex.startsWith("\\Q", i)) { //$NON-NLS-1$
+				int end= regex.indexOf("\\E", i + 2); //$NON-NLS-1$
+				if (end == -1)
+					end= length;
+				run.append(regex, i + 2, end);
+				i= Math.min(end + 2, length);
+			} else if (ch == '\\' && i + 1 < length) {
+				char escaped= regex.charAt(i + 1);
+				if (Character.isLetterOrDigit(escaped)) {
+					// only allow the escapes that do not consume further characters
+					if ("bBdDsSwW".indexOf(escaped) == -1) //$NON-NLS-1$
+						return null;
+					best= longer(best, run);
+					run.setLength(0);
+				} else {
+					run.append(escaped);
+				}
+				i+= 2;
+			} else if (ch == '.' || ch == '^' || ch == '$') {
+				best= longer(best, run);
+				run.setLength(0);
+				i++;
+			} else if (ch == '*' || ch == '?' || ch == '+' || ch == '{') {
+				// the quantifier applies to the last character or class only
+				if (run.length() > 0)
+					run.setLength(run.length() - 1);
+				best= longer(best, run);
+				run.setLength(0);
+				if (ch == '{') {
+					int end= regex.indexOf('}', i);
+					if (end == -1)
+						return null;
+					i= end;
+				}
+				i++;
+				// possessive or reluctant quantifier
+				if (i < length && (regex.charAt(i) == '?' || regex.charAt(i) == '+'))
+					i++;
+			} else if ("()[]|\\".indexOf(ch) != -1) { //$NON-NLS-1$
+				return null;
+			} else {
+				run.append(ch);
+				i++;
+			}
+		}
+		return longer(best, run);
+	}
+
+	private static String longer(String best, StringBuilder run) {
+		if (best == null || run.length() > best.length())
+			return run.toString();
+		return best;
+	}
+
+	/**
+	 * Tells whether this filter can be applied to content in the given encoding.
+	 *
+	 * @param charset the name of the encoding
+	 * @return <code>true</code> if the encoding is ASCII-compatible
+	 */
+	public static boolean isApplicable(String charset) {
+		return StandardCharsets.UTF_8.name().equals(charset)
+				|| StandardCharsets.ISO_8859_1.name().equals(charset)
+				|| StandardCharsets.US_ASCII.name().equals(charset);
+	}
+
+	/**
+	 * Tells whether the given bytes may contain a match.
+	 *
+	 * @param bytes the content
+	 * @param start the index of the first byte to check
+	 * @param end the index after the last byte to check
+	 * @return <code>false</code> if the content cannot contain a match
+	 */
+	public boolean mayMatch(ByteBuffer bytes, int start, int end) {
+		byte[] literal= fLiteral;
+		byte first= literal[0];
+		int last= end - literal.length;
+		for (int i= start; i <= last; i++) {
+			byte b= bytes.get(i);
+			if (fIgnoreCase)
+				b= toLowerCase(b);
+			if (b != first)
+				continue;
+			int j= 1;
+			while (j < literal.length) {
+				byte other= bytes.get(i + j);
+				if (fIgnoreCase)
+					other= toLowerCase(other);
+				if (other != literal[j])
+					break;
+				j++;
+			}
+			if (j == literal.length)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Tells whether the content read from the given channel may contain a match. The content is
+	 * read in chunks into the given buffer, so that the memory used does not depend on the size
+	 * of the content.
+	 *
+	 * @param channel the channel to read the content from
+	 * @param buffer the buffer to read the content into, with a capacity larger than the literal
+	 * @return <code>false</code> if the content cannot contain a match
+	 * @throws IOException if reading from the channel fails
+	 */
+	public boolean mayMatch(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.clear();
+		boolean endOfInput= false;
+		while (!endOfInput) {
+			endOfInput= channel.read(buffer) == -1;
+			if (!endOfInput && buffer.hasRemaining())
+				continue;
+			int end= buffer.position();
+			if (mayMatch(buffer, 0, end))
+				return true;
+			// keep the bytes which may start a match that continues in the next chunk
+			int kept= Math.min(fLiteral.length - 1, end);
+			buffer.limit(end).position(end - kept);
+			buffer.compact();
+		}
+		return false;
+	}
+
+	private static byte toLowerCase(byte b) {
+		return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+	}
+}
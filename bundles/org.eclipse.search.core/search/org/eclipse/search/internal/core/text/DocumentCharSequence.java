@@ -15,28 +15,41 @@ package org.eclipse.search.internal.core.text;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension5;
 
 /**
- * Adapting a document to a CharSequence
+ * Adapting a document to a CharSequence. Reads through the document's read-only view of its
+ * content if available, so that neither matching nor {@link #subSequence(int, int)} copies the
+ * document text.
  */
 public class DocumentCharSequence implements CharSequence {
 
 	private final IDocument fDocument;
 
+	/** The read-only view of the document content, <code>null</code> if not available */
+	private final CharSequence fText;
+
 	/**
 	 * @param document The document to wrap
 	 */
 	public DocumentCharSequence(IDocument document) {
 		fDocument= document;
+		fText= document instanceof IDocumentExtension5 extension ? extension.getCharSequence() : null;
 	}
 
 	@Override
 	public int length() {
+		if (fText != null) {
+			return fText.length();
+		}
 		return fDocument.getLength();
 	}
 
 	@Override
 	public char charAt(int index) {
+		if (fText != null) {
+			return fText.charAt(index);
+		}
 		try {
 			return fDocument.getChar(index);
 		} catch (BadLocationException e) {
@@ -46,6 +59,9 @@ public class DocumentCharSequence implements CharSequence {
 
 	@Override
 	public CharSequence subSequence(int start, int end) {
+		if (fText != null) {
+			return fText.subSequence(start, end);
+		}
 		try {
 			return fDocument.get(start, end - start);
 		} catch (BadLocationException e) {
@@ -56,6 +72,9 @@ public class DocumentCharSequence implements CharSequence {
 	/** @see CharSequence#toString **/
 	@Override
 	public String toString() {
+		if (fText != null) {
+			return fText.toString();
+		}
 		return fDocument.get();
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,13 +17,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.content.IContentDescription;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 
 public class FileCharSequenceProvider {
 
@@ -38,7 +44,47 @@ public class FileCharSequenceProvider {
 
 	private FileCharSequence fReused= null;
 
+	/**
+	 * The filter that rejects files which cannot contain a match, or <code>null</code>.
+	 */
+	private final BytePrefilter fPrefilter;
+
+	/**
+	 * The buffer into which local files are read, reused for all files.
+	 */
+	private ByteBuffer fReadBuffer;
+
+	public FileCharSequenceProvider() {
+		this(null);
+	}
+
+	/**
+	 * Creates a provider that skips files which cannot contain a match of the given pattern.
+	 *
+	 * @param searchPattern the search pattern, or <code>null</code> to read all files
+	 */
+	public FileCharSequenceProvider(Pattern searchPattern) {
+		fPrefilter= searchPattern == null ? null : BytePrefilter.create(searchPattern);
+	}
+
+	/**
+	 * Returns the content of the given file. If this provider has been created for a search
+	 * pattern and the file cannot contain a match, an empty sequence may be returned instead.
+	 * <p>
+	 * The returned sequence must be passed to {@link #releaseCharSequence(CharSequence)} when it
+	 * is no longer used.
+	 * </p>
+	 *
+	 * @param file the file
+	 * @return the content of the file
+	 * @throws CoreException if the file cannot be accessed
+	 * @throws IOException if reading the file fails
+	 */
 	public CharSequence newCharSequence(IFile file) throws CoreException, IOException {
+		CharSequence local = readLocalFile(file);
+		if (local != null) {
+			return local;
+		}
 		String string = toShortString(file);
 		if (string != null) {
 			return string;
@@ -486,6 +532,73 @@ public class FileCharSequenceProvider {
 		}
 	}
 
+	/**
+	 * Reads a file from the local file system. Small files are read into a reused buffer and
+	 * decoded into a String. Large files are only read in chunks through the reused buffer to
+	 * check them with the pre-filter; they are not memory-mapped, since a mapped file stays
+	 * locked on some platforms until the mapping is garbage collected.
+	 * <p>
+	 * The bytes are checked by the pre-filter before being decoded.
+	 * </p>
+	 *
+	 * @param file the file
+	 * @return the content, or <code>null</code> if the file has to be read through the workspace
+	 *         or is too large to be read at once
+	 */
+	private CharSequence readLocalFile(IFile file) {
+		IPath location = file.getLocation();
+		if (location == null || !file.isSynchronized(IResource.DEPTH_ZERO)) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(location.toFile().toPath(), StandardOpenOption.READ)) {
+			long size = channel.size();
+			String charset = file.getCharset();
+			if (size < MAX_BUFFER_LENGTH) {
+				ByteBuffer buffer = getReadBuffer();
+				while (buffer.position() < size && channel.read(buffer) != -1) {
+					// read the complete file
+				}
+				return decode(buffer, buffer.position(), charset);
+			}
+			if (fPrefilter != null && BytePrefilter.isApplicable(charset) && !fPrefilter.mayMatch(channel, getReadBuffer())) {
+				return ""; //$NON-NLS-1$
+			}
+		} catch (IOException | CoreException | RuntimeException e) {
+			// read through the workspace, which reports the problem
+		}
+		return null;
+	}
+
+	private ByteBuffer getReadBuffer() {
+		if (fReadBuffer == null) {
+			fReadBuffer = ByteBuffer.allocate(MAX_BUFFER_LENGTH);
+		}
+		fReadBuffer.clear();
+		return fReadBuffer;
+	}
+
+	private String decode(ByteBuffer buffer, int length, String charset) throws IOException {
+		int offset = getContentOffset(buffer, length, charset);
+		if (!mayMatch(buffer, offset, length, charset)) {
+			return ""; //$NON-NLS-1$
+		}
+		return new String(buffer.array(), offset, length - offset, charset);
+	}
+
+	private boolean mayMatch(ByteBuffer buffer, int offset, int length, String charset) {
+		return fPrefilter == null || !BytePrefilter.isApplicable(charset) || fPrefilter.mayMatch(buffer, offset, length);
+	}
+
+	private static int getContentOffset(ByteBuffer buffer, int length, String charset) {
+		if (StandardCharsets.UTF_8.name().equals(charset)) {
+			byte[] bom = IContentDescription.BOM_UTF_8;
+			if (length >= bom.length && buffer.get(0) == bom[0] && buffer.get(1) == bom[1] && buffer.get(2) == bom[2]) {
+				return bom.length;
+			}
+		}
+		return 0;
+	}
+
 	/*
 	 * Try to get a content as String. Avoids to scanning whole InputStream to
 	 * get length
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -39,11 +44,8 @@ import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.content.IContentType;
 import org.eclipse.core.runtime.content.IContentTypeManager;
-import org.eclipse.core.runtime.jobs.Job;
-import org.eclipse.core.runtime.jobs.JobGroup;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResourceStatus;
@@ -71,11 +73,10 @@ public class TextSearchVisitor {
 	public static final boolean TRACING= "true".equalsIgnoreCase(Platform.getDebugOption("org.eclipse.search/perf")); //$NON-NLS-1$ //$NON-NLS-2$
 	private static final int NUMBER_OF_LOGICAL_THREADS= Runtime.getRuntime().availableProcessors();
 
-	/**
-	 * Queue of files to be searched. IFile pointing to the same local file are
-	 * grouped together
-	 **/
-	private final Queue<List<IFile>> fileBatches;
+	/** The maximal number of files searched by one task. */
+	private static final int MAX_BATCH_FILES= 64;
+	/** The minimal number of tasks per worker, so that idle workers find tasks to steal. */
+	private static final int TASKS_PER_WORKER= 8;
 
 	public static class ReusableMatchAccess extends TextSearchMatchAccess {
 
@@ -123,69 +124,95 @@ public class TextSearchVisitor {
 	}
 
 	/**
-	 * A JobGroup for text searches across multiple files.
+	 * The files searched by one task. Each list contains the files with the same location.
+	 */
+	private static final class WorkUnit {
+		private final List<List<IFile>> fSameFiles;
+
+		WorkUnit(List<List<IFile>> sameFiles) {
+			fSameFiles= sameFiles;
+		}
+	}
+
+	/**
+	 * Searches a range of work units. Ranges are split in halves, so idle workers steal the
+	 * largest pending ranges.
 	 */
-	private static class TextSearchJobGroup extends JobGroup {
-		public TextSearchJobGroup(String name, int maxThreads, int initialJobCount) {
-			super(name, maxThreads, initialJobCount);
+	private class SearchTask extends RecursiveAction {
+		private static final long serialVersionUID= 1L;
+
+		private final WorkUnit[] fUnits;
+		private final int fStart;
+		private final int fEnd;
+
+		SearchTask(WorkUnit[] units, int start, int end) {
+			fUnits= units;
+			fStart= start;
+			fEnd= end;
 		}
 
-		// Always continue processing all other files, even if errors are encountered in individual files.
 		@Override
-		protected boolean shouldCancel(IStatus lastCompletedJobResult, int numberOfFailedJobs, int numberOfCancelledJobs) {
-			return false;
+		protected void compute() {
+			if (fEnd - fStart > 1) {
+				int middle= (fStart + fEnd) >>> 1;
+				invokeAll(new SearchTask(fUnits, fStart, middle), new SearchTask(fUnits, middle, fEnd));
+			} else if (fEnd > fStart) {
+				((SearchWorker) Thread.currentThread()).process(fUnits[fStart]);
+			}
 		}
 	}
 
 	/**
-	 * A job to find matches in a set of files.
+	 * A thread to find matches in files. Each worker reuses its own file buffers.
 	 */
-	private class TextSearchJob extends Job {
-		private final Map<IFile, IDocument> fDocumentsInEditors;
-		private FileCharSequenceProvider fileCharSequenceProvider;
-		private final int jobCount;
-
-		/**
-		 * Searches for matches in the files.
-		 *
-		 * @param documentsInEditors
-		 *            a map from IFile to IDocument for all open, dirty editors
-		 * @param jobCount
-		 *            number of Jobs
-		 */
-		public TextSearchJob(Map<IFile, IDocument> documentsInEditors, int jobCount) {
-			super("File Search Worker"); //$NON-NLS-1$
-			this.jobCount = jobCount;
-			setSystem(true);
-			fDocumentsInEditors= documentsInEditors;
+	private class SearchWorker extends ForkJoinWorkerThread {
+		private final FileCharSequenceProvider fileCharSequenceProvider;
+		private int fNumberOfFiles;
+		private long fNumberOfBytes;
+		private long fSearchTime;
+
+		public SearchWorker(ForkJoinPool pool, int number) {
+			super(pool);
+			setName("File Search Worker #" + number); //$NON-NLS-1$
+			fileCharSequenceProvider= new FileCharSequenceProvider(fSearchPattern);
 		}
 
-		@Override
-		protected IStatus run(IProgressMonitor inner) {
-			MultiStatus multiStatus=
-					new MultiStatus(SearchCorePlugin.PLUGIN_ID, IStatus.OK,
-							SearchCoreMessages.TextSearchEngine_statusMessage, null);
-			SubMonitor subMonitor = SubMonitor.convert(inner, fileBatches.size() / jobCount); // approximate
-			this.fileCharSequenceProvider= new FileCharSequenceProvider();
-			List<IFile> sameFiles;
-			while (((sameFiles = fileBatches.poll()) != null) && !fFatalError && !fProgressMonitor.isCanceled()) {
-				IStatus status = processFile(sameFiles, subMonitor.split(1));
+		public void process(WorkUnit unit) {
+			long startTime= TRACING ? System.nanoTime() : 0;
+			long size= 0;
+			for (List<IFile> sameFiles : unit.fSameFiles) {
+				if (fFatalError || fProgressMonitor.isCanceled()) {
+					return;
+				}
+				if (fReportThroughput) {
+					size+= getFileSize(sameFiles.get(0));
+				}
+				IStatus status;
+				try {
+					status= processFile(sameFiles, fWorkerMonitor);
+				} catch (RuntimeException e) {
+					// continue with the other files, like for any other problem
+					status= new Status(IStatus.ERROR, SearchCorePlugin.PLUGIN_ID, SearchCorePlugin.INTERNAL_ERROR,
+							SearchCoreMessages.SearchPlugin_internal_error, e);
+				}
 				// Only accumulate interesting status
-				if (!status.isOK())
-					multiStatus.add(status);
-				// Group cancellation is propagated to this job's monitor.
-				// Stop processing and return the status for the completed jobs.
+				if (!status.isOK()) {
+					synchronized (fStatus) {
+						fStatus.add(status);
+					}
+				}
 			}
-			fileCharSequenceProvider= null;
 			synchronized (fLock) {
-				fLock.notify();
+				fNumberOfScannedBytes+= size;
+			}
+			if (TRACING) {
+				fNumberOfFiles+= unit.fSameFiles.size();
+				fNumberOfBytes+= size;
+				fSearchTime+= System.nanoTime() - startTime;
 			}
-			return multiStatus;
 		}
 
 		public IStatus processFile(List<IFile> sameFiles, IProgressMonitor monitor) {
-			// A natural cleanup after the change to use JobGroups is accepted would be to move these
-			// methods to the TextSearchJob class.
 			Matcher matcher= fSearchPattern.pattern().isEmpty() ? null : fSearchPattern.matcher(""); //$NON-NLS-1$
 			IFile file = sameFiles.remove(0);
 			monitor.setTaskName(file.getFullPath().toString());
@@ -290,8 +317,19 @@ public class TextSearchVisitor {
 	private final Pattern fSearchPattern;
 
 	private volatile IProgressMonitor fProgressMonitor;
+	/** The monitor of the workers, which only forwards the cancellation of the search. */
+	private final IProgressMonitor fWorkerMonitor= new NullProgressMonitor() {
+		@Override
+		public boolean isCanceled() {
+			return fProgressMonitor.isCanceled();
+		}
+	};
+	private Map<IFile, IDocument> fDocumentsInEditors;
 
 	private int fNumberOfScannedFiles;  // Protected by fLock
+	private long fNumberOfScannedBytes;  // Protected by fLock
+	/** Whether the workers sum up the sizes of the searched files to report the throughput. */
+	private volatile boolean fReportThroughput;
 	private IFile fCurrentFile;  // Protected by fLock
 	private final Object fLock = new Object();
 
@@ -310,7 +348,6 @@ public class TextSearchVisitor {
 		fSearchPattern= searchPattern;
 
 		fIsLightweightAutoRefresh= Platform.getPreferencesService().getBoolean(ResourcesPlugin.PI_RESOURCES, ResourcesPlugin.PREF_LIGHTWEIGHT_AUTO_REFRESH, false, null);
-		fileBatches = new ConcurrentLinkedQueue<>();
 	}
 
 	public IStatus search(IFile[] files, IProgressMonitor monitor) {
@@ -320,11 +357,14 @@ public class TextSearchVisitor {
 		fProgressMonitor = monitor == null ? new NullProgressMonitor() : monitor;
 		synchronized (fLock) {
 			fNumberOfScannedFiles = 0;
+			fNumberOfScannedBytes = 0;
 			fCurrentFile = null;
 		}
 		int threadsNeeded = Math.min(files.length, NUMBER_OF_LOGICAL_THREADS);
 		// All but 1 threads should search. 1 thread does the UI updates:
 		int jobCount = fCollector.canRunInParallel() && threadsNeeded > 1 ? threadsNeeded - 1 : 1;
+		// a single worker does not stat the files, its throughput is not worth the extra file system access
+		fReportThroughput = jobCount > 1 || TRACING;
 		long startTime= TRACING ? System.currentTimeMillis() : 0;
 
 		try {
@@ -338,6 +378,8 @@ public class TextSearchVisitor {
 				}
 
 				Map<IFile, IDocument> documentsInEditors = findDirtyFiles();
+				files = selectCandidates(files, documentsInEditors);
+				fDocumentsInEditors = documentsInEditors;
 
 				// group files with same content together:
 				Map<String, List<IFile>> localFilesByLocation = new LinkedHashMap<>();
@@ -351,69 +393,49 @@ public class TextSearchVisitor {
 					filesByLocation.computeIfAbsent(key, k -> new ArrayList<>()).add(file);
 
 				}
-				localFilesByLocation.values().forEach(fileBatches::offer);
-				remoteFilesByLocation.values().forEach(fileBatches::offer);
-				int numberOfFilesToScan = fileBatches.size();
+				List<List<IFile>> sameFilesList = new ArrayList<>(localFilesByLocation.values());
+				sameFilesList.addAll(remoteFilesByLocation.values());
+				int numberOfFilesToScan = sameFilesList.size();
 				fProgressMonitor.beginTask(taskName, numberOfFilesToScan);
 
-				// Seed count over 1 can cause endless waits, see bug 543629
-				// comment 2
-				// TODO use seed = jobCount after the bug 543660 in JobGroup is
-				// fixed
-
-				final int seed = 1;
-				final JobGroup jobGroup = new TextSearchJobGroup("Text Search", jobCount, seed); //$NON-NLS-1$
-				for (int i = 0; i < jobCount; i++) {
-					Job job = new TextSearchJob(documentsInEditors, jobCount);
-					job.setJobGroup(jobGroup);
-					job.schedule();
-				}
-				// update progress until finished or canceled:
-				int numberOfScannedFiles = 0;
-				int lastNumberOfScannedFiles = 0;
-				while (!fProgressMonitor.isCanceled() && !jobGroup.getActiveJobs().isEmpty()
-						&& numberOfScannedFiles != numberOfFilesToScan) {
-					IFile file;
-					synchronized (fLock) {
+				WorkUnit[] units = createWorkUnits(sameFilesList, jobCount);
+				Queue<SearchWorker> workers = new ConcurrentLinkedQueue<>();
+				ForkJoinPool pool = new ForkJoinPool(jobCount, p -> {
+					SearchWorker worker = new SearchWorker(p, workers.size() + 1);
+					workers.add(worker);
+					return worker;
+				}, null, false);
+				try {
+					ForkJoinTask<?> task = pool.submit(() -> {
 						try {
-							// time only relevant on how often progress is
-							// updated, but cancel is notified immediately:
-							fLock.wait(100);
-						} catch (InterruptedException e) {
-							fProgressMonitor.setCanceled(true);
-							break;
+							new SearchTask(units, 0, units.length).invoke();
+						} finally {
+							synchronized (fLock) {
+								fLock.notify();
+							}
 						}
-						file = fCurrentFile;
-						numberOfScannedFiles = fNumberOfScannedFiles;
-					}
-					if (file != null) {
-						String fileName = file.getName();
-						Object[] args = { fileName, Integer.valueOf(numberOfScannedFiles),
-								Integer.valueOf(numberOfFilesToScan) };
-						fProgressMonitor
-								.subTask(MessageFormat.format(SearchCoreMessages.TextSearchVisitor_scanning, args));
-						int steps = numberOfScannedFiles - lastNumberOfScannedFiles;
-						fProgressMonitor.worked(steps);
-						lastNumberOfScannedFiles += steps;
-					}
+					});
+					pool.shutdown();
+					reportProgress(task, numberOfFilesToScan);
+					// the workers stop at the next file if the search was canceled
+					pool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+				} catch (InterruptedException e) {
+					fProgressMonitor.setCanceled(true);
+					fFatalError = true;
+					Thread.currentThread().interrupt();
+					throw new OperationCanceledException(SearchCoreMessages.TextSearchVisitor_canceled);
+				} finally {
+					pool.shutdownNow();
 				}
-				if (fProgressMonitor.isCanceled()) {
-					jobGroup.cancel();
+				if (TRACING) {
+					traceWorkers(workers);
 				}
-				// no need to pass progressMonitor (which would show wrong
-				// progress) but null because jobGroup was already finished /
-				// canceled anyway:
-				jobGroup.join(0, null);
 				if (fProgressMonitor.isCanceled()) {
 					throw new OperationCanceledException(SearchCoreMessages.TextSearchVisitor_canceled);
 				}
-
-				fStatus.addAll(jobGroup.getResult());
 				return fStatus;
-			} catch (InterruptedException e) {
-				throw new OperationCanceledException(SearchCoreMessages.TextSearchVisitor_canceled);
 			} finally {
-				fileBatches.clear();
+				fDocumentsInEditors = null;
 			}
 		} finally {
 			fProgressMonitor.done();
@@ -426,6 +448,108 @@ public class TextSearchVisitor {
 		}
 	}
 
+	/**
+	 * Reports the scanned files and the throughput of the search to the progress monitor until
+	 * the search is finished or canceled.
+	 *
+	 * @throws InterruptedException if the current thread is interrupted while waiting
+	 */
+	private void reportProgress(ForkJoinTask<?> task, int numberOfFilesToScan) throws InterruptedException {
+		long startTime = System.currentTimeMillis();
+		int numberOfScannedFiles = 0;
+		int lastNumberOfScannedFiles = 0;
+		while (!fProgressMonitor.isCanceled() && !task.isDone()
+				&& numberOfScannedFiles != numberOfFilesToScan) {
+			IFile file;
+			long numberOfScannedBytes;
+			synchronized (fLock) {
+				// time only relevant on how often progress is
+				// updated, but cancel is notified immediately:
+				fLock.wait(100);
+				file = fCurrentFile;
+				numberOfScannedFiles = fNumberOfScannedFiles;
+				numberOfScannedBytes = fNumberOfScannedBytes;
+			}
+			if (file != null) {
+				long millis = System.currentTimeMillis() - startTime;
+				String message;
+				if (numberOfScannedBytes > 0 && millis > 0) {
+					Object[] args = { file.getName(), Integer.valueOf(numberOfScannedFiles),
+							Integer.valueOf(numberOfFilesToScan),
+							Long.valueOf(numberOfScannedBytes / 1024 * 1000 / millis) };
+					message = MessageFormat.format(SearchCoreMessages.TextSearchVisitor_scanning_throughput, args);
+				} else {
+					Object[] args = { file.getName(), Integer.valueOf(numberOfScannedFiles),
+							Integer.valueOf(numberOfFilesToScan) };
+					message = MessageFormat.format(SearchCoreMessages.TextSearchVisitor_scanning, args);
+				}
+				fProgressMonitor.subTask(message);
+				int steps = numberOfScannedFiles - lastNumberOfScannedFiles;
+				fProgressMonitor.worked(steps);
+				lastNumberOfScannedFiles += steps;
+			}
+		}
+	}
+
+	/**
+	 * Divides the files into work units. If the files are searched in parallel,
+	 * they are batched to reduce the scheduling overhead, with enough batches for
+	 * idle workers to steal. The batches are formed in the order of the files,
+	 * without reading their sizes, so that the search starts right away.
+	 */
+	private WorkUnit[] createWorkUnits(List<List<IFile>> sameFilesList, int workerCount) {
+		if (workerCount == 1) {
+			return new WorkUnit[] { new WorkUnit(sameFilesList) };
+		}
+		int batchSize = Math.max(1, Math.min(MAX_BATCH_FILES, sameFilesList.size() / (workerCount * TASKS_PER_WORKER)));
+		WorkUnit[] units = new WorkUnit[(sameFilesList.size() + batchSize - 1) / batchSize];
+		for (int i = 0; i < units.length; i++) {
+			int start = i * batchSize;
+			units[i] = new WorkUnit(sameFilesList.subList(start, Math.min(start + batchSize, sameFilesList.size())));
+		}
+		return units;
+	}
+
+	private static long getFileSize(IFile file) {
+		IPath location = file.getLocation();
+		// the size of remote files is unknown
+		return location == null ? 0 : location.toFile().length();
+	}
+
+	private void traceWorkers(Queue<SearchWorker> workers) {
+		for (SearchWorker worker : workers) {
+			long millis = TimeUnit.NANOSECONDS.toMillis(worker.fSearchTime);
+			Object[] args = { worker.getName(), Integer.valueOf(worker.fNumberOfFiles),
+					Long.valueOf(worker.fNumberOfBytes / 1024), Long.valueOf(millis),
+					Long.valueOf(millis == 0 ? 0 : worker.fNumberOfBytes / 1024 * 1000 / millis) };
+			System.out.println(MessageFormat.format(
+					"[TextSearch] {0}: {1} files, {2}KB in {3}ms ({4}KB/s)", args)); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Removes the files that cannot contain a match according to the text search
+	 * index, if it is enabled.
+	 */
+	private IFile[] selectCandidates(IFile[] files, Map<IFile, IDocument> documentsInEditors) {
+		SearchCorePlugin plugin = SearchCorePlugin.getDefault();
+		TrigramIndex index = plugin == null ? null : plugin.getTextSearchIndex();
+		if (index == null) {
+			return files;
+		}
+		long startTime = TRACING ? System.currentTimeMillis() : 0;
+		// open documents may differ from the indexed content
+		IFile[] candidates = index.selectCandidates(files, fSearchPattern,
+				file -> getOpenDocument(file, documentsInEditors) != null);
+		if (TRACING) {
+			Object[] args = { Integer.valueOf(files.length - candidates.length), Integer.valueOf(files.length),
+					Long.valueOf(System.currentTimeMillis() - startTime) };
+			System.out.println(MessageFormat.format(
+					"[TextSearch] Index excluded {0} of {1} files in {2}ms", args)); //$NON-NLS-1$
+		}
+		return candidates;
+	}
+
 	private Map<IFile, IDocument> findDirtyFiles() {
 		if (fDirtyDiscovery != null) {
 			Map<IFile, IDocument> ret = fDirtyDiscovery.dirtyFiles();
@@ -0,0 +1,744 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.search.internal.core.SearchCoreMessages;
+import org.eclipse.search.internal.core.SearchCorePlugin;
+import org.eclipse.search.internal.core.text.TrigramIndexFile.IntArray;
+import org.eclipse.search.internal.core.text.TrigramIndexFile.PostingSource;
+
+/**
+ * An optional on-disk index of the trigrams contained in the files of the workspace, used to
+ * exclude files that cannot contain a match before they are read.
+ * <p>
+ * The index consists of an immutable, memory-mapped base file and an in-memory overlay of the
+ * files that changed since the base file was written. A background job keeps the overlay up to
+ * date from resource deltas and merges it into a new base file once it grows large. A file is
+ * always a candidate for a search if it is not indexed, has changes that are not indexed yet or
+ * has a different modification stamp than when it was indexed, so a stale index only costs
+ * performance.
+ * </p>
+ * <p>
+ * Characters are case folded before the trigrams are computed, so the same index serves case
+ * sensitive and case insensitive searches.
+ * </p>
+ */
+public final class TrigramIndex implements IResourceChangeListener {
+
+	/**
+	 * Preference key of the boolean that enables the index (value
+	 * <code>"org.eclipse.search.textSearchIndex"</code>).
+	 */
+	public static final String PREFERENCE_ENABLED= "org.eclipse.search.textSearchIndex"; //$NON-NLS-1$
+
+	private static final String INDEX_FILE_PREFIX= "index-"; //$NON-NLS-1$
+	private static final String INDEX_FILE_SUFFIX= ".trigrams"; //$NON-NLS-1$
+	private static final String RUN_FILE_SUFFIX= ".run"; //$NON-NLS-1$
+
+	private static final int KEY_BITS= 22;
+	private static final int ASCII_KEY_LIMIT= 1 << 21;
+	private static final int MIN_QUERY_LENGTH= 3;
+
+	/** Files larger than this are not indexed and hence always searched. */
+	private static final long MAX_FILE_SIZE= 16 * 1024 * 1024;
+	/** The number of postings kept in memory before a run is written during a rebuild. */
+	private static final int MAX_SEGMENT_POSTINGS= 1 << 23;
+	/** The number of changed files after which the overlay is merged into a new base file. */
+	private static final int MAX_OVERLAY_SIZE= 4096;
+	private static final long UPDATE_DELAY= 1000;
+
+	/**
+	 * The trigrams of a file that changed since the base file was written.
+	 */
+	private static final class Entry {
+		final long fStamp;
+		/** The sorted keys, or <code>null</code> if the file could not be indexed. */
+		final int[] fKeys;
+
+		Entry(long stamp, int[] keys) {
+			fStamp= stamp;
+			fKeys= keys;
+		}
+	}
+
+	/**
+	 * Collects the distinct keys of a file. Reused across files to avoid allocating the bit set
+	 * for each file.
+	 */
+	private static final class KeyCollector {
+		private final long[] fSeen= new long[1 << (KEY_BITS - 6)];
+		private int[] fKeys= new int[1024];
+		private int fSize;
+
+		void add(int key) {
+			long mask= 1L << key;
+			int word= key >>> 6;
+			if ((fSeen[word] & mask) == 0) {
+				fSeen[word]|= mask;
+				if (fSize == fKeys.length)
+					fKeys= Arrays.copyOf(fKeys, fSize * 2);
+				fKeys[fSize++]= key;
+			}
+		}
+
+		int[] drain() {
+			int[] keys= Arrays.copyOf(fKeys, fSize);
+			for (int i= 0; i < fSize; i++)
+				fSeen[fKeys[i] >>> 6]= 0;
+			fSize= 0;
+			Arrays.sort(keys);
+			return keys;
+		}
+	}
+
+	/**
+	 * Posting lists of files indexed in memory, ordered by key.
+	 */
+	private static final class Segment implements PostingSource {
+		private final Map<Integer, IntArray> fPostings= new HashMap<>();
+		private int[] fKeys;
+		private int fPostingCount;
+
+		void add(int id, int[] keys) {
+			for (int key : keys)
+				fPostings.computeIfAbsent(Integer.valueOf(key), k -> new IntArray()).add(id);
+			fPostingCount+= keys.length;
+			fKeys= null;
+		}
+
+		int getPostingCount() {
+			return fPostingCount;
+		}
+
+		private int[] getKeys() {
+			if (fKeys == null) {
+				fKeys= new int[fPostings.size()];
+				int i= 0;
+				for (Integer key : fPostings.keySet())
+					fKeys[i++]= key.intValue();
+				Arrays.sort(fKeys);
+			}
+			return fKeys;
+		}
+
+		@Override
+		public int size() {
+			return fPostings.size();
+		}
+
+		@Override
+		public int keyAt(int index) {
+			return getKeys()[index];
+		}
+
+		@Override
+		public void readPostings(int index, IntArray target) {
+			IntArray ids= fPostings.get(Integer.valueOf(getKeys()[index]));
+			for (int i= 0; i < ids.size(); i++)
+				target.add(ids.get(i));
+		}
+	}
+
+	/**
+	 * Builds the index and keeps it up to date.
+	 */
+	private final class IndexJob extends Job {
+
+		IndexJob() {
+			super(SearchCoreMessages.TrigramIndex_job_name);
+			setSystem(true);
+			setPriority(Job.DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				if (!fFailed) {
+					update(monitor);
+				}
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (IOException | CoreException e) {
+				// don't retry, searches fall back to reading all files
+				fFailed= true;
+				SearchCorePlugin.log(e);
+			}
+			return Status.OK_STATUS;
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == TrigramIndex.this;
+		}
+	}
+
+	private final File fDirectory;
+	private final IndexJob fJob;
+	private final IWorkspaceRoot fRoot;
+	private final Object fLock= new Object();
+
+	private TrigramIndexFile fBase; // protected by fLock
+	private int fGeneration; // protected by fLock
+	private final Map<String, Entry> fOverlay= new HashMap<>(); // protected by fLock
+	private final Set<String> fStale= new LinkedHashSet<>(); // protected by fLock
+	private boolean fReconcile; // protected by fLock
+	private boolean fRebuild; // protected by fLock
+
+	private volatile boolean fFailed;
+	private KeyCollector fCollector; // only used by the job
+	private FileCharSequenceProvider fProvider; // only used by the job
+
+	/**
+	 * Creates a new index. The index does nothing until it is started.
+	 *
+	 * @param directory the directory to store the index files in
+	 */
+	public TrigramIndex(File directory) {
+		fDirectory= directory;
+		fRoot= ResourcesPlugin.getWorkspace().getRoot();
+		fJob= new IndexJob();
+	}
+
+	/**
+	 * Starts listening to resource changes and schedules loading or building the index in the
+	 * background.
+	 */
+	public void start() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_CHANGE);
+		fJob.schedule();
+	}
+
+	/**
+	 * Stops maintaining the index. Changes that are not merged into the index file yet are
+	 * detected by their modification stamps when the index is loaded again.
+	 */
+	public void dispose() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		fJob.cancel();
+		try {
+			fJob.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		synchronized (fLock) {
+			fBase= null;
+			fOverlay.clear();
+			fStale.clear();
+		}
+	}
+
+	/**
+	 * Returns the files which may contain a match of the given pattern. All files are returned if
+	 * the index is not ready yet or no literal can be extracted from the pattern.
+	 *
+	 * @param files the files to search
+	 * @param pattern the search pattern
+	 * @param mustSearch tells whether a file has to be searched regardless of the index, e.g.
+	 *            because it is open in a dirty editor
+	 * @return the files to search, in the original order
+	 */
+	public IFile[] selectCandidates(IFile[] files, Pattern pattern, Predicate<IFile> mustSearch) {
+		int[] keys= computeQueryKeys(pattern);
+		if (keys == null)
+			return files;
+		TrigramIndexFile base;
+		synchronized (fLock) {
+			base= fBase;
+		}
+		if (base == null)
+			return files;
+
+		BitSet matches;
+		try {
+			matches= base.findFiles(keys);
+		} catch (RuntimeException e) {
+			discard(base, e);
+			return files;
+		}
+		List<IFile> candidates= new ArrayList<>();
+		synchronized (fLock) {
+			if (base != fBase)
+				return files;
+			for (IFile file : files) {
+				if (mayMatch(base, matches, keys, file) || mustSearch.test(file))
+					candidates.add(file);
+			}
+		}
+		return candidates.size() == files.length ? files : candidates.toArray(new IFile[candidates.size()]);
+	}
+
+	/**
+	 * Stops using the given base file because it turned out to be corrupt, and schedules
+	 * rebuilding the index. Searches read all files until the new index is ready.
+	 *
+	 * @param base the corrupt base file
+	 * @param e the exception that revealed the corruption
+	 */
+	private void discard(TrigramIndexFile base, RuntimeException e) {
+		synchronized (fLock) {
+			if (fBase != base)
+				return;
+			fBase= null;
+			fRebuild= true;
+		}
+		SearchCorePlugin.log(e);
+		fJob.schedule();
+	}
+
+	private boolean mayMatch(TrigramIndexFile base, BitSet matches, int[] keys, IFile file) {
+		String path= file.getFullPath().toString();
+		if (fStale.contains(path))
+			return true;
+		Entry entry= fOverlay.get(path);
+		if (entry != null) {
+			return entry.fKeys == null || entry.fStamp != file.getModificationStamp() || containsAll(entry.fKeys, keys);
+		}
+		int id= base.getId(path);
+		return id < 0 || base.getStamp(id) != file.getModificationStamp() || matches.get(id);
+	}
+
+	private static boolean containsAll(int[] sortedKeys, int[] keys) {
+		for (int key : keys) {
+			if (Arrays.binarySearch(sortedKeys, key) < 0)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the keys every file containing a match of the given pattern contains.
+	 *
+	 * @param pattern the search pattern
+	 * @return the sorted keys, or <code>null</code> if the index cannot be used for the pattern
+	 */
+	static int[] computeQueryKeys(Pattern pattern) {
+		if (pattern.pattern().isEmpty())
+			return null;
+		String literal= BytePrefilter.findRequiredLiteral(pattern);
+		if (literal == null || literal.length() < MIN_QUERY_LENGTH)
+			return null;
+		if ((pattern.flags() & Pattern.CASE_INSENSITIVE) != 0) {
+			for (int i= 0; i < literal.length(); i++) {
+				// surrogates are not case folded by the index
+				if (Character.isSurrogate(literal.charAt(i)))
+					return null;
+			}
+		}
+		KeyCollector collector= new KeyCollector();
+		addKeys(literal, collector);
+		return collector.drain();
+	}
+
+	private static void addKeys(CharSequence content, KeyCollector collector) {
+		int length= content.length();
+		if (length < 3)
+			return;
+		char first= fold(content.charAt(0));
+		char second= fold(content.charAt(1));
+		for (int i= 2; i < length; i++) {
+			char third= fold(content.charAt(i));
+			collector.add(toKey(first, second, third));
+			first= second;
+			second= third;
+		}
+	}
+
+	/**
+	 * Folds the case like {@link Pattern#UNICODE_CASE} does, which subsumes the ASCII only case
+	 * folding of {@link Pattern#CASE_INSENSITIVE}.
+	 */
+	private static char fold(char ch) {
+		if (ch < 0x80)
+			return ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+		return Character.toLowerCase(Character.toUpperCase(ch));
+	}
+
+	/**
+	 * Returns the key of a trigram. Trigrams of ASCII characters have distinct keys, all others
+	 * are hashed, which can only cause false positives.
+	 */
+	private static int toKey(char first, char second, char third) {
+		if ((first | second | third) < 0x80)
+			return first << 14 | second << 7 | third;
+		return ASCII_KEY_LIMIT | ((first * 31 + second) * 31 + third) & (ASCII_KEY_LIMIT - 1);
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta= event.getDelta();
+		if (delta == null)
+			return;
+		List<String> changed= new ArrayList<>();
+		boolean[] reconcile= { false };
+		try {
+			delta.accept(child -> {
+				IResource resource= child.getResource();
+				if (resource.getType() == IResource.FILE) {
+					if (child.getKind() != IResourceDelta.CHANGED
+							|| (child.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.ENCODING | IResourceDelta.REPLACED)) != 0) {
+						changed.add(resource.getFullPath().toString());
+					}
+					return false;
+				}
+				if (resource.getType() == IResource.PROJECT && (child.getFlags() & IResourceDelta.OPEN) != 0) {
+					// the files of opened projects are not reported individually
+					reconcile[0]= true;
+				}
+				return true;
+			});
+		} catch (CoreException e) {
+			SearchCorePlugin.log(e);
+			return;
+		}
+		if (changed.isEmpty() && !reconcile[0])
+			return;
+		synchronized (fLock) {
+			fStale.addAll(changed);
+			fReconcile|= reconcile[0];
+		}
+		fJob.schedule(UPDATE_DELAY);
+	}
+
+	private void update(IProgressMonitor monitor) throws IOException, CoreException {
+		if (fCollector == null) {
+			fCollector= new KeyCollector();
+			fProvider= new FileCharSequenceProvider();
+		}
+		TrigramIndexFile base;
+		synchronized (fLock) {
+			base= fBase;
+		}
+		if (base == null) {
+			boolean corrupt;
+			synchronized (fLock) {
+				corrupt= fRebuild;
+				fRebuild= false;
+			}
+			if (corrupt || !load()) {
+				rebuild(monitor);
+			}
+		}
+		boolean reconcile;
+		synchronized (fLock) {
+			reconcile= fReconcile;
+			fReconcile= false;
+		}
+		if (reconcile) {
+			reconcile(monitor);
+		}
+		indexStaleFiles(monitor);
+
+		int overlaySize;
+		synchronized (fLock) {
+			overlaySize= fOverlay.size();
+		}
+		if (overlaySize > MAX_OVERLAY_SIZE) {
+			merge(monitor);
+		}
+	}
+
+	/**
+	 * Loads the most recent index file and deletes all others.
+	 *
+	 * @return <code>true</code> if an index was loaded
+	 */
+	private boolean load() {
+		fDirectory.mkdirs();
+		File[] files= fDirectory.listFiles();
+		if (files == null)
+			return false;
+		int newest= -1;
+		for (File file : files) {
+			int generation= getGeneration(file);
+			if (generation > newest)
+				newest= generation;
+		}
+		TrigramIndexFile base= null;
+		if (newest >= 0) {
+			try {
+				base= TrigramIndexFile.open(getIndexFile(newest));
+			} catch (IOException e) {
+				// corrupt or outdated index, rebuild it
+			}
+		}
+		for (File file : files) {
+			if (base == null || getGeneration(file) != newest)
+				file.delete();
+		}
+		if (base == null)
+			return false;
+		synchronized (fLock) {
+			fBase= base;
+			fGeneration= newest;
+			// pick up the changes made while the index was not maintained
+			fReconcile= true;
+		}
+		return true;
+	}
+
+	private static int getGeneration(File file) {
+		String name= file.getName();
+		if (!name.startsWith(INDEX_FILE_PREFIX) || !name.endsWith(INDEX_FILE_SUFFIX))
+			return -1;
+		try {
+			return Integer.parseInt(name.substring(INDEX_FILE_PREFIX.length(), name.length() - INDEX_FILE_SUFFIX.length()));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	private File getIndexFile(int generation) {
+		return new File(fDirectory, INDEX_FILE_PREFIX + generation + INDEX_FILE_SUFFIX);
+	}
+
+	private List<IFile> collectFiles() throws CoreException {
+		List<IFile> files= new ArrayList<>();
+		fRoot.accept(proxy -> {
+			if (proxy.getType() == IResource.FILE) {
+				files.add((IFile) proxy.requestResource());
+				return false;
+			}
+			return true;
+		}, IResource.NONE);
+		return files;
+	}
+
+	/**
+	 * Indexes all files of the workspace. Posting lists are written to temporary runs whenever
+	 * the in-memory segment grows too large, and merged into the index file at the end.
+	 */
+	private void rebuild(IProgressMonitor monitor) throws IOException, CoreException {
+		List<IFile> files= collectFiles();
+		SubMonitor progress= SubMonitor.convert(monitor, files.size() + 1);
+		String[] paths= new String[files.size()];
+		long[] stamps= new long[files.size()];
+		int count= 0;
+		List<File> runs= new ArrayList<>();
+		try {
+			Segment segment= new Segment();
+			for (IFile file : files) {
+				progress.split(1);
+				long stamp= file.getModificationStamp();
+				int[] keys= computeKeys(file);
+				if (keys == null)
+					continue; // not indexed, hence always a candidate
+				paths[count]= file.getFullPath().toString();
+				stamps[count]= stamp;
+				segment.add(count++, keys);
+				if (segment.getPostingCount() > MAX_SEGMENT_POSTINGS) {
+					File run= new File(fDirectory, runs.size() + RUN_FILE_SUFFIX);
+					TrigramIndexFile.write(run, new PostingSource[] { segment }, paths, stamps, 0);
+					runs.add(run);
+					segment= new Segment();
+				}
+			}
+			PostingSource[] sources= new PostingSource[runs.size() + 1];
+			for (int i= 0; i < runs.size(); i++)
+				sources[i]= TrigramIndexFile.open(runs.get(i)).asSource(null);
+			sources[runs.size()]= segment;
+			progress.split(1);
+			install(sources, paths, stamps, count, null, null);
+		} finally {
+			for (File run : runs)
+				run.delete();
+		}
+	}
+
+	/**
+	 * Marks the files whose modification stamps differ from the indexed ones as stale.
+	 */
+	private void reconcile(IProgressMonitor monitor) throws CoreException {
+		List<IFile> files= collectFiles();
+		synchronized (fLock) {
+			if (fBase == null)
+				return;
+			for (IFile file : files) {
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				String path= file.getFullPath().toString();
+				if (fOverlay.containsKey(path))
+					continue;
+				int id= fBase.getId(path);
+				if (id < 0 || fBase.getStamp(id) != file.getModificationStamp())
+					fStale.add(path);
+			}
+		}
+	}
+
+	private void indexStaleFiles(IProgressMonitor monitor) {
+		while (true) {
+			String path;
+			synchronized (fLock) {
+				Iterator<String> iterator= fStale.iterator();
+				if (!iterator.hasNext())
+					return;
+				path= iterator.next();
+				if (monitor.isCanceled())
+					throw new OperationCanceledException();
+				iterator.remove();
+			}
+			// a change after this point marks the file as stale again
+			IFile file= fRoot.getFile(IPath.fromPortableString(path));
+			Entry entry;
+			if (file.exists()) {
+				long stamp= file.getModificationStamp();
+				entry= new Entry(stamp, computeKeys(file));
+			} else {
+				entry= new Entry(IResource.NULL_STAMP, null);
+			}
+			synchronized (fLock) {
+				fOverlay.put(path, entry);
+			}
+		}
+	}
+
+	/**
+	 * Writes a new index file containing the base file and the overlay.
+	 */
+	private void merge(IProgressMonitor monitor) throws IOException {
+		TrigramIndexFile base;
+		Map<String, Entry> overlay;
+		synchronized (fLock) {
+			base= fBase;
+			overlay= new HashMap<>(fOverlay);
+		}
+		int capacity= base.getFileCount() + overlay.size();
+		String[] paths= new String[capacity];
+		long[] stamps= new long[capacity];
+		int[] idMap= new int[base.getFileCount()];
+		int count= 0;
+		for (int id= 0; id < idMap.length; id++) {
+			String path= base.getPath(id);
+			if (overlay.containsKey(path) || !fRoot.getFile(IPath.fromPortableString(path)).exists()) {
+				idMap[id]= -1;
+			} else {
+				idMap[id]= count;
+				paths[count]= path;
+				stamps[count++]= base.getStamp(id);
+			}
+		}
+		if (monitor.isCanceled())
+			throw new OperationCanceledException();
+		Segment segment= new Segment();
+		for (Map.Entry<String, Entry> entry : overlay.entrySet()) {
+			Entry value= entry.getValue();
+			if (value.fKeys != null) {
+				paths[count]= entry.getKey();
+				stamps[count]= value.fStamp;
+				segment.add(count++, value.fKeys);
+			}
+		}
+		try {
+			install(new PostingSource[] { base.asSource(idMap), segment }, paths, stamps, count, base, overlay);
+		} catch (RuntimeException e) {
+			discard(base, e);
+		}
+	}
+
+	/**
+	 * Writes and loads a new index file.
+	 *
+	 * @param expectedBase the base file the new file was derived from, or <code>null</code> if
+	 *            it was built from scratch
+	 * @param mergedOverlay the overlay entries contained in the new file, or <code>null</code>
+	 */
+	private void install(PostingSource[] sources, String[] paths, long[] stamps, int count,
+			TrigramIndexFile expectedBase, Map<String, Entry> mergedOverlay) throws IOException {
+		int generation;
+		synchronized (fLock) {
+			generation= fGeneration + 1;
+		}
+		File file= getIndexFile(generation);
+		TrigramIndexFile index;
+		try {
+			TrigramIndexFile.write(file, sources, paths, stamps, count);
+			index= TrigramIndexFile.open(file);
+		} catch (IOException | RuntimeException e) {
+			file.delete();
+			throw e;
+		}
+		int previous;
+		synchronized (fLock) {
+			if (fBase != expectedBase) {
+				// disposed in the meantime
+				file.delete();
+				return;
+			}
+			previous= fGeneration;
+			fBase= index;
+			fGeneration= generation;
+			if (mergedOverlay != null) {
+				// keep the entries that were updated during the merge
+				fOverlay.entrySet().removeIf(e -> mergedOverlay.get(e.getKey()) == e.getValue());
+			}
+		}
+		// may fail while the old file is still mapped, it is deleted on the next load then
+		getIndexFile(previous).delete();
+	}
+
+	/**
+	 * Computes the keys of the given file.
+	 *
+	 * @return the sorted keys, or <code>null</code> if the file cannot be indexed
+	 */
+	private int[] computeKeys(IFile file) {
+		IPath location= file.getLocation();
+		if (location != null && location.toFile().length() > MAX_FILE_SIZE)
+			return null;
+		try {
+			CharSequence content= fProvider.newCharSequence(file);
+			try {
+				addKeys(content, fCollector);
+			} finally {
+				fProvider.releaseCharSequence(content);
+			}
+			return fCollector.drain();
+		} catch (CoreException | IOException | RuntimeException e) {
+			// e.g. deleted in the meantime or not decodable
+			fCollector.drain();
+			return null;
+		}
+	}
+}
@@ -0,0 +1,444 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.core.text;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A read-only, memory-mapped trigram index file.
+ * <p>
+ * The file starts with a header of six ints: magic, version, number of files, number of keys,
+ * offset of the file table and offset of the key table. The header is followed by the posting
+ * lists, each a sequence of ascending file ids stored as variable-length deltas. The file table
+ * holds the modification stamp (long), the length of the UTF-8 encoded path (int) and the path of
+ * every file. The key table holds the ascending keys (int) followed by the offsets of their
+ * posting lists (int), with one additional offset marking the end of the last list.
+ * </p>
+ */
+final class TrigramIndexFile {
+
+	/**
+	 * A source of posting lists, ordered by key.
+	 */
+	interface PostingSource {
+
+		/**
+		 * @return the number of keys
+		 */
+		int size();
+
+		/**
+		 * @param index the index of the key
+		 * @return the key
+		 */
+		int keyAt(int index);
+
+		/**
+		 * Appends the file ids of the posting list with the given index.
+		 *
+		 * @param index the index of the key
+		 * @param target the list to append to
+		 */
+		void readPostings(int index, IntArray target);
+	}
+
+	/**
+	 * A growable list of ints.
+	 */
+	static final class IntArray {
+		private int[] fValues= new int[16];
+		private int fSize;
+
+		void add(int value) {
+			if (fSize == fValues.length)
+				fValues= Arrays.copyOf(fValues, fSize * 2);
+			fValues[fSize++]= value;
+		}
+
+		int get(int index) {
+			return fValues[index];
+		}
+
+		int size() {
+			return fSize;
+		}
+
+		void clear() {
+			fSize= 0;
+		}
+	}
+
+	private static final int MAGIC= 0x54524749; // "TRGI"
+	private static final int VERSION= 1;
+	private static final int HEADER_SIZE= 6 * Integer.BYTES;
+
+	private final ByteBuffer fBuffer;
+	private final int fKeyCount;
+	private final int fKeysOffset;
+	private final String[] fPaths;
+	private final long[] fStamps;
+	private final Map<String, Integer> fIds;
+
+	private TrigramIndexFile(ByteBuffer buffer) throws IOException {
+		fBuffer= buffer;
+		try {
+			if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+				throw new IOException("Unsupported index format"); //$NON-NLS-1$
+			int fileCount= buffer.getInt(8);
+			fKeyCount= buffer.getInt(12);
+			int fileTableOffset= buffer.getInt(16);
+			fKeysOffset= buffer.getInt(20);
+			if (fileCount < 0 || fKeyCount < 0 || fileTableOffset < HEADER_SIZE || fKeysOffset < fileTableOffset
+					|| fKeysOffset + (2L * fKeyCount + 1) * Integer.BYTES != buffer.limit()
+					// each entry of the file table takes at least a stamp and a path length
+					|| (long) fileCount * (Long.BYTES + Integer.BYTES) > fKeysOffset - fileTableOffset)
+				throw new IOException("Corrupt index header"); //$NON-NLS-1$
+
+			fPaths= new String[fileCount];
+			fStamps= new long[fileCount];
+			fIds= new HashMap<>(fileCount * 2);
+			ByteBuffer table= buffer.duplicate().position(fileTableOffset);
+			byte[] bytes= new byte[256];
+			for (int i= 0; i < fileCount; i++) {
+				fStamps[i]= table.getLong();
+				int length= table.getInt();
+				if (length < 0 || length > fKeysOffset - table.position())
+					throw new IOException("Corrupt file table"); //$NON-NLS-1$
+				if (length > bytes.length)
+					bytes= new byte[length];
+				table.get(bytes, 0, length);
+				fPaths[i]= new String(bytes, 0, length, StandardCharsets.UTF_8);
+				fIds.put(fPaths[i], Integer.valueOf(i));
+			}
+			if (table.position() != fKeysOffset)
+				throw new IOException("Corrupt file table"); //$NON-NLS-1$
+			validateKeyTable(fileTableOffset);
+		} catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException | NegativeArraySizeException e) {
+			throw new IOException("Corrupt index", e); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Checks that the keys are ascending and that the posting lists are consecutive ranges
+	 * between the header and the file table, so that reading a posting list stays within it.
+	 */
+	private void validateKeyTable(int fileTableOffset) throws IOException {
+		int previousOffset= HEADER_SIZE;
+		for (int i= 0; i <= fKeyCount; i++) {
+			if (i > 0 && i < fKeyCount && keyAt(i) <= keyAt(i - 1))
+				throw new IOException("Corrupt key table"); //$NON-NLS-1$
+			int offset= postingsOffset(i);
+			if (offset < previousOffset || offset > fileTableOffset)
+				throw new IOException("Corrupt key table"); //$NON-NLS-1$
+			previousOffset= offset;
+		}
+	}
+
+	/**
+	 * Maps the given index file.
+	 *
+	 * @param file the file
+	 * @return the index
+	 * @throws IOException if the file cannot be read or is not a valid index
+	 */
+	static TrigramIndexFile open(File file) throws IOException {
+		try (FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			long size= channel.size();
+			if (size < HEADER_SIZE || size > Integer.MAX_VALUE)
+				throw new IOException("Invalid index size: " + size); //$NON-NLS-1$
+			MappedByteBuffer buffer= channel.map(MapMode.READ_ONLY, 0, size);
+			return new TrigramIndexFile(buffer);
+		}
+	}
+
+	/**
+	 * @return the number of files in the index
+	 */
+	int getFileCount() {
+		return fPaths.length;
+	}
+
+	/**
+	 * @param id the file id
+	 * @return the full path of the file
+	 */
+	String getPath(int id) {
+		return fPaths[id];
+	}
+
+	/**
+	 * @param id the file id
+	 * @return the modification stamp of the file when it was indexed
+	 */
+	long getStamp(int id) {
+		return fStamps[id];
+	}
+
+	/**
+	 * @param path the full path of a file
+	 * @return the id of the file, or -1 if the file is not indexed
+	 */
+	int getId(String path) {
+		Integer id= fIds.get(path);
+		return id == null ? -1 : id.intValue();
+	}
+
+	/**
+	 * Returns the files that contain all given keys.
+	 *
+	 * @param keys the keys, must not be empty
+	 * @return the ids of the files
+	 * @throws IllegalStateException if a posting list is corrupt
+	 */
+	BitSet findFiles(int[] keys) {
+		int[] indices= new int[keys.length];
+		for (int i= 0; i < keys.length; i++) {
+			indices[i]= findKey(keys[i]);
+			if (indices[i] < 0)
+				return new BitSet();
+		}
+		// start with the shortest list to keep the intermediate result small
+		int shortest= 0;
+		for (int i= 1; i < indices.length; i++) {
+			if (postingsLength(indices[i]) < postingsLength(indices[shortest]))
+				shortest= i;
+		}
+		IntArray ids= new IntArray();
+		readPostings(indices[shortest], ids, null);
+		BitSet result= toBitSet(ids);
+		if (result.length() > fPaths.length)
+			throw corrupt();
+		for (int i= 0; i < indices.length && !result.isEmpty(); i++) {
+			if (i != shortest) {
+				ids.clear();
+				readPostings(indices[i], ids, null);
+				result.and(toBitSet(ids));
+			}
+		}
+		return result;
+	}
+
+	private static BitSet toBitSet(IntArray ids) {
+		BitSet bits= new BitSet();
+		for (int i= 0; i < ids.size(); i++)
+			bits.set(ids.get(i));
+		return bits;
+	}
+
+	private int findKey(int key) {
+		int low= 0;
+		int high= fKeyCount - 1;
+		while (low <= high) {
+			int mid= (low + high) >>> 1;
+			int value= keyAt(mid);
+			if (value < key)
+				low= mid + 1;
+			else if (value > key)
+				high= mid - 1;
+			else
+				return mid;
+		}
+		return -1;
+	}
+
+	private int keyAt(int index) {
+		return fBuffer.getInt(fKeysOffset + index * Integer.BYTES);
+	}
+
+	private int postingsOffset(int index) {
+		return fBuffer.getInt(fKeysOffset + (fKeyCount + index) * Integer.BYTES);
+	}
+
+	private int postingsLength(int index) {
+		return postingsOffset(index + 1) - postingsOffset(index);
+	}
+
+	/**
+	 * Reads a posting list. The offsets of the posting lists are validated when the file is
+	 * opened, their content is validated while it is read.
+	 *
+	 * @throws IllegalStateException if the posting list is corrupt
+	 */
+	private void readPostings(int index, IntArray target, int[] idMap) {
+		int position= postingsOffset(index);
+		int end= postingsOffset(index + 1);
+		int id= 0;
+		while (position < end) {
+			int delta= 0;
+			int shift= 0;
+			byte b;
+			do {
+				if (position == end || shift > 28)
+					throw corrupt();
+				b= fBuffer.get(position++);
+				delta|= (b & 0x7f) << shift;
+				shift+= 7;
+			} while (b < 0);
+			id+= delta;
+			if (delta < 0 || id < 0 || idMap != null && id >= idMap.length)
+				throw corrupt();
+			int mapped= idMap == null ? id : idMap[id];
+			if (mapped >= 0)
+				target.add(mapped);
+		}
+	}
+
+	private static IllegalStateException corrupt() {
+		return new IllegalStateException("Corrupt posting list"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the posting lists of this index with the file ids translated by the given map.
+	 *
+	 * @param idMap the new id of each file, or -1 to drop the file; the map must preserve the
+	 *            order of the ids
+	 * @return the posting source
+	 */
+	PostingSource asSource(int[] idMap) {
+		return new PostingSource() {
+			@Override
+			public int size() {
+				return fKeyCount;
+			}
+
+			@Override
+			public int keyAt(int index) {
+				return TrigramIndexFile.this.keyAt(index);
+			}
+
+			@Override
+			public void readPostings(int index, IntArray target) {
+				TrigramIndexFile.this.readPostings(index, target, idMap);
+			}
+		};
+	}
+
+	/**
+	 * Writes the given posting lists into a new index file. The sources must contain disjoint,
+	 * ascending ranges of file ids, i.e. all ids of a source must be larger than the ids of the
+	 * preceding sources.
+	 *
+	 * @param file the file to write
+	 * @param sources the posting lists
+	 * @param paths the full paths of the files, indexed by id
+	 * @param stamps the modification stamps of the files, indexed by id
+	 * @param fileCount the number of files
+	 * @throws IOException if writing fails or the index would exceed 2GB
+	 */
+	static void write(File file, PostingSource[] sources, String[] paths, long[] stamps, int fileCount) throws IOException {
+		try (FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+			Writer writer= new Writer(channel);
+			int[] positions= new int[sources.length];
+			IntArray postings= new IntArray();
+			while (true) {
+				int key= Integer.MAX_VALUE;
+				boolean found= false;
+				for (int i= 0; i < sources.length; i++) {
+					if (positions[i] < sources[i].size()) {
+						key= Math.min(key, sources[i].keyAt(positions[i]));
+						found= true;
+					}
+				}
+				if (!found)
+					break;
+				postings.clear();
+				for (int i= 0; i < sources.length; i++) {
+					if (positions[i] < sources[i].size() && sources[i].keyAt(positions[i]) == key) {
+						sources[i].readPostings(positions[i], postings);
+						positions[i]++;
+					}
+				}
+				if (postings.size() > 0)
+					writer.addPostings(key, postings);
+			}
+			writer.finish(paths, stamps, fileCount);
+		}
+	}
+
+	private static final class Writer {
+		private final FileChannel fChannel;
+		private final DataOutputStream fOut;
+		private final IntArray fKeys= new IntArray();
+		private final IntArray fOffsets= new IntArray();
+
+		Writer(FileChannel channel) throws IOException {
+			fChannel= channel;
+			fOut= new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+			fOut.write(new byte[HEADER_SIZE]);
+		}
+
+		void addPostings(int key, IntArray ids) throws IOException {
+			fKeys.add(key);
+			fOffsets.add(checkedSize());
+			int previous= 0;
+			for (int i= 0; i < ids.size(); i++) {
+				int delta= ids.get(i) - previous;
+				previous= ids.get(i);
+				while ((delta & ~0x7f) != 0) {
+					fOut.write(delta & 0x7f | 0x80);
+					delta>>>= 7;
+				}
+				fOut.write(delta);
+			}
+		}
+
+		void finish(String[] paths, long[] stamps, int fileCount) throws IOException {
+			fOffsets.add(checkedSize());
+			int fileTableOffset= checkedSize();
+			for (int i= 0; i < fileCount; i++) {
+				byte[] path= paths[i].getBytes(StandardCharsets.UTF_8);
+				fOut.writeLong(stamps[i]);
+				fOut.writeInt(path.length);
+				fOut.write(path);
+			}
+			int keysOffset= checkedSize();
+			for (int i= 0; i < fKeys.size(); i++)
+				fOut.writeInt(fKeys.get(i));
+			for (int i= 0; i < fOffsets.size(); i++)
+				fOut.writeInt(fOffsets.get(i));
+			checkedSize();
+			fOut.flush();
+
+			ByteBuffer header= ByteBuffer.allocate(HEADER_SIZE);
+			header.putInt(MAGIC).putInt(VERSION).putInt(fileCount).putInt(fKeys.size()).putInt(fileTableOffset).putInt(keysOffset);
+			header.flip();
+			while (header.hasRemaining())
+				fChannel.write(header, header.position());
+			fChannel.force(false);
+		}
+
+		private int checkedSize() throws IOException {
+			int size= fOut.size();
+			if (size == Integer.MAX_VALUE)
+				throw new IOException("Index too large"); //$NON-NLS-1$
+			return size;
+		}
+	}
+}
@@ -56,6 +56,7 @@ public class SearchPreferencePage extends FieldEditorPreferencePage implements I
 	public static final String TEXT_SEARCH_ENGINE = TextSearchEngineRegistry.PREFERENCE_ENGINE_KEY;
 	public static final String TEXT_SEARCH_QUERY_PROVIDER = "org.eclipse.search.textSearchQueryProvider"; //$NON-NLS-1$
 	public static final String LIMIT_HISTORY= "org.eclipse.search.limitHistory"; //$NON-NLS-1$
+	public static final String LIMIT_MATCHES_IN_MEMORY= "org.eclipse.search.limitMatchesInMemory"; //$NON-NLS-1$
 
 	private ColorFieldEditor fColorEditor;
 	private BooleanFieldEditor fEmphasizedCheckbox;
@@ -91,6 +92,7 @@ public class SearchPreferencePage extends FieldEditorPreferencePage implements I
 		store.setDefault(TEXT_SEARCH_ENGINE, ""); //default search engine is empty string //$NON-NLS-1$
 		store.setDefault(TEXT_SEARCH_QUERY_PROVIDER, ""); // default query provider is empty string  //$NON-NLS-1$
 		store.setDefault(LIMIT_HISTORY, 10);
+		store.setDefault(LIMIT_MATCHES_IN_MEMORY, 200000);
 	}
 
 
@@ -265,4 +267,15 @@ public class SearchPreferencePage extends FieldEditorPreferencePage implements I
 		return limit;
 	}
 
+	/**
+	 * Returns the number of matches a file search result keeps in memory. Matches of further files
+	 * are kept in a temporary file until they are shown.
+	 *
+	 * @return the limit, or a value smaller than 1 if all matches are kept in memory
+	 */
+	public static int getMatchesInMemoryLimit() {
+		IPreferenceStore store= SearchPlugin.getDefault().getPreferenceStore();
+		return store.getInt(LIMIT_MATCHES_IN_MEMORY);
+	}
+
 }
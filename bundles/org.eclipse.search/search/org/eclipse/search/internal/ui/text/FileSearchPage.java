@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -505,8 +505,11 @@ public class FileSearchPage extends AbstractTextSearchViewPage implements IAdapt
 		int count = 0;
 		for (Object element : elements) {
 			count += getDisplayedMatchCount(element);
-			Object[] children = cp.getChildren(element);
-			count += getMatchCount(cp, children);
+			if (!isSpilled(element)) {
+				// counting does not page in spilled matches
+				Object[] children = cp.getChildren(element);
+				count += getMatchCount(cp, children);
+			}
 		}
 		return count;
 	}
@@ -519,8 +522,18 @@ public class FileSearchPage extends AbstractTextSearchViewPage implements IAdapt
 		return count;
 	}
 
+	private boolean isSpilled(Object element) {
+		return getInput() instanceof FileSearchResult result && result.isSpilled(element);
+	}
+
 	@Override
 	public int getDisplayedMatchCount(Object element) {
+		if (getInput() instanceof FileSearchResult result && result.isSpilled(element)) {
+			if (result.getActiveMatchFilters() == null) {
+				return result.getMatchCount(element);
+			}
+			return result.getUnfilteredSpilledMatchCount(element);
+		}
 		if (showLineMatches()) {
 			if (element instanceof LineElement) {
 				LineElement lineEntry= (LineElement) element;
@@ -554,7 +567,10 @@ public class FileSearchPage extends AbstractTextSearchViewPage implements IAdapt
 		if (showLineMatches()) {
 			for (Match match : matches) {
 				LineElement lineElement = ((FileMatch) match).getLineElement();
-				if (lineElement != null) {
+				if (isSpilled(match.getElement())) {
+					// the lines are only created when the file is expanded
+					changedElements.add(match.getElement());
+				} else if (lineElement != null) {
 					changedElements.add(lineElement);
 				}
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,20 @@
  *******************************************************************************/
 package org.eclipse.search.internal.ui.text;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.LocationKind;
 
 import org.eclipse.core.resources.IFile;
 
@@ -27,20 +39,61 @@ import org.eclipse.ui.IFileEditorInput;
 
 import org.eclipse.search.internal.ui.SearchPlugin;
 import org.eclipse.search.internal.ui.SearchPluginImages;
+import org.eclipse.search.internal.ui.SearchPreferencePage;
 import org.eclipse.search.ui.ISearchQuery;
+import org.eclipse.search.ui.SearchResultEvent;
 import org.eclipse.search.ui.text.AbstractTextSearchResult;
+import org.eclipse.search.ui.text.FilterUpdateEvent;
 import org.eclipse.search.ui.text.IEditorMatchAdapter;
 import org.eclipse.search.ui.text.IFileMatchAdapter;
 import org.eclipse.search.ui.text.Match;
+import org.eclipse.search.ui.text.MatchEvent;
 import org.eclipse.search.ui.text.MatchFilter;
 
+/**
+ * The result of a file search.
+ * <p>
+ * Once the result holds more matches than the
+ * {@link SearchPreferencePage#getMatchesInMemoryLimit() limit}, the matches of further files are
+ * spilled to a {@link SpilledMatchStore}. They are paged in as soon as they are requested, e.g. when
+ * a file is expanded in the Search view. The number of matches of spilled files is available
+ * without paging them in. When paging in exceeds the limit, the matches of the elements that were
+ * paged in least recently are spilled again.
+ * </p>
+ */
 public class FileSearchResult extends AbstractTextSearchResult implements IEditorMatchAdapter, IFileMatchAdapter {
 	private final Match[] EMPTY_ARR= new Match[0];
 
+	private static final class SpilledMatchEvent extends MatchEvent {
+		private static final long serialVersionUID= 1L;
+
+		SpilledMatchEvent(FileSearchResult result, Match[] matches) {
+			super(result);
+			setKind(ADDED);
+			setMatches(matches);
+		}
+	}
+
 	private FileSearchQuery fQuery;
 
+	private final SpilledMatchStore fSpilledMatches= new SpilledMatchStore();
+	private final int fMatchesInMemoryLimit;
+	/** Approximate number of matches in memory, removed matches are not subtracted */
+	private final AtomicInteger fMatchesInMemory= new AtomicInteger();
+	/**
+	 * The thread that only sees the matches in memory and whose match events are not sent, while
+	 * it updates the filter state or pages in matches. Only set holding the lock on this result.
+	 */
+	private volatile Thread fInMemoryOnlyThread;
+	/**
+	 * The elements whose matches were paged in, in the order of their last access. Only modified
+	 * holding the lock on this result.
+	 */
+	private final Map<IFile, Boolean> fPagedIn= Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true));
+
 	public FileSearchResult(FileSearchQuery job) {
 		fQuery= job;
+		fMatchesInMemoryLimit= SearchPreferencePage.getMatchesInMemoryLimit();
 		setActiveMatchFilters(getLastUsedFilters());
 	}
 
@@ -71,8 +124,57 @@ public class FileSearchResult extends AbstractTextSearchResult implements IEdito
 	@Override
 	public synchronized void setActiveMatchFilters(MatchFilter[] filters) {
 		// TODO Auto-generated method stub
-		super.setActiveMatchFilters(filters);
+		fInMemoryOnlyThread= Thread.currentThread();
+		try {
+			super.setActiveMatchFilters(filters);
+		} finally {
+			fInMemoryOnlyThread= null;
+		}
 		setLastUsedFilters(filters);
+		if (!fSpilledMatches.isEmpty()) {
+			updateSpilledFilterState(filters);
+		}
+	}
+
+	/*
+	 * Updates the number of unfiltered matches of the spilled elements without paging them in.
+	 */
+	private void updateSpilledFilterState(MatchFilter[] filters) {
+		List<IFile> changed;
+		try {
+			changed= fSpilledMatches.updateUnfilteredCounts(matches -> getUnfilteredCount(matches, filters));
+		} catch (IOException e) {
+			SearchPlugin.log(e);
+			return;
+		}
+		if (!changed.isEmpty()) {
+			// the page only evaluates the elements of the updated matches
+			Match[] updated= new Match[changed.size()];
+			for (int i= 0; i < updated.length; i++) {
+				updated[i]= new FileMatch(changed.get(i));
+			}
+			fireChange(new FilterUpdateEvent(this, updated, filters));
+		}
+	}
+
+	private static int getUnfilteredCount(Match[] matches, MatchFilter[] filters) {
+		if (filters == null) {
+			return matches.length;
+		}
+		int count= 0;
+		for (Match match : matches) {
+			boolean filtered= false;
+			for (MatchFilter filter : filters) {
+				if (filter.filters(match)) {
+					filtered= true;
+					break;
+				}
+			}
+			if (!filtered) {
+				count++;
+			}
+		}
+		return count;
 	}
 
 	@Override
@@ -123,6 +225,243 @@ public class FileSearchResult extends AbstractTextSearchResult implements IEdito
 		return null;
 	}
 
+	@Override
+	public void addMatch(Match match) {
+		pageIn(match.getElement());
+		fMatchesInMemory.incrementAndGet();
+		super.addMatch(match);
+	}
+
+	@Override
+	public void addMatches(Match[] matches) {
+		IFile file= getSpillableFile(matches);
+		if (file != null && spill(file, matches)) {
+			fireChange(new SpilledMatchEvent(this, matches));
+			return;
+		}
+		if (!fSpilledMatches.isEmpty()) {
+			for (Match match : matches) {
+				pageIn(match.getElement());
+			}
+		}
+		fMatchesInMemory.addAndGet(matches.length);
+		super.addMatches(matches);
+	}
+
+	/*
+	 * Returns the file of the given matches if they may be spilled: they are line matches of a
+	 * single file that is not open in a file buffer, which tracks the positions of matches in memory.
+	 */
+	private IFile getSpillableFile(Match[] matches) {
+		if (fMatchesInMemoryLimit < 1 || matches.length == 0 || !(matches[0] instanceof FileMatch)) {
+			return null;
+		}
+		IFile file= ((FileMatch) matches[0]).getFile();
+		return isSpillable(file, matches) ? file : null;
+	}
+
+	private static boolean isSpillable(IFile file, Match[] matches) {
+		for (Match match : matches) {
+			if (!(match instanceof FileMatch) || ((FileMatch) match).isFileSearch() || !file.equals(match.getElement())) {
+				return false;
+			}
+		}
+		return FileBuffers.getTextFileBufferManager().getTextFileBuffer(file.getFullPath(), LocationKind.IFILE) == null;
+	}
+
+	private boolean spill(IFile file, Match[] matches) {
+		synchronized (this) {
+			if (!fSpilledMatches.contains(file)
+					&& (fMatchesInMemory.get() + matches.length <= fMatchesInMemoryLimit || super.getMatchCount(file) > 0)) {
+				return false;
+			}
+			FileMatch[] fileMatches= new FileMatch[matches.length];
+			System.arraycopy(matches, 0, fileMatches, 0, matches.length);
+			try {
+				fSpilledMatches.add(file, fileMatches, getUnfilteredCount(matches, getActiveMatchFilters()));
+				return true;
+			} catch (IOException e) {
+				SearchPlugin.log(e);
+				return false;
+			}
+		}
+	}
+
+	/*
+	 * Moves the spilled matches of the given element into memory. No events are sent, the matches
+	 * have been reported when they were spilled.
+	 */
+	private void pageIn(Object element) {
+		if (fInMemoryOnlyThread == Thread.currentThread()) {
+			return;
+		}
+		if (!fSpilledMatches.contains(element)) {
+			// record the access for the eviction order
+			fPagedIn.get(element);
+			return;
+		}
+		synchronized (this) {
+			FileMatch[] matches;
+			try {
+				matches= fSpilledMatches.remove((IFile) element);
+			} catch (IOException e) {
+				SearchPlugin.log(e);
+				return;
+			}
+			if (matches != null) {
+				fMatchesInMemory.addAndGet(matches.length);
+				fInMemoryOnlyThread= Thread.currentThread();
+				try {
+					super.addMatches(matches);
+					fPagedIn.put((IFile) element, Boolean.TRUE);
+					spillPagedIn((IFile) element);
+				} finally {
+					fInMemoryOnlyThread= null;
+				}
+			}
+		}
+	}
+
+	/*
+	 * Spills the matches of the least recently accessed paged in elements again, until the matches
+	 * in memory are within the limit or only the given element is left. The caller holds the lock on
+	 * this result and suppresses the match events.
+	 */
+	private void spillPagedIn(IFile pagedIn) {
+		List<IFile> candidates;
+		synchronized (fPagedIn) {
+			candidates= new ArrayList<>(fPagedIn.keySet());
+		}
+		Iterator<IFile> iterator= candidates.iterator();
+		while (fMatchesInMemory.get() > fMatchesInMemoryLimit && iterator.hasNext()) {
+			IFile file= iterator.next();
+			if (file.equals(pagedIn)) {
+				continue;
+			}
+			Match[] matches= super.getMatches(file);
+			if (matches.length > 0 && !isSpillable(file, matches)) {
+				// e.g. opened in an editor, keep it in memory for now
+				continue;
+			}
+			fPagedIn.remove(file);
+			if (matches.length == 0) {
+				continue;
+			}
+			FileMatch[] fileMatches= new FileMatch[matches.length];
+			System.arraycopy(matches, 0, fileMatches, 0, matches.length);
+			try {
+				fSpilledMatches.add(file, fileMatches, getUnfilteredCount(matches, getActiveMatchFilters()));
+			} catch (IOException e) {
+				SearchPlugin.log(e);
+				return;
+			}
+			super.removeMatches(matches);
+			fMatchesInMemory.addAndGet(-matches.length);
+		}
+	}
+
+	@Override
+	protected void fireChange(SearchResultEvent e) {
+		if (fInMemoryOnlyThread != Thread.currentThread() || !(e instanceof MatchEvent)) {
+			super.fireChange(e);
+		}
+	}
+
+	/**
+	 * Tells whether the matches of the given element are spilled and have not been paged in.
+	 *
+	 * @param element the element
+	 * @return <code>true</code> if the matches of the element are spilled
+	 */
+	public boolean isSpilled(Object element) {
+		return fSpilledMatches.contains(element);
+	}
+
+	/**
+	 * Returns the number of matches of a spilled element that are not filtered.
+	 *
+	 * @param element a spilled element
+	 * @return the number of unfiltered matches
+	 * @see #isSpilled(Object)
+	 */
+	public int getUnfilteredSpilledMatchCount(Object element) {
+		return fSpilledMatches.getUnfilteredMatchCount(element);
+	}
+
+	/**
+	 * Returns the number of lines with matches of a spilled element.
+	 *
+	 * @param element a spilled element
+	 * @return the number of lines
+	 * @see #isSpilled(Object)
+	 */
+	public int getSpilledLineCount(Object element) {
+		return fSpilledMatches.getLineCount(element);
+	}
+
+	/**
+	 * Deletes the spilled matches when the result is no longer needed.
+	 */
+	void disposeSpilledMatches() {
+		fSpilledMatches.clear();
+	}
+
+	@Override
+	public Match[] getMatches(Object element) {
+		pageIn(element);
+		return super.getMatches(element);
+	}
+
+	@Override
+	public Enumeration<Match> getMatchSet(Object element) {
+		pageIn(element);
+		return super.getMatchSet(element);
+	}
+
+	@Override
+	public int getMatchCount() {
+		return super.getMatchCount() + fSpilledMatches.getMatchCount();
+	}
+
+	@Override
+	public int getMatchCount(Object element) {
+		if (fSpilledMatches.contains(element)) {
+			return fSpilledMatches.getMatchCount(element);
+		}
+		return super.getMatchCount(element);
+	}
+
+	@Override
+	public boolean hasMatches() {
+		return super.hasMatches() || !fSpilledMatches.isEmpty();
+	}
+
+	@Override
+	public Object[] getElements() {
+		Object[] elements= super.getElements();
+		if (fInMemoryOnlyThread == Thread.currentThread() || fSpilledMatches.isEmpty()) {
+			return elements;
+		}
+		IFile[] spilled= fSpilledMatches.getElements();
+		Object[] all= new Object[elements.length + spilled.length];
+		System.arraycopy(elements, 0, all, 0, elements.length);
+		System.arraycopy(spilled, 0, all, elements.length, spilled.length);
+		return all;
+	}
+
+	@Override
+	public int getElementsCount() {
+		return super.getElementsCount() + fSpilledMatches.getElementCount();
+	}
+
+	@Override
+	public void removeAll() {
+		fSpilledMatches.clear();
+		fPagedIn.clear();
+		fMatchesInMemory.set(0);
+		super.removeAll();
+	}
+
 	@Override
 	public Match[] computeContainedMatches(AbstractTextSearchResult result, IFile file) {
 		return getMatches(file);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -86,7 +86,7 @@ public class FileTreeContentProvider implements ITreeContentProvider, IFileSearc
 		if (result != null) {
 			Object[] elements= result.getElements();
 			for (Object element : elements) {
-				if (showLineMatches) {
+				if (showLineMatches && !isSpilled(element)) {
 					Match[] matches= result.getMatches(element);
 					for (Match match : matches) {
 						if (!match.isFiltered()) {
@@ -203,8 +203,27 @@ public class FileTreeContentProvider implements ITreeContentProvider, IFileSearc
 		}
 	}
 
+	private boolean isSpilled(Object element) {
+		return fResult instanceof FileSearchResult result && result.isSpilled(element);
+	}
+
+	/*
+	 * Pages in the matches of a spilled file and inserts its lines.
+	 */
+	private void insertSpilledLines(Object element) {
+		Match[] matches= fResult.getMatches(element);
+		for (Match match : matches) {
+			if (!match.isFiltered()) {
+				insert(((FileMatch) match).getLineElement(), false);
+			}
+		}
+	}
+
 	@Override
 	public Object[] getChildren(Object parentElement) {
+		if (isSpilled(parentElement)) {
+			insertSpilledLines(parentElement);
+		}
 		Set<Object> children= fChildrenMap.get(parentElement);
 		if (children == null)
 			return EMPTY_ARR;
@@ -227,6 +246,11 @@ public class FileTreeContentProvider implements ITreeContentProvider, IFileSearc
 		}
 		int count = 0;
 		for (Object object : children) {
+			if (isSpilled(object)) {
+				// counting does not page in spilled matches
+				count += ((FileSearchResult) fResult).getSpilledLineCount(object);
+				continue;
+			}
 			boolean leaf = !hasChildren(object);
 			if (leaf) {
 				count++;
@@ -239,6 +263,9 @@ public class FileTreeContentProvider implements ITreeContentProvider, IFileSearc
 
 	@Override
 	public boolean hasChildren(Object element) {
+		if (isSpilled(element)) {
+			return true;
+		}
 		Set<Object> children = fChildrenMap.get(element);
 		if (children == null) {
 			return false;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2008 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -78,6 +78,9 @@ public class SearchResultUpdater implements IResourceChangeListener, IQueryListe
 		if (fResult.equals(query.getSearchResult())) {
 			ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
 			NewSearchUI.removeQueryListener(this);
+			if (fResult instanceof FileSearchResult) {
+				((FileSearchResult) fResult).disposeSpilledMatches();
+			}
 		}
 	}
 
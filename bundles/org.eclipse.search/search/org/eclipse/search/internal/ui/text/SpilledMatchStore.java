@@ -0,0 +1,246 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.internal.ui.text;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import org.eclipse.core.resources.IFile;
+
+/**
+ * Keeps the matches of files in a temporary file instead of the heap. Only the number of matches
+ * and lines of each file are kept in memory.
+ * <p>
+ * The matches of a file are stored as one or more blocks. A block lists the lines of the matches,
+ * each with its line number, offset, contents and the offsets and lengths of its matches. The
+ * space of removed blocks is reclaimed when the store becomes empty.
+ * </p>
+ */
+final class SpilledMatchStore {
+
+	private static final class Entry {
+		long[] fPositions= new long[1];
+		int[] fSizes= new int[1];
+		int fBlockCount;
+		int fMatchCount;
+		int fLineCount;
+		int fUnfilteredCount;
+
+		void addBlock(long position, int size) {
+			if (fBlockCount == fPositions.length) {
+				fPositions= Arrays.copyOf(fPositions, fBlockCount * 2);
+				fSizes= Arrays.copyOf(fSizes, fBlockCount * 2);
+			}
+			fPositions[fBlockCount]= position;
+			fSizes[fBlockCount]= size;
+			fBlockCount++;
+		}
+	}
+
+	private final Map<IFile, Entry> fEntries= new HashMap<>();
+	private FileChannel fChannel;
+	private long fSize;
+	private int fMatchCount;
+
+	/**
+	 * Stores the given matches.
+	 *
+	 * @param file the file of the matches
+	 * @param matches the matches, all reported against <code>file</code> and with a line element
+	 * @param unfilteredCount the number of matches that are not filtered
+	 * @throws IOException if the matches could not be written
+	 */
+	synchronized void add(IFile file, FileMatch[] matches, int unfilteredCount) throws IOException {
+		Map<LineElement, List<FileMatch>> lines= new LinkedHashMap<>();
+		for (FileMatch match : matches) {
+			lines.computeIfAbsent(match.getLineElement(), l -> new ArrayList<>()).add(match);
+		}
+		ByteArrayOutputStream bytes= new ByteArrayOutputStream();
+		DataOutputStream out= new DataOutputStream(bytes);
+		out.writeInt(lines.size());
+		for (Map.Entry<LineElement, List<FileMatch>> line : lines.entrySet()) {
+			LineElement lineElement= line.getKey();
+			byte[] contents= lineElement.getContents().getBytes(StandardCharsets.UTF_8);
+			out.writeInt(lineElement.getLine());
+			out.writeInt(lineElement.getOffset());
+			out.writeInt(contents.length);
+			out.write(contents);
+			out.writeInt(line.getValue().size());
+			for (FileMatch match : line.getValue()) {
+				out.writeInt(match.getOffset());
+				out.writeInt(match.getLength());
+			}
+		}
+		out.flush();
+
+		if (fChannel == null) {
+			fChannel= FileChannel.open(Files.createTempFile("search", ".matches"), //$NON-NLS-1$ //$NON-NLS-2$
+					StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE);
+			fSize= 0;
+		}
+		ByteBuffer buffer= ByteBuffer.wrap(bytes.toByteArray());
+		long position= fSize;
+		while (buffer.hasRemaining()) {
+			fChannel.write(buffer, position + buffer.position());
+		}
+		fSize+= buffer.limit();
+
+		Entry entry= fEntries.computeIfAbsent(file, f -> new Entry());
+		entry.addBlock(position, buffer.limit());
+		entry.fMatchCount+= matches.length;
+		entry.fLineCount+= lines.size();
+		entry.fUnfilteredCount+= unfilteredCount;
+		fMatchCount+= matches.length;
+	}
+
+	/**
+	 * Removes the matches of the given file from the store.
+	 *
+	 * @param file the file
+	 * @return the matches of the file, or <code>null</code> if the file has no stored matches
+	 * @throws IOException if the matches could not be read. They are removed nevertheless.
+	 */
+	synchronized FileMatch[] remove(IFile file) throws IOException {
+		Entry entry= fEntries.remove(file);
+		if (entry == null) {
+			return null;
+		}
+		fMatchCount-= entry.fMatchCount;
+		try {
+			return read(file, entry);
+		} finally {
+			if (fEntries.isEmpty()) {
+				clear();
+			}
+		}
+	}
+
+	/**
+	 * Recomputes the number of unfiltered matches of all files.
+	 *
+	 * @param counter computes the number of unfiltered matches of the matches of a file
+	 * @return the files whose number of unfiltered matches changed
+	 * @throws IOException if the matches could not be read
+	 */
+	synchronized List<IFile> updateUnfilteredCounts(ToIntFunction<FileMatch[]> counter) throws IOException {
+		List<IFile> changed= new ArrayList<>();
+		for (Map.Entry<IFile, Entry> each : fEntries.entrySet()) {
+			Entry entry= each.getValue();
+			int unfilteredCount= counter.applyAsInt(read(each.getKey(), entry));
+			if (unfilteredCount != entry.fUnfilteredCount) {
+				entry.fUnfilteredCount= unfilteredCount;
+				changed.add(each.getKey());
+			}
+		}
+		return changed;
+	}
+
+	private FileMatch[] read(IFile file, Entry entry) throws IOException {
+		Map<Integer, LineElement> lineElements= new HashMap<>();
+		FileMatch[] matches= new FileMatch[entry.fMatchCount];
+		int count= 0;
+		for (int i= 0; i < entry.fBlockCount; i++) {
+			ByteBuffer buffer= ByteBuffer.allocate(entry.fSizes[i]);
+			long position= entry.fPositions[i];
+			while (buffer.hasRemaining()) {
+				if (fChannel.read(buffer, position + buffer.position()) < 0) {
+					throw new IOException("Unexpected end of file"); //$NON-NLS-1$
+				}
+			}
+			DataInputStream in= new DataInputStream(new ByteArrayInputStream(buffer.array()));
+			int lineCount= in.readInt();
+			for (int j= 0; j < lineCount; j++) {
+				int lineNumber= in.readInt();
+				int lineOffset= in.readInt();
+				byte[] contents= new byte[in.readInt()];
+				in.readFully(contents);
+				LineElement lineElement= lineElements.computeIfAbsent(Integer.valueOf(lineNumber),
+						n -> new LineElement(file, lineNumber, lineOffset, new String(contents, StandardCharsets.UTF_8)));
+				int matchCount= in.readInt();
+				for (int k= 0; k < matchCount; k++) {
+					int offset= in.readInt();
+					int length= in.readInt();
+					matches[count++]= new FileMatch(file, offset, length, lineElement);
+				}
+			}
+		}
+		return matches;
+	}
+
+	synchronized boolean contains(Object element) {
+		return fEntries.containsKey(element);
+	}
+
+	synchronized boolean isEmpty() {
+		return fEntries.isEmpty();
+	}
+
+	synchronized int getMatchCount() {
+		return fMatchCount;
+	}
+
+	synchronized int getMatchCount(Object element) {
+		Entry entry= fEntries.get(element);
+		return entry != null ? entry.fMatchCount : 0;
+	}
+
+	synchronized int getUnfilteredMatchCount(Object element) {
+		Entry entry= fEntries.get(element);
+		return entry != null ? entry.fUnfilteredCount : 0;
+	}
+
+	synchronized int getLineCount(Object element) {
+		Entry entry= fEntries.get(element);
+		return entry != null ? entry.fLineCount : 0;
+	}
+
+	synchronized int getElementCount() {
+		return fEntries.size();
+	}
+
+	synchronized IFile[] getElements() {
+		return fEntries.keySet().toArray(new IFile[fEntries.size()]);
+	}
+
+	/**
+	 * Removes all matches and deletes the temporary file.
+	 */
+	synchronized void clear() {
+		fEntries.clear();
+		fMatchCount= 0;
+		if (fChannel != null) {
+			try {
+				fChannel.close();
+			} catch (IOException e) {
+				// ignore, the file is gone with the channel
+			}
+			fChannel= null;
+		}
+	}
+}
@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.internal.core;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.text.quicksearch.internal.ui.QuickSearchActivator;
+
+/**
+ * A memory-budgeted cache of the contents of recently searched files, split into lines. The least
+ * recently used files are evicted first. Entries are invalidated by resource deltas and checked
+ * against the modification stamp of the file, so unchanged files are not read again when the
+ * query changes or the dialog is reopened.
+ * <p>
+ * The cache also counts structural changes of the workspace, which allows the
+ * {@link ResourceWalker} to reuse the list of files it found in a previous walk.
+ */
+public class LineTableCache implements IResourceChangeListener {
+
+	/**
+	 * The contents of a file split into lines, as {@link org.eclipse.text.quicksearch.internal.util.LineReader}
+	 * would split them.
+	 */
+	public static final class LineTable {
+		private final long modificationStamp;
+		private final String text;
+		/** Start and end offset (excluding the line delimiter) of every line */
+		private final int[] bounds;
+		private final int lineCount;
+
+		private LineTable(long modificationStamp, String text, int[] bounds, int lineCount) {
+			this.modificationStamp = modificationStamp;
+			this.text = text;
+			this.bounds = bounds;
+			this.lineCount = lineCount;
+		}
+
+		public static LineTable create(long modificationStamp, String text) {
+			int[] bounds = new int[2 * (text.length() / 40 + 1)];
+			int lineCount = 0;
+			int start = 0;
+			int length = text.length();
+			while (start < length) {
+				int end = start;
+				char c = 0;
+				while (end < length && (c = text.charAt(end)) != '\r' && c != '\n') {
+					end++;
+				}
+				if (2 * lineCount + 2 > bounds.length) {
+					bounds = Arrays.copyOf(bounds, bounds.length * 2);
+				}
+				bounds[2 * lineCount] = start;
+				bounds[2 * lineCount + 1] = end;
+				lineCount++;
+				start = end + 1;
+				if (c == '\r' && start < length && text.charAt(start) == '\n') {
+					start++;
+				}
+			}
+			return new LineTable(modificationStamp, text, Arrays.copyOf(bounds, 2 * lineCount), lineCount);
+		}
+
+		public long getModificationStamp() {
+			return modificationStamp;
+		}
+
+		/**
+		 * @return the text of the file, the lines are regions of it
+		 */
+		public String getText() {
+			return text;
+		}
+
+		public int getLineCount() {
+			return lineCount;
+		}
+
+		/**
+		 * @param index the zero-based line index
+		 * @return the offset of the first character of the line
+		 */
+		public int getLineStart(int index) {
+			return bounds[2 * index];
+		}
+
+		/**
+		 * @param index the zero-based line index
+		 * @return the offset after the last character of the line, excluding the line delimiter
+		 */
+		public int getLineEnd(int index) {
+			return bounds[2 * index + 1];
+		}
+
+		public String getLine(int index) {
+			return text.substring(getLineStart(index), getLineEnd(index));
+		}
+
+		long getSize() {
+			return 64 + 2L * text.length() + 4L * bounds.length;
+		}
+	}
+
+	private static LineTableCache instance;
+
+	private final long budget;
+	private long size;
+	private final LinkedHashMap<IFile, LineTable> tables = new LinkedHashMap<>(256, 0.75f, true);
+	private volatile int structureStamp;
+	private volatile int changeStamp;
+
+	LineTableCache(long budget) {
+		this.budget = budget;
+	}
+
+	/**
+	 * @return the shared cache, which is listening to workspace changes until {@link #dispose()} is called
+	 */
+	public static synchronized LineTableCache getDefault() {
+		if (instance == null) {
+			instance = new LineTableCache(Math.min(Runtime.getRuntime().maxMemory() / 16, 256L << 20));
+			ResourcesPlugin.getWorkspace().addResourceChangeListener(instance, IResourceChangeEvent.POST_CHANGE);
+		}
+		return instance;
+	}
+
+	/**
+	 * Stops listening to workspace changes and drops the shared cache.
+	 */
+	public static synchronized void dispose() {
+		if (instance != null) {
+			ResourcesPlugin.getWorkspace().removeResourceChangeListener(instance);
+			instance.clear();
+			instance = null;
+		}
+	}
+
+	/**
+	 * Returns the cached lines of the given file.
+	 *
+	 * @param file the file
+	 * @return the lines, or <code>null</code> if the file is not cached or has been modified
+	 */
+	public synchronized LineTable get(IFile file) {
+		LineTable table = tables.get(file);
+		if (table != null && table.getModificationStamp() != file.getModificationStamp()) {
+			remove(file);
+			return null;
+		}
+		return table;
+	}
+
+	/**
+	 * Caches the lines of a file, evicting the least recently used files if the budget is exceeded.
+	 * Tables larger than a quarter of the budget are not cached.
+	 *
+	 * @param file the file
+	 * @param table the lines of the file
+	 */
+	public synchronized void put(IFile file, LineTable table) {
+		if (table.getSize() > budget / 4) {
+			return;
+		}
+		LineTable old = tables.put(file, table);
+		if (old != null) {
+			size -= old.getSize();
+		}
+		size += table.getSize();
+		Iterator<LineTable> eldest = tables.values().iterator();
+		while (size > budget && eldest.hasNext()) {
+			size -= eldest.next().getSize();
+			eldest.remove();
+		}
+	}
+
+	private synchronized void remove(IFile file) {
+		LineTable old = tables.remove(file);
+		if (old != null) {
+			size -= old.getSize();
+		}
+	}
+
+	synchronized void clear() {
+		tables.clear();
+		size = 0;
+	}
+
+	synchronized int size() {
+		return tables.size();
+	}
+
+	/**
+	 * @return a counter that changes whenever resources are added, removed, opened or closed
+	 */
+	public int getStructureStamp() {
+		return structureStamp;
+	}
+
+	/**
+	 * @return a counter that changes whenever resources are added, removed, opened or closed, or
+	 *         the contents of files change
+	 */
+	public int getChangeStamp() {
+		return changeStamp;
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		IResourceDelta delta = event.getDelta();
+		if (delta == null) {
+			return;
+		}
+		try {
+			delta.accept(d -> {
+				int kind = d.getKind();
+				if (kind == IResourceDelta.ADDED || kind == IResourceDelta.REMOVED
+						|| (d.getFlags() & IResourceDelta.OPEN) != 0) {
+					structureStamp++;
+					changeStamp++;
+				}
+				IResource resource = d.getResource();
+				if (resource instanceof IFile file && (kind == IResourceDelta.REMOVED
+						|| (d.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.ENCODING | IResourceDelta.REPLACED)) != 0)) {
+					remove(file);
+					changeStamp++;
+				}
+				return true;
+			});
+		} catch (CoreException e) {
+			QuickSearchActivator.log(e);
+			clear();
+			structureStamp++;
+			changeStamp++;
+		}
+	}
+}
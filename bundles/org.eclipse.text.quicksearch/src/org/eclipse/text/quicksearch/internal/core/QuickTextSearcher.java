@@ -14,9 +14,11 @@ package org.eclipse.text.quicksearch.internal.core;
 
 import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.StringReader;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BooleanSupplier;
@@ -32,6 +34,8 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.text.quicksearch.internal.core.LineTableCache.LineTable;
+import org.eclipse.text.quicksearch.internal.core.ResourceWalker.PendingWork;
 import org.eclipse.text.quicksearch.internal.core.pathmatch.ResourceMatcher;
 import org.eclipse.text.quicksearch.internal.core.pathmatch.ResourceMatchers;
 import org.eclipse.text.quicksearch.internal.core.priority.PriorityFunction;
@@ -58,6 +62,21 @@ public class QuickTextSearcher {
 	private final SearchInFilesWalker walker;
 	private IncrementalUpdateJob incrementalUpdate;
 
+	private static final int MAX_SNAPSHOTS = 8;
+
+	/**
+	 * The state of the search before it was narrowed down by a more specific query.
+	 */
+	private static record Snapshot(QuickTextQuery query, List<LineItem> matches, PendingWork pendingWork, int changeStamp) {
+	}
+
+	/**
+	 * The most recent states of the search, newest first. When the query is broadened again, e.g.
+	 * by pressing backspace, the search continues from the snapshot of the broader query instead
+	 * of searching all files again. Only accessed by the {@link IncrementalUpdateJob}.
+	 */
+	private final Deque<Snapshot> snapshots = new ArrayDeque<>();
+
 	/**
 	 * This field gets set to request a query change. The new query isn't stuffed directly
 	 * into the query field because the query is responded to by the updater job which needs
@@ -160,6 +179,19 @@ public class QuickTextSearcher {
 			if (canceled.getAsBoolean()) {
 				return false;
 			}
+			LineTableCache cache = LineTableCache.getDefault();
+			LineTable table = cache.get(f);
+			if (table == null) {
+				long stamp = f.getModificationStamp();
+				String shortString = toShortString(f);
+				if (shortString != null) {
+					table = LineTable.create(stamp, shortString);
+					cache.put(f, table);
+				}
+			}
+			if (table != null) {
+				return search(f, table, canceled, maxLineLength, pattern, add);
+			}
 			try (LineReader lr = new LineReader(getReader(f),
 					maxLineLength)) {
 				String line;
@@ -184,13 +216,38 @@ public class QuickTextSearcher {
 			return true;
 		}
 
-		private static Reader getReader(IFile f) throws UnsupportedEncodingException, CoreException {
-			String shortString = toShortString(f);
-			if (shortString != null) {
-				return new StringReader(shortString);
-			} else {
-				return new InputStreamReader(f.getContents(true), f.getCharset());
+		/**
+		 * Searches the cached lines of a file. Each line is matched as a region of the whole
+		 * text, so only matching lines are copied.
+		 */
+		private static boolean search(IFile f, LineTable table, BooleanSupplier canceled,
+				int maxLineLength, Pattern pattern, Consumer<LineItem> add) {
+			Matcher matcher = pattern.matcher(table.getText());
+			for (int i = 0; i < table.getLineCount(); i++) {
+				int start = table.getLineStart(i);
+				int end = table.getLineEnd(i);
+				if (end - start >= maxLineLength) {
+					// Very long lines of text, the LineReader stops reading the file here as well
+					break;
+				}
+				if (canceled.getAsBoolean()) {
+					return false;
+				}
+				matcher.region(start, end);
+				if (matcher.find()) {
+					add.accept(new LineItem(f, table.getLine(i), i + 1, start));
+				}
 			}
+			return true;
+		}
+
+		private static Reader getReader(IFile f) throws UnsupportedEncodingException, CoreException {
+			return new InputStreamReader(f.getContents(true), f.getCharset());
+		}
+
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == QuickTextSearcher.this;
 		}
 
 		@Override
@@ -238,17 +295,26 @@ public class QuickTextSearcher {
 			// there's a 'newQuery' set by the user/client.
 		}
 
+		@Override
+		public boolean belongsTo(Object family) {
+			return family == QuickTextSearcher.this;
+		}
+
 		@Override
 		protected IStatus run(IProgressMonitor monitor) {
 			QuickTextQuery nq = newQuery; //Copy into local variable to avoid
 										  // problems if another thread changes newQuery while we
 										  // are still mucking with it.
 			if (!forceRefresh && query.isSubFilter(nq)) {
+				pushSnapshot();
 				query = nq;
 				performIncrementalUpdate(monitor);
+			} else if (!forceRefresh && !monitor.isCanceled() && restoreSnapshot(nq, monitor)) {
+				query = nq;
 			} else {
 				query = nq;
 				forceRefresh = false;
+				snapshots.clear();
 				if (!monitor.isCanceled()) { // avoid restart if dialog got closed
 					performRestart();
 				}
@@ -256,18 +322,71 @@ public class QuickTextSearcher {
 			return monitor.isCanceled() ? Status.CANCEL_STATUS : Status.OK_STATUS;
 		}
 
+		private void pushSnapshot() {
+			snapshots.addFirst(new Snapshot(query, List.copyOf(matches), walker.getPendingWork(),
+					LineTableCache.getDefault().getChangeStamp()));
+			if (snapshots.size() > MAX_SNAPSHOTS) {
+				snapshots.removeLast();
+			}
+		}
+
+		/**
+		 * Continues the search for a broadened query from the newest snapshot whose query is at least
+		 * as broad. Only the files that had not been searched when the snapshot was taken are searched
+		 * again, the other matches are taken from the snapshot.
+		 *
+		 * @return <code>false</code> if no usable snapshot exists and the search must be restarted
+		 */
+		private boolean restoreSnapshot(QuickTextQuery nq, IProgressMonitor mon) {
+			Snapshot snapshot;
+			do {
+				snapshot = snapshots.pollFirst();
+			} while (snapshot != null && !snapshot.query().equalsFilter(nq) && !snapshot.query().isSubFilter(nq));
+			if (snapshot == null || snapshot.changeStamp() != LineTableCache.getDefault().getChangeStamp()) {
+				return false;
+			}
+			walker.cancel();
+			if (!walker.setPendingWork(snapshot.pendingWork())) {
+				return false;
+			}
+			if (!snapshot.query().equalsFilter(nq)) {
+				// still broader than the new query, so it can serve the next backspace as well
+				snapshots.addFirst(snapshot);
+			}
+			matches.clear();
+			requestor.clear();
+			// not interrupted when canceled, the next update relies on complete matches
+			Pattern pattern = nq.pattern;
+			snapshot.matches().parallelStream() //
+					.filter(item -> pattern.matcher(item.getText()).find()) //
+					.forEach(item -> {
+						if (matches.add(item)) {
+							requestor.add(item);
+						}
+					});
+			if (!mon.isCanceled()) {
+				walker.resume();
+			}
+			return true;
+		}
+
 		private void performIncrementalUpdate(IProgressMonitor mon) {
+			// Matching the lines is the expensive part, do that in parallel. The requestor
+			// is notified in the order of the matches.
+			Pattern pattern = query.pattern;
+			Set<LineItem> revoked = ConcurrentHashMap.newKeySet();
+			matches.parallelStream() //
+					.filter(item -> !mon.isCanceled() && !pattern.matcher(item.getText()).find()) //
+					.forEach(revoked::add);
 			Iterator<LineItem> items = matches.iterator();
 			while (items.hasNext() && !mon.isCanceled()) {
-
 				LineItem item = items.next();
-				Matcher matcher = query.pattern.matcher(item.getText());
-				if (matcher.find()) {
-					//Match still valid but may need updating highlighted text in the UI:
-					requestor.update(item);
-				} else {
+				if (revoked.contains(item)) {
 					items.remove();
 					requestor.revoke(item);
+				} else {
+					//Match still valid but may need updating highlighted text in the UI:
+					requestor.update(item);
 				}
 			}
 			if (!mon.isCanceled()) {
@@ -314,6 +433,7 @@ public class QuickTextSearcher {
 			return;
 		}
 		this.pathMatcher = pathMatcher;
+		walker.invalidate(); // the path matcher is part of the priority function
 		setQuery(query, true);
 	}
 
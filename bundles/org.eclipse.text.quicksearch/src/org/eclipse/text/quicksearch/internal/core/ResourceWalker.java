@@ -12,13 +12,19 @@
  *******************************************************************************/
 package org.eclipse.text.quicksearch.internal.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.PriorityQueue;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 
 import org.eclipse.core.resources.IContainer;
@@ -53,6 +59,31 @@ public abstract class ResourceWalker extends Job {
 		}
 	}
 
+	private static final int WORKERS = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+
+	/**
+	 * Threads shared by all walkers, so resuming a walker on every keystroke does not create new threads.
+	 */
+	private static final ExecutorService EXECUTOR;
+	static {
+		AtomicInteger count = new AtomicInteger();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(WORKERS, WORKERS, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+			Thread thread = new Thread(r, "Quick Search Worker #" + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		EXECUTOR = executor;
+	}
+
+	/**
+	 * The files found by the last walk of the workspace and the structure stamp of the
+	 * {@link LineTableCache} at that time. Restarting the walker reuses them until
+	 * resources are added or removed, or {@link #invalidate()} is called.
+	 */
+	private List<QItem> walkedFiles;
+	private int walkedStructureStamp;
+
 	public ResourceWalker() {
 		super(Messages.QuickSearchDialog_title);
 		init();
@@ -60,7 +91,63 @@ public abstract class ResourceWalker extends Job {
 
 	protected void init() {
 		filesToSearch.clear();
-		addRecursive(filesToSearch, new QItem(0, ResourcesPlugin.getWorkspace().getRoot()));
+		int structureStamp = LineTableCache.getDefault().getStructureStamp();
+		if (walkedFiles == null || walkedStructureStamp != structureStamp) {
+			List<QItem> files = new ArrayList<>();
+			addRecursive(files, new QItem(0, ResourcesPlugin.getWorkspace().getRoot()));
+			walkedFiles = files;
+			walkedStructureStamp = structureStamp;
+		}
+		filesToSearch.addAll(walkedFiles);
+	}
+
+	/**
+	 * Forgets the files found by the last walk, e.g. because the priority function now yields
+	 * different results. The next {@link #init()} walks the workspace again.
+	 */
+	protected void invalidate() {
+		walkedFiles = null;
+	}
+
+	/**
+	 * The files a walker still has to search at some point in time.
+	 *
+	 * @see ResourceWalker#getPendingWork()
+	 * @see ResourceWalker#setPendingWork(PendingWork)
+	 */
+	static final class PendingWork {
+		private final QItem[] items;
+		private final List<QItem> walk;
+
+		private PendingWork(QItem[] items, List<QItem> walk) {
+			this.items = items;
+			this.walk = walk;
+		}
+	}
+
+	/**
+	 * Captures the files that have not been searched yet. Must only be called while the walker
+	 * is not running.
+	 */
+	PendingWork getPendingWork() {
+		return new PendingWork(filesToSearch.toArray(new QItem[0]), walkedFiles);
+	}
+
+	/**
+	 * Replaces the files that have not been searched yet with previously captured ones. Must only
+	 * be called while the walker is not running.
+	 *
+	 * @return <code>false</code> if the work belongs to an outdated walk of the workspace, in which
+	 *         case the walker is left unchanged
+	 */
+	boolean setPendingWork(PendingWork work) {
+		if (work.walk == null || work.walk != walkedFiles
+				|| walkedStructureStamp != LineTableCache.getDefault().getStructureStamp()) {
+			return false;
+		}
+		filesToSearch.clear();
+		filesToSearch.addAll(Arrays.asList(work.items));
+		return true;
 	}
 
 	private void addRecursive(Collection<QItem> queue, QItem item) {
@@ -138,34 +225,35 @@ public abstract class ResourceWalker extends Job {
 
 	@Override
 	public IStatus run(IProgressMonitor monitor) {
-		int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
-		ExecutorService executorService = Executors.newFixedThreadPool(workers);
 		// copy the filesToSearch, to only remove a file after search completed
-		PriorityQueue<QItem> queue = new PriorityQueue<>();
+		PriorityBlockingQueue<QItem> queue = new PriorityBlockingQueue<>(Math.max(1, filesToSearch.size()));
 		queue.addAll(filesToSearch);
-		for (int worker = 0; worker < workers; worker++) {
-			executorService.submit(() -> {
-				QItem item;
-				while ((item = queue.poll()) != null) {
-					if (monitor.isCanceled() || suspend) {
-						break;
-					} else {
-						IResource r = item.resource;
-						IFile f = (IFile) r;
-						boolean searched = searchIn(f, () -> monitor.isCanceled() || suspend);
-						if (searched) {
-							filesToSearch.remove(item);
+		CountDownLatch done = new CountDownLatch(WORKERS);
+		for (int worker = 0; worker < WORKERS; worker++) {
+			EXECUTOR.execute(() -> {
+				try {
+					QItem item;
+					while ((item = queue.poll()) != null) {
+						if (monitor.isCanceled() || suspend) {
+							break;
+						} else {
+							IResource r = item.resource;
+							IFile f = (IFile) r;
+							boolean searched = searchIn(f, () -> monitor.isCanceled() || suspend);
+							if (searched) {
+								filesToSearch.remove(item);
+							}
 						}
 					}
+				} finally {
+					done.countDown();
 				}
 			});
 		}
 		try {
-			while (!executorService.awaitTermination(1, TimeUnit.MILLISECONDS)) {
-				executorService.shutdown();
+			while (!done.await(1, TimeUnit.MILLISECONDS)) {
 				if (monitor.isCanceled() || suspend) {
 					queue.clear();
-					executorService.shutdownNow();
 				}
 			}
 		} catch (InterruptedException e) {
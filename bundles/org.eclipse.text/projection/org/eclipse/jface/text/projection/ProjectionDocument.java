@@ -15,6 +15,8 @@
 package org.eclipse.jface.text.projection;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import org.eclipse.jface.text.AbstractDocument;
@@ -27,6 +29,7 @@ import org.eclipse.jface.text.IDocumentExtension;
 import org.eclipse.jface.text.IDocumentInformationMapping;
 import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.ILineTracker;
+import org.eclipse.jface.text.IPositionUpdater;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ITextStore;
 import org.eclipse.jface.text.Position;
@@ -105,6 +108,11 @@ public class ProjectionDocument extends AbstractDocument {
 	private FragmentUpdater fFragmentsUpdater;
 	/** The projection mapping */
 	private ProjectionMapping fMapping;
+	/**
+	 * The projection change event of an ongoing replacement of all master document ranges
+	 * @since 3.15
+	 */
+	private ProjectionDocumentEvent fReplaceRangesEvent;
 
 	/**
 	 * Creates a projection document for the given master document.
@@ -772,6 +780,20 @@ public class ProjectionDocument extends AbstractDocument {
 		super.fireDocumentChanged(fSlaveEvent);
 	}
 
+	@Override
+	protected void updatePositions(DocumentEvent event) {
+		if (event != fReplaceRangesEvent) {
+			super.updatePositions(event);
+			return;
+		}
+
+		// the segments already describe the replaced ranges
+		for (IPositionUpdater updater : getPositionUpdaters()) {
+			if (updater != fSegmentUpdater)
+				updater.update(event);
+		}
+	}
+
 	@Override
 	protected void updateDocumentStructures(DocumentEvent event) {
 		super.updateDocumentStructures(event);
@@ -889,4 +911,129 @@ public class ProjectionDocument extends AbstractDocument {
 			internalError();
 		}
 	}
+
+	/**
+	 * Replaces all master document ranges with the given master document ranges. Other than
+	 * adding and removing the ranges one by one, the fragments and segments are rebuilt at once
+	 * and a single projection change event is sent out which describes the changed part of this
+	 * projection document. Use this when many ranges change at once, e.g. when all foldings are
+	 * expanded or collapsed.
+	 *
+	 * @param regions the master document ranges, in any order; overlapping and adjacent ranges
+	 *            are joined
+	 * @throws BadLocationException if one of the given ranges is not valid in the master document
+	 * @since 3.15
+	 */
+	public void replaceMasterDocumentRanges(IRegion[] regions) throws BadLocationException {
+		IRegion[] ranges= joinRanges(regions);
+		Position[] fragments= getFragments();
+
+		// the fragments at the start and at the end which stay the same are not part of the event
+		int max= Math.min(fragments.length, ranges.length);
+		int prefix= 0;
+		while (prefix < max && isSameRange(fragments[prefix], ranges[prefix]))
+			prefix++;
+		if (prefix == fragments.length && prefix == ranges.length)
+			return;
+		int suffix= 0;
+		while (suffix < max - prefix && isSameRange(fragments[fragments.length - 1 - suffix], ranges[ranges.length - 1 - suffix]))
+			suffix++;
+
+		int offsetInSlave= prefix > 0 ? ((Fragment) fragments[prefix - 1]).segment.getOffset() + fragments[prefix - 1].getLength() : 0;
+		int endInSlave= suffix > 0 ? ((Fragment) fragments[fragments.length - suffix]).segment.getOffset() : getLength();
+
+		StringBuilder text= new StringBuilder();
+		int offsetInMaster= Integer.MAX_VALUE;
+		int endInMaster= 0;
+		for (int i= prefix; i < ranges.length - suffix; i++) {
+			text.append(fMasterDocument.get(ranges[i].getOffset(), ranges[i].getLength()));
+			offsetInMaster= Math.min(offsetInMaster, ranges[i].getOffset());
+			endInMaster= Math.max(endInMaster, ranges[i].getOffset() + ranges[i].getLength());
+		}
+		for (int i= prefix; i < fragments.length - suffix; i++) {
+			offsetInMaster= Math.min(offsetInMaster, fragments[i].getOffset());
+			endInMaster= Math.max(endInMaster, fragments[i].getOffset() + fragments[i].getLength());
+		}
+
+		ProjectionDocumentEvent event= new ProjectionDocumentEvent(this, offsetInSlave, endInSlave - offsetInSlave, text.toString(), offsetInMaster, endInMaster - offsetInMaster);
+		super.fireDocumentAboutToBeChanged(event);
+
+		try {
+
+			int imageLength= getLength() - event.getLength() + text.length();
+			fMasterDocument.removePositionCategory(fFragmentsCategory);
+			fMasterDocument.addPositionCategory(fFragmentsCategory);
+			removePositionCategory(fSegmentsCategory);
+			addPositionCategory(fSegmentsCategory);
+			// the segments can only be added once the document has its new length
+			fMapping.projectionChanged(imageLength);
+
+			int offset= 0;
+			for (IRegion range : ranges) {
+				Fragment fragment= new Fragment(range.getOffset(), range.getLength());
+				Segment segment= new Segment(offset, range.getLength());
+				segment.fragment= fragment;
+				fragment.segment= segment;
+				fMasterDocument.addPosition(fFragmentsCategory, fragment);
+				addPosition(fSegmentsCategory, segment);
+				offset+= range.getLength();
+			}
+			fMapping.projectionChanged();
+
+			getTracker().replace(event.getOffset(), event.getLength(), event.getText());
+			fReplaceRangesEvent= event;
+			super.fireDocumentChanged(event);
+
+		} catch (BadPositionCategoryException x) {
+			internalError();
+		} finally {
+			fReplaceRangesEvent= null;
+		}
+	}
+
+	/**
+	 * Sorts the given ranges, joins the overlapping and adjacent ones and drops the empty ones.
+	 *
+	 * @param regions the ranges
+	 * @return the sorted, disjoint and non-adjacent ranges
+	 * @throws BadLocationException if one of the ranges is not valid in the master document
+	 * @since 3.15
+	 */
+	private IRegion[] joinRanges(IRegion[] regions) throws BadLocationException {
+		IRegion[] sorted= regions.clone();
+		Arrays.sort(sorted, Comparator.comparingInt(IRegion::getOffset));
+
+		List<IRegion> ranges= new ArrayList<>(sorted.length);
+		int offset= -1;
+		int end= -1;
+		for (IRegion region : sorted) {
+			if (region.getOffset() < 0 || region.getLength() < 0 || region.getOffset() + region.getLength() > fMasterDocument.getLength())
+				throw new BadLocationException();
+			if (region.getLength() == 0)
+				continue;
+			if (region.getOffset() <= end) {
+				end= Math.max(end, region.getOffset() + region.getLength());
+			} else {
+				if (offset != -1)
+					ranges.add(new Region(offset, end - offset));
+				offset= region.getOffset();
+				end= region.getOffset() + region.getLength();
+			}
+		}
+		if (offset != -1)
+			ranges.add(new Region(offset, end - offset));
+		return ranges.toArray(new IRegion[ranges.size()]);
+	}
+
+	/**
+	 * Returns whether the given fragment covers exactly the given range.
+	 *
+	 * @param fragment the fragment
+	 * @param range the range
+	 * @return <code>true</code> if the fragment covers the range, <code>false</code> otherwise
+	 * @since 3.15
+	 */
+	private static boolean isSameRange(Position fragment, IRegion range) {
+		return fragment.getOffset() == range.getOffset() && fragment.getLength() == range.getLength();
+	}
 }
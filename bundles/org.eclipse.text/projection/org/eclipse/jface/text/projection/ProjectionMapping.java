@@ -54,6 +54,12 @@ public class ProjectionMapping implements IDocumentInformationMapping , IDocumen
 	private Position[] fCachedSegments;
 	/** Cached fragments */
 	private Position[] fCachedFragments;
+	/**
+	 * Cached length of the image, <code>-1</code> if not yet computed. The offsets of the
+	 * segments are the prefix sums of the segment lengths, the image length is their total.
+	 * @since 3.15
+	 */
+	private int fCachedImageLength= -1;
 
 	/**
 	 * Creates a new mapping between the given parent document and the given projection document.
@@ -76,6 +82,20 @@ public class ProjectionMapping implements IDocumentInformationMapping , IDocumen
 	public void projectionChanged() {
 		fCachedSegments= null;
 		fCachedFragments= null;
+		fCachedImageLength= -1;
+	}
+
+	/**
+	 * Notifies this projection mapping that there was a projection change which results in an
+	 * image of the given length. Used while the segments of the new projection are not yet
+	 * complete.
+	 *
+	 * @param imageLength the length of the image
+	 * @since 3.15
+	 */
+	void projectionChanged(int imageLength) {
+		projectionChanged();
+		fCachedImageLength= imageLength;
 	}
 
 	private Position[] getSegments() {
@@ -108,22 +128,43 @@ public class ProjectionMapping implements IDocumentInformationMapping , IDocumen
 			return -1;
 		}
 
-		try {
-			int index= fSlaveDocument.computeIndexInCategory(fSegmentsCategory, offset);
-			if (index == segments.length && offset > exclusiveEnd(segments[index-1]))
-				throw new BadLocationException();
-
-			if (index < segments.length && offset == segments[index].offset)
-				return index;
+		if (0 > offset || offset > fSlaveDocument.getLength())
+			throw new BadLocationException();
 
-			if (index > 0)
-				index--;
+		int index= computeIndex(segments, offset);
+		if (index == segments.length && offset > exclusiveEnd(segments[index-1]))
+			throw new BadLocationException();
 
+		if (index < segments.length && offset == segments[index].offset)
 			return index;
 
-		} catch (BadPositionCategoryException e) {
-			throw new IllegalStateException();
+		if (index > 0)
+			index--;
+
+		return index;
+	}
+
+	/**
+	 * Computes the index of the first of the given positions whose offset is not smaller than
+	 * the given offset. The positions are sorted by their offsets.
+	 *
+	 * @param positions the positions
+	 * @param offset the offset
+	 * @return the index of the first position at or after <code>offset</code>, or the number of
+	 *         positions if there is none
+	 * @since 3.15
+	 */
+	private static int computeIndex(Position[] positions, int offset) {
+		int left= 0;
+		int right= positions.length;
+		while (left < right) {
+			int mid= (left + right) >>> 1;
+			if (positions[mid].offset < offset)
+				left= mid + 1;
+			else
+				right= mid;
 		}
+		return left;
 	}
 
 	private Segment findSegment(int offset) throws BadLocationException {
@@ -169,33 +210,30 @@ public class ProjectionMapping implements IDocumentInformationMapping , IDocumen
 	 */
 	@SuppressWarnings("incomplete-switch")
 	private int findFragmentIndex(int offset, int extensionDirection) throws BadLocationException {
-		try {
-
-			Position[] fragments= getFragments();
-			if (fragments.length == 0)
-				return -1;
+		Position[] fragments= getFragments();
+		if (fragments.length == 0)
+			return -1;
 
-			int index= fMasterDocument.computeIndexInCategory(fFragmentsCategory, offset);
+		if (0 > offset || offset > fMasterDocument.getLength())
+			throw new BadLocationException();
 
-			if (index < fragments.length && offset == fragments[index].offset)
-				return index;
+		int index= computeIndex(fragments, offset);
 
-			if (0 < index && index <= fragments.length && fragments[index - 1].includes(offset))
-				return index - 1;
+		if (index < fragments.length && offset == fragments[index].offset)
+			return index;
 
-			switch (extensionDirection) {
-				case LEFT:
-					return index - 1;
-				case RIGHT:
-					if (index < fragments.length)
-						return index;
-			}
+		if (0 < index && index <= fragments.length && fragments[index - 1].includes(offset))
+			return index - 1;
 
-			return -1;
-
-		} catch (BadPositionCategoryException e) {
-			throw new IllegalStateException();
+		switch (extensionDirection) {
+			case LEFT:
+				return index - 1;
+			case RIGHT:
+				if (index < fragments.length)
+					return index;
 		}
+
+		return -1;
 	}
 
 	private Fragment findFragment(int offset) throws BadLocationException {
@@ -547,12 +585,15 @@ public class ProjectionMapping implements IDocumentInformationMapping , IDocumen
 
 	@Override
 	public int getImageLength() {
-		Position[] segments= getSegments();
-		int length= 0;
-		for (Position segment : segments) {
-			length += segment.length;
+		if (fCachedImageLength == -1) {
+			Position[] segments= getSegments();
+			int length= 0;
+			for (Position segment : segments) {
+				length += segment.length;
+			}
+			fCachedImageLength= length;
 		}
-		return length;
+		return fCachedImageLength;
 	}
 
 	@Override
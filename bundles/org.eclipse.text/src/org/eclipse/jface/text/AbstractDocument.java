@@ -17,6 +17,7 @@ package org.eclipse.jface.text;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -59,7 +60,7 @@ import org.eclipse.core.runtime.SafeRunner;
  * @see org.eclipse.jface.text.ITextStore
  * @see org.eclipse.jface.text.ILineTracker
  */
-public abstract class AbstractDocument implements IDocument, IDocumentExtension, IDocumentExtension2, IDocumentExtension3, IDocumentExtension4, IRepairableDocument, IRepairableDocumentExtension {
+public abstract class AbstractDocument implements IDocument, IDocumentExtension, IDocumentExtension2, IDocumentExtension3, IDocumentExtension4, IDocumentExtension5, IRepairableDocument, IRepairableDocumentExtension {
 
 	/**
 	 * Tells whether this class is in debug mode.
@@ -109,6 +110,18 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 	 * @since 3.4
 	 */
 	private final Map<String, List<Position>> fEndPositions= new HashMap<>();
+	/**
+	 * Lazily built range indexes of the position categories, dropped whenever positions are
+	 * added or removed.
+	 * @since 3.15
+	 */
+	private final Map<String, PositionIndex> fPositionIndexes= new HashMap<>();
+	/**
+	 * The number of times the position updaters modified the positions, which tells the
+	 * position indexes to update themselves.
+	 * @since 3.15
+	 */
+	private int fPositionsModificationCount;
 	/** All registered document position updaters */
 	private final List<IPositionUpdater> fPositionUpdaters= new CopyOnWriteArrayList<>();
 	/**
@@ -351,7 +364,8 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		List<Position> endPositions= fEndPositions.get(category);
 		if (endPositions == null)
 			throw new BadPositionCategoryException();
-		endPositions.add(computeIndexInPositionList(endPositions, position.offset + position.length - 1, false), position);
+		endPositions.add(computeIndexInPositionList(endPositions, getOffset(false, position), false), position);
+		fPositionIndexes.remove(category);
 	}
 
 	@Override
@@ -594,6 +608,29 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		}
 	}
 
+	/**
+	 * Notifies the document partitioning listeners that the given partitioner changed the
+	 * partitioning of the given region outside of a document change, for example when it
+	 * completed a rescan it had deferred. Does nothing if the partitioner is not registered with
+	 * this document.
+	 *
+	 * @param partitioner the document partitioner
+	 * @param region the region whose partitioning changed
+	 * @since 3.15
+	 */
+	public void partitioningChanged(IDocumentPartitioner partitioner, IRegion region) {
+		if (fDocumentPartitioners == null)
+			return;
+
+		DocumentPartitioningChangedEvent event= new DocumentPartitioningChangedEvent(this);
+		for (Entry<String, IDocumentPartitioner> entry : fDocumentPartitioners.entrySet()) {
+			if (entry.getValue() == partitioner)
+				event.setPartitionChange(entry.getKey(), region.getOffset(), region.getLength());
+		}
+		if (!event.isEmpty())
+			fireDocumentPartitioningChanged(event);
+	}
+
 	/**
 	 * Fires the given document event to all registers document listeners informing them
 	 * about the forthcoming document manipulation. Uses a robust iterator.
@@ -674,8 +711,10 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 			}
 		}
 
-		if (!fPositions.isEmpty())
+		if (!fPositions.isEmpty()) {
 			updatePositions(event);
+			fPositionsModificationCount++;
+		}
 	}
 
 	/**
@@ -951,6 +990,19 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		return getStore().get(0, getLength());
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @since 3.15
+	 */
+	@Override
+	public CharSequence getCharSequence() {
+		ITextStore store= getStore();
+		if (store instanceof ITextStoreExtension extension)
+			return extension.getCharSequence(0, store.getLength());
+		return new TextStoreCharSequence(store, 0, store.getLength());
+	}
+
 	@Override
 	public String get(int pos, int length) throws BadLocationException {
 		int myLength= getLength();
@@ -987,6 +1039,7 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		if (endPositions == null)
 			throw new BadPositionCategoryException();
 		removeFromPositionsList(endPositions, position, false);
+		fPositionIndexes.remove(category);
 	}
 
 	/**
@@ -1001,7 +1054,7 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		int size= positions.size();
 
 		//Assume position is somewhere near it was before
-		int index= computeIndexInPositionList(positions, orderedByOffset ? position.offset : position.offset + position.length - 1, orderedByOffset);
+		int index= computeIndexInPositionList(positions, getOffset(orderedByOffset, position), orderedByOffset);
 		if (index < size && positions.get(index) == position) {
 			positions.remove(index);
 			return;
@@ -1047,6 +1100,7 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 
 		fPositions.remove(category);
 		fEndPositions.remove(category);
+		fPositionIndexes.remove(category);
 	}
 
 	@Override
@@ -1585,11 +1639,10 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		if (canStartBefore && canEndAfter || (!canStartBefore && !canEndAfter)) {
 			List<Position> documentPositions;
 			if (canStartBefore && canEndAfter) {
-				if (offset < getLength() / 2) {
-					documentPositions= getStartingPositions(category, 0, offset + length);
-				} else {
-					documentPositions= getEndingPositions(category, offset, getLength() - offset + 1);
-				}
+				// Only positions that start at or before the region's end and end at or after its
+				// start can overlap
+				documentPositions= new ArrayList<>();
+				getPositionIndex(category).collect(offset + length, offset, documentPositions);
 			} else {
 				documentPositions= getStartingPositions(category, offset, length);
 			}
@@ -1622,6 +1675,31 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		}
 	}
 
+	/**
+	 * Returns the range index of the given category, building it if positions were added to or
+	 * removed from the category since it was last used. If the positions were only modified in
+	 * place, e.g. by the position updaters, the existing index is updated instead.
+	 *
+	 * @param category the position category
+	 * @return the range index of the category
+	 * @throws BadPositionCategoryException if category is undefined in this document
+	 * @since 3.15
+	 */
+	private PositionIndex getPositionIndex(String category) throws BadPositionCategoryException {
+		List<Position> positions= fPositions.get(category);
+		if (positions == null)
+			throw new BadPositionCategoryException();
+
+		PositionIndex index= fPositionIndexes.get(category);
+		// subclasses may modify the lists returned by getDocumentManagedPositions() and clients
+		// may modify positions without going through the document
+		if (index == null || index.size() != positions.size() || !index.update(fPositionsModificationCount)) {
+			index= new PositionIndex(positions, fPositionsModificationCount);
+			fPositionIndexes.put(category, index);
+		}
+		return index;
+	}
+
 	/*
 	 * @since 3.4
 	 */
@@ -1638,6 +1716,72 @@ public abstract class AbstractDocument implements IDocument, IDocumentExtension,
 		}
 	}
 
+	/**
+	 * Returns the positions of the given category whose last character is at or after the
+	 * given offset, which includes all positions starting at or after the offset. Positions of
+	 * length zero count as ending at their offset. Deleted positions are included.
+	 * <p>
+	 * The positions are found by a binary search in the list of positions ordered by their end.
+	 * That order is broken if clients modify positions in place or if position updaters move
+	 * positions past each other. This is detected as far as the returned positions and their
+	 * predecessor are concerned, in which case <code>null</code> is returned.
+	 * </p>
+	 *
+	 * @param category the position category
+	 * @param offset the offset
+	 * @return the positions ordered by their end position, or <code>null</code> if the positions
+	 *         of the category are found not to be ordered by their end position
+	 * @throws BadPositionCategoryException if category is undefined in this document
+	 * @since 3.15
+	 */
+	Position[] getPositionsEndingAtOrAfter(String category, int offset) throws BadPositionCategoryException {
+		List<Position> list= fEndPositions.get(category);
+		if (list == null)
+			throw new BadPositionCategoryException();
+
+		int start= computeIndexInPositionList(list, offset, false);
+		int previousEnd= start > 0 ? getOffset(false, list.get(start - 1)) : Integer.MIN_VALUE;
+		if (previousEnd >= offset)
+			return null;
+		Position[] positions= new Position[list.size() - start];
+		for (int i= 0; i < positions.length; i++) {
+			Position position= list.get(start + i);
+			int end= getOffset(false, position);
+			if (end < offset || end < previousEnd)
+				return null;
+			previousEnd= end;
+			positions[i]= position;
+		}
+		return positions;
+	}
+
+	/**
+	 * Restores the order of the positions of the given category that end at or after the given
+	 * offset. Updating positions keeps them behind all positions that end before the offset,
+	 * but positions that ended at the same offset may be moved differently.
+	 *
+	 * @param category the position category
+	 * @param offset the offset that was passed to {@link #getPositionsEndingAtOrAfter(String, int)}
+	 *            before the positions were updated
+	 * @since 3.15
+	 */
+	void sortPositionsEndingAtOrAfter(String category, int offset) {
+		List<Position> positions= fEndPositions.get(category);
+		if (positions == null)
+			return;
+
+		int left= 0;
+		int right= positions.size();
+		while (left < right) {
+			int mid= (left + right) >>> 1;
+			if (getOffset(false, positions.get(mid)) < offset)
+				left= mid + 1;
+			else
+				right= mid;
+		}
+		positions.subList(left, positions.size()).sort(Comparator.comparingInt(p -> getOffset(false, p)));
+	}
+
 	/**
 	 * A list of positions in the given category with an offset inside the given
 	 * region. The order of the positions is arbitrary.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -107,6 +107,13 @@ public abstract class AbstractLineTracker implements ILineTracker, ILineTrackerE
 		 * @since 3.1
 		 */
 		private List<Request> fPendingRequests;
+		/**
+		 * The estimated cost of replaying the pending requests, or <code>-1</code> if a set
+		 * request is pending.
+		 *
+		 * @since 3.15
+		 */
+		private long fReplayCost;
 		
 		/**
 		 * @param activeRewriteSession may be null
@@ -132,6 +139,7 @@ public abstract class AbstractLineTracker implements ILineTracker, ILineTrackerE
 					}
 					fPendingRequests.clear();
 					fPendingRequests.add(new Request(text));
+					fReplayCost= -1;
 				}
 				return true;
 			} else {
@@ -146,6 +154,8 @@ public abstract class AbstractLineTracker implements ILineTracker, ILineTrackerE
 						return false;
 					}
 					fPendingRequests.add(new Request(offset, length, text));
+					if (fReplayCost >= 0)
+						fReplayCost+= REPLAY_REQUEST_COST + length + (text == null ? 0 : text.length());
 				}
 				return true;
 			} else {
@@ -162,6 +172,18 @@ public abstract class AbstractLineTracker implements ILineTracker, ILineTrackerE
 			}
 		}
 
+		/**
+		 * Tells whether replaying the pending requests is cheaper than setting the given number
+		 * of characters.
+		 *
+		 * @param length the length of the text that would be set instead
+		 * @return <code>true</code> if the pending requests should be replayed
+		 * @since 3.15
+		 */
+		synchronized boolean isReplayCheaper(int length) {
+			return fReplayCost >= 0 && fReplayCost < length;
+		}
+
 		boolean sameSession(DocumentRewriteSession session) {
 			return fActiveRewriteSession == session;
 		}
@@ -180,6 +202,14 @@ public abstract class AbstractLineTracker implements ILineTracker, ILineTrackerE
 		}
 	}
 
+	/**
+	 * The estimated cost of replaying a replace request, in terms of characters that are
+	 * scanned when setting the text of this tracker.
+	 *
+	 * @since 3.15
+	 */
+	private static final int REPLAY_REQUEST_COST= 64;
+
 	private volatile SessionData sessionData;
 	private final Object sessionLock = new Object();
 	
@@ -332,11 +362,27 @@ public abstract class AbstractLineTracker implements ILineTracker, ILineTrackerE
 		}
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the session only consisted of a few edits compared to the size of the document, they are
+	 * replayed instead of re-tracking the whole text.
+	 * </p>
+	 */
 	@Override
 	public final void stopRewriteSession(DocumentRewriteSession session, String text) {
 		synchronized (sessionLock) {
-			if (sessionData.sameSession(session)) {
+			SessionData data= sessionData;
+			if (data.sameSession(session)) {
 				sessionData = new SessionData(null);
+				if (text != null && data.isReplayCheaper(text.length())) {
+					try {
+						replay(data.flush());
+						return;
+					} catch (BadLocationException x) {
+						// fall back to re-tracking the text
+					}
+				}
 				set(text);
 			}
 		}
@@ -363,14 +409,24 @@ public abstract class AbstractLineTracker implements ILineTracker, ILineTrackerE
 		if (DEBUG)
 			System.out.println("AbstractLineTracker: Flushing rewrite session: " + sessionData); //$NON-NLS-1$
 		synchronized (sessionData) {
-			Iterator<Request> e= sessionData.flush();
-			while (e.hasNext()) {
-				Request request= e.next();
-				if (request.isReplaceRequest())
-					replace(request.offset, request.length, request.text);
-				else
-					set(request.text);
-			}
+			replay(sessionData.flush());
+		}
+	}
+
+	/**
+	 * Applies the given requests to this tracker.
+	 *
+	 * @param requests the requests
+	 * @throws BadLocationException in case the requests cannot be processed correctly
+	 * @since 3.15
+	 */
+	private void replay(Iterator<Request> requests) throws BadLocationException {
+		while (requests.hasNext()) {
+			Request request= requests.next();
+			if (request.isReplaceRequest())
+				replace(request.offset, request.length, request.text);
+			else
+				set(request.text);
 		}
 	}
 
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.jface.text;
 
+import java.nio.CharBuffer;
+
 import org.eclipse.core.runtime.Assert;
 
 
@@ -30,14 +32,14 @@ import org.eclipse.core.runtime.Assert;
  * @since 3.2
  * @noextend This class is not intended to be subclassed by clients.
  */
-public class CopyOnWriteTextStore implements ITextStore {
+public class CopyOnWriteTextStore implements ITextStore, ITextStoreExtension {
 
 	/**
 	 * An unmodifiable String based text store. It is not possible to modify the initial content.
 	 * Trying to {@link #replace} a text range or {@link #set} new content will throw an
 	 * <code>UnsupportedOperationException</code>.
 	 */
-	private static class StringTextStore implements ITextStore {
+	private static class StringTextStore implements ITextStore, ITextStoreExtension {
 
 		/** Minimum text limit whether to enable String copying */
 		private static final int SMALL_TEXT_LIMIT= 1024 * 1024;
@@ -80,6 +82,11 @@ public class CopyOnWriteTextStore implements ITextStore {
 			return fText.substring(offset, offset + length);
 		}
 
+		@Override
+		public CharSequence getCharSequence(int offset, int length) {
+			return CharBuffer.wrap(fText, offset, offset + length);
+		}
+
 		@Override
 		public int getLength() {
 			return fText.length();
@@ -128,6 +135,18 @@ public class CopyOnWriteTextStore implements ITextStore {
 		return fTextStore.get(offset, length);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @since 3.15
+	 */
+	@Override
+	public CharSequence getCharSequence(int offset, int length) {
+		if (fTextStore instanceof ITextStoreExtension extension)
+			return extension.getCharSequence(offset, length);
+		return new TextStoreCharSequence(fTextStore, offset, length);
+	}
+
 	@Override
 	public int getLength() {
 		return fTextStore.getLength();
@@ -41,6 +41,15 @@ package org.eclipse.jface.text;
  * This class can be used as is or be adapted by subclasses. Fields are protected to allow
  * subclasses direct access. Because of the frequency with which position updaters are used this is
  * a performance decision.
+ * <p>
+ * For the same reason, positions of an {@link AbstractDocument} that end before the changed text
+ * and are not adjacent to it are not investigated at all, as they are not affected by the change.
+ * The positions overlapping, touching or following the change are found in logarithmic time. If
+ * the positions are found not to be ordered by their end anymore, for example because clients
+ * modified them in place, all positions are investigated and the order is restored. Subclasses
+ * investigate all positions unless they opt in by overriding
+ * {@link #isSkippingUnaffectedPositions()}.
+ * </p>
  */
 public class DefaultPositionUpdater implements IPositionUpdater {
 
@@ -80,6 +89,19 @@ public class DefaultPositionUpdater implements IPositionUpdater {
 		return fCategory;
 	}
 
+	/**
+	 * Returns whether this updater only investigates the positions that end at or after the
+	 * character before the changed text. Subclasses which adapt positions ending further before
+	 * the changed text must return <code>false</code>.
+	 *
+	 * @return <code>true</code> if positions that are not affected by the default rules may be
+	 *         skipped; by default only if this is not an instance of a subclass
+	 * @since 3.15
+	 */
+	protected boolean isSkippingUnaffectedPositions() {
+		return getClass() == DefaultPositionUpdater.class;
+	}
+
 	/**
 	 * Returns whether the current event describes a well formed replace
 	 * by which the current position is directly affected.
@@ -212,7 +234,19 @@ public class DefaultPositionUpdater implements IPositionUpdater {
 			fReplaceLength= (event.getText() == null ? 0 : event.getText().length());
 			fDocument= event.getDocument();
 
-			Position[] category= fDocument.getPositions(fCategory);
+			AbstractDocument document= fDocument instanceof AbstractDocument d && isSkippingUnaffectedPositions() ? d : null;
+			// One character before the change, as subclasses may extend positions that end
+			// right before an insertion
+			int affectedOffset= Math.max(0, fOffset - 1);
+			Position[] category= null;
+			if (document != null)
+				category= document.getPositionsEndingAtOrAfter(fCategory, affectedOffset);
+			boolean unordered= document != null && category == null;
+			if (category == null)
+				category= fDocument.getPositions(fCategory);
+
+			boolean ordered= true;
+			int previousEnd= Integer.MIN_VALUE;
 			for (Position element : category) {
 
 				fPosition= element;
@@ -221,8 +255,19 @@ public class DefaultPositionUpdater implements IPositionUpdater {
 
 				if (notDeleted())
 					adaptToReplace();
+
+				if (!fPosition.isDeleted()) {
+					int end= fPosition.length == 0 ? fPosition.offset : fPosition.offset + fPosition.length - 1;
+					ordered&= previousEnd <= end;
+					previousEnd= end;
+				}
 			}
 
+			if (unordered)
+				document.sortPositionsEndingAtOrAfter(fCategory, 0);
+			else if (document != null && !ordered)
+				document.sortPositionsEndingAtOrAfter(fCategory, affectedOffset);
+
 		} catch (BadPositionCategoryException x) {
 			// do nothing
 		} finally {
@@ -37,21 +37,30 @@ package org.eclipse.jface.text;
  * </p>
  * <p>
  * See {@link GapTextStore} and <code>TreeLineTracker</code> for algorithmic behavior of the used
- * document structures.
+ * document structures. For very large documents, a {@link PieceTableTextStore} can be used instead,
+ * either for a single document via {@link #Document(ITextStore, String)} or for all documents
+ * created with the other constructors by setting the system property
+ * <code>org.eclipse.text/Document/pieceTableTextStore</code> to <code>true</code>.
  * </p>
  *
  * @see org.eclipse.jface.text.GapTextStore
  * @see org.eclipse.jface.text.CopyOnWriteTextStore
+ * @see org.eclipse.jface.text.PieceTableTextStore
  */
 public class Document extends AbstractDocument {
+
+	/**
+	 * Tells whether documents use a {@link PieceTableTextStore} by default.
+	 *
+	 * @since 3.15
+	 */
+	private static final boolean USE_PIECE_TABLE_TEXT_STORE= Boolean.getBoolean("org.eclipse.text/Document/pieceTableTextStore"); //$NON-NLS-1$
+
 	/**
 	 * Creates a new empty document.
 	 */
 	public Document() {
-		super();
-		setTextStore(new CopyOnWriteTextStore(new GapTextStore()));
-		setLineTracker(new DefaultLineTracker());
-		completeInitialization();
+		this(createDefaultTextStore(), null);
 	}
 
 	/**
@@ -60,14 +69,39 @@ public class Document extends AbstractDocument {
 	 * @param initialContent the document's initial content
 	 */
 	public Document(String initialContent) {
+		this(createDefaultTextStore(), initialContent);
+	}
+
+	/**
+	 * Creates a new document with the given text store and initial content.
+	 *
+	 * @param textStore the document's text store, must not be <code>null</code>
+	 * @param initialContent the document's initial content, may be <code>null</code>
+	 * @since 3.15
+	 */
+	public Document(ITextStore textStore, String initialContent) {
 		super();
-		setTextStore(new CopyOnWriteTextStore(new GapTextStore()));
+		setTextStore(textStore);
 		setLineTracker(new DefaultLineTracker());
-		getStore().set(initialContent);
-		getTracker().set(initialContent);
+		if (initialContent != null) {
+			getStore().set(initialContent);
+			getTracker().set(initialContent);
+		}
 		completeInitialization();
 	}
 
+	/**
+	 * Creates the text store used by documents that do not specify one.
+	 *
+	 * @return a new text store
+	 * @since 3.15
+	 */
+	private static ITextStore createDefaultTextStore() {
+		if (USE_PIECE_TABLE_TEXT_STORE)
+			return new PieceTableTextStore();
+		return new CopyOnWriteTextStore(new GapTextStore());
+	}
+
 	@Override
 	public boolean isLineInformationRepairNeeded(int offset, int length, String text) throws BadLocationException {
 		if ((0 > offset) || (0 > length) || (offset + length > getLength()))
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,11 +15,23 @@
  *******************************************************************************/
 package org.eclipse.jface.text;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.text.edits.MalformedTreeException;
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
 
 
 /**
@@ -54,6 +66,18 @@ public class FindReplaceDocumentAdapter implements CharSequence {
 	private static final int RC_LOWER= 2;
 	private static final int RC_FIRSTUPPER= 3;
 
+	/**
+	 * The minimal number of characters that are searched by one task of a parallel search.
+	 * @since 3.15
+	 */
+	private static final int PARALLEL_CHUNK_SIZE= 256 * 1024;
+
+	/**
+	 * Matches an embedded flag expression that turns on comments mode.
+	 * @since 3.15
+	 */
+	private static final Pattern COMMENTS_FLAG= Pattern.compile("\\(\\?[idmsuU-]*x"); //$NON-NLS-1$
+
 
 	/**
 	 * The adapted document.
@@ -80,6 +104,13 @@ public class FindReplaceDocumentAdapter implements CharSequence {
 	 */
 	private int fRetainCaseMode;
 
+	/**
+	 * A read-only view of the document content while a find/replace operation is running,
+	 * <code>null</code> otherwise.
+	 * @since 3.15
+	 */
+	private CharSequence fDocumentText;
+
 	/**
 	 * Constructs a new find replace document adapter.
 	 *
@@ -141,6 +172,44 @@ public class FindReplaceDocumentAdapter implements CharSequence {
 	 * @throws PatternSyntaxException if a regular expression has invalid syntax
 	 */
 	private IRegion findReplace(final FindReplaceOperationCode operationCode, int startOffset, String findString, String replaceText, boolean forwardSearch, boolean caseSensitive, boolean wholeWord, boolean regExSearch) throws BadLocationException {
+		fDocumentText= getDocumentText();
+		try {
+			return doFindReplace(operationCode, startOffset, findString, replaceText, forwardSearch, caseSensitive, wholeWord, regExSearch);
+		} finally {
+			fDocumentText= null;
+		}
+	}
+
+	/**
+	 * Returns a read-only view of the document content that does not copy the text.
+	 *
+	 * @return a view of the document content or <code>null</code> if the document does not
+	 *         provide one
+	 * @since 3.15
+	 */
+	private CharSequence getDocumentText() {
+		if (fDocument instanceof IDocumentExtension5 extension)
+			return extension.getCharSequence();
+		return null;
+	}
+
+	/**
+	 * Executes a find/replace operation, see
+	 * {@link #findReplace(FindReplaceOperationCode, int, String, String, boolean, boolean, boolean, boolean)}.
+	 *
+	 * @param operationCode specifies what kind of operation is executed
+	 * @param startOffset document offset at which search starts
+	 * @param findString the string to find
+	 * @param replaceText the string to replace the current match
+	 * @param forwardSearch the search direction
+	 * @param caseSensitive indicates whether lower and upper case should be distinguished
+	 * @param wholeWord indicates whether the findString should be limited by white spaces
+	 * @param regExSearch if <code>true</code> this operation represents a regular expression
+	 * @return the find or replace region or <code>null</code> if there was no match
+	 * @throws BadLocationException if startOffset is an invalid document offset
+	 * @since 3.15
+	 */
+	private IRegion doFindReplace(final FindReplaceOperationCode operationCode, int startOffset, String findString, String replaceText, boolean forwardSearch, boolean caseSensitive, boolean wholeWord, boolean regExSearch) throws BadLocationException {
 
 		// Validate option combinations
 		Assert.isTrue(!(regExSearch && wholeWord));
@@ -159,21 +228,8 @@ public class FindReplaceDocumentAdapter implements CharSequence {
 			if (startOffset < 0 || startOffset > length())
 				throw new BadLocationException();
 
-			int patternFlags= 0;
-
-			if (regExSearch) {
-				patternFlags |= Pattern.MULTILINE;
-				findString= substituteLinebreak(findString);
-			}
-
-			if (!caseSensitive)
-				patternFlags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
-
-			if (!regExSearch)
-				findString= asRegPattern(findString);
-
-			if (wholeWord)
-				findString= "\\b" + findString + "\\b"; //$NON-NLS-1$ //$NON-NLS-2$
+			int patternFlags= getPatternFlags(caseSensitive, regExSearch);
+			findString= toPatternString(findString, wholeWord, regExSearch);
 
 			fFindReplaceMatchOffset= startOffset;
 			if (fFindReplaceMatcher != null && fFindReplaceMatcher.pattern().pattern().equals(findString) && fFindReplaceMatcher.pattern().flags() == patternFlags) {
@@ -192,28 +248,16 @@ public class FindReplaceDocumentAdapter implements CharSequence {
 		fFindReplaceState= operationCode;
 
 		if (operationCode == REPLACE || operationCode == REPLACE_FIND_NEXT) {
-			if (regExSearch) {
-				Pattern pattern= fFindReplaceMatcher.pattern();
-				String prevMatch= fFindReplaceMatcher.group();
-				try {
-					replaceText= interpretReplaceEscapes(replaceText, prevMatch);
-					Matcher replaceTextMatcher= pattern.matcher(prevMatch);
-					replaceText= replaceTextMatcher.replaceFirst(replaceText);
-				} catch (IndexOutOfBoundsException ex) {
-					throw new PatternSyntaxException(ex.getLocalizedMessage(), replaceText, -1);
-				}
-			}
+			if (regExSearch)
+				replaceText= interpretReplaceText(fFindReplaceMatcher.pattern(), fFindReplaceMatcher.group(), replaceText);
 
 			int offset= fFindReplaceMatcher.start();
 			int length= fFindReplaceMatcher.group().length();
 
-			if (fDocument instanceof IRepairableDocumentExtension
-					&& ((IRepairableDocumentExtension)fDocument).isLineInformationRepairNeeded(offset, length, replaceText)) {
-				String message= TextMessages.getString("FindReplaceDocumentAdapter.incompatibleLineDelimiter"); //$NON-NLS-1$
-				throw new PatternSyntaxException(message, replaceText, offset);
-			}
+			checkLineInformationRepair(offset, length, replaceText);
 
 			fDocument.replace(offset, length, replaceText);
+			fDocumentText= getDocumentText();
 
 			if (operationCode == REPLACE) {
 				return new Region(offset, replaceText.length());
@@ -607,15 +651,422 @@ public class FindReplaceDocumentAdapter implements CharSequence {
 		return findReplace(REPLACE, -1, null, text, false, false, false, regExReplace);
 	}
 
+	/**
+	 * Returns the locations of all matches of a given string in this adapter's document, in
+	 * document order. Matches do not overlap and empty matches are ignored, i.e. the result is
+	 * the same as the one of repeated forward {@link #find(int, String, boolean, boolean, boolean, boolean)
+	 * find} operations that each start at the end of the previous match.
+	 * <p>
+	 * Large documents are split into chunks at line boundaries which are searched in parallel.
+	 * The document must not be modified while this method is running.
+	 * </p>
+	 *
+	 * @param findString the string to find
+	 * @param caseSensitive indicates whether lower and upper case should be distinguished
+	 * @param wholeWord indicates whether the findString should be limited by white spaces as
+	 * 			defined by Character.isWhiteSpace. Must not be used in combination with <code>regExSearch</code>.
+	 * @param regExSearch if <code>true</code> findString represents a regular expression
+	 * 			Must not be used in combination with <code>wholeWord</code>.
+	 * @param monitor the progress monitor used to cancel the search, or <code>null</code>
+	 * @return the regions of all matches, possibly empty
+	 * @throws PatternSyntaxException if a regular expression has invalid syntax
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 * @since 3.15
+	 */
+	public IRegion[] findAll(String findString, boolean caseSensitive, boolean wholeWord, boolean regExSearch, IProgressMonitor monitor) {
+		List<IRegion> matches= findAllMatches(findString, caseSensitive, wholeWord, regExSearch, monitor);
+		return matches.toArray(new IRegion[matches.size()]);
+	}
+
+	/**
+	 * Replaces all matches of a given string in this adapter's document. The matches are the ones
+	 * returned by {@link #findAll(String, boolean, boolean, boolean, IProgressMonitor)}; they are
+	 * replaced by a single {@link MultiTextEdit} which is applied inside a document rewrite
+	 * session, see {@link RewriteSessionEditProcessor}.
+	 * <p>
+	 * Any preceding find operation is invalidated, i.e. {@link #replace(String, boolean)} must not
+	 * be called before the next find operation.
+	 * </p>
+	 *
+	 * @param findString the string to find
+	 * @param replaceText the substitution text
+	 * @param caseSensitive indicates whether lower and upper case should be distinguished
+	 * @param wholeWord indicates whether the findString should be limited by white spaces as
+	 * 			defined by Character.isWhiteSpace. Must not be used in combination with <code>regExSearch</code>.
+	 * @param regExSearch if <code>true</code> findString and replaceText represent regular expressions
+	 * 			Must not be used in combination with <code>wholeWord</code>.
+	 * @param monitor the progress monitor used to cancel the search, or <code>null</code>
+	 * @return the number of replaced matches
+	 * @throws BadLocationException if the document has been modified concurrently
+	 * @throws PatternSyntaxException if a regular expression has invalid syntax
+	 * @throws OperationCanceledException if the monitor has been canceled before the document has
+	 *             been modified
+	 * @since 3.15
+	 */
+	public int replaceAll(String findString, String replaceText, boolean caseSensitive, boolean wholeWord, boolean regExSearch, IProgressMonitor monitor) throws BadLocationException {
+		List<IRegion> matches= findAllMatches(findString, caseSensitive, wholeWord, regExSearch, monitor);
+		fFindReplaceState= null;
+		if (matches.isEmpty())
+			return 0;
+
+		Pattern pattern= regExSearch ? Pattern.compile(toPatternString(findString, wholeWord, true), getPatternFlags(caseSensitive, true)) : null;
+		CharSequence documentText= regExSearch ? getDocumentText() : null;
+		if (regExSearch && documentText == null)
+			documentText= this;
+		MultiTextEdit edit= new MultiTextEdit();
+		for (IRegion match : matches) {
+			int offset= match.getOffset();
+			int length= match.getLength();
+			String text= replaceText;
+			if (regExSearch)
+				text= interpretReplaceText(pattern, documentText.subSequence(offset, offset + length).toString(), replaceText);
+			checkLineInformationRepair(offset, length, text);
+			edit.addChild(new ReplaceEdit(offset, length, text));
+		}
+
+		try {
+			new RewriteSessionEditProcessor(fDocument, edit, TextEdit.NONE).performEdits();
+		} catch (MalformedTreeException e) {
+			// the matches neither overlap nor are they out of order
+			throw new IllegalStateException(e);
+		}
+		return matches.size();
+	}
+
+	/**
+	 * Searches all non-empty matches, see
+	 * {@link #findAll(String, boolean, boolean, boolean, IProgressMonitor)}.
+	 *
+	 * @param findString the string to find
+	 * @param caseSensitive indicates whether lower and upper case should be distinguished
+	 * @param wholeWord indicates whether the findString should be limited by white spaces
+	 * @param regExSearch if <code>true</code> findString represents a regular expression
+	 * @param monitor the progress monitor, or <code>null</code>
+	 * @return the matches in document order
+	 * @since 3.15
+	 */
+	private List<IRegion> findAllMatches(String findString, boolean caseSensitive, boolean wholeWord, boolean regExSearch, IProgressMonitor monitor) {
+		Assert.isTrue(!(regExSearch && wholeWord));
+		if (findString == null || findString.isEmpty())
+			return new ArrayList<>();
+		if (monitor == null)
+			monitor= new NullProgressMonitor();
+
+		String patternString= toPatternString(findString, wholeWord, regExSearch);
+		int patternFlags= getPatternFlags(caseSensitive, regExSearch);
+		Pattern pattern= Pattern.compile(patternString, patternFlags);
+
+		CharSequence text= getDocumentText();
+		if (text == null)
+			text= this;
+
+		try {
+			int[] chunks= computeChunks(text.length());
+			if (chunks.length <= 2 || !canSearchInParallel(patternString)) {
+				List<IRegion> matches= new ArrayList<>();
+				findMatches(null, pattern.matcher(text), 0, text.length(), matches, monitor);
+				return matches;
+			}
+			// a zero-width pattern limits where matches start without limiting where they end
+			Pattern finder= Pattern.compile("(?=" + patternString + ")", patternFlags); //$NON-NLS-1$ //$NON-NLS-2$
+			// the workers search a copy, as views of synchronized documents lock the document for
+			// every access, which may be held by the caller of this method
+			return findMatchesInParallel(finder, pattern, text.toString(), chunks, monitor);
+		} catch (StackOverflowError e) {
+			String message= TextMessages.getString("FindReplaceDocumentAdapter.patternTooComplex"); //$NON-NLS-1$
+			throw new PatternSyntaxException(message, findString, -1);
+		}
+	}
+
+	/**
+	 * Searches the given chunks in parallel and merges the matches.
+	 * <p>
+	 * Each chunk is searched as if a match ended at its start. If a match of a preceding chunk
+	 * extends into a chunk, that chunk is searched again from the end of that match until a match
+	 * is found that was also found for the chunk; from there on, both searches are identical.
+	 * </p>
+	 *
+	 * @param finder the zero-width pattern which finds match starts
+	 * @param pattern the pattern
+	 * @param text the text to search
+	 * @param chunks the chunk boundaries, starting with <code>0</code> and ending with the text
+	 *            length
+	 * @param monitor the progress monitor
+	 * @return the matches in document order
+	 * @since 3.15
+	 */
+	private static List<IRegion> findMatchesInParallel(Pattern finder, Pattern pattern, String text, int[] chunks, IProgressMonitor monitor) {
+		List<ForkJoinTask<List<IRegion>>> tasks= new ArrayList<>(chunks.length - 1);
+		for (int i= 0; i < chunks.length - 1; i++) {
+			int start= chunks[i];
+			int end= chunks[i + 1];
+			// unlike the finder, the pattern skips the end of the text when it is too short for a match
+			boolean last= end == text.length();
+			tasks.add(ForkJoinPool.commonPool().submit(() -> {
+				List<IRegion> matches= new ArrayList<>();
+				findMatches(last ? null : finder.matcher(text), pattern.matcher(text), start, end, matches, monitor);
+				return matches;
+			}));
+		}
+
+		List<IRegion> result= new ArrayList<>();
+		Matcher finderMatcher= finder.matcher(text);
+		Matcher matcher= pattern.matcher(text);
+		try {
+			for (int i= 0; i < tasks.size(); i++) {
+				List<IRegion> chunkMatches= tasks.get(i).join();
+				int position= result.isEmpty() ? 0 : end(result.get(result.size() - 1));
+				if (position <= chunks[i]) {
+					result.addAll(chunkMatches);
+					continue;
+				}
+
+				int next= 0;
+				IRegion match;
+				Matcher chunkFinder= chunks[i + 1] == text.length() ? null : finderMatcher;
+				while ((match= findNext(chunkFinder, matcher, position, chunks[i + 1])) != null) {
+					while (next < chunkMatches.size() && chunkMatches.get(next).getOffset() < match.getOffset())
+						next++;
+					if (next < chunkMatches.size() && chunkMatches.get(next).equals(match)) {
+						result.addAll(chunkMatches.subList(next, chunkMatches.size()));
+						break;
+					}
+					result.add(match);
+					position= end(match);
+				}
+			}
+		} finally {
+			for (ForkJoinTask<List<IRegion>> task : tasks)
+				task.cancel(false);
+		}
+		return result;
+	}
+
+	/**
+	 * Adds the non-empty matches that start in the given range to the given list.
+	 *
+	 * @param finder the matcher for the zero-width pattern which finds match starts, or
+	 *            <code>null</code> if <code>end</code> is the text length
+	 * @param matcher the matcher
+	 * @param start the start of the range
+	 * @param end the end of the range
+	 * @param matches the list to add the matches to
+	 * @param monitor the progress monitor
+	 * @since 3.15
+	 */
+	private static void findMatches(Matcher finder, Matcher matcher, int start, int end, List<IRegion> matches, IProgressMonitor monitor) {
+		int position= start;
+		IRegion match;
+		while ((match= findNext(finder, matcher, position, end)) != null) {
+			if (monitor.isCanceled())
+				throw new OperationCanceledException();
+			matches.add(match);
+			position= end(match);
+		}
+		if (monitor.isCanceled())
+			throw new OperationCanceledException();
+	}
+
+	/**
+	 * Returns the first non-empty match that starts in the given range. The match itself may
+	 * extend beyond the end of the range. Only the location of the match is returned, since
+	 * {@link Matcher#toMatchResult()} copies the whole text for every match.
+	 *
+	 * @param finder the matcher for the zero-width pattern which finds match starts, or
+	 *            <code>null</code> if <code>end</code> is the text length
+	 * @param matcher the matcher
+	 * @param position the start of the range
+	 * @param end the end of the range
+	 * @return the match or <code>null</code> if there is none
+	 * @since 3.15
+	 */
+	private static IRegion findNext(Matcher finder, Matcher matcher, int position, int end) {
+		// the region of the matcher always ends at the end of the text
+		matcher.useTransparentBounds(true).useAnchoringBounds(false);
+		while (position < end) {
+			int start;
+			if (finder == null) {
+				matcher.region(position, end);
+				if (!matcher.find())
+					return null;
+				start= matcher.start();
+			} else {
+				finder.useTransparentBounds(true).useAnchoringBounds(false).region(position, end);
+				if (!finder.find())
+					return null;
+				start= finder.start();
+				matcher.region(start, matcher.regionEnd());
+				if (!matcher.lookingAt())
+					return null;
+			}
+			if (matcher.end() > start)
+				return new Region(start, matcher.end() - start);
+			position= start + 1;
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the end offset of the given region.
+	 *
+	 * @param region the region
+	 * @return the offset after the last character of the region
+	 * @since 3.15
+	 */
+	private static int end(IRegion region) {
+		return region.getOffset() + region.getLength();
+	}
+
+	/**
+	 * Computes the boundaries of the chunks that are searched in parallel. Chunks start at line
+	 * boundaries.
+	 *
+	 * @param length the length of the text
+	 * @return the chunk boundaries, starting with <code>0</code> and ending with
+	 *         <code>length</code>
+	 * @since 3.15
+	 */
+	private int[] computeChunks(int length) {
+		if (length < 2 * PARALLEL_CHUNK_SIZE || ForkJoinPool.getCommonPoolParallelism() < 2)
+			return new int[] { 0, length };
+
+		List<Integer> chunks= new ArrayList<>();
+		chunks.add(Integer.valueOf(0));
+		int previous= 0;
+		try {
+			for (int offset= PARALLEL_CHUNK_SIZE; offset < length - PARALLEL_CHUNK_SIZE / 2; offset= previous + PARALLEL_CHUNK_SIZE) {
+				int line= fDocument.getLineOfOffset(offset);
+				if (line + 1 >= fDocument.getNumberOfLines())
+					break;
+				int boundary= fDocument.getLineOffset(line + 1);
+				if (boundary >= length)
+					break;
+				chunks.add(Integer.valueOf(boundary));
+				previous= boundary;
+			}
+		} catch (BadLocationException e) {
+			// search the remaining text as one chunk
+		}
+		chunks.add(Integer.valueOf(length));
+
+		int[] result= new int[chunks.size()];
+		for (int i= 0; i < result.length; i++)
+			result[i]= chunks.get(i).intValue();
+		return result;
+	}
+
+	/**
+	 * Tells whether the given pattern can be wrapped into a look-ahead group, which is how
+	 * chunks are searched in parallel.
+	 *
+	 * @param patternString the pattern
+	 * @return <code>true</code> if the pattern can be searched in parallel
+	 * @since 3.15
+	 */
+	private static boolean canSearchInParallel(String patternString) {
+		// an unterminated quote or a comment would swallow the closing parenthesis
+		int quote= patternString.lastIndexOf("\\Q"); //$NON-NLS-1$
+		if (quote != -1 && patternString.indexOf("\\E", quote) == -1) //$NON-NLS-1$
+			return false;
+		return !COMMENTS_FLAG.matcher(patternString).find();
+	}
+
+	/**
+	 * Returns the flags for the pattern of a find operation.
+	 *
+	 * @param caseSensitive indicates whether lower and upper case should be distinguished
+	 * @param regExSearch if <code>true</code> the search uses a regular expression
+	 * @return the pattern flags
+	 * @since 3.15
+	 */
+	private static int getPatternFlags(boolean caseSensitive, boolean regExSearch) {
+		int patternFlags= 0;
+
+		if (regExSearch)
+			patternFlags |= Pattern.MULTILINE;
+
+		if (!caseSensitive)
+			patternFlags |= Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+
+		return patternFlags;
+	}
+
+	/**
+	 * Converts the given find string into a regular expression.
+	 *
+	 * @param findString the string to find
+	 * @param wholeWord indicates whether the findString should be limited by white spaces
+	 * @param regExSearch if <code>true</code> findString represents a regular expression
+	 * @return the regular expression
+	 * @throws PatternSyntaxException if \R is used at an illegal position
+	 * @since 3.15
+	 */
+	private String toPatternString(String findString, boolean wholeWord, boolean regExSearch) {
+		if (regExSearch)
+			findString= substituteLinebreak(findString);
+		else
+			findString= asRegPattern(findString);
+
+		if (wholeWord)
+			findString= "\\b" + findString + "\\b"; //$NON-NLS-1$ //$NON-NLS-2$
+
+		return findString;
+	}
+
+	/**
+	 * Computes the substitution text for the given match of a regular expression.
+	 *
+	 * @param pattern the regular expression
+	 * @param match the matched text
+	 * @param replaceText the replace pattern
+	 * @return the substitution text
+	 * @throws PatternSyntaxException if the replace pattern is invalid
+	 * @since 3.15
+	 */
+	private String interpretReplaceText(Pattern pattern, String match, String replaceText) {
+		try {
+			replaceText= interpretReplaceEscapes(replaceText, match);
+			Matcher replaceTextMatcher= pattern.matcher(match);
+			return replaceTextMatcher.replaceFirst(replaceText);
+		} catch (IndexOutOfBoundsException ex) {
+			throw new PatternSyntaxException(ex.getLocalizedMessage(), replaceText, -1);
+		}
+	}
+
+	/**
+	 * Checks that replacing the given range does not require the document to repair its line
+	 * information.
+	 *
+	 * @param offset the offset of the replaced range
+	 * @param length the length of the replaced range
+	 * @param replaceText the substitution text
+	 * @throws BadLocationException if the range is invalid
+	 * @throws PatternSyntaxException if the line information would have to be repaired
+	 * @since 3.15
+	 */
+	private void checkLineInformationRepair(int offset, int length, String replaceText) throws BadLocationException {
+		if (fDocument instanceof IRepairableDocumentExtension
+				&& ((IRepairableDocumentExtension)fDocument).isLineInformationRepairNeeded(offset, length, replaceText)) {
+			String message= TextMessages.getString("FindReplaceDocumentAdapter.incompatibleLineDelimiter"); //$NON-NLS-1$
+			throw new PatternSyntaxException(message, replaceText, offset);
+		}
+	}
+
 	// ---------- CharSequence implementation ----------
 
 	@Override
 	public int length() {
+		CharSequence text= fDocumentText;
+		if (text != null)
+			return text.length();
 		return fDocument.getLength();
 	}
 
 	@Override
 	public char charAt(int index) {
+		CharSequence text= fDocumentText;
+		if (text != null)
+			return text.charAt(index);
 		try {
 			return fDocument.getChar(index);
 		} catch (BadLocationException e) {
@@ -625,6 +1076,9 @@ public class FindReplaceDocumentAdapter implements CharSequence {
 
 	@Override
 	public CharSequence subSequence(int start, int end) {
+		CharSequence text= fDocumentText;
+		if (text != null)
+			return text.subSequence(start, end);
 		try {
 			return fDocument.get(start, end - start);
 		} catch (BadLocationException e) {
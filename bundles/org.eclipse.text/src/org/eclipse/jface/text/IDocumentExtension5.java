@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+/**
+ * Extension interface for {@link org.eclipse.jface.text.IDocument}. It adds read access to the
+ * document content that does not copy the text, as an alternative to {@link IDocument#get()} for
+ * clients like searches and scanners that only need to read the content sequentially.
+ *
+ * @since 3.15
+ */
+public interface IDocumentExtension5 {
+
+	/**
+	 * Returns a read-only view of this document's content. The view is backed directly by the
+	 * document's text store, so neither this call nor reading the view copies the text.
+	 * <p>
+	 * The view reflects the content at the time of this call. Depending on the text store, it
+	 * either remains unchanged (see {@link PieceTableTextStore}) or becomes invalid when the
+	 * document is modified. Clients must therefore not use the view after modifying the document
+	 * and should obtain and read it while holding the document's lock object, if any (see
+	 * {@link ISynchronizable}), when the document may be modified concurrently.
+	 * </p>
+	 *
+	 * @return a read-only view of this document's content
+	 */
+	CharSequence getCharSequence();
+}
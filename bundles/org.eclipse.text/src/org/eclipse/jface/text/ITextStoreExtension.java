@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+
+/**
+ * Extension interface for {@link org.eclipse.jface.text.ITextStore}. It adds read access to the
+ * stored text that does not copy the text.
+ *
+ * @since 3.15
+ */
+public interface ITextStoreExtension {
+
+	/**
+	 * Returns a read-only view of the specified character range. The view does not copy the
+	 * stored text. Unless specified otherwise by the implementation, the view must not be used
+	 * after this store has been modified.
+	 *
+	 * @param offset the offset of the range
+	 * @param length the length of the range
+	 * @return a view of the range
+	 */
+	CharSequence getCharSequence(int offset, int length);
+}
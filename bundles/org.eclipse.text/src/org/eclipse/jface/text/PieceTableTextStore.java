@@ -0,0 +1,440 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+
+/**
+ * A text store for very large documents. The content is described by a sequence of
+ * <em>pieces</em>, each of which refers to a range of an immutable character buffer: either the
+ * string passed to {@link #set(String)}, a large inserted string, or a slice of an append-only
+ * chunk that collects smaller insertions. The pieces are kept in a balanced, persistent search tree
+ * (a treap keyed by offset), so no content is ever moved or copied when the store is modified.
+ * <p>
+ * <strong>Performance:</strong> {@link #replace(int, int, String)} performs in expected
+ * <i>O(log p)</i>, where <var>p</var> is the number of pieces, independent of the document length
+ * and of the distance to the previous change. Consecutive insertions at the same location
+ * (typing) extend the last piece instead of creating new ones. {@link #set(String)} performs in
+ * <i>O(1)</i> and does not copy the given string. {@link #get(int)} performs in <i>O(1)</i> for
+ * sequential access and in <i>O(log p)</i> otherwise, {@linkplain #get(int, int) get(int,
+ * <var>length</var>)} in <i>O(log p + length)</i>.
+ * </p>
+ * <p>
+ * Since the tree is never modified in place, {@link #getCharSequence(int, int)} returns views that
+ * share all structure with the store and remain valid and unchanged after subsequent
+ * modifications.
+ * </p>
+ * <p>
+ * This class is not intended to be subclassed.
+ * </p>
+ *
+ * @see GapTextStore
+ * @since 3.15
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public class PieceTableTextStore implements ITextStore, ITextStoreExtension {
+
+	/** The capacity of the append-only chunks that hold inserted text. */
+	private static final int CHUNK_SIZE= 16 * 1024;
+
+	/**
+	 * Inserted strings of at least this length are referenced directly instead of being copied
+	 * into a chunk.
+	 */
+	private static final int LARGE_TEXT_LENGTH= CHUNK_SIZE / 4;
+
+	/**
+	 * An immutable tree node describing one piece of the content. Exactly one of
+	 * {@link #fString} and {@link #fChars} is non-<code>null</code>.
+	 */
+	private static final class Piece {
+		final String fString;
+		final char[] fChars;
+		final int fStart;
+		final int fLength;
+		final int fPriority;
+		final Piece fLeft;
+		final Piece fRight;
+		/** The number of characters described by this subtree. */
+		final int fSize;
+
+		Piece(String string, char[] chars, int start, int length, int priority, Piece left, Piece right) {
+			fString= string;
+			fChars= chars;
+			fStart= start;
+			fLength= length;
+			fPriority= priority;
+			fLeft= left;
+			fRight= right;
+			fSize= size(left) + length + size(right);
+		}
+
+		Piece with(int start, int length, Piece left, Piece right) {
+			return new Piece(fString, fChars, start, length, fPriority, left, right);
+		}
+
+		Piece withChildren(Piece left, Piece right) {
+			if (left == fLeft && right == fRight)
+				return this;
+			return new Piece(fString, fChars, fStart, fLength, fPriority, left, right);
+		}
+
+		char charAt(int index) {
+			if (fChars != null)
+				return fChars[fStart + index];
+			return fString.charAt(fStart + index);
+		}
+
+		void getChars(int from, int to, char[] dest, int destPos) {
+			if (fChars != null)
+				System.arraycopy(fChars, fStart + from, dest, destPos, to - from);
+			else
+				fString.getChars(fStart + from, fStart + to, dest, destPos);
+		}
+
+		String substring(int from, int to) {
+			if (fChars != null)
+				return new String(fChars, fStart + from, to - from);
+			return fString.substring(fStart + from, fStart + to);
+		}
+	}
+
+	/**
+	 * The result of a piece lookup: a piece and the absolute offset of its first character.
+	 * Immutable, so that it can be cached and read without synchronization.
+	 */
+	private static final class Location {
+		final Piece fPiece;
+		final int fOffset;
+
+		Location(Piece piece, int offset) {
+			fPiece= piece;
+			fOffset= offset;
+		}
+
+		boolean contains(int offset) {
+			return fOffset <= offset && offset < fOffset + fPiece.fLength;
+		}
+	}
+
+	/**
+	 * An immutable, zero-copy view of a range of a tree. Caches the last piece accessed to make
+	 * sequential access run in constant time.
+	 */
+	private static final class TextView implements CharSequence {
+		private final Piece fRoot;
+		private final int fOffset;
+		private final int fLength;
+		private Location fLocation;
+
+		TextView(Piece root, int offset, int length) {
+			fRoot= root;
+			fOffset= offset;
+			fLength= length;
+		}
+
+		@Override
+		public int length() {
+			return fLength;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index < 0 || index >= fLength)
+				throw new IndexOutOfBoundsException(index);
+			int offset= fOffset + index;
+			Location location= fLocation;
+			if (location == null || !location.contains(offset)) {
+				location= locate(fRoot, offset);
+				fLocation= location;
+			}
+			return location.fPiece.charAt(offset - location.fOffset);
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (start < 0 || start > end || end > fLength)
+				throw new IndexOutOfBoundsException();
+			return new TextView(fRoot, fOffset + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return getText(fRoot, fOffset, fLength);
+		}
+	}
+
+	/** The root of the piece tree, <code>null</code> if the store is empty. */
+	private Piece fRoot;
+	/** The chunk that receives inserted text, <code>null</code> if none has been allocated yet. */
+	private char[] fChunk;
+	/** The number of characters used in {@link #fChunk}. */
+	private int fChunkLength;
+	/** The last piece found by {@link #get(int)}, <code>null</code> if none. */
+	private Location fLocation;
+	/** The state of the pseudo random generator for the node priorities. */
+	private int fSeed= 0x2545F491;
+	/** The left part of the last {@link #split(Piece, int)}. */
+	private Piece fSplitLeft;
+	/** The right part of the last {@link #split(Piece, int)}. */
+	private Piece fSplitRight;
+
+	/**
+	 * Creates a new empty piece table text store.
+	 */
+	public PieceTableTextStore() {
+	}
+
+	@Override
+	public char get(int offset) {
+		Location location= fLocation;
+		if (location == null || !location.contains(offset)) {
+			if (offset < 0 || offset >= getLength())
+				throw new IndexOutOfBoundsException(offset);
+			location= locate(fRoot, offset);
+			fLocation= location;
+		}
+		return location.fPiece.charAt(offset - location.fOffset);
+	}
+
+	@Override
+	public String get(int offset, int length) {
+		checkRange(offset, length);
+		return getText(fRoot, offset, length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The view is a snapshot: it is not affected by subsequent modifications of this store and
+	 * remains valid.
+	 * </p>
+	 */
+	@Override
+	public CharSequence getCharSequence(int offset, int length) {
+		checkRange(offset, length);
+		return new TextView(fRoot, offset, length);
+	}
+
+	@Override
+	public int getLength() {
+		return size(fRoot);
+	}
+
+	@Override
+	public void replace(int offset, int length, String text) {
+		checkRange(offset, length);
+		split(fRoot, offset);
+		Piece left= fSplitLeft;
+		Piece right= fSplitRight;
+		if (length > 0) {
+			split(right, length);
+			right= fSplitRight;
+		}
+		fSplitLeft= null;
+		fSplitRight= null;
+
+		if (text != null && !text.isEmpty())
+			left= append(left, text);
+
+		fRoot= merge(left, right);
+		fLocation= null;
+	}
+
+	@Override
+	public void set(String text) {
+		fRoot= text == null || text.isEmpty() ? null : new Piece(text, null, 0, text.length(), nextPriority(), null, null);
+		fChunk= null;
+		fChunkLength= 0;
+		fLocation= null;
+	}
+
+	/**
+	 * Appends the given text to the end of the given tree.
+	 *
+	 * @param tree the tree, may be <code>null</code>
+	 * @param text the non-empty text to append
+	 * @return the new tree
+	 */
+	private Piece append(Piece tree, String text) {
+		int textLength= text.length();
+		if (textLength >= LARGE_TEXT_LENGTH)
+			return merge(tree, new Piece(text, null, 0, textLength, nextPriority(), null, null));
+
+		if (fChunk == null || fChunkLength + textLength > fChunk.length) {
+			fChunk= new char[CHUNK_SIZE];
+			fChunkLength= 0;
+		}
+		int start= fChunkLength;
+		text.getChars(0, textLength, fChunk, start);
+		fChunkLength+= textLength;
+
+		Piece last= rightmost(tree);
+		if (last != null && last.fChars == fChunk && last.fStart + last.fLength == start)
+			return extendRightmost(tree, textLength);
+		return merge(tree, new Piece(null, fChunk, start, textLength, nextPriority(), null, null));
+	}
+
+	/**
+	 * Splits the given tree at the given offset. The parts are stored in {@link #fSplitLeft} and
+	 * {@link #fSplitRight}; the given tree is not modified.
+	 *
+	 * @param node the tree to split, may be <code>null</code>
+	 * @param offset the offset to split at, relative to the tree
+	 */
+	private void split(Piece node, int offset) {
+		if (node == null || offset == 0) {
+			fSplitLeft= null;
+			fSplitRight= node;
+			return;
+		}
+		if (offset == node.fSize) {
+			fSplitLeft= node;
+			fSplitRight= null;
+			return;
+		}
+
+		int leftSize= size(node.fLeft);
+		int pieceEnd= leftSize + node.fLength;
+		if (offset <= leftSize) {
+			split(node.fLeft, offset);
+			fSplitRight= node.withChildren(fSplitRight, node.fRight);
+		} else if (offset >= pieceEnd) {
+			split(node.fRight, offset - pieceEnd);
+			fSplitLeft= node.withChildren(node.fLeft, fSplitLeft);
+		} else {
+			int cut= offset - leftSize;
+			fSplitLeft= node.with(node.fStart, cut, node.fLeft, null);
+			fSplitRight= node.with(node.fStart + cut, node.fLength - cut, null, node.fRight);
+		}
+	}
+
+	private int nextPriority() {
+		// xorshift
+		int x= fSeed;
+		x^= x << 13;
+		x^= x >>> 17;
+		x^= x << 5;
+		fSeed= x;
+		return x;
+	}
+
+	private void checkRange(int offset, int length) {
+		if (offset < 0 || length < 0 || offset + length > getLength())
+			throw new IndexOutOfBoundsException();
+	}
+
+	private static int size(Piece node) {
+		return node == null ? 0 : node.fSize;
+	}
+
+	/**
+	 * Concatenates two trees.
+	 *
+	 * @param left the left tree, may be <code>null</code>
+	 * @param right the right tree, may be <code>null</code>
+	 * @return the concatenation
+	 */
+	private static Piece merge(Piece left, Piece right) {
+		if (left == null)
+			return right;
+		if (right == null)
+			return left;
+		if (left.fPriority >= right.fPriority)
+			return left.withChildren(left.fLeft, merge(left.fRight, right));
+		return right.withChildren(merge(left, right.fLeft), right.fRight);
+	}
+
+	private static Piece rightmost(Piece node) {
+		if (node == null)
+			return null;
+		while (node.fRight != null)
+			node= node.fRight;
+		return node;
+	}
+
+	private static Piece extendRightmost(Piece node, int delta) {
+		if (node.fRight == null)
+			return node.with(node.fStart, node.fLength + delta, node.fLeft, null);
+		return node.withChildren(node.fLeft, extendRightmost(node.fRight, delta));
+	}
+
+	/**
+	 * Finds the piece containing the given offset.
+	 *
+	 * @param node the tree to search
+	 * @param offset an offset in <code>[0, size(node))</code>
+	 * @return the location of the piece containing <code>offset</code>
+	 */
+	private static Location locate(Piece node, int offset) {
+		int base= 0;
+		while (true) {
+			int leftSize= size(node.fLeft);
+			int index= offset - base;
+			if (index < leftSize) {
+				node= node.fLeft;
+			} else if (index < leftSize + node.fLength) {
+				return new Location(node, base + leftSize);
+			} else {
+				base+= leftSize + node.fLength;
+				node= node.fRight;
+			}
+		}
+	}
+
+	private static String getText(Piece root, int offset, int length) {
+		if (length == 0)
+			return ""; //$NON-NLS-1$
+		Location location= locate(root, offset);
+		int from= offset - location.fOffset;
+		if (from + length <= location.fPiece.fLength)
+			return location.fPiece.substring(from, from + length);
+
+		char[] chars= new char[length];
+		getChars(root, offset, offset + length, chars, 0);
+		return new String(chars);
+	}
+
+	/**
+	 * Copies the characters in <code>[from, to)</code> of the given tree into the given array.
+	 *
+	 * @param node the tree
+	 * @param from the start offset, relative to the tree
+	 * @param to the end offset, relative to the tree
+	 * @param dest the destination array
+	 * @param destPos the start position in the destination array
+	 */
+	private static void getChars(Piece node, int from, int to, char[] dest, int destPos) {
+		while (node != null && from < to) {
+			int leftSize= size(node.fLeft);
+			if (from < leftSize) {
+				int end= Math.min(to, leftSize);
+				getChars(node.fLeft, from, end, dest, destPos);
+				destPos+= end - from;
+				from= end;
+				if (from == to)
+					return;
+			}
+			int pieceEnd= leftSize + node.fLength;
+			if (from < pieceEnd) {
+				int end= Math.min(to, pieceEnd);
+				node.getChars(from - leftSize, end - leftSize, dest, destPos);
+				destPos+= end - from;
+				from= end;
+			}
+			from-= pieceEnd;
+			to-= pieceEnd;
+			node= node.fRight;
+		}
+	}
+}
@@ -46,6 +46,14 @@ public class Position {
 	/** Indicates whether the position has been deleted */
 	public boolean isDeleted;
 
+	/**
+	 * The number of times the offset or length of any position was changed with
+	 * {@link #setOffset(int)} or {@link #setLength(int)}, which tells the range indexes of the
+	 * documents to update themselves.
+	 * @since 3.15
+	 */
+	static int fgModificationCount;
+
 	/**
 	 * Creates a new position with the given offset and length 0.
 	 *
@@ -183,6 +191,7 @@ public class Position {
 	public void setLength(int length) {
 		Assert.isTrue(length >= 0);
 		this.length= length;
+		fgModificationCount++;
 	}
 
 	/**
@@ -193,6 +202,7 @@ public class Position {
 	public void setOffset(int offset) {
 		Assert.isTrue(offset >= 0);
 		this.offset= offset;
+		fgModificationCount++;
 	}
 
 	@Override
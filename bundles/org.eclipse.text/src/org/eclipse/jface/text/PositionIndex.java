@@ -0,0 +1,166 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+
+/**
+ * An interval index over the positions of a document position category. The positions are
+ * ordered by offset and a segment tree over this order stores the maximum end offset of each
+ * subtree, so that the positions overlapping a range are found in <code>O(log n + k)</code>
+ * instead of by scanning all positions that start before or end after the range.
+ * <p>
+ * Position updaters and clients modify the indexed positions in place. The document counts
+ * these modifications, {@link Position#setOffset(int)} and {@link Position#setLength(int)}
+ * count the ones done by clients, and {@link #update(int)} brings the segment tree up to date
+ * when either count changed, as long as the positions are still ordered by offset. The index
+ * must be rebuilt whenever positions are added or removed.
+ * </p>
+ *
+ * @since 3.15
+ */
+class PositionIndex {
+
+	/** The positions ordered by offset */
+	private final Position[] fPositions;
+	/** The number of leaves of the segment tree, a power of two */
+	private final int fLeaves;
+	/**
+	 * The maximum end offset of the positions below each node, node <code>1</code> is the root
+	 * and the children of node <code>i</code> are <code>2i</code> and <code>2i + 1</code>
+	 */
+	private final int[] fMaxEnds;
+	/** The modification count of the document the segment tree is up to date with */
+	private int fModificationCount;
+	/** The modification count of the positions the segment tree is up to date with */
+	private int fPositionModificationCount;
+
+	/**
+	 * Creates an index of the given positions.
+	 *
+	 * @param positions the positions, ordered or almost ordered by offset
+	 * @param modificationCount the modification count of the positions of the document
+	 */
+	PositionIndex(List<Position> positions, int modificationCount) {
+		fPositions= positions.toArray(new Position[positions.size()]);
+		// the list is usually ordered already, which makes this linear
+		Arrays.sort(fPositions, Comparator.comparingInt(p -> p.offset));
+
+		int leaves= 1;
+		while (leaves < fPositions.length)
+			leaves <<= 1;
+		fLeaves= leaves;
+		fMaxEnds= new int[2 * leaves];
+		Arrays.fill(fMaxEnds, -1);
+		fModificationCount= modificationCount;
+		fPositionModificationCount= Position.fgModificationCount;
+		for (int i= 0; i < fPositions.length; i++)
+			fMaxEnds[leaves + i]= fPositions[i].offset + fPositions[i].length;
+		computeInnerNodes();
+	}
+
+	/**
+	 * Computes the maximum end offsets of the inner nodes of the segment tree from its leaves.
+	 */
+	private void computeInnerNodes() {
+		for (int i= fLeaves - 1; i > 0; i--)
+			fMaxEnds[i]= Math.max(fMaxEnds[2 * i], fMaxEnds[2 * i + 1]);
+	}
+
+	/**
+	 * Returns the number of indexed positions.
+	 *
+	 * @return the number of indexed positions
+	 */
+	int size() {
+		return fPositions.length;
+	}
+
+	/**
+	 * Brings the index up to date with the positions if they have been modified since it was
+	 * built or last updated. This is linear in the number of positions, but only happens once
+	 * after each batch of modifications and does not allocate.
+	 *
+	 * @param modificationCount the modification count of the positions of the document
+	 * @return <code>true</code> if the index describes the positions, <code>false</code> if the
+	 *         positions are no longer ordered by offset and the index must be rebuilt
+	 */
+	boolean update(int modificationCount) {
+		int positionModificationCount= Position.fgModificationCount;
+		if (modificationCount == fModificationCount && positionModificationCount == fPositionModificationCount)
+			return true;
+
+		int previousOffset= Integer.MIN_VALUE;
+		for (int i= 0; i < fPositions.length; i++) {
+			Position position= fPositions[i];
+			if (position.offset < previousOffset)
+				return false;
+			previousOffset= position.offset;
+			fMaxEnds[fLeaves + i]= position.offset + position.length;
+		}
+		computeInnerNodes();
+		fModificationCount= modificationCount;
+		fPositionModificationCount= positionModificationCount;
+		return true;
+	}
+
+	/**
+	 * Adds the positions that start at or before <code>maxStart</code> and end at or after
+	 * <code>minEnd</code> to the given list, ordered by offset. The end of a position is its
+	 * offset plus its length.
+	 *
+	 * @param maxStart the largest offset of the positions to add
+	 * @param minEnd the smallest end of the positions to add
+	 * @param result the list to add the positions to
+	 */
+	void collect(int maxStart, int minEnd, List<Position> result) {
+		int left= 0;
+		int right= fPositions.length;
+		while (left < right) {
+			int mid= (left + right) >>> 1;
+			if (fPositions[mid].offset <= maxStart)
+				left= mid + 1;
+			else
+				right= mid;
+		}
+		if (left > 0)
+			collect(1, 0, fLeaves, left, minEnd, result);
+	}
+
+	/**
+	 * Adds the positions below the given node with an index smaller than <code>limit</code>
+	 * that end at or after <code>minEnd</code>.
+	 *
+	 * @param node the node of the segment tree
+	 * @param first the index of the first position below the node
+	 * @param count the number of leaves below the node
+	 * @param limit the index of the first position not to add
+	 * @param minEnd the smallest end of the positions to add
+	 * @param result the list to add the positions to
+	 */
+	private void collect(int node, int first, int count, int limit, int minEnd, List<Position> result) {
+		if (first >= limit || fMaxEnds[node] < minEnd)
+			return;
+		if (count == 1) {
+			result.add(fPositions[first]);
+			return;
+		}
+		int half= count >>> 1;
+		collect(2 * node, first, half, limit, minEnd, result);
+		collect(2 * node + 1, first + half, half, limit, minEnd, result);
+	}
+}
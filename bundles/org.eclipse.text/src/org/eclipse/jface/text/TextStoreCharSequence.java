@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text;
+
+
+/**
+ * A read-only view of a range of a text store that reads through {@link ITextStore#get(int)}.
+ * Used for text stores that do not implement {@link ITextStoreExtension}.
+ *
+ * @since 3.15
+ */
+class TextStoreCharSequence implements CharSequence {
+
+	private final ITextStore fStore;
+	private final int fOffset;
+	private final int fLength;
+
+	/**
+	 * Creates a view of the given range of the given store.
+	 *
+	 * @param store the text store
+	 * @param offset the offset of the range
+	 * @param length the length of the range
+	 */
+	TextStoreCharSequence(ITextStore store, int offset, int length) {
+		fStore= store;
+		fOffset= offset;
+		fLength= length;
+	}
+
+	@Override
+	public int length() {
+		return fLength;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if (index < 0 || index >= fLength)
+			throw new IndexOutOfBoundsException(index);
+		return fStore.get(fOffset + index);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		if (start < 0 || start > end || end > fLength)
+			throw new IndexOutOfBoundsException();
+		return new TextStoreCharSequence(fStore, fOffset + start, end - start);
+	}
+
+	@Override
+	public String toString() {
+		return fStore.get(fOffset, fLength);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2015 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -178,25 +178,20 @@ abstract class TreeLineTracker implements ILineTracker {
 		if (n == 0)
 			return;
 
-		Line line= lines.get(0);
-		String delim= line.delimiter;
-		if (delim == null)
-			delim= NO_DELIM;
-		int length= line.length;
-		fRoot= new Node(length, delim);
-		Node node= fRoot;
-
-		for (int i= 1; i < n; i++) {
-			line= lines.get(i);
-			delim= line.delimiter;
-			if (delim == null)
-				delim= NO_DELIM;
-			length= line.length;
-			node= insertAfter(node, length, delim);
+		int[] lengths= new int[n + 1];
+		String[] delimiters= new String[n + 1];
+		for (int i= 0; i < n; i++) {
+			Line line= lines.get(i);
+			lengths[i]= line.length;
+			delimiters[i]= line.delimiter == null ? NO_DELIM : line.delimiter;
 		}
-
-		if (node.delimiter != NO_DELIM)
-			insertAfter(node, 0, NO_DELIM);
+		int count= n;
+		if (delimiters[n - 1] != NO_DELIM) {
+			lengths[n]= 0;
+			delimiters[n]= NO_DELIM;
+			count++;
+		}
+		setLines(lengths, delimiters, count);
 
 		if (ASSERT) checkTree();
 	}
@@ -1206,12 +1201,88 @@ abstract class TreeLineTracker implements ILineTracker {
 
 	@Override
 	public final void set(String text) {
-		fRoot= new Node(0, NO_DELIM);
-		try {
-			replace(0, 0, text);
-		} catch (BadLocationException x) {
-			throw new InternalError();
+		int[] lengths= new int[16];
+		String[] delimiters= new String[16];
+		int count= 0;
+		int start= 0;
+		int length= text == null ? 0 : text.length();
+		DelimiterInfo info= text == null ? null : nextDelimiterInfo(text, 0);
+		while (true) {
+			if (count == lengths.length) {
+				lengths= Arrays.copyOf(lengths, count * 2);
+				delimiters= Arrays.copyOf(delimiters, count * 2);
+			}
+			if (info == null || info.delimiter == null) {
+				lengths[count]= length - start;
+				delimiters[count]= NO_DELIM;
+				count++;
+				break;
+			}
+			int end= info.delimiterIndex + info.delimiterLength;
+			lengths[count]= end - start;
+			delimiters[count]= info.delimiter;
+			count++;
+			start= end;
+			info= nextDelimiterInfo(text, start);
 		}
+		setLines(lengths, delimiters, count);
+
+		if (ASSERT) checkTree();
+	}
+
+	/**
+	 * Replaces the tree by a perfectly balanced tree of the given lines. This is linear in the
+	 * number of lines, whereas inserting the lines one by one re-balances the tree for every line.
+	 *
+	 * @param lengths the line lengths
+	 * @param delimiters the line delimiters, the last one must be {@link #NO_DELIM}
+	 * @param count the number of lines
+	 */
+	private void setLines(int[] lengths, String[] delimiters, int count) {
+		int[] offsets= new int[count + 1];
+		for (int i= 0; i < count; i++)
+			offsets[i + 1]= offsets[i] + lengths[i];
+		fRoot= createSubtree(lengths, delimiters, offsets, 0, count);
+		fRoot.parent= null;
+	}
+
+	/**
+	 * Creates a balanced subtree for the lines in <code>[from, to)</code>.
+	 *
+	 * @param lengths the line lengths
+	 * @param delimiters the line delimiters
+	 * @param offsets the line offsets
+	 * @param from the first line of the subtree
+	 * @param to the line after the last line of the subtree, &gt; <code>from</code>
+	 * @return the root of the subtree
+	 */
+	private static Node createSubtree(int[] lengths, String[] delimiters, int[] offsets, int from, int to) {
+		int middle= (from + to) >>> 1;
+		Node node= new Node(lengths[middle], delimiters[middle]);
+		node.line= middle - from;
+		node.offset= offsets[middle] - offsets[from];
+		// the height of a subtree created by this method only depends on its size
+		node.balance= (byte) (height(to - middle - 1) - height(middle - from));
+		if (from < middle) {
+			node.left= createSubtree(lengths, delimiters, offsets, from, middle);
+			node.left.parent= node;
+		}
+		if (middle + 1 < to) {
+			node.right= createSubtree(lengths, delimiters, offsets, middle + 1, to);
+			node.right.parent= node;
+		}
+		return node;
+	}
+
+	/**
+	 * Returns the height of a subtree with the given number of nodes created by
+	 * {@link #createSubtree(int[], String[], int[], int, int)}.
+	 *
+	 * @param size the number of nodes
+	 * @return the height of the subtree
+	 */
+	private static int height(int size) {
+		return Integer.SIZE - Integer.numberOfLeadingZeros(size);
 	}
 
 	@Override
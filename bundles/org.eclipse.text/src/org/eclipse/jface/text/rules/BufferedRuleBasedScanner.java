@@ -18,6 +18,7 @@ import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension5;
 
 /**
  * A buffered rule based scanner. The buffer always contains a section
@@ -40,6 +41,12 @@ public class BufferedRuleBasedScanner extends RuleBasedScanner {
 	private int fEnd;
 	/** The cached length of the document */
 	private int fDocumentLength;
+	/**
+	 * A read-only view of the document content, <code>null</code> if the document does not
+	 * provide one.
+	 * @since 3.15
+	 */
+	private CharSequence fDocumentText;
 
 
 	/**
@@ -86,6 +93,12 @@ public class BufferedRuleBasedScanner extends RuleBasedScanner {
 		if (fEnd > fDocumentLength)
 			fEnd= fDocumentLength;
 
+		if (fDocumentText != null) {
+			// read in bulk, views of synchronized documents lock the document for every access
+			fDocumentText.subSequence(fStart, fEnd).toString().getChars(0, fEnd - fStart, fBuffer, 0);
+			return;
+		}
+
 		try {
 
 			String content= fDocument.get(fStart, fEnd - fStart);
@@ -101,6 +114,7 @@ public class BufferedRuleBasedScanner extends RuleBasedScanner {
 		super.setRange(document, offset, length);
 
 		fDocumentLength= document.getLength();
+		fDocumentText= document instanceof IDocumentExtension5 extension ? extension.getCharSequence() : null;
 		shiftBuffer(offset);
 	}
 
@@ -18,7 +18,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.core.runtime.Assert;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jface.text.AbstractDocument;
 
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.BadPositionCategoryException;
@@ -31,6 +37,7 @@ import org.eclipse.jface.text.IDocumentPartitionerExtension;
 import org.eclipse.jface.text.IDocumentPartitionerExtension2;
 import org.eclipse.jface.text.IDocumentPartitionerExtension3;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ISynchronizable;
 import org.eclipse.jface.text.ITypedRegion;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.Region;
@@ -54,6 +61,11 @@ import org.eclipse.jface.text.TypedRegion;
  * {@link #clearPositionCache()} after modifying the partitioner's positions.
  * The cached positions may be accessed through {@link #getPositions()}.
  * </p>
+ * <p>
+ * By default a document change is rescanned until the partitioning is up to
+ * date again, which may be the end of the document. Clients can bound the
+ * rescan with {@link #setCheckpointing(int, int)}.
+ * </p>
  *
  * Originally since 3.1, but moved to org.eclipse.text in 3.14
  *
@@ -66,6 +78,12 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 	 * The position category this partitioner uses to store the document's partitioning information.
 	 */
 	private static final String CONTENT_TYPES_CATEGORY= "__content_types_category"; //$NON-NLS-1$
+	/**
+	 * The position category this partitioner uses to store the scanner checkpoints.
+	 *
+	 * @since 3.15
+	 */
+	private static final String CHECKPOINTS_CATEGORY= "__content_types_checkpoints_category"; //$NON-NLS-1$
 	/** The partitioner's scanner */
 	protected final IPartitionTokenScanner fScanner;
 	/** The legal content types of this partitioner */
@@ -99,6 +117,61 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 	 * someone requests partition information.
 	 */
 	private Position[] fCachedPositions= null;
+	/**
+	 * The position category this partitioner uses to store the scanner checkpoints, token
+	 * boundaries at the start of a line.
+	 *
+	 * @since 3.15
+	 */
+	private final String fCheckpointCategory;
+	/**
+	 * The position updater used for the checkpoints.
+	 *
+	 * @since 3.15
+	 */
+	private final DefaultPositionUpdater fCheckpointUpdater;
+	/**
+	 * The minimal number of characters between two checkpoints, <code>0</code> if no
+	 * checkpoints are kept.
+	 *
+	 * @since 3.15
+	 */
+	private int fCheckpointInterval= 0;
+	/**
+	 * The number of characters behind a change that are rescanned before the rest of the
+	 * rescan is deferred.
+	 *
+	 * @since 3.15
+	 */
+	private int fMaximalRescanLength= Integer.MAX_VALUE;
+	/**
+	 * The offset from which on the partitions are provisional, <code>-1</code> if the
+	 * partitioning is up to date.
+	 *
+	 * @since 3.15
+	 */
+	private int fProvisionalOffset= -1;
+	/**
+	 * The offset behind the last change inside the provisional partitions. The provisional
+	 * partitions and checkpoints before this offset cannot end a rescan.
+	 *
+	 * @since 3.15
+	 */
+	private int fProvisionalChangeEnd= -1;
+	/**
+	 * The job that completes the deferred rescan of documents with a lock object, created on
+	 * demand.
+	 *
+	 * @since 3.15
+	 */
+	private Job fProvisionalRescanJob;
+	/**
+	 * The number of milliseconds without document changes after which the job completes the
+	 * deferred rescan.
+	 *
+	 * @since 3.15
+	 */
+	private static final long PROVISIONAL_RESCAN_DELAY= 500;
 	/** Debug option for cache consistency checking. */
 	private static final boolean CHECK_CACHE_CONSISTENCY= "true".equalsIgnoreCase(Platform.getDebugOption("org.eclipse.jface.text/debug/FastPartitioner/PositionCache"));  //$NON-NLS-1$//$NON-NLS-2$;
 
@@ -114,10 +187,147 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 		fLegalContentTypes= TextUtilities.copy(legalContentTypes);
 		fPositionCategory= CONTENT_TYPES_CATEGORY + hashCode();
 		fPositionUpdater= new DefaultPositionUpdater(fPositionCategory);
+		fCheckpointCategory= CHECKPOINTS_CATEGORY + hashCode();
+		fCheckpointUpdater= new DefaultPositionUpdater(fCheckpointCategory);
+	}
+
+	/**
+	 * Bounds the rescanning after document changes.
+	 * <p>
+	 * The partitioner remembers checkpoints, token boundaries at the start of a line, at least
+	 * <code>checkpointInterval</code> characters apart. A rescan stops as soon as it reaches a
+	 * checkpoint behind the change, also if no partition follows.
+	 * </p>
+	 * <p>
+	 * If a rescan has not caught up with the previous partitioning
+	 * <code>maximalRescanLength</code> characters behind a change, it stops at the next token
+	 * that starts a line. The partitions behind it are provisional, see
+	 * {@link #getProvisionalRegion()}, and the partitioning change reported for the document
+	 * change extends to the end of the document. Until they are rescanned, queries answer the
+	 * provisional partitions, which are the previous partitions moved by the document changes.
+	 * Every further document change continues the deferred rescan by up to
+	 * <code>maximalRescanLength</code> characters and reports the partitions it changed. Once
+	 * the document has not been changed for a while, a job completes the rescan while holding
+	 * the lock object of the document, see {@link #completeProvisionalRescan()}.
+	 * </p>
+	 * <p>
+	 * Deferring requires checkpoints, as only they let the rescan after a later change end
+	 * before the provisional partitions. Both require that the scanner does not carry state from
+	 * one token to the next token if the latter starts a line, which holds for
+	 * {@link RuleBasedPartitionScanner}. Must be called before the partitioner is connected to
+	 * a document.
+	 * </p>
+	 *
+	 * @param checkpointInterval the minimal number of characters between two checkpoints, or
+	 *            <code>0</code> to keep no checkpoints
+	 * @param maximalRescanLength the number of characters behind a change that are rescanned
+	 *            before the rest of the rescan is deferred, or {@link Integer#MAX_VALUE} to
+	 *            never defer rescanning, requires a positive <code>checkpointInterval</code>
+	 *            otherwise
+	 * @since 3.15
+	 */
+	public void setCheckpointing(int checkpointInterval, int maximalRescanLength) {
+		Assert.isLegal(checkpointInterval >= 0 && maximalRescanLength >= 0);
+		Assert.isLegal(checkpointInterval > 0 || maximalRescanLength == Integer.MAX_VALUE);
+		Assert.isTrue(fDocument == null);
+
+		fCheckpointInterval= checkpointInterval;
+		fMaximalRescanLength= maximalRescanLength;
+	}
+
+	/**
+	 * Returns the region whose partitions are provisional because rescanning it after a
+	 * document change has been deferred, see {@link #setCheckpointing(int, int)}. The
+	 * partitions answered for this region may be out of date until further document changes
+	 * have rescanned it.
+	 *
+	 * @return the provisional region, or <code>null</code> if the partitioning is up to date
+	 * @since 3.15
+	 */
+	public IRegion getProvisionalRegion() {
+		if (fProvisionalOffset == -1)
+			return null;
+		return new Region(fProvisionalOffset, fDocument.getLength() - fProvisionalOffset);
+	}
+
+	/**
+	 * Rescans all provisional partitions, see {@link #getProvisionalRegion()}, and notifies the
+	 * partitioning listeners of an {@link AbstractDocument} of the partitions that changed.
+	 * <p>
+	 * If the document has a lock object (see {@link ISynchronizable}), a job calls this while
+	 * holding it once the document has not been changed for a while. Clients of other documents
+	 * that defer rescanning may call this when convenient, in the thread that changes the
+	 * document. Must not be called while a document change is processed.
+	 * </p>
+	 *
+	 * @return the region whose partitioning changed, or <code>null</code> if none changed
+	 * @since 3.15
+	 */
+	public IRegion completeProvisionalRescan() {
+		if (!fIsInitialized || fProvisionalOffset == -1)
+			return null;
+
+		fStartOffset= -1;
+		fEndOffset= -1;
+		fDeleteOffset= -1;
+		try {
+			int reparseStart= fProvisionalOffset;
+			clearPositionCache();
+			Position[] category= getPositions();
+			int first= fDocument.computeIndexInCategory(fPositionCategory, reparseStart);
+			rescan(category, first, reparseStart, IDocument.DEFAULT_CONTENT_TYPE, reparseStart, reparseStart, Integer.MAX_VALUE);
+		} catch (BadPositionCategoryException x) {
+			// should never happen on connected documents
+		} catch (BadLocationException x) {
+			// the scanner returned offsets outside of the document, keep the partitions found so far
+			fProvisionalOffset= -1;
+			fProvisionalChangeEnd= -1;
+		} finally {
+			clearPositionCache();
+		}
+
+		IRegion region= createRegion();
+		if (region != null && fDocument instanceof AbstractDocument document)
+			document.partitioningChanged(this, region);
+		return region;
+	}
+
+	/**
+	 * Schedules the job that completes the deferred rescan, if there is one and the document
+	 * has a lock object to synchronize the job with document changes.
+	 *
+	 * @since 3.15
+	 */
+	private void scheduleProvisionalRescan() {
+		if (fProvisionalOffset == -1 || !(fDocument instanceof ISynchronizable synchronizable) || synchronizable.getLockObject() == null)
+			return;
+
+		if (fProvisionalRescanJob == null) {
+			fProvisionalRescanJob= new Job("Partitioning") { //$NON-NLS-1$
+				@Override
+				protected IStatus run(IProgressMonitor monitor) {
+					IDocument document= fDocument;
+					Object lockObject= document instanceof ISynchronizable s ? s.getLockObject() : null;
+					if (lockObject != null && !monitor.isCanceled()) {
+						synchronized (lockObject) {
+							if (document == fDocument && document.containsPositionCategory(fPositionCategory))
+								completeProvisionalRescan();
+						}
+					}
+					return Status.OK_STATUS;
+				}
+			};
+			fProvisionalRescanJob.setSystem(true);
+			fProvisionalRescanJob.setPriority(Job.DECORATE);
+		}
+		// rescheduling delays the job until the changes pause
+		fProvisionalRescanJob.schedule(PROVISIONAL_RESCAN_DELAY);
 	}
 
 	@Override
 	public String[] getManagingPositionCategories() {
+		if (fCheckpointInterval > 0)
+			return new String[] { fPositionCategory, fCheckpointCategory };
 		return new String[] { fPositionCategory };
 	}
 
@@ -139,6 +349,8 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 
 		fDocument= document;
 		fDocument.addPositionCategory(fPositionCategory);
+		if (fCheckpointInterval > 0)
+			fDocument.addPositionCategory(fCheckpointCategory);
 
 		fIsInitialized= false;
 		if (!delayInitialization)
@@ -162,12 +374,28 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 	protected void initialize() {
 		fIsInitialized= true;
 		clearPositionCache();
+		fProvisionalOffset= -1;
+		fProvisionalChangeEnd= -1;
 		fScanner.setRange(fDocument, 0, fDocument.getLength());
 
 		try {
+			int nextCheckpoint= Integer.MAX_VALUE;
+			if (fCheckpointInterval > 0) {
+				if (fDocument.containsPositionCategory(fCheckpointCategory))
+					fDocument.removePositionCategory(fCheckpointCategory);
+				fDocument.addPositionCategory(fCheckpointCategory);
+				nextCheckpoint= fCheckpointInterval;
+			}
+
 			IToken token= fScanner.nextToken();
 			while (!token.isEOF()) {
 
+				int offset= fScanner.getTokenOffset();
+				if (offset >= nextCheckpoint && isLineStart(offset)) {
+					fDocument.addPosition(fCheckpointCategory, new Position(offset));
+					nextCheckpoint= clampedSum(offset, fCheckpointInterval);
+				}
+
 				String contentType= getTokenContentType(token);
 
 				if (isSupportedContentType(contentType)) {
@@ -195,8 +423,13 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 
 		Assert.isTrue(fDocument.containsPositionCategory(fPositionCategory));
 
+		if (fProvisionalRescanJob != null)
+			fProvisionalRescanJob.cancel();
+
 		try {
 			fDocument.removePositionCategory(fPositionCategory);
+			if (fDocument.containsPositionCategory(fCheckpointCategory))
+				fDocument.removePositionCategory(fCheckpointCategory);
 		} catch (BadPositionCategoryException x) {
 			// can not happen because of Assert
 		}
@@ -298,12 +531,25 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 		try {
 			Assert.isTrue(e.getDocument() == fDocument);
 
+			int newLength= e.getText() == null ? 0 : e.getText().length();
+
+			if (fProvisionalOffset != -1 && e.getOffset() >= fProvisionalOffset) {
+				// the provisional partitions are rescanned from their start
+				fPositionUpdater.update(e);
+				updateCheckpoints(e);
+				fProvisionalChangeEnd= Math.max(shift(fProvisionalChangeEnd, e, newLength), e.getOffset() + newLength);
+				rememberRegion(e.getOffset(), fDocument.getLength() - e.getOffset());
+				rescanProvisionalPartitions();
+				return createRegion();
+			}
+
+			boolean wasProvisional= fProvisionalOffset != -1;
+
 			Position[] category= getPositions();
 			IRegion line= fDocument.getLineInformationOfOffset(e.getOffset());
 			int reparseStart= line.getOffset();
 			int partitionStart= -1;
 			String contentType= null;
-			int newLength= e.getText() == null ? 0 : e.getText().length();
 
 			int first= fDocument.computeIndexInCategory(fPositionCategory, reparseStart);
 			if (first > 0)	{
@@ -335,83 +581,279 @@ public class FastPartitioner implements IDocumentPartitioner, IDocumentPartition
 					break;
 				}
 			}
+			updateCheckpoints(e);
+			if (fProvisionalOffset != -1) {
+				fProvisionalOffset= shift(fProvisionalOffset, e, newLength);
+				fProvisionalChangeEnd= Math.max(shift(fProvisionalChangeEnd, e, newLength), fProvisionalOffset);
+			}
 			clearPositionCache();
 			category= getPositions();
 
-			fScanner.setPartialRange(fDocument, reparseStart, fDocument.getLength() - reparseStart, contentType, partitionStart);
+			int syncOffset= e.getOffset() + newLength;
+			rescan(category, first, reparseStart, contentType, partitionStart, syncOffset, clampedSum(syncOffset, fMaximalRescanLength));
 
-			int behindLastScannedPosition= reparseStart;
-			IToken token= fScanner.nextToken();
+			// a rescan that was deferred by an earlier change proceeds with every change
+			if (wasProvisional)
+				rescanProvisionalPartitions();
 
-			while (!token.isEOF()) {
+		} catch (BadPositionCategoryException x) {
+			// should never happen on connected documents
+		} catch (BadLocationException x) {
+			// the scanner returned offsets outside of the document, keep the partitions found so far
+		} finally {
+			clearPositionCache();
+			scheduleProvisionalRescan();
+		}
 
-				contentType= getTokenContentType(token);
+		return createRegion();
+	}
 
-				if (!isSupportedContentType(contentType)) {
-					token= fScanner.nextToken();
-					continue;
-				}
+	/**
+	 * Updates the checkpoints for the given document change. Checkpoints in or next to the
+	 * replaced text are removed, as the position updater would move them to offsets that have
+	 * not been token boundaries.
+	 *
+	 * @param e the document change
+	 * @throws BadLocationException if the change is invalid
+	 * @throws BadPositionCategoryException if the partitioner is not connected
+	 * @since 3.15
+	 */
+	private void updateCheckpoints(DocumentEvent e) throws BadLocationException, BadPositionCategoryException {
+		if (fCheckpointInterval == 0)
+			return;
+
+		Position[] checkpoints= fDocument.getPositions(fCheckpointCategory);
+		int end= e.getOffset() + e.getLength();
+		for (int i= fDocument.computeIndexInCategory(fCheckpointCategory, e.getOffset()); i < checkpoints.length && checkpoints[i].offset <= end; i++)
+			fDocument.removePosition(fCheckpointCategory, checkpoints[i]);
+		fCheckpointUpdater.update(e);
+	}
 
-				int start= fScanner.getTokenOffset();
-				int length= fScanner.getTokenLength();
+	/**
+	 * Rescans the document from the given offset until the partitioning is up to date, and
+	 * remembers the changed partitions.
+	 *
+	 * @param category the partitioner's positions
+	 * @param first the index of the first position that may have to be removed
+	 * @param reparseStart the offset at which to start scanning
+	 * @param contentType the content type of the partition at the start offset
+	 * @param partitionStart the start of the partition at the start offset
+	 * @param syncOffset the offset from which on an existing partition or checkpoint ends the
+	 *            rescan
+	 * @param stopOffset the offset from which on the rest of the rescan is deferred
+	 * @throws BadLocationException if the scanner returns invalid offsets
+	 * @throws BadPositionCategoryException if the partitioner is not connected
+	 * @since 3.15
+	 */
+	private void rescan(Position[] category, int first, int reparseStart, String contentType, int partitionStart, int syncOffset, int stopOffset) throws BadLocationException, BadPositionCategoryException {
+		boolean checkLineStarts= fCheckpointInterval > 0 || fMaximalRescanLength != Integer.MAX_VALUE;
+		Position[] checkpoints= null;
+		int checkpoint= 0;
+		int nextCheckpoint= Integer.MAX_VALUE;
+		if (fCheckpointInterval > 0) {
+			checkpoints= fDocument.getPositions(fCheckpointCategory);
+			checkpoint= fDocument.computeIndexInCategory(fCheckpointCategory, reparseStart);
+			nextCheckpoint= checkpoint > 0 ? clampedSum(checkpoints[checkpoint - 1].offset, fCheckpointInterval) : fCheckpointInterval;
+		}
 
-				behindLastScannedPosition= start + length;
-				int lastScannedPosition= behindLastScannedPosition - 1;
+		fScanner.setPartialRange(fDocument, reparseStart, fDocument.getLength() - reparseStart, contentType, partitionStart);
 
-				// remove all affected positions
-				while (first < category.length) {
-					TypedPosition p= (TypedPosition) category[first];
-					if (lastScannedPosition >= p.offset + p.length ||
-							(p.overlapsWith(start, length) &&
-							 	(!fDocument.containsPosition(fPositionCategory, start, length) ||
-							 	 !contentType.equals(p.getType())))) {
+		int behindLastScannedPosition= reparseStart;
+		IToken token= fScanner.nextToken();
 
-						rememberRegion(p.offset, p.length);
-						fDocument.removePosition(fPositionCategory, p);
-						++ first;
+		while (!token.isEOF()) {
 
-					} else
-						break;
-				}
+			int start= fScanner.getTokenOffset();
+			int length= fScanner.getTokenLength();
 
-				// if position already exists and we have scanned at least the
-				// area covered by the event, we are done
-				if (fDocument.containsPosition(fPositionCategory, start, length)) {
-					if (lastScannedPosition >= e.getOffset() + newLength)
-						return createRegion();
-					++ first;
-				} else {
-					// insert the new type position
-					try {
-						fDocument.addPosition(fPositionCategory, new TypedPosition(start, length, contentType));
-						rememberRegion(start, length);
-					} catch (BadPositionCategoryException x) {
-					} catch (BadLocationException x) {
+			if (checkpoints != null) {
+				// the rescanned checkpoints may no longer be token boundaries
+				while (checkpoint < checkpoints.length && checkpoints[checkpoint].offset < start)
+					fDocument.removePosition(fCheckpointCategory, checkpoints[checkpoint++]);
+			}
+
+			if (checkLineStarts && isLineStart(start)) {
+				boolean isCheckpoint= checkpoints != null && checkpoint < checkpoints.length && checkpoints[checkpoint].offset == start;
+				if (start >= syncOffset && (isCheckpoint && canSynchronize(start) || start >= stopOffset)) {
+					// the partitions before this token have been rescanned
+					while (first < category.length && category[first].offset < start) {
+						TypedPosition p= (TypedPosition) category[first++];
+						fDocument.removePosition(fPositionCategory, p);
+						rememberRegion(p.offset, p.length);
+					}
+					if (isCheckpoint && canSynchronize(start)) {
+						synchronizedAt(start);
+					} else {
+						fProvisionalOffset= start;
+						fProvisionalChangeEnd= Math.max(fProvisionalChangeEnd, start);
+						rememberRegion(start, fDocument.getLength() - start);
 					}
+					return;
 				}
 
+				if (isCheckpoint) {
+					++ checkpoint;
+					nextCheckpoint= clampedSum(start, fCheckpointInterval);
+				} else if (start >= nextCheckpoint) {
+					fDocument.addPosition(fCheckpointCategory, new Position(start));
+					nextCheckpoint= clampedSum(start, fCheckpointInterval);
+				}
+			}
+
+			contentType= getTokenContentType(token);
+
+			if (!isSupportedContentType(contentType)) {
 				token= fScanner.nextToken();
+				continue;
 			}
 
-			first= fDocument.computeIndexInCategory(fPositionCategory, behindLastScannedPosition);
+			behindLastScannedPosition= start + length;
+			int lastScannedPosition= behindLastScannedPosition - 1;
 
-			clearPositionCache();
-			category= getPositions();
-			TypedPosition p;
+			// remove all affected positions
 			while (first < category.length) {
-				p= (TypedPosition) category[first++];
-				fDocument.removePosition(fPositionCategory, p);
-				rememberRegion(p.offset, p.length);
+				TypedPosition p= (TypedPosition) category[first];
+				if (lastScannedPosition >= p.offset + p.length ||
+						(p.overlapsWith(start, length) &&
+						 	(!fDocument.containsPosition(fPositionCategory, start, length) ||
+						 	 !contentType.equals(p.getType())))) {
+
+					rememberRegion(p.offset, p.length);
+					fDocument.removePosition(fPositionCategory, p);
+					++ first;
+
+				} else
+					break;
 			}
 
-		} catch (BadPositionCategoryException x) {
-			// should never happen on connected documents
-		} catch (BadLocationException x) {
-		} finally {
-			clearPositionCache();
+			// if position already exists and we have scanned at least the
+			// area covered by the event, we are done
+			if (fDocument.containsPosition(fPositionCategory, start, length)) {
+				if (lastScannedPosition >= syncOffset && canSynchronize(start)) {
+					synchronizedAt(start);
+					return;
+				}
+				++ first;
+			} else {
+				// insert the new type position
+				try {
+					fDocument.addPosition(fPositionCategory, new TypedPosition(start, length, contentType));
+					rememberRegion(start, length);
+				} catch (BadPositionCategoryException x) {
+				} catch (BadLocationException x) {
+				}
+			}
+
+			token= fScanner.nextToken();
 		}
 
-		return createRegion();
+		if (checkpoints != null) {
+			while (checkpoint < checkpoints.length)
+				fDocument.removePosition(fCheckpointCategory, checkpoints[checkpoint++]);
+		}
+		fProvisionalOffset= -1;
+		fProvisionalChangeEnd= -1;
+
+		first= fDocument.computeIndexInCategory(fPositionCategory, behindLastScannedPosition);
+
+		clearPositionCache();
+		category= getPositions();
+		TypedPosition p;
+		while (first < category.length) {
+			p= (TypedPosition) category[first++];
+			fDocument.removePosition(fPositionCategory, p);
+			rememberRegion(p.offset, p.length);
+		}
+	}
+
+	/**
+	 * Returns whether a rescan can end at the given offset if the scanned partitions
+	 * continue as before.
+	 *
+	 * @param offset the offset
+	 * @return <code>true</code> if the partitions and checkpoints at and behind the offset
+	 *         are up to date if the scanned partitions continue as before
+	 * @since 3.15
+	 */
+	private boolean canSynchronize(int offset) {
+		return fProvisionalOffset == -1 || offset < fProvisionalOffset || offset >= fProvisionalChangeEnd;
+	}
+
+	/**
+	 * Notes that a rescan ended at the given offset.
+	 *
+	 * @param offset the offset from which on the partitions continue as before
+	 * @since 3.15
+	 */
+	private void synchronizedAt(int offset) {
+		if (fProvisionalOffset != -1 && offset >= fProvisionalOffset) {
+			fProvisionalOffset= -1;
+			fProvisionalChangeEnd= -1;
+		}
+	}
+
+	/**
+	 * Continues the deferred rescan of the provisional partitions by at least one line and up
+	 * to the maximal rescan length, see {@link #setCheckpointing(int, int)}. Must only be called
+	 * while a document change is processed, so that the changed partitions are reported.
+	 *
+	 * @throws BadLocationException if the scanner returns invalid offsets
+	 * @throws BadPositionCategoryException if the partitioner is not connected
+	 * @since 3.15
+	 */
+	private void rescanProvisionalPartitions() throws BadLocationException, BadPositionCategoryException {
+		if (fProvisionalOffset == -1)
+			return;
+
+		int reparseStart= fProvisionalOffset;
+		clearPositionCache();
+		Position[] category= getPositions();
+		int first= fDocument.computeIndexInCategory(fPositionCategory, reparseStart);
+		rescan(category, first, reparseStart, IDocument.DEFAULT_CONTENT_TYPE, reparseStart, reparseStart, clampedSum(reparseStart + 1, fMaximalRescanLength));
+	}
+
+	/**
+	 * Returns whether the given offset is at the start of a line.
+	 *
+	 * @param offset the offset
+	 * @return <code>true</code> if the offset is at the start of a line
+	 * @throws BadLocationException if the offset is invalid
+	 * @since 3.15
+	 */
+	private boolean isLineStart(int offset) throws BadLocationException {
+		if (offset == 0)
+			return true;
+		char c= fDocument.getChar(offset - 1);
+		return c == '\n' || c == '\r' && (offset == fDocument.getLength() || fDocument.getChar(offset) != '\n');
+	}
+
+	/**
+	 * Returns the offset to which the given offset is moved by the given change. Offsets in
+	 * the replaced text are moved to its start.
+	 *
+	 * @param offset the offset
+	 * @param e the document change
+	 * @param newLength the length of the inserted text
+	 * @return the offset after the change
+	 * @since 3.15
+	 */
+	private static int shift(int offset, DocumentEvent e, int newLength) {
+		if (offset >= e.getOffset() + e.getLength())
+			return offset + newLength - e.getLength();
+		return Math.min(offset, e.getOffset());
+	}
+
+	/**
+	 * Returns the sum of the given non-negative numbers, or {@link Integer#MAX_VALUE} if it
+	 * overflows.
+	 *
+	 * @param a the first number
+	 * @param b the second number
+	 * @return the sum of the numbers
+	 * @since 3.15
+	 */
+	private static int clampedSum(int a, int b) {
+		return (int) Math.min((long) a + b, Integer.MAX_VALUE);
 	}
 
 	/**
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.text.edits;
 
+import java.util.List;
+
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 
@@ -63,6 +65,20 @@ public final class DeleteEdit extends TextEdit {
 		return fDelta;
 	}
 
+	@Override
+	boolean collectBulkEdits(List<TextEdit> edits) {
+		if (hasChildren())
+			return false;
+		edits.add(this);
+		return true;
+	}
+
+	@Override
+	int performDeltaUpdating() {
+		fDelta= -getLength();
+		return fDelta;
+	}
+
 	@Override
 	boolean deleteChildren() {
 		return true;
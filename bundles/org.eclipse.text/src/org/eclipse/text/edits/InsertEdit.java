@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.text.edits;
 
+import java.util.List;
+
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jface.text.BadLocationException;
@@ -80,6 +82,20 @@ public final class InsertEdit extends TextEdit {
 		return fDelta;
 	}
 
+	@Override
+	boolean collectBulkEdits(List<TextEdit> edits) {
+		if (hasChildren())
+			return false;
+		edits.add(this);
+		return true;
+	}
+
+	@Override
+	int performDeltaUpdating() {
+		fDelta= fText.length() - getLength();
+		return fDelta;
+	}
+
 	@Override
 	boolean deleteChildren() {
 		return false;
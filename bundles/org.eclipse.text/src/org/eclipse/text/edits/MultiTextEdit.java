@@ -172,6 +172,11 @@ public class MultiTextEdit extends TextEdit {
 		return fDelta;
 	}
 
+	@Override
+	boolean collectBulkEdits(List<TextEdit> edits) {
+		return collectChildBulkEdits(edits);
+	}
+
 	@Override
 	boolean deleteChildren() {
 		return false;
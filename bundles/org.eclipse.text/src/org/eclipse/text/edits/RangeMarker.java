@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.text.edits;
 
+import java.util.List;
+
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
 
@@ -60,6 +62,11 @@ public final class RangeMarker extends TextEdit {
 		return fDelta;
 	}
 
+	@Override
+	boolean collectBulkEdits(List<TextEdit> edits) {
+		return collectChildBulkEdits(edits);
+	}
+
 	@Override
 	boolean deleteChildren() {
 		return false;
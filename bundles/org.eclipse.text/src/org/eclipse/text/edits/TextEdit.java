@@ -105,6 +105,21 @@ public abstract class TextEdit {
 	 */
 	public static final int UPDATE_REGIONS= 1 << 1;
 
+	/**
+	 * Flag indicating that the document is supposed to be changed by a
+	 * single replace of the text covered by the edits inside a document
+	 * rewrite session, instead of one replace per edit. The resulting text,
+	 * undo edit and edit regions are the same, but document listeners are
+	 * only notified once. If document positions start or end inside the
+	 * changed text, the text around them is replaced separately, so that the
+	 * positions are updated as if each edit was applied on its own. If the
+	 * tree contains move or copy edits, each edit is still applied on its
+	 * own, but inside a rewrite session.
+	 *
+	 * @since 3.15
+	 */
+	public static final int BULK_UPDATE= 1 << 2;
+
 	private static class InsertionComparator implements Comparator<TextEdit> {
 		@Override
 		public int compare(TextEdit edit1, TextEdit edit2) throws MalformedTreeException {
@@ -695,7 +710,8 @@ public abstract class TextEdit {
 	 *
 	 * @param document the document to be manipulated
 	 * @param style flags controlling the execution of the edit tree. Valid
-	 *  flags are: <code>CREATE_UNDO</code> and <code>UPDATE_REGIONS</code>.
+	 *  flags are: <code>CREATE_UNDO</code>, <code>UPDATE_REGIONS</code> and
+	 *  <code>BULK_UPDATE</code>.
 	 * @return a undo edit, if <code>CREATE_UNDO</code> is specified. Otherwise
 	 *  <code>null</code> is returned.
 	 *
@@ -940,6 +956,75 @@ public abstract class TextEdit {
 
 	abstract int performDocumentUpdating(IDocument document) throws BadLocationException;
 
+	/**
+	 * Collects the edits of this tree that change the document in document
+	 * order, if the tree can be applied by a single replace of the document.
+	 *
+	 * @param edits the list to add the edits changing the document to
+	 * @return <code>true</code> if the tree can be applied by a single
+	 *  replace, <code>false</code> otherwise
+	 */
+	boolean collectBulkEdits(List<TextEdit> edits) {
+		return false;
+	}
+
+	/**
+	 * Collects the edits of the children of this edit, see
+	 * {@link #collectBulkEdits(List)}.
+	 *
+	 * @param edits the list to add the edits changing the document to
+	 * @return <code>true</code> if the children can be applied by a single
+	 *  replace, <code>false</code> otherwise
+	 */
+	boolean collectChildBulkEdits(List<TextEdit> edits) {
+		if (fChildren != null) {
+			for (TextEdit child : fChildren) {
+				if (!child.collectBulkEdits(edits))
+					return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Traverses the edit tree like {@link #traverseDocumentUpdating(TextEditProcessor, IDocument)}
+	 * but only updates the deltas and lengths of the edits, as the document
+	 * is changed by a single replace.
+	 *
+	 * @param processor the text edit processor
+	 * @return the delta of this tree
+	 */
+	int traverseDeltaUpdating(TextEditProcessor processor) {
+		int delta= 0;
+		if (fChildren != null) {
+			for (int i= fChildren.size() - 1; i >= 0; i--) {
+				TextEdit child= fChildren.get(i);
+				delta+= child.traverseDeltaUpdating(processor);
+				childDocumentUpdated();
+			}
+		}
+		if (processor.considerEdit(this)) {
+			if (delta != 0)
+				adjustLength(delta);
+			int r= performDeltaUpdating();
+			if (r != 0)
+				adjustLength(r);
+			delta+= r;
+		}
+		return delta;
+	}
+
+	/**
+	 * Updates the delta of this edit like {@link #performDocumentUpdating(IDocument)}
+	 * without changing the document.
+	 *
+	 * @return the delta of this edit
+	 */
+	int performDeltaUpdating() {
+		fDelta= 0;
+		return fDelta;
+	}
+
 	int traverseRegionUpdating(TextEditProcessor processor, IDocument document, int accumulatedDelta, boolean delete) {
 		performRegionUpdating(accumulatedDelta, delete);
 		if (fChildren != null) {
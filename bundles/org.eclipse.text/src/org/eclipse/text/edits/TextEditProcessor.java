@@ -14,12 +14,22 @@
 package org.eclipse.text.edits;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.eclipse.core.runtime.Assert;
 
+import org.eclipse.jface.text.AbstractDocument;
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.BadPositionCategoryException;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.TextUtilities;
 
 
 /**
@@ -55,7 +65,8 @@ public class TextEditProcessor {
 	 *  text edit processors. Clients must not modify the edit
 	 *  (e.g adding new children) any longer.
 	 *
-	 * @param style {@link TextEdit#NONE}, {@link TextEdit#CREATE_UNDO} or {@link TextEdit#UPDATE_REGIONS})
+	 * @param style {@link TextEdit#NONE} or a combination of {@link TextEdit#CREATE_UNDO},
+	 *  {@link TextEdit#UPDATE_REGIONS} and {@link TextEdit#BULK_UPDATE}
 	 */
 	public TextEditProcessor(IDocument document, TextEdit root, int style) {
 		this(document, root, style, false);
@@ -86,7 +97,8 @@ public class TextEditProcessor {
 	 * @since 3.1
 	 */
 	static TextEditProcessor createSourceComputationProcessor(IDocument document, TextEdit root, int style) {
-		return new TextEditProcessor(document, root, style, true);
+		// the sub document of the source computation does not support rewrite sessions
+		return new TextEditProcessor(document, root, style & ~TextEdit.BULK_UPDATE, true);
 	}
 
 	/**
@@ -188,21 +200,229 @@ public class TextEditProcessor {
 	//---- execution --------------------------------------------------------------------
 
 	UndoEdit executeDo() throws BadLocationException {
+		List<TextEdit> bulkEdits= null;
+		if (bulkUpdate()) {
+			bulkEdits= new ArrayList<>();
+			if (getClass() == TextEditProcessor.class && fRoot.collectBulkEdits(bulkEdits))
+				return executeBulkDo(bulkEdits);
+		}
+
 		UndoCollector collector= new UndoCollector(fRoot);
+		DocumentRewriteSession session= null;
 		try {
 			if (createUndo())
 				collector.connect(fDocument);
+			if (bulkEdits != null)
+				session= startRewriteSession(fRoot.getChildrenSize());
 			computeSources();
 			fRoot.traverseDocumentUpdating(this, fDocument);
 			if (updateRegions()) {
 				fRoot.traverseRegionUpdating(this, fDocument, 0, false);
 			}
 		} finally {
+			if (session != null)
+				((IDocumentExtension4) fDocument).stopRewriteSession(session);
 			collector.disconnect(fDocument);
 		}
 		return collector.undo;
 	}
 
+	/**
+	 * Executes the given edits, which are the only edits of the tree changing
+	 * the document, by computing the changed text in a single pass and replacing
+	 * it in the document at once. If document positions touch the changed text,
+	 * the text is replaced in the fewest runs that update the positions as
+	 * replacing the text of each edit on its own would.
+	 *
+	 * @param edits the edits changing the document in document order
+	 * @return the undo edit or <code>null</code>
+	 * @throws BadLocationException if the edits do not fit the document
+	 */
+	private UndoEdit executeBulkDo(List<TextEdit> edits) throws BadLocationException {
+		UndoCollector collector= new UndoCollector(fRoot);
+		if (createUndo())
+			collector.start();
+		int delta= 0;
+		if (edits.isEmpty()) {
+			// nothing to change, but the hooks are called as usual
+			fRoot.traverseDeltaUpdating(this);
+		} else {
+			boolean[] runEnds= computeRunEnds(edits);
+			List<Position> runs= new ArrayList<>();
+			List<String> texts= new ArrayList<>();
+			int start= edits.get(0).getOffset();
+			int end= start;
+			StringBuilder text= new StringBuilder();
+			for (int i= 0; i < edits.size(); i++) {
+				TextEdit edit= edits.get(i);
+				int offset= edit.getOffset();
+				text.append(fDocument.get(end, offset - end));
+				text.append(getText(edit));
+				end= edit.getExclusiveEnd();
+				if (runEnds[i]) {
+					runs.add(new Position(start, end - start));
+					texts.add(text.toString());
+					if (i + 1 < edits.size()) {
+						start= edits.get(i + 1).getOffset();
+						end= start;
+						text.setLength(0);
+					}
+				}
+			}
+			if (createUndo()) {
+				// in the order the document listener would have recorded the edits
+				for (int i= edits.size() - 1; i >= 0; i--) {
+					TextEdit edit= edits.get(i);
+					collector.add(edit.getOffset(), fDocument.get(edit.getOffset(), edit.getLength()), getText(edit).length());
+				}
+			}
+
+			delta= fRoot.traverseDeltaUpdating(this);
+			DocumentRewriteSession session= startRewriteSession(edits.size());
+			try {
+				// from the last run to the first, so that the offsets of the runs stay valid
+				for (int i= runs.size() - 1; i >= 0; i--) {
+					Position run= runs.get(i);
+					fDocument.replace(run.getOffset(), run.getLength(), texts.get(i));
+				}
+			} finally {
+				if (session != null)
+					((IDocumentExtension4) fDocument).stopRewriteSession(session);
+			}
+		}
+		if (updateRegions()) {
+			fRoot.traverseRegionUpdating(this, fDocument, 0, false);
+		}
+		if (createUndo())
+			collector.finish(delta);
+		return collector.undo;
+	}
+
+	/**
+	 * Returns the text inserted by the given insert, replace or delete edit.
+	 *
+	 * @param edit the edit
+	 * @return the inserted text
+	 */
+	private static String getText(TextEdit edit) {
+		if (edit instanceof ReplaceEdit replace)
+			return replace.getText();
+		if (edit instanceof InsertEdit insert)
+			return insert.getText();
+		return ""; //$NON-NLS-1$
+	}
+
+	/**
+	 * Tells after which of the given edits a run of edits that are replaced in
+	 * the document at once must end. A single replace of several edits updates
+	 * the positions touching the changed text differently than replacing the
+	 * text of each edit on its own. Hence neither a position boundary may lie
+	 * between the edits of a run, nor may a position boundary touch an edit of a
+	 * run with more than one edit. Positions enclosing a run or not touching it
+	 * are updated the same. The positions of partitioners are not considered,
+	 * as the partitioners compute them from the changed text.
+	 *
+	 * @param edits the edits changing the document in document order
+	 * @return for each edit whether a run ends with it
+	 */
+	private boolean[] computeRunEnds(List<TextEdit> edits) {
+		boolean[] runEnds= new boolean[edits.size()];
+		runEnds[edits.size() - 1]= true;
+		int start= edits.get(0).getOffset();
+		int end= start;
+		for (TextEdit edit : edits)
+			end= Math.max(end, edit.getExclusiveEnd());
+
+		Set<String> partitionings= new HashSet<>(Arrays.asList(TextUtilities.computePartitionManagingCategories(fDocument)));
+		for (String category : fDocument.getPositionCategories()) {
+			if (partitionings.contains(category))
+				continue;
+			try {
+				for (Position position : getTouchingPositions(category, start, end)) {
+					addRunEnds(edits, position.getOffset(), runEnds);
+					addRunEnds(edits, position.getOffset() + position.getLength(), runEnds);
+				}
+			} catch (BadPositionCategoryException e) {
+				// the category has been removed
+			}
+		}
+		return runEnds;
+	}
+
+	/**
+	 * Returns the positions of the given category that may touch the given
+	 * range, without copying all positions if the document supports it.
+	 *
+	 * @param category the position category
+	 * @param start the start of the range
+	 * @param end the exclusive end of the range
+	 * @return the positions that may touch the range
+	 * @throws BadPositionCategoryException if the category is undefined
+	 */
+	private Position[] getTouchingPositions(String category, int start, int end) throws BadPositionCategoryException {
+		if (fDocument instanceof AbstractDocument document) {
+			// extend the range by one character, so that positions ending at its start are included
+			int offset= Math.max(0, start - 1);
+			return document.getPositions(category, offset, end + 1 - offset, true, true);
+		}
+		return fDocument.getPositions(category);
+	}
+
+	/**
+	 * Marks the edits after which a run must end because of the given position
+	 * boundary.
+	 *
+	 * @param edits the edits changing the document in document order
+	 * @param boundary the offset or end of a position
+	 * @param runEnds for each edit whether a run ends with it
+	 */
+	private static void addRunEnds(List<TextEdit> edits, int boundary, boolean[] runEnds) {
+		// the last edit starting at or before the boundary
+		int index= -1;
+		int low= 0;
+		int high= edits.size() - 1;
+		while (low <= high) {
+			int mid= (low + high) >>> 1;
+			if (edits.get(mid).getOffset() <= boundary) {
+				index= mid;
+				low= mid + 1;
+			} else {
+				high= mid - 1;
+			}
+		}
+		if (index == -1)
+			return;
+
+		if (edits.get(index).getExclusiveEnd() < boundary) {
+			// the boundary lies between two edits, or behind the last one
+			runEnds[index]= true;
+			return;
+		}
+		for (int i= index; i >= 0 && edits.get(i).getExclusiveEnd() >= boundary; i--) {
+			// the boundary touches the edit, which becomes a run of its own
+			runEnds[i]= true;
+			if (i > 0)
+				runEnds[i - 1]= true;
+			// the edit may move the boundary to its offset, next to the edit before
+			boundary= edits.get(i).getOffset();
+		}
+	}
+
+	/**
+	 * Starts a rewrite session for applying the given number of edits if the
+	 * document supports it and is not already being rewritten.
+	 *
+	 * @param size the number of edits
+	 * @return the session or <code>null</code>
+	 */
+	private DocumentRewriteSession startRewriteSession(int size) {
+		if (fDocument instanceof IDocumentExtension4 extension && extension.getActiveRewriteSession() == null) {
+			DocumentRewriteSessionType type= size > 1000 ? DocumentRewriteSessionType.UNRESTRICTED : DocumentRewriteSessionType.UNRESTRICTED_SMALL;
+			return extension.startRewriteSession(type);
+		}
+		return null;
+	}
+
 	private void computeSources() {
 		for (List<TextEdit> list : fSourceEdits) {
 			if (list != null) {
@@ -235,4 +455,8 @@ public class TextEditProcessor {
 	private boolean updateRegions() {
 		return (fStyle & TextEdit.UPDATE_REGIONS) != 0;
 	}
+
+	private boolean bulkUpdate() {
+		return (fStyle & TextEdit.BULK_UPDATE) != 0;
+	}
 }
@@ -70,6 +70,19 @@ class UndoCollector implements IDocumentListener {
 			Assert.isTrue(false, "Can't happen"); //$NON-NLS-1$
 		}
 
+		String newText= event.getText();
+		add(offset, currentText, newText != null ? newText.length() : 0);
+	}
+
+	/**
+	 * Records the replace of the given text.
+	 *
+	 * @param offset the offset of the replaced text
+	 * @param currentText the replaced text
+	 * @param newTextLength the length of the replacing text
+	 * @since 3.15
+	 */
+	void add(int offset, String currentText, int newTextLength) {
 		/*
 		 * see https://bugs.eclipse.org/bugs/show_bug.cgi?id=93634
 		 * If the same string is replaced on many documents (e.g. rename
@@ -82,7 +95,25 @@ class UndoCollector implements IDocumentListener {
 		else
 			fLastCurrentText= currentText;
 
-		String newText= event.getText();
-		undo.add(new ReplaceEdit(offset, newText != null ? newText.length() : 0, currentText));
+		undo.add(new ReplaceEdit(offset, newTextLength, currentText));
+	}
+
+	/**
+	 * Starts collecting the undo without listening to a document.
+	 *
+	 * @since 3.15
+	 */
+	void start() {
+		undo= new UndoEdit();
+	}
+
+	/**
+	 * Finishes collecting the undo that has been started by {@link #start()}.
+	 *
+	 * @param delta the delta of all changes
+	 * @since 3.15
+	 */
+	void finish(int delta) {
+		undo.defineRegion(fOffset, fLength + delta);
 	}
 }
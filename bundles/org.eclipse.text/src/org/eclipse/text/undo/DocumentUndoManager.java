@@ -14,6 +14,7 @@
  *******************************************************************************/
 package org.eclipse.text.undo;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -69,6 +70,24 @@ import org.eclipse.jface.text.TextUtilities;
  */
 public class DocumentUndoManager implements IDocumentUndoManager {
 
+	/**
+	 * The default maximal number of bytes of text the undo history keeps in memory.
+	 *
+	 * @since 3.15
+	 */
+	public static final long DEFAULT_MAXIMAL_UNDO_SIZE= 64L << 20;
+
+	/**
+	 * The minimal number of characters of a change from which on the common prefix and suffix of
+	 * its inserted and replaced text are removed.
+	 */
+	private static final int COMPACT_THRESHOLD= 256;
+
+	/**
+	 * The maximal number of characters of adjacent changes of a compound change that are
+	 * coalesced into one change.
+	 */
+	private static final int COALESCE_LIMIT= 1024;
 
 	/**
 	 * Represents an undo-able text change, described as the
@@ -91,6 +110,35 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 		/** The replaced text. */
 		protected String fPreservedText;
 
+		/**
+		 * The position of the texts in the undo history file or <code>-1</code> if they have not
+		 * been spilled.
+		 *
+		 * @since 3.15
+		 */
+		protected long fSpillPosition= -1;
+
+		/**
+		 * Whether the texts are only held in the undo history file.
+		 *
+		 * @since 3.15
+		 */
+		protected boolean fSpilled;
+
+		/**
+		 * The length of the spilled newly inserted text.
+		 *
+		 * @since 3.15
+		 */
+		protected int fSpilledTextLength;
+
+		/**
+		 * The length of the spilled replaced text.
+		 *
+		 * @since 3.15
+		 */
+		protected int fSpilledPreservedTextLength;
+
 		/** The undo modification stamp. */
 		protected long fUndoModificationStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 
@@ -117,6 +165,8 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 		protected void reinitialize() {
 			fStart= fEnd= -1;
 			fText= fPreservedText= null;
+			fSpillPosition= -1;
+			fSpilled= false;
 			fUndoModificationStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 			fRedoModificationStamp= IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 		}
@@ -257,7 +307,7 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 		 */
 		@Override
 		public IStatus undo(IProgressMonitor monitor, IAdaptable uiInfo) {
-			if (isValid()) {
+			if (isValid() && restore()) {
 				fDocumentUndoManager.fireDocumentUndo(fStart, fPreservedText, fText, uiInfo, DocumentUndoEvent.ABOUT_TO_UNDO, false);
 				undoTextChange();
 				fDocumentUndoManager.resetProcessChangeState();
@@ -291,7 +341,7 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 		 */
 		@Override
 		public IStatus redo(IProgressMonitor monitor, IAdaptable uiInfo) {
-			if (isValid()) {
+			if (isValid() && restore()) {
 				fDocumentUndoManager.fireDocumentUndo(fStart, fText, fPreservedText, uiInfo, DocumentUndoEvent.ABOUT_TO_REDO, false);
 				redoTextChange();
 				fDocumentUndoManager.resetProcessChangeState();
@@ -310,6 +360,93 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 			fDocumentUndoManager.fTextBuffer.setLength(0);
 			fPreservedText= fDocumentUndoManager.fPreservedTextBuffer.toString();
 			fDocumentUndoManager.fPreservedTextBuffer.setLength(0);
+			compact();
+			fDocumentUndoManager.fResidentUndoSize+= getResidentSize();
+		}
+
+		/**
+		 * Removes the common prefix and suffix of large inserted and replaced texts, so that only
+		 * the actually changed text is kept, e.g. after formatting.
+		 *
+		 * @since 3.15
+		 */
+		protected void compact() {
+			int textLength= fText.length();
+			int preservedLength= fPreservedText.length();
+			if (textLength + preservedLength < COMPACT_THRESHOLD || fEnd - fStart != preservedLength)
+				return;
+
+			int length= Math.min(textLength, preservedLength);
+			int prefix= 0;
+			while (prefix < length && fText.charAt(prefix) == fPreservedText.charAt(prefix))
+				prefix++;
+			int suffix= 0;
+			while (suffix < length - prefix && fText.charAt(textLength - 1 - suffix) == fPreservedText.charAt(preservedLength - 1 - suffix))
+				suffix++;
+
+			if (prefix + suffix > 0) {
+				fStart+= prefix;
+				fEnd-= suffix;
+				fText= fText.substring(prefix, textLength - suffix);
+				fPreservedText= fPreservedText.substring(prefix, preservedLength - suffix);
+			}
+		}
+
+		/**
+		 * Returns the number of bytes of text this change holds in memory.
+		 *
+		 * @return the number of bytes of text held in memory
+		 * @since 3.15
+		 */
+		protected long getResidentSize() {
+			if (fText == null || fPreservedText == null)
+				return 0;
+			return 2L * (fText.length() + fPreservedText.length());
+		}
+
+		/**
+		 * Writes the texts of this change to the given undo history file, unless they are
+		 * already stored in it, and releases them.
+		 *
+		 * @param file the undo history file
+		 * @throws IOException if the texts cannot be written
+		 * @since 3.15
+		 */
+		protected void spill(UndoHistoryFile file) throws IOException {
+			if (fSpilled || fText == null || fPreservedText == null)
+				return;
+			if (fSpillPosition == -1)
+				fSpillPosition= file.write(fText, fPreservedText);
+			fSpilledTextLength= fText.length();
+			fSpilledPreservedTextLength= fPreservedText.length();
+			fText= fPreservedText= null;
+			fSpilled= true;
+		}
+
+		/**
+		 * Reads the texts of this change back from the undo history file if they have been
+		 * spilled. If they cannot be read this change becomes invalid.
+		 *
+		 * @return <code>true</code> if the texts are in memory, <code>false</code> otherwise
+		 * @since 3.15
+		 */
+		protected boolean restore() {
+			if (!fSpilled)
+				return true;
+			UndoHistoryFile file= fDocumentUndoManager.fHistoryFile;
+			if (file != null) {
+				try {
+					fText= file.read(fSpillPosition, fSpilledTextLength);
+					fPreservedText= file.read(fSpillPosition + 2L * fSpilledTextLength, fSpilledPreservedTextLength);
+					fSpilled= false;
+					fDocumentUndoManager.fResidentUndoSize+= getResidentSize();
+					return true;
+				} catch (IOException x) {
+					// the change cannot be undone or redone anymore
+				}
+			}
+			reinitialize();
+			return false;
 		}
 
 		/**
@@ -338,6 +475,7 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 			} else {
 				updateTextChange();
 				fDocumentUndoManager.fCurrent= createCurrent();
+				fDocumentUndoManager.limitUndoSize();
 			}
 			fDocumentUndoManager.resetProcessChangeState();
 		}
@@ -375,7 +513,7 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 		 * @return <code>true</code> if the change is valid for undo or redo
 		 */
 		protected boolean isValid() {
-			return fStart > -1 && fEnd > -1 && fText != null;
+			return fStart > -1 && fEnd > -1 && (fText != null || fSpilled);
 		}
 
 		@Override
@@ -443,16 +581,58 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 		}
 
 		/**
-		 * Adds a new individual change to this compound change.
+		 * Adds a new individual change to this compound change. A change that continues right
+		 * after the text inserted by the previous change, e.g. by typing, is coalesced with the
+		 * previous change.
 		 *
 		 * @param change the change to be added
 		 */
 		protected void add(UndoableTextChange change) {
+			int size= fChanges.size();
+			if (size > 0) {
+				UndoableTextChange last= fChanges.get(size - 1);
+				if (!last.fSpilled && change.fStart == last.fStart + last.fText.length()
+						&& last.getResidentSize() + change.getResidentSize() <= 2 * COALESCE_LIMIT) {
+					last.fText+= change.fText;
+					last.fPreservedText+= change.fPreservedText;
+					last.fEnd+= change.fEnd - change.fStart;
+					last.fRedoModificationStamp= change.fRedoModificationStamp;
+					return;
+				}
+			}
 			fChanges.add(change);
 		}
 
+		@Override
+		protected long getResidentSize() {
+			long size= super.getResidentSize();
+			for (UndoableTextChange change : fChanges)
+				size+= change.getResidentSize();
+			return size;
+		}
+
+		@Override
+		protected void spill(UndoHistoryFile file) throws IOException {
+			for (UndoableTextChange change : fChanges)
+				change.spill(file);
+		}
+
+		@Override
+		protected boolean restore() {
+			for (UndoableTextChange change : fChanges) {
+				if (!change.restore()) {
+					reinitialize();
+					fChanges.clear();
+					return false;
+				}
+			}
+			return true;
+		}
+
 		@Override
 		public IStatus undo(IProgressMonitor monitor, IAdaptable uiInfo) {
+			if (!restore())
+				return IOperationHistory.OPERATION_INVALID_STATUS;
 
 			int size= fChanges.size();
 			if (size > 0) {
@@ -485,6 +665,8 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 
 		@Override
 		public IStatus redo(IProgressMonitor monitor, IAdaptable uiInfo) {
+			if (!restore())
+				return IOperationHistory.OPERATION_INVALID_STATUS;
 
 			int size= fChanges.size();
 			if (size > 0) {
@@ -552,6 +734,7 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 				updateTextChange();
 			}
 			fDocumentUndoManager.fCurrent= createCurrent();
+			fDocumentUndoManager.limitUndoSize();
 			fDocumentUndoManager.resetProcessChangeState();
 		}
 
@@ -773,6 +956,28 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 	/** The list of clients connected. */
 	private List<Object> fConnected;
 
+	/**
+	 * The maximal number of bytes of text the undo history keeps in memory.
+	 *
+	 * @since 3.15
+	 */
+	private long fMaximalUndoSize= DEFAULT_MAXIMAL_UNDO_SIZE;
+
+	/**
+	 * An upper bound of the number of bytes of text the undo history keeps in memory.
+	 *
+	 * @since 3.15
+	 */
+	private long fResidentUndoSize;
+
+	/**
+	 * The file the texts of old changes are spilled to, or <code>null</code> if none has been
+	 * spilled.
+	 *
+	 * @since 3.15
+	 */
+	private UndoHistoryFile fHistoryFile;
+
 	/**
 	 *
 	 * Create a DocumentUndoManager for the given document.
@@ -895,6 +1100,114 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 		fHistory.setLimit(fUndoContext, undoLimit);
 	}
 
+	/**
+	 * Sets the maximal number of bytes of text the undo history keeps in memory, counting two
+	 * bytes per character. When the history grows beyond this size, the text of its oldest changes
+	 * is spilled to a temporary file and read back when they are undone or redone. If the text
+	 * cannot be spilled, the oldest changes are discarded instead. The default is
+	 * {@link #DEFAULT_MAXIMAL_UNDO_SIZE}.
+	 *
+	 * @param size the maximal number of bytes of text kept in memory
+	 * @since 3.15
+	 */
+	public void setMaximalUndoSize(long size) {
+		Assert.isLegal(size >= 0);
+		fMaximalUndoSize= size;
+		if (isConnected()) {
+			fResidentUndoSize= Long.MAX_VALUE;
+			limitUndoSize();
+		}
+	}
+
+	/**
+	 * Spills the texts of the oldest changes of the undo history to the undo history file if the
+	 * history keeps more text in memory than allowed. The history is only inspected when the upper
+	 * bound of its size exceeds the maximal size.
+	 *
+	 * @since 3.15
+	 */
+	private void limitUndoSize() {
+		if (fResidentUndoSize <= fMaximalUndoSize)
+			return;
+
+		IUndoableOperation[] undoHistory= fHistory.getUndoHistory(fUndoContext);
+		IUndoableOperation[] redoHistory= fHistory.getRedoHistory(fUndoContext);
+		long size= 0;
+		for (IUndoableOperation operation : undoHistory) {
+			if (operation instanceof UndoableTextChange)
+				size+= ((UndoableTextChange) operation).getResidentSize();
+		}
+		for (IUndoableOperation operation : redoHistory) {
+			if (operation instanceof UndoableTextChange)
+				size+= ((UndoableTextChange) operation).getResidentSize();
+		}
+
+		for (int i= 0; i < undoHistory.length && size > fMaximalUndoSize; i++) {
+			if (!(undoHistory[i] instanceof UndoableTextChange))
+				continue;
+			UndoableTextChange change= (UndoableTextChange) undoHistory[i];
+			long resident= change.getResidentSize();
+			if (!isSpillable(change) || resident == 0)
+				continue;
+			try {
+				spill(change);
+			} catch (IOException x) {
+				// the history cannot be spilled, discard its oldest operations instead
+				if (change == fCurrent)
+					break;
+				for (int j= 0; j <= i; j++) {
+					if (undoHistory[j] instanceof UndoableTextChange)
+						size-= ((UndoableTextChange) undoHistory[j]).getResidentSize();
+					fHistory.replaceOperation(undoHistory[j], new IUndoableOperation[0]);
+				}
+				if (fLastAddedTextEdit == change)
+					fLastAddedTextEdit= null;
+				continue;
+			}
+			size-= resident;
+		}
+
+		for (int i= 0; i < redoHistory.length && size > fMaximalUndoSize; i++) {
+			if (!(redoHistory[i] instanceof UndoableTextChange))
+				continue;
+			UndoableTextChange change= (UndoableTextChange) redoHistory[i];
+			long resident= change.getResidentSize();
+			try {
+				spill(change);
+			} catch (IOException x) {
+				break;
+			}
+			size-= resident;
+		}
+
+		fResidentUndoSize= size;
+	}
+
+	/**
+	 * Checks whether the texts of the given change may be spilled. The current change is still
+	 * collecting text, except for a compound change which only collects further changes.
+	 *
+	 * @param change the change to check
+	 * @return <code>true</code> if the texts of the change may be spilled
+	 * @since 3.15
+	 */
+	private boolean isSpillable(UndoableTextChange change) {
+		return change != fCurrent || change instanceof UndoableCompoundTextChange;
+	}
+
+	/**
+	 * Spills the texts of the given change to the undo history file, creating the file if needed.
+	 *
+	 * @param change the change to spill
+	 * @throws IOException if the texts cannot be written
+	 * @since 3.15
+	 */
+	private void spill(UndoableTextChange change) throws IOException {
+		if (fHistoryFile == null)
+			fHistoryFile= new UndoHistoryFile();
+		change.spill(fHistoryFile);
+	}
+
 	/**
 	 * Fires a document undo event to all registered document undo listeners.
 	 * Uses a robust iterator.
@@ -1199,6 +1512,7 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 		fPreviousDelete= new UndoableTextChange(this);
 		fTextBuffer= new StringBuilder();
 		fPreservedTextBuffer= new StringBuilder();
+		fResidentUndoSize= 0;
 
 		addListeners();
 	}
@@ -1226,6 +1540,10 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 		fPreservedTextBuffer= null;
 
 		disposeUndoHistory();
+		if (fHistoryFile != null) {
+			fHistoryFile.close();
+			fHistoryFile= null;
+		}
 	}
 
 	/**
@@ -1255,9 +1573,12 @@ public class DocumentUndoManager implements IDocumentUndoManager {
 				op.addContext(getUndoContext());
 				op.removeContext(oldUndoContext);
 			}
-			// Now update the manager that owns the text edit.
+			// Now update the manager that owns the text edit, reading its texts back from the
+			// history file of the old manager.
 			if (op instanceof UndoableTextChange) {
+				((UndoableTextChange)op).restore();
 				((UndoableTextChange)op).fDocumentUndoManager= this;
+				fResidentUndoSize+= ((UndoableTextChange)op).getResidentSize();
 			}
 		}
 
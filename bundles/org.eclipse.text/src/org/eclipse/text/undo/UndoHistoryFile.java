@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.undo;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A temporary file to which the text of old undo history is spilled. Text is appended as UTF-16
+ * characters and read back by position and length; the space of discarded text is only reclaimed
+ * when the file is closed.
+ *
+ * @since 3.15
+ */
+final class UndoHistoryFile {
+
+	/** The temporary file. */
+	private final Path fPath;
+
+	/** The channel to the temporary file. */
+	private final FileChannel fChannel;
+
+	/** The position at which the next text is appended. */
+	private long fEnd;
+
+	/**
+	 * Creates a new temporary file.
+	 *
+	 * @throws IOException if the file cannot be created
+	 */
+	UndoHistoryFile() throws IOException {
+		fPath= Files.createTempFile("undo", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+		fPath.toFile().deleteOnExit();
+		fChannel= FileChannel.open(fPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+	}
+
+	/**
+	 * Appends the given texts.
+	 *
+	 * @param texts the texts to append
+	 * @return the position of the first text
+	 * @throws IOException if the texts cannot be written
+	 */
+	long write(String... texts) throws IOException {
+		int length= 0;
+		for (String text : texts)
+			length+= text.length();
+		ByteBuffer buffer= ByteBuffer.allocate(2 * length);
+		long position= fEnd;
+		int offset= 0;
+		for (String text : texts) {
+			buffer.position(offset);
+			buffer.asCharBuffer().put(text);
+			offset+= 2 * text.length();
+		}
+		buffer.rewind();
+		while (buffer.hasRemaining())
+			fChannel.write(buffer, position + buffer.position());
+		fEnd+= buffer.capacity();
+		return position;
+	}
+
+	/**
+	 * Reads the text at the given position.
+	 *
+	 * @param position the position of the text in bytes
+	 * @param length the number of characters to read
+	 * @return the text
+	 * @throws IOException if the text cannot be read
+	 */
+	String read(long position, int length) throws IOException {
+		ByteBuffer buffer= ByteBuffer.allocate(2 * length);
+		while (buffer.hasRemaining()) {
+			if (fChannel.read(buffer, position + buffer.position()) < 0)
+				throw new IOException("Unexpected end of undo history file"); //$NON-NLS-1$
+		}
+		buffer.flip();
+		return buffer.asCharBuffer().toString();
+	}
+
+	/**
+	 * Closes and deletes the file.
+	 */
+	void close() {
+		try {
+			fChannel.close();
+			Files.deleteIfExists(fPath);
+		} catch (IOException x) {
+			// the file is deleted on exit
+		}
+	}
+}
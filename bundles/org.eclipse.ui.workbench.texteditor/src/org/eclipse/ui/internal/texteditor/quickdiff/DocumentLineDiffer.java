@@ -19,7 +19,6 @@ import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Objects;
 
 import org.eclipse.core.runtime.Assert;
@@ -52,7 +51,6 @@ import org.eclipse.jface.text.source.ILineDiffInfo;
 import org.eclipse.jface.text.source.ILineDiffer;
 import org.eclipse.jface.text.source.ILineDifferExtension;
 import org.eclipse.jface.text.source.ILineDifferExtension2;
-import org.eclipse.jface.text.source.ILineRange;
 import org.eclipse.jface.text.source.LineRange;
 
 import org.eclipse.ui.internal.texteditor.NLSUtility;
@@ -139,6 +137,13 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 
 	/** The delay after which the initialization job is triggered. */
 	private static final int INITIALIZE_DELAY= 500;
+	/**
+	 * The maximal number of consistent lines searched before and after a change to delimit the
+	 * hunk window that is compared again.
+	 *
+	 * @since 3.19
+	 */
+	private static final int MAX_CONTEXT_LINES= 50;
 
 	/** Suspended state */
 	private static final int SUSPENDED= 0;
@@ -937,13 +942,7 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 		int added= insertion == null ? 1 : modified.computeNumberOfLines(insertion) + 1;
 		// size: the size of the document change in lines
 
-		// put an upper bound to the delay we can afford
-		if (added > 50 || fNLines > 50) {
-			initialize();
-			return;
-		}
-
-		int size= Math.max(fNLines, added) + 1;
+		int size= Math.min(Math.max(fNLines, added) + 1, MAX_CONTEXT_LINES);
 		int lineDelta= added - fNLines;
 		int lastLine= fFirstLine + fNLines - 1;
 
@@ -960,14 +959,16 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 
 		// get enclosing range: search for a consistent block of at least the size of our
 		// change before and after the change.
-		final QuickDiffRangeDifference consistentBefore, consistentAfter;
+		final int beforeIndex, afterIndex;
 		if (leftToRight) {
-			consistentBefore= findConsistentRangeBeforeLeft(fFirstLine, size);
-			consistentAfter= findConsistentRangeAfterLeft(lastLine, size);
+			beforeIndex= findConsistentRangeBeforeLeft(fFirstLine, size);
+			afterIndex= findConsistentRangeAfterLeft(lastLine, size);
 		} else {
-			consistentBefore= findConsistentRangeBeforeRight(fFirstLine, size);
-			consistentAfter= findConsistentRangeAfterRight(lastLine, size);
+			beforeIndex= findConsistentRangeBeforeRight(fFirstLine, size);
+			afterIndex= findConsistentRangeAfterRight(lastLine, size);
 		}
+		final QuickDiffRangeDifference consistentBefore= fDifferences.get(beforeIndex);
+		final QuickDiffRangeDifference consistentAfter= fDifferences.get(afterIndex);
 
 		// optimize unchanged blocks: if the consistent blocks around the change are larger than
 		// size, we redimension them (especially important when there are only few changes.
@@ -1001,8 +1002,6 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 		if (leftToRight)
 			leftLine += lineDelta;
 		int leftEndLine= leftLine - shiftAfter;
-		ILineRange leftRange= new LineRange(leftStartLine, leftEndLine - leftStartLine);
-		IRangeComparator reference= new DocEquivalenceComparator(leftEquivalent, leftRange);
 
 		// right (actual) document
 		int rightStartLine= consistentBefore.rightStart() + shiftBefore;
@@ -1010,13 +1009,20 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 		if (!leftToRight)
 			rightLine += lineDelta;
 		int rightEndLine= rightLine - shiftAfter;
-		ILineRange rightRange= new LineRange(rightStartLine, rightEndLine - rightStartLine);
-		IRangeComparator change= new DocEquivalenceComparator(rightEquivalent, rightRange);
 
-		// put an upper bound to the delay we can afford
-		if (leftLine - shiftAfter - leftStartLine > 50 || rightLine - shiftAfter - rightStartLine > 50) {
-			initialize();
-			return;
+		// narrow the hunk window to the lines that differ by comparing the line hashes from
+		// both ends, so that large edits do not require a large compare
+		while (leftStartLine < leftEndLine && rightStartLine < rightEndLine
+				&& leftEquivalent.getHash(leftStartLine).equals(rightEquivalent.getHash(rightStartLine))) {
+			leftStartLine++;
+			rightStartLine++;
+			shiftBefore++;
+		}
+		while (leftStartLine < leftEndLine && rightStartLine < rightEndLine
+				&& leftEquivalent.getHash(leftEndLine - 1).equals(rightEquivalent.getHash(rightEndLine - 1))) {
+			leftEndLine--;
+			rightEndLine--;
+			shiftAfter++;
 		}
 
 		// debug
@@ -1024,9 +1030,23 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 //					">\n\n<" + right.get(rightRegion.getOffset(), rightRegion.getLength()) + ">\n"); //$NON-NLS-1$ //$NON-NLS-2$
 
 		// compare
-		List<QuickDiffRangeDifference> diffs= asQuickDiffRangeDifference(RangeDifferencer.findRanges(fRangeDiffFactory, null, reference, change));
-		if (diffs.isEmpty()) {
-			diffs.add(new QuickDiffRangeDifference(RangeDifference.CHANGE, 0, 0, 0, 0));
+		int leftLength= leftEndLine - leftStartLine;
+		int rightLength= rightEndLine - rightStartLine;
+		List<QuickDiffRangeDifference> diffs;
+		if (leftLength == 0 && rightLength == 0) {
+			diffs= new ArrayList<>();
+			diffs.add(new QuickDiffRangeDifference(RangeDifference.NOCHANGE, 0, 0, 0, 0));
+		} else if (leftLength == 0 || rightLength == 0) {
+			// pure insertion or deletion, nothing to compare
+			diffs= new ArrayList<>();
+			diffs.add(new QuickDiffRangeDifference(RangeDifference.CHANGE, 0, rightLength, 0, leftLength));
+		} else {
+			IRangeComparator reference= new DocEquivalenceComparator(leftEquivalent, new LineRange(leftStartLine, leftLength));
+			IRangeComparator change= new DocEquivalenceComparator(rightEquivalent, new LineRange(rightStartLine, rightLength));
+			diffs= asQuickDiffRangeDifference(RangeDifferencer.findRanges(fRangeDiffFactory, null, reference, change));
+			if (diffs.isEmpty()) {
+				diffs.add(new QuickDiffRangeDifference(RangeDifference.CHANGE, 0, 0, 0, 0));
+			}
 		}
 
 
@@ -1052,88 +1072,58 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 			else
 				diffs.add(new QuickDiffRangeDifference(RangeDifference.NOCHANGE, last.rightEnd(), shiftAfter, last.leftEnd(), shiftAfter));
 		}
+		last= diffs.get(diffs.size() - 1);
 
 		// replace changed diff range
 		synchronized (fDifferences) {
-			final ListIterator<QuickDiffRangeDifference> it= fDifferences.listIterator();
-			Iterator<QuickDiffRangeDifference> newIt= diffs.iterator();
-			QuickDiffRangeDifference current;
 			boolean changed= false;
 
-			// replace regions from consistentBefore to consistentAfter with new diffs
-
-			// search for consistentBefore
-			do {
-				Assert.isTrue(it.hasNext());
-				current= it.next();
-			} while (current != consistentBefore);
-			Assert.isTrue(current == consistentBefore);
-
 			fChanged.clear();
 			fRemoved.clear();
 			fAdded.clear();
 
-			// replace until consistentAfter
-			while (current != consistentAfter) {
-				if (newIt.hasNext()) {
-					QuickDiffRangeDifference o= newIt.next();
-					if (!current.equals(o)) {
-						fRemoved.add(current);
-						fAdded.add(o);
-						changed= true;
-						it.set(o);
-					}
-				} else {
-					fRemoved.add(current);
-					it.remove();
-					changed= true;
-				}
-				Assert.isTrue(it.hasNext());
-				current= it.next();
-			}
-
-			// replace consistentAfter
-			Assert.isTrue(current == consistentAfter);
-			if (newIt.hasNext()) {
-				QuickDiffRangeDifference o= newIt.next();
+			// replace regions from consistentBefore to consistentAfter with new diffs
+			List<QuickDiffRangeDifference> window= fDifferences.subList(beforeIndex, afterIndex + 1);
+			int common= Math.min(window.size(), diffs.size());
+			for (int i= 0; i < common; i++) {
+				QuickDiffRangeDifference current= window.get(i);
+				QuickDiffRangeDifference o= diffs.get(i);
 				if (!current.equals(o)) {
 					fRemoved.add(current);
 					fAdded.add(o);
 					changed= true;
-					it.set(o);
+					window.set(i, o);
 				}
-			} else {
-				fRemoved.add(current);
-				it.remove();
-				changed= true;
 			}
-
-			// add remaining new diffs
-			while (newIt.hasNext()) {
-				QuickDiffRangeDifference next= newIt.next();
-				fAdded.add(next);
-				it.add(next);
+			if (window.size() > common) {
+				// remove superfluous old diffs
+				List<QuickDiffRangeDifference> superfluous= window.subList(common, window.size());
+				fRemoved.addAll(superfluous);
+				superfluous.clear();
+				changed= true;
+			} else if (diffs.size() > common) {
+				// add remaining new diffs
+				List<QuickDiffRangeDifference> remaining= diffs.subList(common, diffs.size());
+				fAdded.addAll(remaining);
+				window.addAll(remaining);
 				changed= true;
 			}
 
 			// shift the old remaining diffs
-			boolean init= true;
-			int leftShift= 0;
-			int rightShift= 0;
-			while (it.hasNext()) {
-				current= it.next();
-				if (init) {
-					init= false;
-					leftShift= last.leftEnd() - current.leftStart();
-					rightShift= last.rightEnd() - current.rightStart();
-					if (leftShift != 0 || rightShift != 0)
-						changed= true;
-					else
-						break;
+			int next= beforeIndex + diffs.size();
+			if (next < fDifferences.size()) {
+				QuickDiffRangeDifference current= fDifferences.get(next);
+				int leftShift= last.leftEnd() - current.leftStart();
+				int rightShift= last.rightEnd() - current.rightStart();
+				if (leftShift != 0 || rightShift != 0) {
+					changed= true;
+					for (int i= next; i < fDifferences.size(); i++) {
+						current= fDifferences.get(i);
+//						fChanged.add(current); // not needed since positional shifting is not handled by an annotation model
+						current.shiftLeft(leftShift);
+						current.shiftRight(rightShift);
+					}
 				}
-//				fChanged.add(current); // not needed since positional shifting is not handled by an annotation model
-				current.shiftLeft(leftShift);
-				current.shiftRight(rightShift);
 			}
 
 			fUpdateNeeded= changed;
@@ -1160,23 +1150,18 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 	 *
 	 * @param line the line before which the range has to occur
 	 * @param size the minimal size of the range
-	 * @return the first range found, or the first range in the differ if none can be found
+	 * @return the index of the last range found, or of the first range in the differ if none can
+	 *         be found
 	 */
-	private QuickDiffRangeDifference findConsistentRangeBeforeLeft(int line, int size) {
-		QuickDiffRangeDifference found= null;
-
-		for (ListIterator<QuickDiffRangeDifference> it= fDifferences.listIterator(); it.hasNext();) {
-			QuickDiffRangeDifference difference= it.next();
-			if (found == null || difference.kind() == RangeDifference.NOCHANGE
+	private int findConsistentRangeBeforeLeft(int line, int size) {
+		for (int i= indexOfFirstEndingAt(line, true); i > 0; i--) {
+			QuickDiffRangeDifference difference= fDifferences.get(i);
+			if (difference.kind() == RangeDifference.NOCHANGE
 					&& (difference.leftEnd() < line && difference.leftLength() >= size
 							|| difference.leftEnd() >= line && line - difference.leftStart() >= size))
-				found= difference;
-
-			if (difference.leftEnd() >= line)
-				break;
+				return i;
 		}
-
-		return found;
+		return 0;
 	}
 
 	/**
@@ -1184,24 +1169,19 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 	 *
 	 * @param line the line after which the range has to occur
 	 * @param size the minimal size of the range
-	 * @return the first range found, or the last range in the differ if none can be found
+	 * @return the index of the first range found, or of the last range in the differ if none can
+	 *         be found
 	 */
-	private QuickDiffRangeDifference findConsistentRangeAfterLeft(int line, int size) {
-		QuickDiffRangeDifference found= null;
-
-		for (ListIterator<QuickDiffRangeDifference> it= fDifferences.listIterator(fDifferences.size()); it.hasPrevious();) {
-			QuickDiffRangeDifference difference= it.previous();
-			if (found == null || difference.kind() == RangeDifference.NOCHANGE
+	private int findConsistentRangeAfterLeft(int line, int size) {
+		int last= fDifferences.size() - 1;
+		for (int i= indexOfLastStartingAt(line, true); i < last; i++) {
+			QuickDiffRangeDifference difference= fDifferences.get(i);
+			if (difference.kind() == RangeDifference.NOCHANGE
 					&& (difference.leftStart() > line && difference.leftLength() >= size
 							|| difference.leftStart() <= line && difference.leftEnd() - line >= size))
-				found= difference;
-
-			if (difference.leftStart() <= line)
-				break;
-
+				return i;
 		}
-
-		return found;
+		return last;
 	}
 
 	/**
@@ -1209,27 +1189,19 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 	 *
 	 * @param line the line before which the range has to occur
 	 * @param size the minimal size of the range
-	 * @return the first range found, or the first range in the differ if none can be found
+	 * @return the index of the last range found, or of the first range in the differ if none can
+	 *         be found
 	 */
-	private QuickDiffRangeDifference findConsistentRangeBeforeRight(int line, int size) {
-		QuickDiffRangeDifference found= null;
-
-		int unchanged= -1; // the number of unchanged lines before line
-		for (ListIterator<QuickDiffRangeDifference> it= fDifferences.listIterator(); it.hasNext();) {
-			QuickDiffRangeDifference difference= it.next();
-			if (found == null)
-				found= difference;
-			else if (difference.kind() == RangeDifference.NOCHANGE) {
-				unchanged= Math.min(line, difference.rightEnd()) - difference.rightStart();
+	private int findConsistentRangeBeforeRight(int line, int size) {
+		for (int i= indexOfFirstEndingAt(line, false); i > 0; i--) {
+			QuickDiffRangeDifference difference= fDifferences.get(i);
+			if (difference.kind() == RangeDifference.NOCHANGE) {
+				int unchanged= Math.min(line, difference.rightEnd()) - difference.rightStart(); // the number of unchanged lines before line
 				if (unchanged >= size)
-					found= difference;
+					return i;
 			}
-
-			if (difference.rightEnd() >= line)
-				break;
 		}
-
-		return found;
+		return 0;
 	}
 
 	/**
@@ -1237,27 +1209,70 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 	 *
 	 * @param line the line after which the range has to occur
 	 * @param size the minimal size of the range
-	 * @return the first range found, or the last range in the differ if none can be found
+	 * @return the index of the first range found, or of the last range in the differ if none can
+	 *         be found
 	 */
-	private QuickDiffRangeDifference findConsistentRangeAfterRight(int line, int size) {
-		QuickDiffRangeDifference found= null;
-
-		int unchanged= -1; // the number of unchanged lines after line
-		for (ListIterator<QuickDiffRangeDifference> it= fDifferences.listIterator(fDifferences.size()); it.hasPrevious();) {
-			QuickDiffRangeDifference difference= it.previous();
-			if (found == null)
-				found= difference;
-			else if (difference.kind() == RangeDifference.NOCHANGE) {
-				unchanged= difference.rightEnd() - Math.max(line + 1, difference.rightStart()); // + 1 to step over the changed line
+	private int findConsistentRangeAfterRight(int line, int size) {
+		int last= fDifferences.size() - 1;
+		for (int i= indexOfLastStartingAt(line, false); i < last; i++) {
+			QuickDiffRangeDifference difference= fDifferences.get(i);
+			if (difference.kind() == RangeDifference.NOCHANGE) {
+				int unchanged= difference.rightEnd() - Math.max(line + 1, difference.rightStart()); // + 1 to step over the changed line
 				if (unchanged >= size)
-					found= difference;
+					return i;
 			}
+		}
+		return last;
+	}
 
-			if (difference.rightStart() <= line)
-				break;
+	/**
+	 * Returns the index of the first difference that ends at or after <code>line</code>. As the
+	 * differences are contiguous and ordered, this is found by binary search.
+	 *
+	 * @param line the line
+	 * @param left <code>true</code> to search the left side, <code>false</code> for the right side
+	 * @return the index of the first difference ending at or after <code>line</code>, or the index
+	 *         of the last difference if there is none
+	 */
+	private int indexOfFirstEndingAt(int line, boolean left) {
+		List<QuickDiffRangeDifference> differences= fDifferences;
+		int low= 0;
+		int high= differences.size() - 1;
+		while (low < high) {
+			int mid= (low + high) >>> 1;
+			QuickDiffRangeDifference difference= differences.get(mid);
+			int end= left ? difference.leftEnd() : difference.rightEnd();
+			if (end >= line)
+				high= mid;
+			else
+				low= mid + 1;
 		}
+		return low;
+	}
 
-		return found;
+	/**
+	 * Returns the index of the last difference that starts at or before <code>line</code>. As the
+	 * differences are contiguous and ordered, this is found by binary search.
+	 *
+	 * @param line the line
+	 * @param left <code>true</code> to search the left side, <code>false</code> for the right side
+	 * @return the index of the last difference starting at or before <code>line</code>, or zero if
+	 *         there is none
+	 */
+	private int indexOfLastStartingAt(int line, boolean left) {
+		List<QuickDiffRangeDifference> differences= fDifferences;
+		int low= 0;
+		int high= differences.size() - 1;
+		while (low < high) {
+			int mid= (low + high + 1) >>> 1;
+			QuickDiffRangeDifference difference= differences.get(mid);
+			int start= left ? difference.leftStart() : difference.rightStart();
+			if (start <= line)
+				low= mid;
+			else
+				high= mid - 1;
+		}
+		return Math.max(low, 0);
 	}
 
 	/**
@@ -1367,11 +1382,11 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 	 * @return the corresponding RangeDifference, or <code>null</code>
 	 */
 	private QuickDiffRangeDifference getRangeDifferenceForLeftLine(int leftLine) {
-		for (QuickDiffRangeDifference d : fDifferences) {
-			if (leftLine >= d.leftStart() && leftLine < d.leftEnd()) {
-				return d;
-			}
-		}
+		if (fDifferences.isEmpty())
+			return null;
+		QuickDiffRangeDifference d= fDifferences.get(indexOfFirstEndingAt(leftLine + 1, true));
+		if (leftLine >= d.leftStart() && leftLine < d.leftEnd())
+			return d;
 		return null;
 	}
 
@@ -1384,11 +1399,11 @@ public class DocumentLineDiffer implements ILineDiffer, IDocumentListener, IAnno
 	private QuickDiffRangeDifference getRangeDifferenceForRightLine(int rightLine) {
 		final List<QuickDiffRangeDifference> differences= fDifferences;
 		synchronized (differences) {
-			for (QuickDiffRangeDifference d : differences) {
-				if (rightLine >= d.rightStart() && rightLine < d.rightEnd()) {
-					return d;
-				}
-			}
+			if (differences.isEmpty())
+				return null;
+			QuickDiffRangeDifference d= differences.get(indexOfFirstEndingAt(rightLine + 1, false));
+			if (rightLine >= d.rightStart() && rightLine < d.rightEnd())
+				return d;
 		}
 		return null;
 	}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.databinding.conformance;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.jface.databinding.conformance.delegate.IObservableCollectionContractDelegate;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the list change notification of a mutable IObservableList within a
+ * batch of its realm.
+ * <p>
+ * This class is experimental and can change at any time. It is recommended to
+ * not subclass or assume the test names will not change. The only API that is
+ * guaranteed to not change are the constructors. The tests will remain public
+ * and not final in order to allow for consumers to turn off a test if needed by
+ * subclassing.
+ * </p>
+ *
+ * @since 1.6
+ */
+public class MutableObservableListBatchContractTest extends ObservableDelegateTest {
+	private final IObservableCollectionContractDelegate<Object> delegate;
+
+	private IObservableList<Object> list;
+
+	@SuppressWarnings("unchecked")
+	public MutableObservableListBatchContractTest(IObservableCollectionContractDelegate<?> delegate) {
+		super(delegate);
+		this.delegate = (IObservableCollectionContractDelegate<Object>) delegate;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		list = (IObservableList<Object>) getObservable();
+	}
+
+	@Test
+	public void testChangesInBatch_ListChangeEventFiredOnceAfterBatch() throws Exception {
+		list.add(delegate.createElement(list));
+		list.add(delegate.createElement(list));
+		List<Object> oldList = new ArrayList<>(list);
+		ListChangeEventTracker<Object> tracker = ListChangeEventTracker.observe(list);
+
+		list.getRealm().runBatch(() -> {
+			list.add(delegate.createElement(list));
+			list.add(0, delegate.createElement(list));
+			list.remove(1);
+			list.move(0, list.size() - 1);
+			assertEquals(formatFail("List change events should be deferred until the batch ends."), 0,
+					tracker.count);
+		});
+
+		assertEquals(formatFail("The changes of a batch should notify list change listeners once."), 1,
+				tracker.count);
+		tracker.event.diff.applyTo(oldList);
+		assertEquals(formatFail("The merged diff should transform the old list into the new list."), list,
+				oldList);
+	}
+
+	@Test
+	public void testChangesInBatch_EventObservable() throws Exception {
+		ListChangeEventTracker<Object> tracker = ListChangeEventTracker.observe(list);
+
+		list.getRealm().runBatch(() -> {
+			list.add(delegate.createElement(list));
+			list.add(delegate.createElement(list));
+		});
+
+		assertEquals(formatFail("In the list change event the source of the change should be the observable."),
+				list, tracker.event.getObservableList());
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.databinding.conformance;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+
+import org.eclipse.core.databinding.observable.set.IObservableSet;
+import org.eclipse.jface.databinding.conformance.delegate.IObservableCollectionContractDelegate;
+import org.eclipse.jface.databinding.conformance.util.SetChangeEventTracker;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the set change notification of a mutable IObservableSet within a batch
+ * of its realm.
+ * <p>
+ * This class is experimental and can change at any time. It is recommended to
+ * not subclass or assume the test names will not change. The only API that is
+ * guaranteed to not change are the constructors. The tests will remain public
+ * and not final in order to allow for consumers to turn off a test if needed by
+ * subclassing.
+ * </p>
+ *
+ * @since 1.6
+ */
+public class MutableObservableSetBatchContractTest extends ObservableDelegateTest {
+	private final IObservableCollectionContractDelegate<Object> delegate;
+
+	private IObservableSet<Object> set;
+
+	@SuppressWarnings("unchecked")
+	public MutableObservableSetBatchContractTest(IObservableCollectionContractDelegate<?> delegate) {
+		super(delegate);
+		this.delegate = (IObservableCollectionContractDelegate<Object>) delegate;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		set = (IObservableSet<Object>) getObservable();
+	}
+
+	@Test
+	public void testChangesInBatch_SetChangeEventFiredOnceAfterBatch() throws Exception {
+		Object removed = delegate.createElement(set);
+		set.add(removed);
+		Object added = delegate.createElement(set);
+		SetChangeEventTracker tracker = SetChangeEventTracker.observe(set);
+
+		set.getRealm().runBatch(() -> {
+			set.remove(removed);
+			set.add(added);
+			assertEquals(formatFail("Set change events should be deferred until the batch ends."), 0, tracker.count);
+		});
+
+		assertEquals(formatFail("The changes of a batch should notify set change listeners once."), 1,
+				tracker.count);
+		assertEquals(formatFail("In the set change event the source of the change should be the observable."), set,
+				tracker.event.getObservableSet());
+		assertEquals(formatFail("The merged diff should contain the added element."), Collections.singleton(added),
+				tracker.event.diff.getAdditions());
+		assertEquals(formatFail("The merged diff should contain the removed element."),
+				Collections.singleton(removed), tracker.event.diff.getRemovals());
+	}
+
+	@Test
+	public void testAddAndRemoveInBatch_NoSetChangeEvent() throws Exception {
+		Object element = delegate.createElement(set);
+		SetChangeEventTracker tracker = SetChangeEventTracker.observe(set);
+
+		set.getRealm().runBatch(() -> {
+			set.add(element);
+			set.remove(element);
+		});
+
+		assertEquals(formatFail("Changes cancelling each other out should not notify set change listeners."), 0,
+				tracker.count);
+	}
+}
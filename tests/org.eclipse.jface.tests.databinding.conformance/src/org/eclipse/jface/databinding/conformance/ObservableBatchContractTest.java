@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.databinding.conformance;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.jface.databinding.conformance.delegate.IObservableContractDelegate;
+import org.eclipse.jface.databinding.conformance.util.ChangeEventTracker;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the change notification of IObservable within a batch of its realm.
+ * <p>
+ * This class is experimental and can change at any time. It is recommended to
+ * not subclass or assume the test names will not change. The only API that is
+ * guaranteed to not change are the constructors. The tests will remain public
+ * and not final in order to allow for consumers to turn off a test if needed by
+ * subclassing.
+ * </p>
+ *
+ * @since 1.6
+ */
+public class ObservableBatchContractTest extends ObservableDelegateTest {
+	private final IObservableContractDelegate delegate;
+
+	private IObservable observable;
+
+	private Realm realm;
+
+	public ObservableBatchContractTest(IObservableContractDelegate delegate) {
+		super(delegate);
+		this.delegate = delegate;
+	}
+
+	@Override
+	@Before
+	public void setUp() throws Exception {
+		super.setUp();
+		observable = getObservable();
+		realm = observable.getRealm();
+	}
+
+	@Test
+	public void testChangesInBatch_ChangeEventFiredOnceAfterBatch() throws Exception {
+		ChangeEventTracker tracker = ChangeEventTracker.observe(observable);
+
+		realm.runBatch(() -> {
+			delegate.change(observable);
+			delegate.change(observable);
+			delegate.change(observable);
+			assertEquals(formatFail("Change events should be deferred until the batch ends."), 0, tracker.count);
+		});
+
+		assertEquals(formatFail("The changes of a batch should notify change listeners once."), 1, tracker.count);
+		assertSame(formatFail("In the change event the source of the change should be the observable."), observable,
+				tracker.event.getObservable());
+	}
+
+	@Test
+	public void testChangesInNestedBatch_ChangeEventFiredAfterOutermostBatch() throws Exception {
+		ChangeEventTracker tracker = ChangeEventTracker.observe(observable);
+
+		realm.runBatch(() -> {
+			realm.runBatch(() -> delegate.change(observable));
+			assertEquals(formatFail("Change events should be deferred until the outermost batch ends."), 0,
+					tracker.count);
+			delegate.change(observable);
+		});
+
+		assertEquals(formatFail("The changes of nested batches should notify change listeners once."), 1,
+				tracker.count);
+	}
+
+	@Test
+	public void testBatchWithoutChanges_NoChangeEvent() throws Exception {
+		ChangeEventTracker tracker = ChangeEventTracker.observe(observable);
+
+		realm.runBatch(() -> {
+		});
+
+		assertEquals(formatFail("A batch without changes should not notify change listeners."), 0, tracker.count);
+	}
+
+	@Test
+	public void testChangeAfterBatch_ChangeEventFiredImmediately() throws Exception {
+		realm.runBatch(() -> delegate.change(observable));
+		ChangeEventTracker tracker = ChangeEventTracker.observe(observable);
+
+		delegate.change(observable);
+
+		assertEquals(formatFail("Change events should not be deferred after the batch ended."), 1, tracker.count);
+	}
+
+	@Test
+	public void testIsBatching() throws Exception {
+		assertFalse(formatFail("The realm should not batch outside of a batch."), realm.isBatching());
+		realm.runBatch(() -> assertTrue(formatFail("The realm should batch within a batch."), realm.isBatching()));
+		assertFalse(formatFail("The realm should not batch after a batch."), realm.isBatching());
+	}
+}
@@ -39,6 +39,7 @@ import org.eclipse.core.databinding.util.Policy;
 import org.eclipse.core.databinding.validation.ValidationStatus;
 import org.eclipse.core.internal.databinding.BindingStatus;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
 import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
 import org.junit.After;
 import org.junit.Before;
@@ -357,6 +358,33 @@ public class ListBindingTest extends AbstractDefaultRealmTestCase {
 		assertEquals(model.size(), target.size());
 	}
 
+	@Test
+	public void testUpdateModels_UpdatePolicy_UpdateToTarget_OnRequestToModel() {
+		model.addAll(Arrays.asList("a", "b"));
+		dbc.bindList(target, model, new UpdateListStrategy<>(UpdateListStrategy.POLICY_ON_REQUEST),
+				new UpdateListStrategy<>(POLICY_UPDATE));
+		target.add("x");
+
+		dbc.updateModels();
+
+		assertEquals(Arrays.asList("a", "b", "x"), model);
+		assertEquals(Arrays.asList("a", "b", "x"), target);
+	}
+
+	@Test
+	public void testUpdateModels_TargetNotRewritten() {
+		model.addAll(Arrays.asList("a", "b"));
+		dbc.bindList(target, model, new UpdateListStrategy<>(UpdateListStrategy.POLICY_ON_REQUEST),
+				new UpdateListStrategy<>(POLICY_UPDATE));
+		target.set(1, "c");
+		ListChangeEventTracker<String> tracker = ListChangeEventTracker.observe(target);
+
+		dbc.updateModels();
+
+		assertEquals(Arrays.asList("a", "c"), model);
+		assertEquals(0, tracker.count);
+	}
+
 	/**
 	 * Test for bug 326507.
 	 */
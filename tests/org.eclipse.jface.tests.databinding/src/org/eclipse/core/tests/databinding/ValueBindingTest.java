@@ -284,6 +284,20 @@ public class ValueBindingTest extends AbstractDefaultRealmTestCase {
 				"model-before-set"), log);
 	}
 
+	@Test
+	public void testUpdateModels_UpdatePolicy_UpdateToTarget_OnRequestToModel() {
+		bindLoggingValue(
+				loggingTargetToModelStrategy(UpdateValueStrategy.POLICY_ON_REQUEST),
+				loggingModelToTargetStrategy(UpdateValueStrategy.POLICY_UPDATE));
+		target.setValue("3");
+
+		log.clear();
+		dbc.updateModels();
+		assertEquals(List.of("target-get", "target-convert", "target-after-convert", "model-before-set", "model-set"),
+				log);
+		assertEquals("3", model.getValue());
+	}
+
 	@Test
 	public void testPostInit_UpdatePolicy_UpdateToTarget_OnRequestToModel() {
 		bindLoggingValue(
@@ -28,6 +28,7 @@ import org.eclipse.core.databinding.observable.IObservable;
 import org.eclipse.core.databinding.observable.IStaleListener;
 import org.eclipse.core.databinding.observable.ObservableTracker;
 import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.jface.databinding.conformance.ObservableBatchContractTest;
 import org.eclipse.jface.databinding.conformance.ObservableContractTest;
 import org.eclipse.jface.databinding.conformance.ObservableStaleContractTest;
 import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableContractDelegate;
@@ -239,6 +240,7 @@ public class AbstractObservableTest extends AbstractDefaultRealmTestCase {
 		Delegate delegate = new Delegate();
 		suite.addTest(ObservableContractTest.class, delegate);
 		suite.addTest(ObservableStaleContractTest.class, delegate);
+		suite.addTest(ObservableBatchContractTest.class, delegate);
 	}
 
 	/* package */static class Delegate extends
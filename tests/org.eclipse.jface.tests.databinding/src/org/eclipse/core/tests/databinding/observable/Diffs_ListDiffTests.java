@@ -16,10 +16,15 @@
 package org.eclipse.core.tests.databinding.observable;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.eclipse.core.databinding.observable.Diffs;
 import org.eclipse.core.databinding.observable.list.ListDiff;
@@ -268,6 +273,91 @@ public class Diffs_ListDiffTests {
 		checkComputedListDiff(List.of("a", "b", "c"), List.of("c", "a", "b"));
 	}
 
+	@Test
+	public void testComputeListDiff_ReplaceAfterMoveDown() {
+		checkComputedListDiff(Arrays.asList("a", null, "c", "d"), Arrays.asList("e", null, "c", "a"));
+	}
+
+	@Test
+	public void testComputeListDiff_MovesAreReported() {
+		ListDiff<String> diff = Diffs.computeListDiff(List.of("a", "b", "c", "d", "e"), List.of("e", "a", "c", "d", "b"));
+		final int[] moves = new int[1];
+		diff.accept(new ListDiffVisitor<>() {
+			@Override
+			public void handleAdd(int index, String element) {
+				fail("unexpected add of " + element);
+			}
+
+			@Override
+			public void handleRemove(int index, String element) {
+				fail("unexpected remove of " + element);
+			}
+
+			@Override
+			public void handleMove(int oldIndex, int newIndex, String element) {
+				moves[0]++;
+			}
+		});
+		assertEquals(2, moves[0]);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeUniqueLists() {
+		Random random = new Random(4711);
+		List<Object> oldList = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			oldList.add(Integer.valueOf(i));
+		}
+		List<Object> newList = new ArrayList<>(oldList);
+		for (int i = 0; i < 200; i++) {
+			newList.add(random.nextInt(newList.size()), newList.remove(random.nextInt(newList.size())));
+			newList.remove(random.nextInt(newList.size()));
+			newList.add(random.nextInt(newList.size()), "new " + i);
+		}
+		checkComputedListDiff(oldList, newList);
+		Collections.shuffle(newList, random);
+		checkComputedListDiff(oldList, newList);
+	}
+
+	@Test
+	public void testComputeListDiff_LargeListsWithDuplicates() {
+		Random random = new Random(4711);
+		for (int alphabet : new int[] { 2, 10, 1000 }) {
+			List<Object> oldList = new ArrayList<>();
+			List<Object> newList = new ArrayList<>();
+			for (int i = 0; i < 5000; i++) {
+				oldList.add(Integer.valueOf(random.nextInt(alphabet)));
+				newList.add(random.nextBoolean() ? oldList.get(i) : Integer.valueOf(random.nextInt(alphabet)));
+			}
+			checkComputedListDiff(oldList, newList);
+			Collections.shuffle(newList, random);
+			checkComputedListDiff(oldList, newList);
+		}
+	}
+
+	@Test
+	public void testComputeListDiff_RandomSmallLists() {
+		Random random = new Random(4711);
+		for (int i = 0; i < 10000; i++) {
+			List<Object> oldList = new ArrayList<>();
+			List<Object> newList = new ArrayList<>();
+			int alphabet = 1 + random.nextInt(8);
+			for (int j = random.nextInt(10); j > 0; j--) {
+				oldList.add(random.nextInt(8) == 0 ? null : Integer.valueOf(random.nextInt(alphabet)));
+			}
+			for (int j = random.nextInt(10); j > 0; j--) {
+				newList.add(random.nextInt(8) == 0 ? null : Integer.valueOf(random.nextInt(alphabet)));
+			}
+			checkComputedListDiff(oldList, newList);
+		}
+	}
+
+	@Test
+	public void testComputeListDiffIsEmpty() {
+		assertTrue(Diffs.computeListDiff(List.of("a", "b"), List.of("a", "b")).isEmpty());
+		assertFalse(Diffs.computeListDiff(List.of("a", "b"), List.of("b", "a")).isEmpty());
+	}
+
 	private static void checkComputedListDiff(List<Object> oldList, List<Object> newList) {
 		ListDiff<?> diff = Diffs.computeListDiff(oldList, newList);
 
@@ -15,10 +15,19 @@
 package org.eclipse.core.tests.databinding.observable;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Collections;
 
 import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.map.MapChangeEvent;
+import org.eclipse.core.databinding.observable.map.WritableMap;
+import org.eclipse.core.databinding.observable.value.ValueChangeEvent;
+import org.eclipse.core.databinding.observable.value.WritableValue;
 import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.MapChangeEventTracker;
 import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
 import org.junit.Test;
 
 /**
@@ -35,4 +44,63 @@ public class RealmTest {
 
 		assertEquals("old realm should have been restored", oldRealm, Realm.getDefault());
 	}
+
+	@Test
+	public void testRunBatch_MergesMapChanges() throws Exception {
+		Realm realm = new CurrentRealm(true);
+		WritableMap<String, String> map = new WritableMap<>(realm);
+		map.put("changed", "old");
+		map.put("removed", "old");
+		MapChangeEventTracker<String, String> tracker = MapChangeEventTracker.observe(map);
+
+		realm.runBatch(() -> {
+			map.put("changed", "intermediate");
+			map.put("changed", "new");
+			map.remove("removed");
+			map.put("added", "new");
+			map.put("transient", "new");
+			map.remove("transient");
+		});
+
+		assertEquals(1, tracker.count);
+		MapChangeEvent<? extends String, ? extends String> event = tracker.event;
+		assertEquals(Collections.singleton("added"), event.diff.getAddedKeys());
+		assertEquals(Collections.singleton("removed"), event.diff.getRemovedKeys());
+		assertEquals(Collections.singleton("changed"), event.diff.getChangedKeys());
+		assertEquals("old", event.diff.getOldValue("changed"));
+		assertEquals("new", event.diff.getNewValue("changed"));
+		assertEquals("old", event.diff.getOldValue("removed"));
+	}
+
+	@Test
+	public void testRunBatch_MergesValueChanges() throws Exception {
+		Realm realm = new CurrentRealm(true);
+		WritableValue<String> value = new WritableValue<>(realm, "old", String.class);
+		ValueChangeEventTracker<String> tracker = ValueChangeEventTracker.observe(value);
+
+		realm.runBatch(() -> {
+			value.setValue("intermediate");
+			value.setValue("new");
+		});
+
+		assertEquals(1, tracker.count);
+		ValueChangeEvent<? extends String> event = tracker.event;
+		assertEquals("old", event.diff.getOldValue());
+		assertEquals("new", event.diff.getNewValue());
+	}
+
+	@Test
+	public void testRunBatch_RevertedValueNotFired() throws Exception {
+		Realm realm = new CurrentRealm(true);
+		WritableValue<String> value = new WritableValue<>(realm, "old", String.class);
+		ValueChangeEventTracker<String> tracker = ValueChangeEventTracker.observe(value);
+
+		realm.runBatch(() -> {
+			value.setValue("new");
+			value.setValue("old");
+		});
+
+		assertEquals(0, tracker.count);
+		assertNull(tracker.event);
+	}
 }
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.WorkerRealm;
+import org.eclipse.core.databinding.util.ILogger;
+import org.eclipse.core.databinding.util.Policy;
+import org.eclipse.core.runtime.IStatus;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for WorkerRealm.
+ *
+ * @since 1.14
+ */
+public class WorkerRealmTest {
+	private WorkerRealm realm;
+
+	@Before
+	public void setUp() throws Exception {
+		realm = new WorkerRealm("WorkerRealmTest"); //$NON-NLS-1$
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		realm.dispose();
+	}
+
+	@Test
+	public void testAsyncExec_RunsOnWorkerThreadInOrder() throws Exception {
+		List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+		AtomicReference<Thread> thread = new AtomicReference<>();
+		for (int i = 0; i < 3; i++) {
+			int index = i;
+			realm.asyncExec(() -> {
+				thread.set(Thread.currentThread());
+				order.add(index);
+			});
+		}
+		waitForRealm();
+
+		assertEquals(Arrays.asList(0, 1, 2), order);
+		assertNotSame(Thread.currentThread(), thread.get());
+		assertTrue(thread.get().isDaemon());
+	}
+
+	@Test
+	public void testIsCurrent() throws Exception {
+		assertFalse(realm.isCurrent());
+
+		AtomicBoolean current = new AtomicBoolean();
+		realm.asyncExec(() -> current.set(realm.isCurrent()));
+		waitForRealm();
+
+		assertTrue(current.get());
+	}
+
+	@Test
+	public void testDefaultRealmOfWorkerThread() throws Exception {
+		AtomicReference<Realm> defaultRealm = new AtomicReference<>();
+		realm.asyncExec(() -> defaultRealm.set(Realm.getDefault()));
+		waitForRealm();
+
+		assertSame(realm, defaultRealm.get());
+	}
+
+	@Test
+	public void testExec_RunsImmediatelyOnWorkerThread() throws Exception {
+		List<String> order = Collections.synchronizedList(new ArrayList<>());
+		realm.asyncExec(() -> {
+			realm.exec(() -> order.add("exec")); //$NON-NLS-1$
+			order.add("after exec"); //$NON-NLS-1$
+		});
+		waitForRealm();
+
+		assertEquals(Arrays.asList("exec", "after exec"), order); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testAsyncExec_ExceptionLoggedAndRealmContinues() throws Exception {
+		List<IStatus> log = Collections.synchronizedList(new ArrayList<>());
+		ILogger oldLog = Policy.getLog();
+		Policy.setLog(log::add);
+		try {
+			realm.asyncExec(() -> {
+				throw new RuntimeException("expected"); //$NON-NLS-1$
+			});
+			AtomicBoolean run = new AtomicBoolean();
+			realm.asyncExec(() -> run.set(true));
+			waitForRealm();
+
+			assertTrue(run.get());
+			assertEquals(1, log.size());
+			assertEquals(IStatus.ERROR, log.get(0).getSeverity());
+		} finally {
+			Policy.setLog(oldLog);
+		}
+	}
+
+	@Test
+	public void testDispose_RunsPendingRunnablesOnly() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicReference<Thread> thread = new AtomicReference<>();
+		AtomicBoolean pendingRun = new AtomicBoolean();
+		realm.asyncExec(() -> {
+			thread.set(Thread.currentThread());
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		realm.asyncExec(() -> pendingRun.set(true));
+		realm.dispose();
+		assertTrue(realm.isDisposed());
+
+		AtomicBoolean lateRun = new AtomicBoolean();
+		realm.asyncExec(() -> lateRun.set(true));
+		release.countDown();
+		while (thread.get() == null) {
+			Thread.yield();
+		}
+		thread.get().join(10000);
+
+		assertFalse(thread.get().isAlive());
+		assertTrue(pendingRun.get());
+		assertFalse(lateRun.get());
+	}
+
+	/**
+	 * Waits until all runnables passed to the realm so far have been executed.
+	 */
+	private void waitForRealm() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		realm.asyncExec(latch::countDown);
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+	}
+}
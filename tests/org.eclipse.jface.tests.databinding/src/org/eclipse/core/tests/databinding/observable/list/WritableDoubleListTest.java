@@ -0,0 +1,150 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.list;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.IObservableCollection;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.WritableDoubleList;
+import org.eclipse.jface.databinding.conformance.MutableObservableListBatchContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableBatchContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableListContractTest;
+import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableCollectionContractDelegate;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.TestCollection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for WritableDoubleList.
+ *
+ * @since 1.14
+ */
+public class WritableDoubleListTest {
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testConstructor_CopiesElements() throws Exception {
+		double[] elements = { 1, 2, 3 };
+		WritableDoubleList list = new WritableDoubleList(elements);
+		elements[0] = 4;
+
+		assertArrayEquals(new double[] { 1, 2, 3 }, list.toDoubleArray(), 0);
+		assertEquals(Arrays.asList(1.0, 2.0, 3.0), list);
+		assertEquals(Double.TYPE, list.getElementType());
+	}
+
+	@Test
+	public void testSetDoubles_OnlyChangedElementsInDiff() throws Exception {
+		WritableDoubleList list = new WritableDoubleList(new double[] { 1, 2, 3 });
+		ListChangeEventTracker<Double> tracker = ListChangeEventTracker.observe(list);
+
+		list.setDoubles(new double[] { 1, 5, 3 });
+
+		assertEquals(1, tracker.count);
+		assertEquals(2, tracker.event.diff.getDifferences().length);
+		assertDiffAppliesTo(tracker, new double[] { 1, 2, 3 }, list);
+	}
+
+	@Test
+	public void testSetDoubles_SizeChanges() throws Exception {
+		WritableDoubleList list = new WritableDoubleList(new double[] { 1, 2, 3 });
+		ListChangeEventTracker<Double> tracker = ListChangeEventTracker.observe(list);
+
+		list.setDoubles(new double[] { 0, 2, 3, 4, 5 });
+		assertDiffAppliesTo(tracker, new double[] { 1, 2, 3 }, list);
+
+		list.setDoubles(new double[] { 2 });
+		assertDiffAppliesTo(tracker, new double[] { 0, 2, 3, 4, 5 }, list);
+
+		assertEquals(2, tracker.count);
+	}
+
+	private static void assertDiffAppliesTo(ListChangeEventTracker<Double> tracker, double[] oldElements,
+			WritableDoubleList list) {
+		List<Double> oldList = new ArrayList<>();
+		for (double element : oldElements) {
+			oldList.add(element);
+		}
+		tracker.event.diff.applyTo(oldList);
+		assertEquals(list, oldList);
+	}
+
+	@Test
+	public void testSetDoubles_NaNUnchanged() throws Exception {
+		WritableDoubleList list = new WritableDoubleList(new double[] { Double.NaN, 1 });
+		ListChangeEventTracker<Double> tracker = ListChangeEventTracker.observe(list);
+
+		list.setDoubles(new double[] { Double.NaN, 1 });
+
+		assertEquals(0, tracker.count);
+	}
+
+	public static void addConformanceTest(TestCollection suite) {
+		// MutableObservableListContractTest is not added since it expects the
+		// list to return the element instances it was given, while this list
+		// boxes its elements on access
+		suite.addTest(ObservableListContractTest.class, new Delegate());
+		suite.addTest(MutableObservableListBatchContractTest.class, new Delegate());
+		suite.addTest(ObservableBatchContractTest.class, new Delegate());
+	}
+
+	/* package */static class Delegate extends AbstractObservableCollectionContractDelegate<Double> {
+		private int next;
+
+		@Override
+		public Double createElement(IObservableCollection<Double> collection) {
+			return (double) next++;
+		}
+
+		@Override
+		public Object getElementType(IObservableCollection<Double> collection) {
+			return Double.TYPE;
+		}
+
+		@Override
+		public IObservableCollection<Double> createObservableCollection(Realm realm, final int itemCount) {
+			WritableDoubleList observable = new WritableDoubleList(realm);
+			for (int i = 0; i < itemCount; i++) {
+				observable.addDouble(next++);
+			}
+			return observable;
+		}
+
+		@Override
+		public void change(IObservable observable) {
+			((WritableDoubleList) observable).addDouble(next++);
+		}
+	}
+}
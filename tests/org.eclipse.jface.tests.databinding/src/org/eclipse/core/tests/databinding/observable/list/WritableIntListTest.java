@@ -0,0 +1,250 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.list;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.IObservableCollection;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.WritableIntList;
+import org.eclipse.core.runtime.AssertionFailedException;
+import org.eclipse.jface.databinding.conformance.MutableObservableListBatchContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableBatchContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableListContractTest;
+import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableCollectionContractDelegate;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.TestCollection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for WritableIntList.
+ *
+ * @since 1.14
+ */
+public class WritableIntListTest {
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testConstructor_CopiesElements() throws Exception {
+		int[] elements = { 1, 2, 3 };
+		WritableIntList list = new WritableIntList(elements);
+		elements[0] = 4;
+
+		assertArrayEquals(new int[] { 1, 2, 3 }, list.toIntArray());
+		assertEquals(Arrays.asList(1, 2, 3), list);
+		assertEquals(Integer.TYPE, list.getElementType());
+	}
+
+	@Test
+	public void testSetInt() throws Exception {
+		WritableIntList list = new WritableIntList(new int[] { 1, 2, 3 });
+		ListChangeEventTracker<Integer> tracker = ListChangeEventTracker.observe(list);
+
+		assertEquals(2, list.setInt(1, 5));
+
+		assertEquals(1, tracker.count);
+		assertDiffAppliesTo(tracker, new int[] { 1, 2, 3 }, list);
+		assertEquals(5, list.getInt(1));
+	}
+
+	@Test
+	public void testSetInt_SameValueNotFired() throws Exception {
+		WritableIntList list = new WritableIntList(new int[] { 1, 2, 3 });
+		ListChangeEventTracker<Integer> tracker = ListChangeEventTracker.observe(list);
+
+		list.setInt(1, 2);
+		list.set(2, 3);
+
+		assertEquals(0, tracker.count);
+	}
+
+	@Test
+	public void testAddIntAndRemoveInt() throws Exception {
+		WritableIntList list = new WritableIntList();
+		for (int i = 0; i < 20; i++) {
+			list.addInt(i);
+		}
+		list.addInt(0, -1);
+		assertEquals(-1, list.removeInt(0));
+		assertEquals(5, list.removeInt(5));
+
+		assertEquals(19, list.size());
+		assertEquals(6, list.getInt(5));
+		assertEquals(19, list.getInt(18));
+	}
+
+	@Test
+	public void testAddAll_FiresSingleEvent() throws Exception {
+		WritableIntList list = new WritableIntList(new int[] { 1, 4 });
+		ListChangeEventTracker<Integer> tracker = ListChangeEventTracker.observe(list);
+
+		list.addAll(1, Arrays.asList(2, 3));
+
+		assertEquals(1, tracker.count);
+		assertDiffAppliesTo(tracker, new int[] { 1, 4 }, list);
+		assertArrayEquals(new int[] { 1, 2, 3, 4 }, list.toIntArray());
+	}
+
+	@Test
+	public void testMove() throws Exception {
+		WritableIntList list = new WritableIntList(new int[] { 1, 2, 3, 4 });
+		ListChangeEventTracker<Integer> tracker = ListChangeEventTracker.observe(list);
+
+		assertEquals(Integer.valueOf(1), list.move(0, 2));
+
+		assertEquals(1, tracker.count);
+		assertDiffAppliesTo(tracker, new int[] { 1, 2, 3, 4 }, list);
+		assertArrayEquals(new int[] { 2, 3, 1, 4 }, list.toIntArray());
+	}
+
+	@Test
+	public void testSetInts_OnlyChangedElementsInDiff() throws Exception {
+		WritableIntList list = new WritableIntList(new int[] { 1, 2, 3 });
+		ListChangeEventTracker<Integer> tracker = ListChangeEventTracker.observe(list);
+
+		list.setInts(new int[] { 1, 5, 3 });
+
+		assertEquals(1, tracker.count);
+		assertEquals(2, tracker.event.diff.getDifferences().length);
+		assertDiffAppliesTo(tracker, new int[] { 1, 2, 3 }, list);
+	}
+
+	@Test
+	public void testSetInts_SizeChanges() throws Exception {
+		WritableIntList list = new WritableIntList(new int[] { 1, 2, 3 });
+		ListChangeEventTracker<Integer> tracker = ListChangeEventTracker.observe(list);
+
+		list.setInts(new int[] { 0, 2, 3, 4, 5 });
+		assertDiffAppliesTo(tracker, new int[] { 1, 2, 3 }, list);
+
+		list.setInts(new int[] { 2 });
+		assertDiffAppliesTo(tracker, new int[] { 0, 2, 3, 4, 5 }, list);
+
+		assertEquals(2, tracker.count);
+	}
+
+	@Test
+	public void testSetInts_SameElementsNotFired() throws Exception {
+		WritableIntList list = new WritableIntList(new int[] { 1, 2, 3 });
+		ListChangeEventTracker<Integer> tracker = ListChangeEventTracker.observe(list);
+
+		list.setInts(new int[] { 1, 2, 3 });
+
+		assertEquals(0, tracker.count);
+	}
+
+	@Test
+	public void testClear() throws Exception {
+		WritableIntList list = new WritableIntList(new int[] { 1, 2, 3 });
+		ListChangeEventTracker<Integer> tracker = ListChangeEventTracker.observe(list);
+
+		list.clear();
+
+		assertEquals(1, tracker.count);
+		assertDiffAppliesTo(tracker, new int[] { 1, 2, 3 }, list);
+		assertEquals(0, list.size());
+	}
+
+	@Test
+	public void testAdd_NullRejected() throws Exception {
+		WritableIntList list = new WritableIntList(new int[] { 1 });
+		assertThrows(AssertionFailedException.class, () -> list.add(null));
+		assertThrows(AssertionFailedException.class, () -> list.addAll(Arrays.asList(2, null)));
+		assertArrayEquals(new int[] { 1 }, list.toIntArray());
+	}
+
+	@Test
+	public void testSetIntRealmChecks() throws Exception {
+		RealmTester.exerciseCurrent(() -> {
+			WritableIntList list = new WritableIntList(new int[] { 1 });
+			list.setInt(0, 2);
+		});
+	}
+
+	@Test
+	public void testSetIntsRealmChecks() throws Exception {
+		RealmTester.exerciseCurrent(() -> {
+			WritableIntList list = new WritableIntList();
+			list.setInts(new int[] { 1 });
+		});
+	}
+
+	private static void assertDiffAppliesTo(ListChangeEventTracker<Integer> tracker, int[] oldElements,
+			WritableIntList list) {
+		List<Integer> oldList = new ArrayList<>();
+		for (int element : oldElements) {
+			oldList.add(element);
+		}
+		tracker.event.diff.applyTo(oldList);
+		assertEquals(list, oldList);
+	}
+
+	public static void addConformanceTest(TestCollection suite) {
+		// MutableObservableListContractTest is not added since it expects the
+		// list to return the element instances it was given, while this list
+		// boxes its elements on access
+		suite.addTest(ObservableListContractTest.class, new Delegate());
+		suite.addTest(MutableObservableListBatchContractTest.class, new Delegate());
+		suite.addTest(ObservableBatchContractTest.class, new Delegate());
+	}
+
+	/* package */static class Delegate extends AbstractObservableCollectionContractDelegate<Integer> {
+		private int next;
+
+		@Override
+		public Integer createElement(IObservableCollection<Integer> collection) {
+			return next++;
+		}
+
+		@Override
+		public Object getElementType(IObservableCollection<Integer> collection) {
+			return Integer.TYPE;
+		}
+
+		@Override
+		public IObservableCollection<Integer> createObservableCollection(Realm realm, final int itemCount) {
+			WritableIntList observable = new WritableIntList(realm);
+			for (int i = 0; i < itemCount; i++) {
+				observable.addInt(next++);
+			}
+			return observable;
+		}
+
+		@Override
+		public void change(IObservable observable) {
+			((WritableIntList) observable).addInt(next++);
+		}
+	}
+}
@@ -30,7 +30,9 @@ import org.eclipse.core.databinding.observable.IObservable;
 import org.eclipse.core.databinding.observable.IObservableCollection;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.jface.databinding.conformance.MutableObservableListBatchContractTest;
 import org.eclipse.jface.databinding.conformance.MutableObservableListContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableBatchContractTest;
 import org.eclipse.jface.databinding.conformance.ObservableListContractTest;
 import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableCollectionContractDelegate;
 import org.eclipse.jface.databinding.conformance.util.TestCollection;
@@ -212,7 +214,8 @@ public class WritableListTest {
 	public static void addConformanceTest(TestCollection suite) {
 		suite.addTest(MutableObservableListContractTest.class, new Delegate());
 		suite.addTest(ObservableListContractTest.class, new Delegate());
-
+		suite.addTest(MutableObservableListBatchContractTest.class, new Delegate());
+		suite.addTest(ObservableBatchContractTest.class, new Delegate());
 	}
 
 	/* package */static class Delegate extends
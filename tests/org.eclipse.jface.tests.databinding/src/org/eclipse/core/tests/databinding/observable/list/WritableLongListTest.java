@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.list;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.IObservableCollection;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.WritableLongList;
+import org.eclipse.jface.databinding.conformance.MutableObservableListBatchContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableBatchContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableListContractTest;
+import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableCollectionContractDelegate;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.TestCollection;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for WritableLongList.
+ *
+ * @since 1.14
+ */
+public class WritableLongListTest {
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testConstructor_CopiesElements() throws Exception {
+		long[] elements = { 1, 2, 3 };
+		WritableLongList list = new WritableLongList(elements);
+		elements[0] = 4;
+
+		assertArrayEquals(new long[] { 1, 2, 3 }, list.toLongArray());
+		assertEquals(Arrays.asList(1L, 2L, 3L), list);
+		assertEquals(Long.TYPE, list.getElementType());
+	}
+
+	@Test
+	public void testSetLongs_OnlyChangedElementsInDiff() throws Exception {
+		WritableLongList list = new WritableLongList(new long[] { 1, 2, 3 });
+		ListChangeEventTracker<Long> tracker = ListChangeEventTracker.observe(list);
+
+		list.setLongs(new long[] { 1, 5, 3 });
+
+		assertEquals(1, tracker.count);
+		assertEquals(2, tracker.event.diff.getDifferences().length);
+		assertDiffAppliesTo(tracker, new long[] { 1, 2, 3 }, list);
+	}
+
+	@Test
+	public void testSetLongs_SizeChanges() throws Exception {
+		WritableLongList list = new WritableLongList(new long[] { 1, 2, 3 });
+		ListChangeEventTracker<Long> tracker = ListChangeEventTracker.observe(list);
+
+		list.setLongs(new long[] { 0, 2, 3, 4, 5 });
+		assertDiffAppliesTo(tracker, new long[] { 1, 2, 3 }, list);
+
+		list.setLongs(new long[] { 2 });
+		assertDiffAppliesTo(tracker, new long[] { 0, 2, 3, 4, 5 }, list);
+
+		assertEquals(2, tracker.count);
+	}
+
+	private static void assertDiffAppliesTo(ListChangeEventTracker<Long> tracker, long[] oldElements,
+			WritableLongList list) {
+		List<Long> oldList = new ArrayList<>();
+		for (long element : oldElements) {
+			oldList.add(element);
+		}
+		tracker.event.diff.applyTo(oldList);
+		assertEquals(list, oldList);
+	}
+
+	public static void addConformanceTest(TestCollection suite) {
+		// MutableObservableListContractTest is not added since it expects the
+		// list to return the element instances it was given, while this list
+		// boxes its elements on access
+		suite.addTest(ObservableListContractTest.class, new Delegate());
+		suite.addTest(MutableObservableListBatchContractTest.class, new Delegate());
+		suite.addTest(ObservableBatchContractTest.class, new Delegate());
+	}
+
+	/* package */static class Delegate extends AbstractObservableCollectionContractDelegate<Long> {
+		private int next;
+
+		@Override
+		public Long createElement(IObservableCollection<Long> collection) {
+			return (long) next++;
+		}
+
+		@Override
+		public Object getElementType(IObservableCollection<Long> collection) {
+			return Long.TYPE;
+		}
+
+		@Override
+		public IObservableCollection<Long> createObservableCollection(Realm realm, final int itemCount) {
+			WritableLongList observable = new WritableLongList(realm);
+			for (int i = 0; i < itemCount; i++) {
+				observable.addLong(next++);
+			}
+			return observable;
+		}
+
+		@Override
+		public void change(IObservable observable) {
+			((WritableLongList) observable).addLong(next++);
+		}
+	}
+}
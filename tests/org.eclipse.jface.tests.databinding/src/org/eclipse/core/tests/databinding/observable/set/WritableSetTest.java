@@ -24,7 +24,9 @@ import org.eclipse.core.databinding.observable.IObservableCollection;
 import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.set.IObservableSet;
 import org.eclipse.core.databinding.observable.set.WritableSet;
+import org.eclipse.jface.databinding.conformance.MutableObservableSetBatchContractTest;
 import org.eclipse.jface.databinding.conformance.MutableObservableSetContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableBatchContractTest;
 import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableCollectionContractDelegate;
 import org.eclipse.jface.databinding.conformance.util.TestCollection;
 import org.eclipse.jface.tests.databinding.AbstractDefaultRealmTestCase;
@@ -42,6 +44,8 @@ public class WritableSetTest extends AbstractDefaultRealmTestCase {
 
 	public static void addConformanceTest(TestCollection suite) {
 		suite.addTest(MutableObservableSetContractTest.class, new Delegate());
+		suite.addTest(MutableObservableSetBatchContractTest.class, new Delegate());
+		suite.addTest(ObservableBatchContractTest.class, new Delegate());
 	}
 
 	private static class Delegate extends
@@ -22,10 +22,13 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.List;
 
+import org.eclipse.core.databinding.observable.IChangeListener;
 import org.eclipse.core.databinding.observable.value.ComputedValue;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.WritableValue;
@@ -158,4 +161,109 @@ public class ComputedValueTest extends AbstractDefaultRealmTestCase {
 
 		assertThrows(UnsupportedOperationException.class, () -> cv.setValue(new Object()));
 	}
+
+	@Test
+	public void testDiamondDependency_RecomputedOncePerChange() throws Exception {
+		WritableValue<Integer> a = new WritableValue<>(1, Integer.TYPE);
+		IObservableValue<Integer> b = ComputedValue.create(() -> a.getValue() + 1);
+		IObservableValue<Integer> c = ComputedValue.create(() -> a.getValue() * 2);
+		AtomicInteger calculations = new AtomicInteger();
+		IObservableValue<Integer> d = ComputedValue.create(() -> {
+			calculations.incrementAndGet();
+			return b.getValue() + c.getValue();
+		});
+		List<Integer> notifiedValues = new ArrayList<>();
+		d.addValueChangeListener(event -> notifiedValues.add(event.diff.getNewValue()));
+		assertEquals(Integer.valueOf(4), d.getValue());
+		calculations.set(0);
+
+		a.setValue(2);
+
+		assertEquals(1, calculations.get());
+		assertEquals(List.of(7), notifiedValues);
+		assertEquals(Integer.valueOf(7), d.getValue());
+		assertEquals(1, calculations.get());
+	}
+
+	@Test
+	public void testDiamondDependency_NoInconsistentValueDuringChange() throws Exception {
+		WritableValue<Integer> a = new WritableValue<>(1, Integer.TYPE);
+		IObservableValue<Integer> b = ComputedValue.create(() -> a.getValue() + 1);
+		IObservableValue<Integer> c = ComputedValue.create(() -> a.getValue() * 2);
+		IObservableValue<Integer> d = ComputedValue.create(() -> b.getValue() + c.getValue());
+		d.addChangeListener(event -> {
+		});
+		List<Integer> seenValues = new ArrayList<>();
+		// reads d while the change of a is propagated
+		b.addValueChangeListener(event -> seenValues.add(d.getValue()));
+		c.addValueChangeListener(event -> seenValues.add(d.getValue()));
+
+		a.setValue(2);
+
+		assertEquals(List.of(7, 7), seenValues);
+	}
+
+	@Test
+	public void testDependencyChange_ListenersNotReregistered() throws Exception {
+		AtomicInteger addedListeners = new AtomicInteger();
+		WritableValue<Integer> value = new WritableValue<>(1, Integer.TYPE) {
+			@Override
+			public synchronized void addChangeListener(IChangeListener listener) {
+				addedListeners.incrementAndGet();
+				super.addChangeListener(listener);
+			}
+		};
+		IObservableValue<Integer> cv = ComputedValue.create(value::getValue);
+		cv.addChangeListener(event -> {
+		});
+		assertEquals(1, addedListeners.get());
+
+		for (int i = 2; i < 10; i++) {
+			value.setValue(i);
+			assertEquals(Integer.valueOf(i), cv.getValue());
+		}
+
+		assertEquals(1, addedListeners.get());
+	}
+
+	@Test
+	public void testGarbageCollectedAfterLastListenerRemoved() throws Exception {
+		WritableValue<Integer> value = new WritableValue<>(1, Integer.TYPE);
+		WeakReference<IObservableValue<Integer>> cv = createComputedValue(value, true);
+
+		assertGarbageCollected(cv);
+		value.setValue(2);
+	}
+
+	@Test
+	public void testGarbageCollectedWhenDirtyWithoutListeners() throws Exception {
+		WritableValue<Integer> value = new WritableValue<>(1, Integer.TYPE);
+		WeakReference<IObservableValue<Integer>> cv = createComputedValue(value, false);
+
+		value.setValue(2);
+		assertGarbageCollected(cv);
+		value.setValue(3);
+	}
+
+	private static WeakReference<IObservableValue<Integer>> createComputedValue(IObservableValue<Integer> value,
+			boolean listen) {
+		IObservableValue<Integer> cv = ComputedValue.create(() -> value.getValue() + 1);
+		if (listen) {
+			IChangeListener listener = event -> {
+			};
+			cv.addChangeListener(listener);
+			cv.removeChangeListener(listener);
+		} else {
+			cv.getValue();
+		}
+		return new WeakReference<>(cv);
+	}
+
+	private static void assertGarbageCollected(WeakReference<?> reference) throws InterruptedException {
+		for (int i = 0; i < 20 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(reference.get());
+	}
 }
@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.DoubleValueDiff;
+import org.eclipse.core.databinding.observable.value.WritableDoubleValue;
+import org.eclipse.jface.databinding.conformance.MutableObservableValueContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableBatchContractTest;
+import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableValueContractDelegate;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.TestCollection;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for WritableDoubleValue.
+ *
+ * @since 1.14
+ */
+public class WritableDoubleValueTest {
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testConstructor() throws Exception {
+		WritableDoubleValue value = new WritableDoubleValue(3);
+		assertEquals(3, value.getDoubleValue(), 0);
+		assertEquals(Double.valueOf(3), value.getValue());
+		assertEquals(Double.TYPE, value.getValueType());
+		assertEquals(Realm.getDefault(), value.getRealm());
+	}
+
+	@Test
+	public void testSetIntValue_FiresDoubleValueDiff() throws Exception {
+		WritableDoubleValue value = new WritableDoubleValue(1);
+		ValueChangeEventTracker<Double> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setDoubleValue(2);
+
+		assertEquals(1, tracker.count);
+		assertTrue(tracker.event.diff instanceof DoubleValueDiff);
+		DoubleValueDiff diff = (DoubleValueDiff) tracker.event.diff;
+		assertEquals(1, diff.getOldDoubleValue(), 0);
+		assertEquals(2, diff.getNewDoubleValue(), 0);
+		assertEquals(2, value.getDoubleValue(), 0);
+	}
+
+	@Test
+	public void testSetIntValue_SameValueNotFired() throws Exception {
+		WritableDoubleValue value = new WritableDoubleValue(1);
+		ValueChangeEventTracker<Double> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setDoubleValue(1);
+		value.setValue(1.0);
+
+		assertEquals(0, tracker.count);
+	}
+
+	@Test
+	public void testSetDoubleValue_NaNFiredOnce() throws Exception {
+		WritableDoubleValue value = new WritableDoubleValue(1);
+		ValueChangeEventTracker<Double> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setDoubleValue(Double.NaN);
+		value.setDoubleValue(Double.NaN);
+
+		assertEquals(1, tracker.count);
+		assertTrue(Double.isNaN(value.getDoubleValue()));
+	}
+
+	public static void addConformanceTest(TestCollection suite) {
+		suite.addTest(MutableObservableValueContractTest.class, new Delegate());
+		suite.addTest(ObservableBatchContractTest.class, new Delegate());
+	}
+
+	/* package */static class Delegate extends AbstractObservableValueContractDelegate {
+		@Override
+		public IObservableValue<?> createObservableValue(Realm realm) {
+			return new WritableDoubleValue(realm, 0);
+		}
+
+		@Override
+		public void change(IObservable observable) {
+			WritableDoubleValue value = (WritableDoubleValue) observable;
+			value.setDoubleValue(value.getDoubleValue() + 1);
+		}
+
+		@Override
+		public Object getValueType(IObservableValue<?> observable) {
+			return Double.TYPE;
+		}
+
+		@Override
+		public Double createValue(IObservableValue<?> observable) {
+			return ((WritableDoubleValue) observable).getDoubleValue() + 1;
+		}
+	}
+}
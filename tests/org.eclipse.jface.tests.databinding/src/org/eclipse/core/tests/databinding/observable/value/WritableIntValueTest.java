@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.ComputedValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IntValueDiff;
+import org.eclipse.core.databinding.observable.value.WritableIntValue;
+import org.eclipse.core.runtime.AssertionFailedException;
+import org.eclipse.jface.databinding.conformance.MutableObservableValueContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableBatchContractTest;
+import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableValueContractDelegate;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.TestCollection;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for WritableIntValue.
+ *
+ * @since 1.14
+ */
+public class WritableIntValueTest {
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testConstructor() throws Exception {
+		WritableIntValue value = new WritableIntValue(3);
+		assertEquals(3, value.getIntValue());
+		assertEquals(Integer.valueOf(3), value.getValue());
+		assertEquals(Integer.TYPE, value.getValueType());
+		assertEquals(Realm.getDefault(), value.getRealm());
+	}
+
+	@Test
+	public void testSetIntValue_FiresIntValueDiff() throws Exception {
+		WritableIntValue value = new WritableIntValue(1);
+		ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setIntValue(2);
+
+		assertEquals(1, tracker.count);
+		assertTrue(tracker.event.diff instanceof IntValueDiff);
+		IntValueDiff diff = (IntValueDiff) tracker.event.diff;
+		assertEquals(1, diff.getOldIntValue());
+		assertEquals(2, diff.getNewIntValue());
+		assertEquals(2, value.getIntValue());
+	}
+
+	@Test
+	public void testSetIntValue_SameValueNotFired() throws Exception {
+		WritableIntValue value = new WritableIntValue(1);
+		ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setIntValue(1);
+		value.setValue(1);
+
+		assertEquals(0, tracker.count);
+	}
+
+	@Test
+	public void testSetValue_NullRejected() throws Exception {
+		WritableIntValue value = new WritableIntValue(1);
+		assertThrows(AssertionFailedException.class, () -> value.setValue(null));
+		assertEquals(1, value.getIntValue());
+	}
+
+	@Test
+	public void testSetIntValueRealmChecks() throws Exception {
+		RealmTester.exerciseCurrent(() -> new WritableIntValue().setIntValue(1));
+	}
+
+	@Test
+	public void testGetIntValue_TrackedByComputedValue() throws Exception {
+		WritableIntValue value = new WritableIntValue(1);
+		IObservableValue<Integer> doubled = ComputedValue.create(() -> 2 * value.getIntValue());
+		ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(doubled);
+		assertEquals(Integer.valueOf(2), doubled.getValue());
+
+		value.setIntValue(5);
+
+		assertEquals(1, tracker.count);
+		assertEquals(Integer.valueOf(10), doubled.getValue());
+	}
+
+	public static void addConformanceTest(TestCollection suite) {
+		suite.addTest(MutableObservableValueContractTest.class, new Delegate());
+		suite.addTest(ObservableBatchContractTest.class, new Delegate());
+	}
+
+	/* package */static class Delegate extends AbstractObservableValueContractDelegate {
+		@Override
+		public IObservableValue<?> createObservableValue(Realm realm) {
+			return new WritableIntValue(realm, 0);
+		}
+
+		@Override
+		public void change(IObservable observable) {
+			WritableIntValue value = (WritableIntValue) observable;
+			value.setIntValue(value.getIntValue() + 1);
+		}
+
+		@Override
+		public Object getValueType(IObservableValue<?> observable) {
+			return Integer.TYPE;
+		}
+
+		@Override
+		public Integer createValue(IObservableValue<?> observable) {
+			return ((WritableIntValue) observable).getIntValue() + 1;
+		}
+	}
+}
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.databinding.observable.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.core.databinding.observable.IObservable;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.LongValueDiff;
+import org.eclipse.core.databinding.observable.value.WritableLongValue;
+import org.eclipse.jface.databinding.conformance.MutableObservableValueContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableBatchContractTest;
+import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableValueContractDelegate;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.TestCollection;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for WritableLongValue.
+ *
+ * @since 1.14
+ */
+public class WritableLongValueTest {
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testConstructor() throws Exception {
+		WritableLongValue value = new WritableLongValue(3);
+		assertEquals(3, value.getLongValue());
+		assertEquals(Long.valueOf(3), value.getValue());
+		assertEquals(Long.TYPE, value.getValueType());
+		assertEquals(Realm.getDefault(), value.getRealm());
+	}
+
+	@Test
+	public void testSetIntValue_FiresLongValueDiff() throws Exception {
+		WritableLongValue value = new WritableLongValue(1);
+		ValueChangeEventTracker<Long> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setLongValue(2);
+
+		assertEquals(1, tracker.count);
+		assertTrue(tracker.event.diff instanceof LongValueDiff);
+		LongValueDiff diff = (LongValueDiff) tracker.event.diff;
+		assertEquals(1, diff.getOldLongValue());
+		assertEquals(2, diff.getNewLongValue());
+		assertEquals(2, value.getLongValue());
+	}
+
+	@Test
+	public void testSetIntValue_SameValueNotFired() throws Exception {
+		WritableLongValue value = new WritableLongValue(1);
+		ValueChangeEventTracker<Long> tracker = ValueChangeEventTracker.observe(value);
+
+		value.setLongValue(1);
+		value.setValue(1L);
+
+		assertEquals(0, tracker.count);
+	}
+
+	public static void addConformanceTest(TestCollection suite) {
+		suite.addTest(MutableObservableValueContractTest.class, new Delegate());
+		suite.addTest(ObservableBatchContractTest.class, new Delegate());
+	}
+
+	/* package */static class Delegate extends AbstractObservableValueContractDelegate {
+		@Override
+		public IObservableValue<?> createObservableValue(Realm realm) {
+			return new WritableLongValue(realm, 0);
+		}
+
+		@Override
+		public void change(IObservable observable) {
+			WritableLongValue value = (WritableLongValue) observable;
+			value.setLongValue(value.getLongValue() + 1);
+		}
+
+		@Override
+		public Object getValueType(IObservableValue<?> observable) {
+			return Long.TYPE;
+		}
+
+		@Override
+		public Long createValue(IObservableValue<?> observable) {
+			return ((WritableLongValue) observable).getLongValue() + 1;
+		}
+	}
+}
@@ -25,6 +25,7 @@ import org.eclipse.core.databinding.observable.Realm;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
 import org.eclipse.core.databinding.observable.value.WritableValue;
 import org.eclipse.jface.databinding.conformance.MutableObservableValueContractTest;
+import org.eclipse.jface.databinding.conformance.ObservableBatchContractTest;
 import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableValueContractDelegate;
 import org.eclipse.jface.databinding.conformance.util.TestCollection;
 import org.eclipse.jface.databinding.swt.DisplayRealm;
@@ -58,6 +59,7 @@ public class WritableValueTest extends AbstractDefaultRealmTestCase {
 
 	public static void addConformanceTest(TestCollection suite) {
 		suite.addTest(MutableObservableValueContractTest.class, new Delegate());
+		suite.addTest(ObservableBatchContractTest.class, new Delegate());
 	}
 
 	/* package */static class Delegate extends
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.internal.databinding.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.databinding.observable.Observables;
+import org.eclipse.core.databinding.observable.WorkerRealm;
+import org.eclipse.core.databinding.observable.list.ComputedList;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.ListChangeEventTracker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for RealmBridgeObservableList.
+ *
+ * @since 1.14
+ */
+public class RealmBridgeObservableListTest {
+	private WorkerRealm worker;
+	private CurrentRealm realm;
+	private WritableList<String> source;
+	private IObservableList<String> bridge;
+	private ListChangeEventTracker<String> tracker;
+
+	@Before
+	public void setUp() throws Exception {
+		worker = new WorkerRealm("RealmBridgeObservableListTest"); //$NON-NLS-1$
+		realm = new CurrentRealm(true);
+		source = new WritableList<>(worker, new ArrayList<>(Arrays.asList("a", "b")), String.class); //$NON-NLS-1$ //$NON-NLS-2$
+		bridge = Observables.observeInRealm(realm, source);
+		tracker = ListChangeEventTracker.observe(bridge);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		bridge.dispose();
+		worker.dispose();
+	}
+
+	@Test
+	public void testInitialContents() throws Exception {
+		assertTrue(bridge.isStale());
+		assertTrue(bridge.isEmpty());
+
+		update();
+
+		assertFalse(bridge.isStale());
+		assertEquals(Arrays.asList("a", "b"), bridge); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(1, tracker.count);
+	}
+
+	@Test
+	public void testChanges_FiredAsSingleEvent() throws Exception {
+		update();
+		List<String> oldList = new ArrayList<>(bridge);
+		tracker.count = 0;
+
+		worker.asyncExec(() -> {
+			source.add("c"); //$NON-NLS-1$
+			source.remove("a"); //$NON-NLS-1$
+			source.add(0, "d"); //$NON-NLS-1$
+		});
+		update();
+
+		assertEquals(Arrays.asList("d", "b", "c"), bridge); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		assertEquals(1, tracker.count);
+		tracker.event.diff.applyTo(oldList);
+		assertEquals(bridge, oldList);
+	}
+
+	@Test
+	public void testChanges_CancellingOutNotFired() throws Exception {
+		update();
+		tracker.count = 0;
+
+		worker.asyncExec(() -> {
+			source.add("c"); //$NON-NLS-1$
+			source.remove("c"); //$NON-NLS-1$
+		});
+		update();
+
+		assertEquals(0, tracker.count);
+		assertEquals(Arrays.asList("a", "b"), bridge); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testComputedListOfWorkerRealm() throws Exception {
+		WritableValue<Integer> size = new WritableValue<>(worker, 2, Integer.class);
+		List<IObservableList<Integer>> computed = new ArrayList<>();
+		worker.asyncExec(() -> computed.add(new ComputedList<>() {
+			@Override
+			protected List<Integer> calculate() {
+				List<Integer> result = new ArrayList<>();
+				for (int i = 0; i < size.getValue(); i++) {
+					result.add(i);
+				}
+				return result;
+			}
+		}));
+		waitForWorker();
+		IObservableList<Integer> computedBridge = Observables.observeInRealm(realm, computed.get(0));
+		update();
+		assertEquals(Arrays.asList(0, 1), computedBridge);
+
+		worker.asyncExec(() -> size.setValue(4));
+		update();
+
+		assertEquals(Arrays.asList(0, 1, 2, 3), computedBridge);
+		computedBridge.dispose();
+	}
+
+	@Test
+	public void testDispose_ChangesNotApplied() throws Exception {
+		update();
+		bridge.dispose();
+
+		worker.asyncExec(() -> source.add("c")); //$NON-NLS-1$
+		update();
+
+		assertEquals(1, tracker.count);
+	}
+
+	/**
+	 * Waits until the worker realm has executed all runnables passed to it so
+	 * far, then runs the updates scheduled in the realm of the bridge.
+	 */
+	private void update() throws InterruptedException {
+		waitForWorker();
+		realm.setCurrent(true);
+	}
+
+	private void waitForWorker() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		worker.asyncExec(latch::countDown);
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+	}
+}
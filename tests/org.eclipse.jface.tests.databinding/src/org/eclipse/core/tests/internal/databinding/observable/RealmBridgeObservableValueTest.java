@@ -0,0 +1,123 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.core.tests.internal.databinding.observable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.databinding.observable.Observables;
+import org.eclipse.core.databinding.observable.WorkerRealm;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for RealmBridgeObservableValue.
+ *
+ * @since 1.14
+ */
+public class RealmBridgeObservableValueTest {
+	private WorkerRealm worker;
+	private CurrentRealm realm;
+	private WritableValue<Integer> source;
+	private IObservableValue<Integer> bridge;
+	private ValueChangeEventTracker<Integer> tracker;
+
+	@Before
+	public void setUp() throws Exception {
+		worker = new WorkerRealm("RealmBridgeObservableValueTest"); //$NON-NLS-1$
+		realm = new CurrentRealm(true);
+		source = new WritableValue<>(worker, 0, Integer.class);
+		bridge = Observables.observeInRealm(realm, source);
+		tracker = ValueChangeEventTracker.observe(bridge);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		bridge.dispose();
+		worker.dispose();
+	}
+
+	@Test
+	public void testInitialValue() throws Exception {
+		assertTrue(bridge.isStale());
+		assertNull(bridge.getValue());
+		assertEquals(Integer.class, bridge.getValueType());
+
+		update();
+
+		assertFalse(bridge.isStale());
+		assertEquals(Integer.valueOf(0), bridge.getValue());
+		assertEquals(1, tracker.count);
+	}
+
+	@Test
+	public void testChanges_FiredAsSingleEvent() throws Exception {
+		update();
+		tracker.count = 0;
+
+		worker.asyncExec(() -> {
+			source.setValue(1);
+			source.setValue(2);
+			source.setValue(3);
+		});
+		update();
+
+		assertEquals(1, tracker.count);
+		assertEquals(Integer.valueOf(0), tracker.event.diff.getOldValue());
+		assertEquals(Integer.valueOf(3), tracker.event.diff.getNewValue());
+		assertEquals(Integer.valueOf(3), bridge.getValue());
+	}
+
+	@Test
+	public void testChanges_RevertedValueNotFired() throws Exception {
+		update();
+		tracker.count = 0;
+
+		worker.asyncExec(() -> {
+			source.setValue(1);
+			source.setValue(0);
+		});
+		update();
+
+		assertEquals(0, tracker.count);
+		assertEquals(Integer.valueOf(0), bridge.getValue());
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void testSetValue_Unsupported() throws Exception {
+		bridge.setValue(1);
+	}
+
+	/**
+	 * Waits until the worker realm has executed all runnables passed to it so
+	 * far, then runs the updates scheduled in the realm of the bridge.
+	 */
+	private void update() throws InterruptedException {
+		CountDownLatch latch = new CountDownLatch(1);
+		worker.asyncExec(latch::countDown);
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		realm.setCurrent(true);
+	}
+}
@@ -0,0 +1,210 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.core.tests.internal.databinding.property.value;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.value.DoubleValueDiff;
+import org.eclipse.core.databinding.observable.value.IObservableDoubleValue;
+import org.eclipse.core.databinding.observable.value.IObservableIntValue;
+import org.eclipse.core.databinding.observable.value.IntValueDiff;
+import org.eclipse.core.databinding.observable.value.ValueDiff;
+import org.eclipse.core.databinding.property.INativePropertyListener;
+import org.eclipse.core.databinding.property.ISimplePropertyListener;
+import org.eclipse.core.databinding.property.NativePropertyListener;
+import org.eclipse.core.databinding.property.value.SimpleDoubleValueProperty;
+import org.eclipse.core.databinding.property.value.SimpleIntValueProperty;
+import org.eclipse.jface.databinding.conformance.util.CurrentRealm;
+import org.eclipse.jface.databinding.conformance.util.RealmTester;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for the observables of {@link SimpleIntValueProperty} and
+ * {@link SimpleDoubleValueProperty}.
+ *
+ * @since 1.11
+ */
+public class SimplePropertyObservableIntValueTest {
+
+	private Source source;
+
+	@Before
+	public void setUp() throws Exception {
+		RealmTester.setDefault(new CurrentRealm(true));
+		source = new Source();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		RealmTester.setDefault(null);
+	}
+
+	@Test
+	public void testGetIntValue() throws Exception {
+		source.value = 3;
+		IObservableIntValue observable = new IntProperty().observe(source);
+
+		assertEquals(3, observable.getIntValue());
+		assertEquals(Integer.valueOf(3), observable.getValue());
+		assertEquals(Integer.TYPE, observable.getValueType());
+	}
+
+	@Test
+	public void testSetIntValue_FiresIntValueDiff() throws Exception {
+		IObservableIntValue observable = new IntProperty().observe(source);
+		ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(observable);
+
+		observable.setIntValue(2);
+
+		assertEquals(2, source.value);
+		assertEquals(1, tracker.count);
+		IntValueDiff diff = (IntValueDiff) tracker.event.diff;
+		assertEquals(0, diff.getOldIntValue());
+		assertEquals(2, diff.getNewIntValue());
+	}
+
+	@Test
+	public void testSourceChange_FiresIntValueDiff() throws Exception {
+		IObservableIntValue observable = new IntProperty().observe(source);
+		ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(observable);
+
+		source.setValue(5);
+
+		assertEquals(1, tracker.count);
+		assertSame(observable, tracker.event.getObservableValue());
+		IntValueDiff diff = (IntValueDiff) tracker.event.diff;
+		assertEquals(0, diff.getOldIntValue());
+		assertEquals(5, diff.getNewIntValue());
+	}
+
+	@Test
+	public void testSourceChange_UnchangedValueNotFired() throws Exception {
+		IObservableIntValue observable = new IntProperty().observe(source);
+		ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(observable);
+
+		source.setValue(0);
+		observable.setIntValue(0);
+
+		assertEquals(0, tracker.count);
+	}
+
+	@Test
+	public void testLastListenerRemoved_RemovesNativeListener() throws Exception {
+		IObservableIntValue observable = new IntProperty().observe(source);
+		ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(observable);
+		assertEquals(1, source.listeners.size());
+
+		observable.removeValueChangeListener(tracker);
+
+		assertTrue(source.listeners.isEmpty());
+	}
+
+	@Test
+	public void testSetDoubleValue_FiresDoubleValueDiff() throws Exception {
+		IObservableDoubleValue observable = new DoubleProperty().observe(source);
+		ValueChangeEventTracker<Double> tracker = ValueChangeEventTracker.observe(observable);
+
+		observable.setDoubleValue(Double.NaN);
+		observable.setDoubleValue(Double.NaN);
+
+		assertEquals(1, tracker.count);
+		DoubleValueDiff diff = (DoubleValueDiff) tracker.event.diff;
+		assertEquals(0, diff.getOldDoubleValue(), 0);
+		assertTrue(Double.isNaN(diff.getNewDoubleValue()));
+		assertTrue(Double.isNaN(observable.getDoubleValue()));
+	}
+
+	private static class Source {
+		int value;
+		double doubleValue;
+		final List<Runnable> listeners = new ArrayList<>();
+
+		void setValue(int value) {
+			this.value = value;
+			for (Runnable listener : new ArrayList<>(listeners)) {
+				listener.run();
+			}
+		}
+	}
+
+	private static class SourceListener<D extends ValueDiff<?>> extends NativePropertyListener<Source, D>
+			implements Runnable {
+		private Source source;
+
+		SourceListener(ISimplePropertyListener<Source, D> listener) {
+			super(null, listener);
+		}
+
+		@Override
+		protected void doAddTo(Source source) {
+			this.source = source;
+			source.listeners.add(this);
+		}
+
+		@Override
+		protected void doRemoveFrom(Source source) {
+			source.listeners.remove(this);
+		}
+
+		@Override
+		public void run() {
+			fireChange(source, null);
+		}
+	}
+
+	private static class IntProperty extends SimpleIntValueProperty<Source> {
+		@Override
+		protected int doGetIntValue(Source source) {
+			return source.value;
+		}
+
+		@Override
+		protected void doSetIntValue(Source source, int value) {
+			source.setValue(value);
+		}
+
+		@Override
+		public INativePropertyListener<Source> adaptListener(
+				ISimplePropertyListener<Source, ValueDiff<? extends Integer>> listener) {
+			return new SourceListener<>(listener);
+		}
+	}
+
+	private static class DoubleProperty extends SimpleDoubleValueProperty<Source> {
+		@Override
+		protected double doGetDoubleValue(Source source) {
+			return source.doubleValue;
+		}
+
+		@Override
+		protected void doSetDoubleValue(Source source, double value) {
+			source.doubleValue = value;
+		}
+
+		@Override
+		public INativePropertyListener<Source> adaptListener(
+				ISimplePropertyListener<Source, ValueDiff<? extends Double>> listener) {
+			return null;
+		}
+	}
+}
@@ -53,13 +53,17 @@ import org.eclipse.core.tests.databinding.observable.Diffs_ListDiffTests;
 import org.eclipse.core.tests.databinding.observable.ObservableTrackerTest;
 import org.eclipse.core.tests.databinding.observable.ObservablesTest;
 import org.eclipse.core.tests.databinding.observable.RealmTest;
+import org.eclipse.core.tests.databinding.observable.WorkerRealmTest;
 import org.eclipse.core.tests.databinding.observable.list.AbstractObservableListTest;
 import org.eclipse.core.tests.databinding.observable.list.ComputedListTest;
 import org.eclipse.core.tests.databinding.observable.list.ListDiffTest;
 import org.eclipse.core.tests.databinding.observable.list.ListDiffVisitorTest;
 import org.eclipse.core.tests.databinding.observable.list.MultiListTest;
 import org.eclipse.core.tests.databinding.observable.list.ObservableListTest;
+import org.eclipse.core.tests.databinding.observable.list.WritableDoubleListTest;
+import org.eclipse.core.tests.databinding.observable.list.WritableIntListTest;
 import org.eclipse.core.tests.databinding.observable.list.WritableListTest;
+import org.eclipse.core.tests.databinding.observable.list.WritableLongListTest;
 import org.eclipse.core.tests.databinding.observable.map.AbstractObservableMapTest;
 import org.eclipse.core.tests.databinding.observable.map.BidiObservableMapTest;
 import org.eclipse.core.tests.databinding.observable.map.CompositeMapTest;
@@ -74,6 +78,9 @@ import org.eclipse.core.tests.databinding.observable.value.ComputedValueTest;
 import org.eclipse.core.tests.databinding.observable.value.DateAndTimeObservableValueTest;
 import org.eclipse.core.tests.databinding.observable.value.DuplexingObservableValueTest;
 import org.eclipse.core.tests.databinding.observable.value.LocalDateTimeObservableValueTest;
+import org.eclipse.core.tests.databinding.observable.value.WritableDoubleValueTest;
+import org.eclipse.core.tests.databinding.observable.value.WritableIntValueTest;
+import org.eclipse.core.tests.databinding.observable.value.WritableLongValueTest;
 import org.eclipse.core.tests.databinding.observable.value.WritableValueTest;
 import org.eclipse.core.tests.databinding.util.PolicyTest;
 import org.eclipse.core.tests.databinding.validation.MultiValidatorTest;
@@ -116,6 +123,8 @@ import org.eclipse.core.tests.internal.databinding.conversion.StringToShortConve
 import org.eclipse.core.tests.internal.databinding.observable.ConstantObservableValueTest;
 import org.eclipse.core.tests.internal.databinding.observable.DelayedObservableValueTest;
 import org.eclipse.core.tests.internal.databinding.observable.MapEntryObservableValueTest;
+import org.eclipse.core.tests.internal.databinding.observable.RealmBridgeObservableListTest;
+import org.eclipse.core.tests.internal.databinding.observable.RealmBridgeObservableValueTest;
 import org.eclipse.core.tests.internal.databinding.observable.UnmodifiableObservableListTest;
 import org.eclipse.core.tests.internal.databinding.observable.UnmodifiableObservableSetTest;
 import org.eclipse.core.tests.internal.databinding.observable.UnmodifiableObservableValueTest;
@@ -127,6 +136,7 @@ import org.eclipse.core.tests.internal.databinding.observable.masterdetail.Detai
 import org.eclipse.core.tests.internal.databinding.property.value.ListSimpleValueObservableListTest;
 import org.eclipse.core.tests.internal.databinding.property.value.MapSimpleValueObservableMapTest;
 import org.eclipse.core.tests.internal.databinding.property.value.SetSimpleValueObservableMapTest;
+import org.eclipse.core.tests.internal.databinding.property.value.SimplePropertyObservableIntValueTest;
 import org.eclipse.core.tests.internal.databinding.validation.AbstractStringToNumberValidatorTest;
 import org.eclipse.core.tests.internal.databinding.validation.NumberToByteValidatorTest;
 import org.eclipse.core.tests.internal.databinding.validation.NumberToDoubleValidatorTest;
@@ -232,10 +242,12 @@ import org.junit.runners.Suite.SuiteClasses;
 		ObservableMapTest.class, ObservableSetContentProviderTest.class, ObservableSetTreeContentProviderTest.class,
 		ObservablesManagerTest.class, ObservablesTest.class, ObservableTrackerTest.class,
 		ObservableValueEditingSupportTest.class, PojoPropertiesTest.class, PolicyTest.class,
-		PreferencePageSupportTest.class, QueueTest.class, RealmTest.class, ScaleObservableValueMaxTest.class,
+		PreferencePageSupportTest.class, QueueTest.class, RealmBridgeObservableListTest.class,
+		RealmBridgeObservableValueTest.class, RealmTest.class, ScaleObservableValueMaxTest.class,
 		ScaleObservableValueMinTest.class, ScaleObservableValueSelectionTest.class,
 		SetOnlyJavaBeanTest.class, SetSimpleValueObservableMapTest.class,
-		SideEffectTest.class, SpinnerObservableValueMaxTest.class, SpinnerObservableValueMinTest.class,
+		SideEffectTest.class, SimplePropertyObservableIntValueTest.class, SpinnerObservableValueMaxTest.class,
+		SpinnerObservableValueMinTest.class,
 		SpinnerObservableValueSelectionTest.class, StatusToStringConverterTest.class,
 		StringToBooleanConverterTest.class, StringToByteConverterTest.class, StringToByteValidatorTest.class,
 		StringToCharacterConverterTest.class, StringToCharacterValidatorTest.class, StringToDoubleValidatorTest.class,
@@ -252,7 +264,9 @@ import org.junit.runners.Suite.SuiteClasses;
 		ValidationStatusTest.class, ValueBindingTest.class, ViewerElementMapTest.class, ViewerElementSetTest.class,
 		ViewerElementWrapperTest.class, ViewersObservablesTest.class,
 		ViewerSupportTest.class, WidgetObservableThreadTest.class, WidgetPropertiesTest.class,
-		WizardPageSupportTest.class, WritableListTest.class, WritableMapTest.class, WritableSetTest.class,
-		WritableValueTest.class })
+		WizardPageSupportTest.class, WorkerRealmTest.class, WritableDoubleListTest.class,
+		WritableDoubleValueTest.class, WritableIntListTest.class, WritableIntValueTest.class,
+		WritableListTest.class, WritableLongListTest.class, WritableLongValueTest.class, WritableMapTest.class,
+		WritableSetTest.class, WritableValueTest.class })
 public class BindingTestSuite {
 }
\ No newline at end of file
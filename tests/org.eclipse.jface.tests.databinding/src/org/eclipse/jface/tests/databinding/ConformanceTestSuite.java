@@ -35,7 +35,10 @@ import org.eclipse.core.tests.databinding.observable.list.ComputedListTest;
 import org.eclipse.core.tests.databinding.observable.list.DecoratingObservableListTest;
 import org.eclipse.core.tests.databinding.observable.list.MultiListTest;
 import org.eclipse.core.tests.databinding.observable.list.ObservableListTest;
+import org.eclipse.core.tests.databinding.observable.list.WritableDoubleListTest;
+import org.eclipse.core.tests.databinding.observable.list.WritableIntListTest;
 import org.eclipse.core.tests.databinding.observable.list.WritableListTest;
+import org.eclipse.core.tests.databinding.observable.list.WritableLongListTest;
 import org.eclipse.core.tests.databinding.observable.set.AbstractObservableSetTest;
 import org.eclipse.core.tests.databinding.observable.set.ComputedSetTest;
 import org.eclipse.core.tests.databinding.observable.set.DecoratingObservableSetTest;
@@ -44,6 +47,9 @@ import org.eclipse.core.tests.databinding.observable.set.UnionSetTest;
 import org.eclipse.core.tests.databinding.observable.set.WritableSetTest;
 import org.eclipse.core.tests.databinding.observable.value.DecoratingObservableValueTest;
 import org.eclipse.core.tests.databinding.observable.value.SelectObservableValueTest;
+import org.eclipse.core.tests.databinding.observable.value.WritableDoubleValueTest;
+import org.eclipse.core.tests.databinding.observable.value.WritableIntValueTest;
+import org.eclipse.core.tests.databinding.observable.value.WritableLongValueTest;
 import org.eclipse.core.tests.databinding.observable.value.WritableValueTest;
 import org.eclipse.core.tests.internal.databinding.observable.ConstantObservableValueTest;
 import org.eclipse.core.tests.internal.databinding.observable.DelayedObservableValueTest;
@@ -157,7 +163,13 @@ public class ConformanceTestSuite {
 		ValidatedObservableListTest.addConformanceTest(suite);
 		ValidatedObservableSetTest.addConformanceTest(suite);
 		ValidatedObservableValueTest.addConformanceTest(suite);
+		WritableDoubleListTest.addConformanceTest(suite);
+		WritableDoubleValueTest.addConformanceTest(suite);
+		WritableIntListTest.addConformanceTest(suite);
+		WritableIntValueTest.addConformanceTest(suite);
 		WritableListTest.addConformanceTest(suite);
+		WritableLongListTest.addConformanceTest(suite);
+		WritableLongValueTest.addConformanceTest(suite);
 		WritableSetTest.addConformanceTest(suite);
 		WritableValueTest.addConformanceTest(suite);
 		return suite.getDataForParameterizedRunner();
@@ -16,15 +16,19 @@
 package org.eclipse.jface.tests.internal.databinding.swt;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.eclipse.core.databinding.observable.IObservable;
 import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.IObservableIntValue;
 import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.IntValueDiff;
 import org.eclipse.jface.databinding.conformance.ObservableDelegateTest;
 import org.eclipse.jface.databinding.conformance.delegate.AbstractObservableValueContractDelegate;
 import org.eclipse.jface.databinding.conformance.swt.SWTMutableObservableValueContractTest;
 import org.eclipse.jface.databinding.conformance.swt.SWTObservableValueContractTest;
 import org.eclipse.jface.databinding.conformance.util.TestCollection;
+import org.eclipse.jface.databinding.conformance.util.ValueChangeEventTracker;
 import org.eclipse.jface.databinding.swt.DisplayRealm;
 import org.eclipse.jface.databinding.swt.typed.WidgetProperties;
 import org.eclipse.swt.SWT;
@@ -78,6 +82,19 @@ public class SpinnerObservableValueSelectionTest extends ObservableDelegateTest
 		assertEquals(value, spinner.getSelection());
 	}
 
+	@Test
+	public void testSetIntValue_FiresIntValueDiff() throws Exception {
+		IObservableIntValue intObservable = (IObservableIntValue) observable;
+		ValueChangeEventTracker<Integer> tracker = ValueChangeEventTracker.observe(intObservable);
+
+		intObservable.setIntValue(100);
+
+		assertEquals(100, spinner.getSelection());
+		assertEquals(100, intObservable.getIntValue());
+		assertEquals(1, tracker.count);
+		assertTrue(tracker.event.diff instanceof IntValueDiff);
+	}
+
 	public static void addConformanceTest(TestCollection suite) {
 		suite.addTest(SWTMutableObservableValueContractTest.class, new Delegate());
 		suite.addTest(SWTObservableValueContractTest.class, new Delegate());
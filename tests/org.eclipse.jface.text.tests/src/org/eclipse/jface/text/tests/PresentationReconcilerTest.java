@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyleRange;
+import org.eclipse.swt.layout.FillLayout;
+import org.eclipse.swt.widgets.Shell;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.TextAttribute;
+import org.eclipse.jface.text.TextViewer;
+import org.eclipse.jface.text.presentation.PresentationReconciler;
+import org.eclipse.jface.text.rules.DefaultDamagerRepairer;
+import org.eclipse.jface.text.rules.EndOfLineRule;
+import org.eclipse.jface.text.rules.IRule;
+import org.eclipse.jface.text.rules.RuleBasedScanner;
+import org.eclipse.jface.text.rules.Token;
+import org.eclipse.jface.text.tests.util.DisplayHelper;
+
+/**
+ * Tests the presentation reconciler repairing the viewport first.
+ */
+public class PresentationReconcilerTest {
+
+	private static final int LINES= 5000;
+
+	private Shell fShell;
+
+	private TextViewer fViewer;
+
+	private IDocument fDocument;
+
+	@Before
+	public void setUp() {
+		fShell= new Shell();
+		fShell.setSize(500, 200);
+		fShell.setLayout(new FillLayout());
+		fViewer= new TextViewer(fShell, SWT.V_SCROLL | SWT.H_SCROLL);
+		fShell.open();
+
+		RuleBasedScanner scanner= new RuleBasedScanner();
+		scanner.setRules(new IRule[] { new EndOfLineRule("//", new Token(new TextAttribute(null, null, SWT.ITALIC))) });
+		DefaultDamagerRepairer damagerRepairer= new DefaultDamagerRepairer(scanner);
+		damagerRepairer.setLineCacheSize(100);
+		PresentationReconciler reconciler= new PresentationReconciler();
+		reconciler.setDamager(damagerRepairer, IDocument.DEFAULT_CONTENT_TYPE);
+		reconciler.setRepairer(damagerRepairer, IDocument.DEFAULT_CONTENT_TYPE);
+		reconciler.setViewportFirst(true);
+		reconciler.install(fViewer);
+
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < LINES; i++)
+			content.append("line ").append(i).append(" // comment\n");
+		fDocument= new Document(content.toString());
+	}
+
+	@After
+	public void tearDown() {
+		fShell.dispose();
+	}
+
+	private boolean isStyled(int line) throws BadLocationException {
+		int offset= fDocument.getLineOffset(line) + fDocument.getLineLength(line) - 3;
+		StyleRange range= fViewer.getTextWidget().getStyleRangeAtOffset(offset);
+		return range != null && range.fontStyle == SWT.ITALIC;
+	}
+
+	@Test
+	public void testRemainderIsRepairedWhenIdle() throws Exception {
+		fViewer.setDocument(fDocument);
+		assertTrue(isStyled(0));
+		assertTrue(isStyled(5));
+		assertNull(fViewer.getTextWidget().getStyleRangeAtOffset(fDocument.getLineOffset(LINES - 1) + 10));
+
+		boolean repaired= new DisplayHelper() {
+			@Override
+			protected boolean condition() {
+				try {
+					return isStyled(LINES - 1);
+				} catch (BadLocationException e) {
+					return false;
+				}
+			}
+		}.waitForCondition(fShell.getDisplay(), 5000);
+		assertTrue(repaired);
+		for (int i= 0; i < LINES; i+= 100)
+			assertTrue("line " + i, isStyled(i));
+	}
+
+	@Test
+	public void testScrolledLinesAreRepaired() throws Exception {
+		fViewer.setDocument(fDocument);
+		assertTrue(isStyled(0));
+
+		fViewer.setTopIndex(LINES / 2);
+		assertTrue(isStyled(LINES / 2));
+		assertTrue(isStyled(LINES / 2 + 5));
+	}
+
+	@Test
+	public void testChangeAfterDeferredDamage() throws Exception {
+		fViewer.setDocument(fDocument);
+		fDocument.replace(0, 0, "first\n");
+		fViewer.setTopIndex(LINES / 2 + 1);
+		assertTrue(isStyled(1));
+		assertTrue(isStyled(LINES / 2 + 1));
+	}
+}
@@ -75,4 +75,34 @@ public class ProjectionViewerTest {
 			shell.dispose();
 		}
 	}
+
+	@Test
+	public void testCollapseAndExpandAll() throws BadLocationException {
+		Shell shell= new Shell();
+		shell.setLayout(new FillLayout());
+		ProjectionViewer viewer= new ProjectionViewer(shell, null, null, false, SWT.NONE);
+		StringBuilder content= new StringBuilder();
+		StringBuilder collapsed= new StringBuilder();
+		for (int i= 0; i < 500; i++) {
+			content.append("block ").append(i).append(" {\n\tline\n}\n");
+			collapsed.append("block ").append(i).append(" {\n");
+		}
+		Document document= new Document(content.toString());
+		viewer.setDocument(document, new AnnotationModel());
+		viewer.enableProjection();
+		for (int i= 0; i < 500; i++) {
+			int offset= document.getLineOffset(3 * i);
+			viewer.getProjectionAnnotationModel().addAnnotation(new ProjectionAnnotation(false), new Position(offset, document.getLineOffset(3 * i + 3) - offset));
+		}
+		shell.setVisible(true);
+		try {
+			viewer.getTextOperationTarget().doOperation(ProjectionViewer.COLLAPSE_ALL);
+			assertEquals(collapsed.toString(), viewer.getTextWidget().getText());
+
+			viewer.getTextOperationTarget().doOperation(ProjectionViewer.EXPAND_ALL);
+			assertEquals(document.get(), viewer.getTextWidget().getText());
+		} finally {
+			shell.dispose();
+		}
+	}
 }
@@ -12,14 +12,18 @@ package org.eclipse.jface.text.tests.contentassist;
 
 import static java.util.Collections.singletonList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import org.junit.After;
@@ -40,8 +44,11 @@ import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.IInformationControlCreator;
 import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.contentassist.ContentAssistEvent;
 import org.eclipse.jface.text.contentassist.ContentAssistant;
 import org.eclipse.jface.text.contentassist.ContextInformationValidator;
+import org.eclipse.jface.text.contentassist.ICompletionListener;
+import org.eclipse.jface.text.contentassist.ICompletionListenerExtension3;
 import org.eclipse.jface.text.contentassist.ICompletionProposal;
 import org.eclipse.jface.text.contentassist.ICompletionProposalExtension;
 import org.eclipse.jface.text.contentassist.ICompletionProposalExtension2;
@@ -319,6 +326,153 @@ public class FilteringAsyncContentAssistTests {
 		assertTrue(filteredProposals == null || filteredProposals.isEmpty());
 	}
 
+	/**
+	 * Streaming CA with filtering with 1 immediate and 1 delayed CA processors. Empty text
+	 * initially. Invoke CA, verify 1 proposal shows right away, type `y` before delayed proposal
+	 * calculated, verify immediate proposal filtered out right away and delayed proposal shown
+	 * once calculated
+	 *
+	 * @throws Exception exception
+	 */
+	@Test
+	public void testStreamedCompletionsFilteredBeforeLongCompletionsCalculated() throws Exception {
+		IDocument document= viewer.getDocument();
+
+		ca.addContentAssistProcessor(new ImmediateContentAssistProcessor("xxxx"), IDocument.DEFAULT_CONTENT_TYPE);
+		ca.addContentAssistProcessor(new DelayedContentAssistProcessor(singletonList("yyyy"), 2000, false),
+				IDocument.DEFAULT_CONTENT_TYPE);
+		ca.setStreamingProposals(true);
+
+		ca.install(viewer);
+
+		viewer.setSelectedRange(0, 0);
+
+		ca.showPossibleCompletions();
+
+		DisplayHelper.sleep(shell.getDisplay(), 300);
+
+		List<ICompletionProposal> filteredProposals= getFilteredProposals(ca, p -> p instanceof CompletionProposal);
+		assertEquals(1, filteredProposals.size());
+		assertEquals("xxxx", filteredProposals.get(0).getDisplayString());
+
+		new InsertEdit(0, "y").apply(document);
+		viewer.setSelectedRange(1, 0);
+
+		DisplayHelper.sleep(shell.getDisplay(), 300);
+
+		filteredProposals= getFilteredProposals(ca, p -> p instanceof CompletionProposal);
+		assertTrue(filteredProposals.isEmpty());
+
+		DisplayHelper.sleep(shell.getDisplay(), 2500);
+
+		filteredProposals= getFilteredProposals(ca, p -> p instanceof CompletionProposal);
+		assertEquals(1, filteredProposals.size());
+		assertEquals("yyyy", filteredProposals.get(0).getDisplayString());
+	}
+
+	/**
+	 * Streaming CA with a sorter and 1 immediate and 1 delayed CA processors. Verify the delayed
+	 * proposals are merged into the sorted proposals.
+	 *
+	 * @throws Exception exception
+	 */
+	@Test
+	public void testStreamedCompletionsAreMergedSorted() throws Exception {
+		ca.addContentAssistProcessor(new ImmediateContentAssistProcessor("bb", "dd"), IDocument.DEFAULT_CONTENT_TYPE);
+		ca.addContentAssistProcessor(new DelayedContentAssistProcessor(Arrays.asList("cc", "aa"), 500, false),
+				IDocument.DEFAULT_CONTENT_TYPE);
+		ca.setSorter((p1, p2) -> p1.getDisplayString().compareTo(p2.getDisplayString()));
+		ca.setStreamingProposals(true);
+
+		ca.install(viewer);
+
+		viewer.setSelectedRange(0, 0);
+
+		ca.showPossibleCompletions();
+
+		DisplayHelper.sleep(shell.getDisplay(), 300);
+
+		List<ICompletionProposal> filteredProposals= getFilteredProposals(ca, p -> p instanceof CompletionProposal);
+		assertEquals("[bb, dd]", filteredProposals.toString());
+
+		DisplayHelper.sleep(shell.getDisplay(), 1000);
+
+		filteredProposals= getFilteredProposals(ca, p -> p instanceof CompletionProposal);
+		assertEquals("[aa, bb, cc, dd]", filteredProposals.toString());
+	}
+
+	@Test
+	public void testProposalsComputedEvent() throws Exception {
+		DelayedContentAssistProcessor processor= new DelayedContentAssistProcessor(Arrays.asList("aa", "bb"), 300, false);
+		ca.addContentAssistProcessor(processor, IDocument.DEFAULT_CONTENT_TYPE);
+		List<ContentAssistEvent> events= Collections.synchronizedList(new ArrayList<>());
+		ca.addCompletionListener(new TimingListener(events));
+
+		ca.install(viewer);
+
+		viewer.setSelectedRange(0, 0);
+
+		ca.showPossibleCompletions();
+
+		DisplayHelper.sleep(shell.getDisplay(), 1000);
+
+		assertEquals(1, events.size());
+		ContentAssistEvent event= events.get(0);
+		assertSame(processor, event.processor);
+		assertEquals(2, event.proposalCount);
+		assertTrue(event.computationTime >= TimeUnit.MILLISECONDS.toNanos(300));
+	}
+
+	@Test
+	public void testProposalsComputedEventListenerFailure() throws Exception {
+		ca.addContentAssistProcessor(new DelayedContentAssistProcessor(Arrays.asList("aa", "bb"), 300, false), IDocument.DEFAULT_CONTENT_TYPE);
+		ca.addCompletionListener(new TimingListener(null));
+		List<ContentAssistEvent> events= Collections.synchronizedList(new ArrayList<>());
+		ca.addCompletionListener(new TimingListener(events));
+
+		ca.install(viewer);
+
+		viewer.setSelectedRange(0, 0);
+
+		ca.showPossibleCompletions();
+
+		DisplayHelper.sleep(shell.getDisplay(), 1000);
+
+		// the failing listener neither drops the proposals nor the event of the other listener
+		assertEquals(1, events.size());
+		assertFalse(events.get(0).isAutoActivated);
+		List<ICompletionProposal> filteredProposals= getFilteredProposals(ca, p -> p instanceof CompletionProposal);
+		assertEquals(2, filteredProposals.size());
+	}
+
+	private static class TimingListener implements ICompletionListener, ICompletionListenerExtension3 {
+
+		private final List<ContentAssistEvent> fEvents;
+
+		TimingListener(List<ContentAssistEvent> events) {
+			fEvents= events;
+		}
+
+		@Override
+		public void proposalsComputed(ContentAssistEvent event) {
+			if (fEvents == null)
+				throw new IllegalStateException();
+			fEvents.add(event);
+		}
+
+		@Override
+		public void assistSessionStarted(ContentAssistEvent event) {
+		}
+
+		@Override
+		public void assistSessionEnded(ContentAssistEvent event) {
+		}
+
+		@Override
+		public void selectionChanged(ICompletionProposal proposal, boolean smartToggle) {
+		}
+	}
+
 	@Test
 	public void testProposalValidation() throws Exception {
 		IDocument document= viewer.getDocument();
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.reconciler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ITextViewer;
+import org.eclipse.jface.text.reconciler.AbstractReconciler;
+import org.eclipse.jface.text.reconciler.DirtyRegion;
+import org.eclipse.jface.text.reconciler.IReconcilingStrategy;
+import org.eclipse.jface.text.reconciler.MonoReconciler;
+import org.eclipse.jface.text.reconciler.Reconciler;
+import org.eclipse.jface.text.rules.FastPartitioner;
+import org.eclipse.jface.text.rules.IPredicateRule;
+import org.eclipse.jface.text.rules.MultiLineRule;
+import org.eclipse.jface.text.rules.RuleBasedPartitionScanner;
+import org.eclipse.jface.text.rules.Token;
+import org.eclipse.jface.text.tests.TestTextViewer;
+
+/**
+ * Tests the coalescing of dirty regions, concurrently reconciling strategies and the statistics
+ * of the strategies.
+ */
+public class ReconcilerTest {
+
+	private static final String COMMENT= "comment";
+
+	/**
+	 * A reconciling strategy that records the dirty regions and optionally waits for another
+	 * strategy.
+	 */
+	private static class RecordingStrategy implements IReconcilingStrategy {
+		final List<DirtyRegion> fDirtyRegions= Collections.synchronizedList(new ArrayList<>());
+		final CyclicBarrier fBarrier;
+		volatile boolean fMetOther;
+
+		RecordingStrategy(CyclicBarrier barrier) {
+			fBarrier= barrier;
+		}
+
+		@Override
+		public void setDocument(IDocument document) {
+		}
+
+		@Override
+		public void reconcile(DirtyRegion dirtyRegion, IRegion subRegion) {
+			fDirtyRegions.add(dirtyRegion);
+			if (fBarrier != null) {
+				try {
+					fBarrier.await(5, TimeUnit.SECONDS);
+					fMetOther= true;
+				} catch (Exception e) {
+					// the other strategy did not reconcile concurrently
+				}
+			}
+		}
+
+		@Override
+		public void reconcile(IRegion partition) {
+		}
+	}
+
+	private ITextViewer fViewer;
+
+	private AbstractReconciler fReconciler;
+
+	@After
+	public void tearDown() {
+		fReconciler.uninstall();
+	}
+
+	private IDocument install(AbstractReconciler reconciler, String content) {
+		fReconciler= reconciler;
+		fViewer= new TestTextViewer();
+		fReconciler.install(fViewer);
+		IDocument document= new Document(content);
+		FastPartitioner partitioner= new FastPartitioner(new RuleBasedPartitionScanner() {
+			{
+				setPredicateRules(new IPredicateRule[] { new MultiLineRule("/*", "*/", new Token(COMMENT)) });
+			}
+		}, new String[] { COMMENT });
+		document.setDocumentPartitioner(partitioner);
+		partitioner.connect(document);
+		fViewer.setDocument(document);
+		return document;
+	}
+
+	private static void waitFor(List<?> list) throws InterruptedException {
+		long start= System.currentTimeMillis();
+		while (list.isEmpty()) {
+			if (System.currentTimeMillis() > start + 5000)
+				fail("waited > 5s for reconciler to complete");
+			Thread.sleep(20);
+		}
+	}
+
+	@Test
+	public void testTypingIsCoalesced() throws Exception {
+		RecordingStrategy strategy= new RecordingStrategy(null);
+		MonoReconciler reconciler= new MonoReconciler(strategy, true);
+		reconciler.setDelay(1000);
+		IDocument document= install(reconciler, "foo\n");
+
+		document.replace(4, 0, "b");
+		document.replace(5, 0, "a");
+		document.replace(6, 0, "t");
+		document.replace(6, 1, "");
+		document.replace(5, 0, "x");
+		document.replace(7, 0, "r");
+		waitFor(strategy.fDirtyRegions);
+
+		assertEquals(1, strategy.fDirtyRegions.size());
+		DirtyRegion region= strategy.fDirtyRegions.get(0);
+		assertEquals(DirtyRegion.INSERT, region.getType());
+		assertEquals(4, region.getOffset());
+		assertEquals("bxar", region.getText());
+		assertEquals(4, region.getLength());
+		assertEquals(1, reconciler.getReconcileDurations(strategy).getCount());
+		assertEquals(1, reconciler.getReconcileLatencies(strategy).getCount());
+		assertTrue(reconciler.getReconcileLatencies(strategy).getMax() >= reconciler.getReconcileDurations(strategy).getMax());
+	}
+
+	@Test
+	public void testStrategiesReconcileConcurrently() throws Exception {
+		CyclicBarrier barrier= new CyclicBarrier(2);
+		RecordingStrategy code= new RecordingStrategy(barrier);
+		RecordingStrategy comment= new RecordingStrategy(barrier);
+		Reconciler reconciler= new Reconciler();
+		reconciler.setReconcilingStrategy(code, IDocument.DEFAULT_CONTENT_TYPE);
+		reconciler.setReconcilingStrategy(comment, COMMENT);
+		reconciler.setConcurrentReconciling(true);
+		reconciler.setDelay(50);
+		IDocument document= install(reconciler, "");
+
+		document.replace(0, 0, "code /* comment */");
+		waitFor(code.fDirtyRegions);
+		waitFor(comment.fDirtyRegions);
+		long start= System.currentTimeMillis();
+		while (reconciler.getReconcileDurations(code).getCount() == 0 || reconciler.getReconcileDurations(comment).getCount() == 0) {
+			if (System.currentTimeMillis() > start + 5000)
+				fail("waited > 5s for reconciler to complete");
+			Thread.sleep(20);
+		}
+
+		assertTrue(code.fMetOther);
+		assertTrue(comment.fMetOther);
+		assertEquals(1, reconciler.getReconcileDurations(code).getCount());
+		assertEquals(1, reconciler.getReconcileDurations(comment).getCount());
+	}
+}
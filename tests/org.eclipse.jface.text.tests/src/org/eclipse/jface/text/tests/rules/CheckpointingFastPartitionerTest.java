@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.rules;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentPartitioningChangedEvent;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension3;
+import org.eclipse.jface.text.IDocumentExtension4;
+import org.eclipse.jface.text.IDocumentPartitioner;
+import org.eclipse.jface.text.IDocumentPartitioningListener;
+import org.eclipse.jface.text.IDocumentPartitioningListenerExtension2;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.ISynchronizable;
+import org.eclipse.jface.text.ITypedRegion;
+import org.eclipse.jface.text.rules.FastPartitioner;
+import org.eclipse.jface.text.rules.IPartitionTokenScanner;
+import org.eclipse.jface.text.rules.IPredicateRule;
+import org.eclipse.jface.text.rules.IToken;
+import org.eclipse.jface.text.rules.MultiLineRule;
+import org.eclipse.jface.text.rules.RuleBasedPartitionScanner;
+import org.eclipse.jface.text.rules.Token;
+
+/**
+ * Runs the partitioner tests with checkpoints on every line, and compares partitioners that
+ * bound their rescans with one that does not.
+ */
+public class CheckpointingFastPartitionerTest extends FastPartitionerTest {
+
+	private static final String STRING= "string";
+
+	private static final String[] FRAGMENTS= { "/*", "*/", "\"", "\n", "\r\n", "word ", "x", "/* c */", "\"s\"" };
+
+	private static class ChangeCollector implements IDocumentPartitioningListener, IDocumentPartitioningListenerExtension2 {
+
+		final List<IRegion> fChanges= new ArrayList<>();
+
+		@Override
+		public void documentPartitioningChanged(IDocument document) {
+		}
+
+		@Override
+		public void documentPartitioningChanged(DocumentPartitioningChangedEvent event) {
+			fChanges.add(event.getChangedRegion(IDocumentExtension3.DEFAULT_PARTITIONING));
+		}
+	}
+
+	@Override
+	protected IDocumentPartitioner createPartitioner(IPartitionTokenScanner scanner) {
+		FastPartitioner partitioner= new FastPartitioner(scanner, new String[] { DEFAULT, COMMENT });
+		partitioner.setCheckpointing(1, Integer.MAX_VALUE);
+		return partitioner;
+	}
+
+	private static IPartitionTokenScanner createScanner() {
+		return new RuleBasedPartitionScanner() {
+			{
+				IPredicateRule[] rules= new IPredicateRule[] {
+						new MultiLineRule("/*", "*/", new Token(COMMENT), (char) 0, true),
+						new MultiLineRule("\"", "\"", new Token(STRING), '\\', true) };
+				setPredicateRules(rules);
+			}
+		};
+	}
+
+	private static FastPartitioner connect(IDocument document, int checkpointInterval, int maximalRescanLength) {
+		FastPartitioner partitioner= new FastPartitioner(createScanner(), new String[] { DEFAULT, COMMENT, STRING });
+		if (checkpointInterval > 0 || maximalRescanLength != Integer.MAX_VALUE)
+			partitioner.setCheckpointing(checkpointInterval, maximalRescanLength);
+		document.setDocumentPartitioner(partitioner);
+		partitioner.connect(document);
+		return partitioner;
+	}
+
+	/**
+	 * Continues the deferred rescan with empty document changes until it is done.
+	 *
+	 * @param document the document
+	 * @param partitioner the partitioner of the document
+	 * @return the number of changes it took
+	 * @throws Exception if the document cannot be changed
+	 */
+	private static int completeRescan(IDocument document, FastPartitioner partitioner) throws Exception {
+		int changes= 0;
+		while (partitioner.getProvisionalRegion() != null) {
+			document.replace(0, 0, "");
+			++changes;
+		}
+		return changes;
+	}
+
+	/**
+	 * Returns lines with a string each, preceded by a line with a quote. Removing that quote
+	 * makes all strings span a line break.
+	 *
+	 * @return the content
+	 */
+	private static String createQuotedLines() {
+		StringBuilder content= new StringBuilder("\"\n");
+		for (int i= 0; i < 1000; i++)
+			content.append("a \" b \" c\n");
+		return content.toString();
+	}
+
+	@Test
+	public void testDeferredRescan() throws Exception {
+		IDocument document= new Document(createQuotedLines());
+		FastPartitioner partitioner= connect(document, 100, 1000);
+		assertNull(partitioner.getProvisionalRegion());
+
+		// all strings spanned a line break, there are no checkpoints to end the rescan
+		document.replace(0, 1, "");
+		assertNotNull(partitioner.getProvisionalRegion());
+		int provisionalOffset= partitioner.getProvisionalRegion().getOffset();
+
+		IDocument expected= new Document(document.get());
+		FastPartitioner reference= connect(expected, 0, Integer.MAX_VALUE);
+		assertArrayEquals(reference.computePartitioning(0, 200), partitioner.computePartitioning(0, 200));
+
+		// queries answer the provisional partitions without rescanning them
+		int middle= document.get().indexOf('b', document.getLength() / 2);
+		assertEquals(STRING, reference.getContentType(middle));
+		assertEquals(IDocument.DEFAULT_CONTENT_TYPE, partitioner.getContentType(middle));
+		partitioner.computePartitioning(0, document.getLength());
+		assertEquals(provisionalOffset, partitioner.getProvisionalRegion().getOffset());
+
+		ChangeCollector collector= new ChangeCollector();
+		document.addDocumentPartitioningListener(collector);
+		assertTrue(completeRescan(document, partitioner) > 1);
+		assertArrayEquals(reference.computePartitioning(0, expected.getLength()), partitioner.computePartitioning(0, document.getLength()));
+		assertEquals(STRING, partitioner.getContentType(middle));
+
+		// the changes that continued the rescan reported the new partitions
+		boolean reported= false;
+		for (IRegion region : collector.fChanges)
+			reported|= region.getOffset() <= middle && middle < region.getOffset() + region.getLength();
+		assertTrue(reported);
+	}
+
+	@Test
+	public void testRandomEdits() throws Exception {
+		Random random= new Random(4711);
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < 300; i++)
+			content.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+
+		IDocument document= new Document(content.toString());
+		IDocument checkpointed= new Document(content.toString());
+		IDocument deferred= new Document(content.toString());
+		FastPartitioner reference= connect(document, 0, Integer.MAX_VALUE);
+		FastPartitioner checkpointing= connect(checkpointed, 5, Integer.MAX_VALUE);
+		FastPartitioner deferring= connect(deferred, 5, 20);
+
+		for (int i= 0; i < 2000; i++) {
+			int offset= random.nextInt(document.getLength() + 1);
+			int length= random.nextInt(Math.min(10, document.getLength() - offset) + 1);
+			String text= random.nextInt(3) == 0 ? "" : FRAGMENTS[random.nextInt(FRAGMENTS.length)];
+			document.replace(offset, length, text);
+			checkpointed.replace(offset, length, text);
+			deferred.replace(offset, length, text);
+
+			String message= "edit " + i;
+			assertArrayEquals(message, reference.computePartitioning(0, document.getLength()), checkpointing.computePartitioning(0, document.getLength()));
+
+			if (random.nextInt(5) == 0) {
+				// only the partitions before the provisional region are up to date
+				IRegion provisional= deferring.getProvisionalRegion();
+				int end= provisional == null ? document.getLength() : provisional.getOffset();
+				offset= random.nextInt(end + 1);
+				length= random.nextInt(end - offset + 1);
+				assertArrayEquals(message, reference.computePartitioning(offset, length), deferring.computePartitioning(offset, length));
+				if (offset < end)
+					assertEquals(message, reference.getContentType(offset), deferring.getContentType(offset));
+			}
+		}
+		completeRescan(deferred, deferring);
+		assertArrayEquals(reference.computePartitioning(0, document.getLength()), deferring.computePartitioning(0, document.getLength()));
+	}
+
+	@Test
+	public void testCompleteProvisionalRescan() throws Exception {
+		IDocument document= new Document(createQuotedLines());
+		FastPartitioner partitioner= connect(document, 100, 1000);
+		document.replace(0, 1, "");
+		int provisionalOffset= partitioner.getProvisionalRegion().getOffset();
+
+		ChangeCollector collector= new ChangeCollector();
+		document.addDocumentPartitioningListener(collector);
+		long modificationStamp= ((IDocumentExtension4) document).getModificationStamp();
+		IRegion changed= partitioner.completeProvisionalRescan();
+
+		assertNull(partitioner.getProvisionalRegion());
+		assertEquals(modificationStamp, ((IDocumentExtension4) document).getModificationStamp());
+		IDocument expected= new Document(document.get());
+		FastPartitioner reference= connect(expected, 0, Integer.MAX_VALUE);
+		assertArrayEquals(reference.computePartitioning(0, expected.getLength()), partitioner.computePartitioning(0, document.getLength()));
+
+		// the listeners were told about the rescanned partitions
+		assertEquals(1, collector.fChanges.size());
+		assertEquals(changed, collector.fChanges.get(0));
+		assertTrue(changed.getOffset() >= provisionalOffset);
+		assertNull(partitioner.completeProvisionalRescan());
+	}
+
+	@Test
+	public void testProvisionalRescanCompletedWhenIdle() throws Exception {
+		Object lockObject= new Object();
+		IDocument document= new SynchronizedDocument(createQuotedLines(), lockObject);
+		FastPartitioner partitioner= connect(document, 100, 1000);
+		ChangeCollector collector= new ChangeCollector();
+		document.addDocumentPartitioningListener(collector);
+		synchronized (lockObject) {
+			document.replace(0, 1, "");
+			assertNotNull(partitioner.getProvisionalRegion());
+			collector.fChanges.clear();
+		}
+
+		long timeout= System.currentTimeMillis() + 10000;
+		while (true) {
+			synchronized (lockObject) {
+				if (partitioner.getProvisionalRegion() == null)
+					break;
+			}
+			assertTrue("provisional partitions not rescanned", System.currentTimeMillis() < timeout);
+			Thread.sleep(20);
+		}
+		synchronized (lockObject) {
+			assertEquals(1, collector.fChanges.size());
+			IDocument expected= new Document(document.get());
+			FastPartitioner reference= connect(expected, 0, Integer.MAX_VALUE);
+			assertArrayEquals(reference.computePartitioning(0, expected.getLength()), partitioner.computePartitioning(0, document.getLength()));
+		}
+	}
+
+	private static class SynchronizedDocument extends Document implements ISynchronizable {
+
+		private Object fLockObject;
+
+		SynchronizedDocument(String content, Object lockObject) {
+			super(content);
+			fLockObject= lockObject;
+		}
+
+		@Override
+		public void setLockObject(Object lockObject) {
+			fLockObject= lockObject;
+		}
+
+		@Override
+		public Object getLockObject() {
+			return fLockObject;
+		}
+	}
+}
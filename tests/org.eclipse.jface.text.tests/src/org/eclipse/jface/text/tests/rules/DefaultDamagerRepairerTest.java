@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jface.text.tests.rules;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.custom.StyleRange;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.TextAttribute;
+import org.eclipse.jface.text.TextPresentation;
+import org.eclipse.jface.text.TypedRegion;
+import org.eclipse.jface.text.rules.DefaultDamagerRepairer;
+import org.eclipse.jface.text.rules.EndOfLineRule;
+import org.eclipse.jface.text.rules.IRule;
+import org.eclipse.jface.text.rules.IToken;
+import org.eclipse.jface.text.rules.RuleBasedScanner;
+import org.eclipse.jface.text.rules.SingleLineRule;
+import org.eclipse.jface.text.rules.Token;
+
+/**
+ * Compares the presentations of a damager/repairer that caches lines with one that does not.
+ */
+public class DefaultDamagerRepairerTest {
+
+	private static final String[] FRAGMENTS= { "word ", "\"string\" ", "// comment", "\n", "\r\n", "\"", "x" };
+
+	/**
+	 * A scanner that counts how often its range is set.
+	 */
+	private static class CountingScanner extends RuleBasedScanner {
+		int fRanges;
+
+		CountingScanner() {
+			IToken string= new Token(new TextAttribute(null, null, SWT.BOLD));
+			IToken comment= new Token(new TextAttribute(null, null, SWT.ITALIC));
+			setRules(new IRule[] {
+					new SingleLineRule("\"", "\"", string, '\\'),
+					new EndOfLineRule("//", comment) });
+		}
+
+		@Override
+		public void setRange(IDocument document, int offset, int length) {
+			fRanges++;
+			super.setRange(document, offset, length);
+		}
+	}
+
+	private static List<StyleRange> createPresentation(DefaultDamagerRepairer repairer, IDocument document, int offset, int length) {
+		TextPresentation presentation= new TextPresentation(new Region(offset, length), 100);
+		repairer.createPresentation(presentation, new TypedRegion(offset, length, IDocument.DEFAULT_CONTENT_TYPE));
+		List<StyleRange> ranges= new ArrayList<>();
+		Iterator<StyleRange> iterator= presentation.getAllStyleRangeIterator();
+		while (iterator.hasNext())
+			ranges.add(iterator.next());
+		return ranges;
+	}
+
+	@Test
+	public void testUnchangedLinesAreNotRescanned() throws Exception {
+		IDocument document= new Document("first \"line\"\nsecond // line\nthird line\n");
+		CountingScanner scanner= new CountingScanner();
+		DefaultDamagerRepairer repairer= new DefaultDamagerRepairer(scanner);
+		repairer.setLineCacheSize(100);
+		repairer.setDocument(document);
+
+		createPresentation(repairer, document, 0, document.getLength());
+		assertEquals(3, scanner.fRanges);
+
+		scanner.fRanges= 0;
+		document.replace(document.getLineOffset(1), 0, "new ");
+		createPresentation(repairer, document, 0, document.getLength());
+		assertEquals(1, scanner.fRanges);
+
+		scanner.fRanges= 0;
+		document.replace(document.getLineOffset(1), 4, "");
+		createPresentation(repairer, document, 0, document.getLength());
+		assertEquals(0, scanner.fRanges);
+	}
+
+	@Test
+	public void testRandomEdits() throws Exception {
+		Random random= new Random(4711);
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < 300; i++)
+			content.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+		IDocument document= new Document(content.toString());
+
+		DefaultDamagerRepairer reference= new DefaultDamagerRepairer(new CountingScanner());
+		reference.setDocument(document);
+		DefaultDamagerRepairer caching= new DefaultDamagerRepairer(new CountingScanner());
+		caching.setLineCacheSize(20);
+		caching.setDocument(document);
+
+		for (int i= 0; i < 500; i++) {
+			int offset= random.nextInt(document.getLength() + 1);
+			int length= random.nextInt(Math.min(10, document.getLength() - offset) + 1);
+			document.replace(offset, length, random.nextInt(3) == 0 ? "" : FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+
+			offset= random.nextInt(document.getLength() + 1);
+			length= random.nextInt(document.getLength() - offset + 1);
+			assertEquals("edit " + i, createPresentation(reference, document, offset, length), createPresentation(caching, document, offset, length));
+		}
+	}
+}
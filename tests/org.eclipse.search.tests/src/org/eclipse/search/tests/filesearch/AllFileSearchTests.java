@@ -26,7 +26,9 @@ import org.junit.runners.Suite.SuiteClasses;
 		PositionTrackerTest.class,
 		ResultUpdaterTest.class,
 		SearchResultPageTest.class,
-		SortingTest.class
+		SortingTest.class,
+		SpilledMatchesTest.class,
+		TrigramIndexTests.class
 })
 public class AllFileSearchTests {
 	@ClassRule
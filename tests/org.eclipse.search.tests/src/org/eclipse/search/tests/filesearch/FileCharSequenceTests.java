@@ -30,6 +30,7 @@ import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 
 import org.eclipse.search.internal.core.text.FileCharSequenceProvider;
+import org.eclipse.search.internal.core.text.PatternConstructor;
 import org.eclipse.search.tests.ResourceHelper;
 
 public class FileCharSequenceTests {
@@ -75,6 +76,40 @@ public class FileCharSequenceTests {
 		testForEncoding(buf, StandardCharsets.UTF_16.name());
 	}
 
+	@Test
+	public void testFileCharSequenceLargeAscii() throws Exception {
+		StringBuilder buf= new StringBuilder();
+		while (buf.length() < 4 * FileCharSequenceProvider.BUFFER_SIZE) {
+			buf.append("ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz1234567890@\'\"\n"); //$NON-NLS-1$
+		}
+		testForEncoding(buf, StandardCharsets.UTF_8.name());
+		testForEncoding(buf, StandardCharsets.US_ASCII.name());
+	}
+
+	@Test
+	public void testPrefilter() throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		IFile small= ResourceHelper.createFile(folder, "small", TEST_CONTENT + "needle", StandardCharsets.UTF_8.name());
+		StringBuilder buf= new StringBuilder();
+		while (buf.length() < 4 * FileCharSequenceProvider.BUFFER_SIZE) {
+			buf.append(TEST_CONTENT);
+		}
+		IFile large= ResourceHelper.createFile(folder, "large", buf.toString(), StandardCharsets.ISO_8859_1.name());
+		IFile utf16= ResourceHelper.createFile(folder, "utf16", TEST_CONTENT, StandardCharsets.UTF_16.name());
+
+		FileCharSequenceProvider provider= new FileCharSequenceProvider(PatternConstructor.createPattern("needle", true, false)); //$NON-NLS-1$
+		Assert.assertEquals(TEST_CONTENT + "needle", provider.newCharSequence(small).toString()); //$NON-NLS-1$
+		Assert.assertEquals(0, provider.newCharSequence(large).length());
+		// no pre-filter for encodings that are not ASCII-compatible
+		Assert.assertEquals(TEST_CONTENT.length(), provider.newCharSequence(utf16).length());
+
+		provider= new FileCharSequenceProvider(PatternConstructor.createPattern("NEEDLE", false, false)); //$NON-NLS-1$
+		Assert.assertEquals(TEST_CONTENT + "needle", provider.newCharSequence(small).toString()); //$NON-NLS-1$
+
+		provider= new FileCharSequenceProvider(PatternConstructor.createPattern("needle|xyz", true, true)); //$NON-NLS-1$
+		Assert.assertEquals(buf.length(), provider.newCharSequence(large).length());
+	}
+
 	private void testForEncoding(CharSequence buf, String encoding) throws CoreException, IOException {
 		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
 		IFile file1= ResourceHelper.createFile(folder, "file1", buf.toString(), encoding);
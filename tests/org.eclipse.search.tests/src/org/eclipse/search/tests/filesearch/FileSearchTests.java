@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -160,6 +160,39 @@ public class FileSearchTests {
 		assertMatches(results, 2, file2, buf.toString(), "hello");
 	}
 
+	@Test
+	public void testSkewedFileSizesSerial() throws Exception {
+		testSkewedFileSizes(new SerialTestResultCollector());
+	}
+
+	@Test
+	public void testSkewedFileSizesParallel() throws Exception {
+		testSkewedFileSizes(new ParallelTestResultCollector());
+	}
+
+	private void testSkewedFileSizes(TestResultCollector collector) throws Exception {
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		for (int i= 0; i < 200; i++) {
+			ResourceHelper.createFile(folder, "small" + i, "hello " + i + "\n");
+		}
+		StringBuilder buf= new StringBuilder();
+		for (int i= 0; i < 20000; i++) {
+			buf.append("more hello\n");
+		}
+		IFile large1= ResourceHelper.createFile(folder, "large1", buf.toString());
+		IFile large2= ResourceHelper.createFile(folder, "large2", buf.toString());
+
+		Pattern searchPattern= PatternConstructor.createPattern("hello", false, true);
+
+		FileTextSearchScope scope= FileTextSearchScope.newSearchScope(new IResource[] {fProject}, (String[]) null, false);
+		TextSearchEngine.create().search(scope, collector, searchPattern, null);
+
+		TestResult[] results= collector.getResults();
+		assertEquals("Number of total results", 40200, results.length);
+		assertMatches(results, 20000, large1, buf.toString(), "hello");
+		assertMatches(results, 20000, large2, buf.toString(), "hello");
+	}
+
 	@Test
 	public void testWildCards1Serial() throws Exception {
 		testWildCards1(new SerialTestResultCollector());
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.jface.preference.IPreferenceStore;
+
+import org.eclipse.search.internal.ui.SearchPlugin;
+import org.eclipse.search.internal.ui.SearchPreferencePage;
+import org.eclipse.search.internal.ui.text.FileMatch;
+import org.eclipse.search.internal.ui.text.FileSearchQuery;
+import org.eclipse.search.internal.ui.text.FileSearchResult;
+import org.eclipse.search.tests.ResourceHelper;
+import org.eclipse.search.ui.NewSearchUI;
+import org.eclipse.search.ui.text.FileTextSearchScope;
+import org.eclipse.search.ui.text.Match;
+
+public class SpilledMatchesTest {
+	private static final String PROJECT_TO_MODIFY= "SpilledProject";
+
+	private IProject fProject;
+	private FileTextSearchScope fScope;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourceHelper.createJUnitSourceProject(PROJECT_TO_MODIFY);
+		fScope= FileTextSearchScope.newSearchScope(new IResource[] { fProject }, new String[] { "*.java" }, false);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		SearchPlugin.getDefault().getPreferenceStore().setToDefault(SearchPreferencePage.LIMIT_MATCHES_IN_MEMORY);
+		ResourceHelper.deleteProject(PROJECT_TO_MODIFY);
+	}
+
+	private FileSearchResult runQuery(int matchesInMemoryLimit) {
+		IPreferenceStore store= SearchPlugin.getDefault().getPreferenceStore();
+		store.setValue(SearchPreferencePage.LIMIT_MATCHES_IN_MEMORY, matchesInMemoryLimit);
+		FileSearchQuery query= new FileSearchQuery("Test", false, true, fScope);
+		NewSearchUI.runQueryInForeground(null, query);
+		return (FileSearchResult) query.getSearchResult();
+	}
+
+	@Test
+	public void testSpilledMatches() throws Exception {
+		FileSearchResult expected= runQuery(0);
+		FileSearchResult result= runQuery(10);
+
+		assertEquals(expected.getMatchCount(), result.getMatchCount());
+		assertEquals(expected.getElementsCount(), result.getElementsCount());
+		int spilled= 0;
+		for (Object element : expected.getElements()) {
+			assertFalse(expected.isSpilled(element));
+			if (result.isSpilled(element)) {
+				spilled++;
+				assertEquals(expected.getMatchCount(element), result.getMatchCount(element));
+			}
+			Match[] expectedMatches= expected.getMatches(element);
+			Match[] matches= result.getMatches(element);
+			assertFalse(result.isSpilled(element));
+			assertEquals(expectedMatches.length, matches.length);
+			for (int i= 0; i < matches.length; i++) {
+				FileMatch expectedMatch= (FileMatch) expectedMatches[i];
+				FileMatch match= (FileMatch) matches[i];
+				assertEquals(expectedMatch.getOffset(), match.getOffset());
+				assertEquals(expectedMatch.getLength(), match.getLength());
+				assertEquals(expectedMatch.getLineElement().getLine(), match.getLineElement().getLine());
+				assertEquals(expectedMatch.getLineElement().getContents(), match.getLineElement().getContents());
+			}
+		}
+		assertTrue(spilled > 0);
+		assertEquals(expected.getMatchCount(), result.getMatchCount());
+	}
+
+	@Test
+	public void testRemoveSpilledFile() throws Exception {
+		FileSearchResult result= runQuery(1);
+		IFile spilled= null;
+		for (Object element : result.getElements()) {
+			if (result.isSpilled(element)) {
+				spilled= (IFile) element;
+				break;
+			}
+		}
+		assertNotNull(spilled);
+		int totalCount= result.getMatchCount();
+		int fileCount= result.getMatchCount(spilled);
+		ResourceHelper.delete(spilled);
+		assertEquals(totalCount - fileCount, result.getMatchCount());
+		assertEquals(0, result.getMatchCount(spilled));
+	}
+
+	@Test
+	public void testPagedInMatchesSpilledAgain() throws Exception {
+		int limit= 10;
+		FileSearchResult result= runQuery(limit);
+		int totalCount= result.getMatchCount();
+		Object[] elements= result.getElements();
+		int largestCount= 0;
+		for (Object element : elements) {
+			largestCount= Math.max(largestCount, result.getMatchCount(element));
+		}
+		int spilled= 0;
+		for (Object element : elements) {
+			if (result.isSpilled(element)) {
+				spilled++;
+			}
+			int count= result.getMatchCount(element);
+			assertEquals(count, result.getMatches(element).length);
+			assertFalse(result.isSpilled(element));
+
+			int inMemory= 0;
+			for (Object each : elements) {
+				if (!result.isSpilled(each)) {
+					inMemory+= result.getMatchCount(each);
+				}
+			}
+			assertTrue("Matches in memory: " + inMemory, inMemory <= limit + largestCount);
+		}
+		assertTrue(spilled > 1);
+		assertEquals(totalCount, result.getMatchCount());
+		assertEquals(elements.length, result.getElementsCount());
+	}
+}
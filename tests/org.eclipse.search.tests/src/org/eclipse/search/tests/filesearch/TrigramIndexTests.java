@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.search.tests.filesearch;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+
+import org.eclipse.search.internal.core.text.PatternConstructor;
+import org.eclipse.search.internal.core.text.TrigramIndex;
+import org.eclipse.search.tests.ResourceHelper;
+
+public class TrigramIndexTests {
+
+	@Rule
+	public TemporaryFolder fIndexFolder= new TemporaryFolder();
+
+	private IProject fProject;
+	private IFile[] fFiles;
+	private TrigramIndex fIndex;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= ResourceHelper.createProject("my-project"); //$NON-NLS-1$
+		IFolder folder= ResourceHelper.createFolder(fProject.getFolder("folder1"));
+		fFiles= new IFile[] {
+				ResourceHelper.createFile(folder, "hello.txt", "hello world\nFooBar"),
+				ResourceHelper.createFile(folder, "goodbye.txt", "goodbye moon"),
+				ResourceHelper.createFile(folder, "umlaut.txt", "Grüße aus Köln", StandardCharsets.UTF_8.name())
+		};
+		fIndex= startIndex();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fIndex.dispose();
+		ResourceHelper.deleteProject("my-project"); //$NON-NLS-1$
+	}
+
+	private TrigramIndex startIndex() throws Exception {
+		TrigramIndex index= new TrigramIndex(fIndexFolder.getRoot());
+		index.start();
+		Job.getJobManager().join(index, null);
+		return index;
+	}
+
+	private IFile[] selectCandidates(String searchString, boolean isRegex, boolean isCaseSensitive) {
+		Pattern pattern= PatternConstructor.createPattern(searchString, isCaseSensitive, isRegex);
+		return fIndex.selectCandidates(fFiles, pattern, file -> false);
+	}
+
+	@Test
+	public void testSelectCandidates() throws Exception {
+		IFile hello= fFiles[0];
+		IFile goodbye= fFiles[1];
+		IFile umlaut= fFiles[2];
+
+		assertArrayEquals(new IFile[] { hello }, selectCandidates("world", false, true));
+		assertArrayEquals(new IFile[] { hello }, selectCandidates("WORLD", false, false));
+		assertArrayEquals(new IFile[] { goodbye }, selectCandidates("bye\\b", true, true));
+		assertArrayEquals(new IFile[] { umlaut }, selectCandidates("KÖLN", false, false));
+		assertArrayEquals(new IFile[0], selectCandidates("xyz", false, true));
+
+		// no literal of three characters: all files are searched
+		assertArrayEquals(fFiles, selectCandidates("o*o", true, true));
+		assertArrayEquals(fFiles, selectCandidates("(hello|moon)", true, true));
+
+		Pattern pattern= PatternConstructor.createPattern("xyz", false, true);
+		assertArrayEquals(new IFile[] { goodbye }, fIndex.selectCandidates(fFiles, pattern, file -> file == goodbye));
+	}
+
+	@Test
+	public void testChangedFiles() throws Exception {
+		IFile hello= fFiles[0];
+		IFile goodbye= fFiles[1];
+
+		goodbye.setContents(new ByteArrayInputStream("hello world too".getBytes()), true, false, null);
+		// stale until the index is updated
+		assertArrayEquals(new IFile[] { hello, goodbye }, selectCandidates("world", false, true));
+		Job.getJobManager().join(fIndex, null);
+		assertArrayEquals(new IFile[] { hello, goodbye }, selectCandidates("world", false, true));
+
+		// changes while the index is not maintained are detected by the modification stamps
+		fIndex.dispose();
+		hello.setContents(new ByteArrayInputStream("nothing here".getBytes()), true, false, null);
+		fIndex= startIndex();
+		assertArrayEquals(new IFile[] { goodbye }, selectCandidates("world", false, true));
+	}
+
+	@Test
+	public void testCorruptIndexRebuilt() throws Exception {
+		IFile hello= fFiles[0];
+
+		fIndex.dispose();
+		for (File file : fIndexFolder.getRoot().listFiles()) {
+			try (RandomAccessFile index= new RandomAccessFile(file, "rw")) { //$NON-NLS-1$
+				index.setLength(index.length() - 1);
+			}
+		}
+		fIndex= startIndex();
+		assertArrayEquals(new IFile[] { hello }, selectCandidates("world", false, true));
+	}
+}
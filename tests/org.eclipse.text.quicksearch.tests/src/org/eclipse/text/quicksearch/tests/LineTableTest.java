@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+
+import org.eclipse.text.quicksearch.internal.core.LineTableCache.LineTable;
+import org.eclipse.text.quicksearch.internal.util.LineReader;
+import org.junit.Test;
+
+@SuppressWarnings("restriction")
+public class LineTableTest {
+
+	@Test
+	public void sameLinesAsLineReader() throws Exception {
+		String[] texts = new String[] { //
+				"", //
+				"one line", //
+				"one line\n", //
+				"\n\n", //
+				"unix\nline\ndelimiters", //
+				"windows\r\nline\r\ndelimiters\r\n", //
+				"mac\rline\r\rdelimiters", //
+				"mixed\r\n\n\r\r\nend" //
+		};
+		for (String text : texts) {
+			assertSameLines(text);
+		}
+	}
+
+	private void assertSameLines(String text) throws Exception {
+		LineTable table = LineTable.create(1, text);
+		try (LineReader reader = new LineReader(new StringReader(text), Integer.MAX_VALUE / 2)) {
+			int index = 0;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				assertEquals(text, line, table.getLine(index));
+				assertEquals(text, reader.getLastLineOffset(), table.getLineStart(index));
+				index++;
+			}
+			assertEquals(text, index, table.getLineCount());
+		}
+	}
+
+	@Test
+	public void lineBounds() throws Exception {
+		LineTable table = LineTable.create(42, "first\r\nsecond");
+		assertEquals(42, table.getModificationStamp());
+		assertEquals(2, table.getLineCount());
+		assertEquals(0, table.getLineStart(0));
+		assertEquals(5, table.getLineEnd(0));
+		assertEquals(7, table.getLineStart(1));
+		assertEquals(13, table.getLineEnd(1));
+	}
+}
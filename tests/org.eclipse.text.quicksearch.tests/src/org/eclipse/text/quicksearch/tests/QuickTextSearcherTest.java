@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.quicksearch.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.text.quicksearch.internal.core.LineItem;
+import org.eclipse.text.quicksearch.internal.core.QuickTextQuery;
+import org.eclipse.text.quicksearch.internal.core.QuickTextSearchRequestor;
+import org.eclipse.text.quicksearch.internal.core.QuickTextSearcher;
+import org.eclipse.text.quicksearch.internal.core.priority.PriorityFunction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Replays a typing session, including backspaces, against a synthetic workspace and compares
+ * the results with a search that starts from scratch for every keystroke.
+ */
+@SuppressWarnings("restriction")
+public class QuickTextSearcherTest {
+
+	private static final int FOLDERS = 10;
+	private static final int FILES_PER_FOLDER = 50;
+	private static final int LINES_PER_FILE = 100;
+
+	/** Words that occur in every eighth line, the session types their prefixes */
+	private static final String[] KEYWORDS = { "process", "provide", "protect", "produce", "print", "prime" };
+	private static final String[] WORDS = { "value", "count", "items", "result", "buffer", "stream", "reader", //
+			"writer", "index", "offset" };
+
+	private static final String[] SESSION = { "p", "pr", "pro", "proc", "proce", "proces", "process", //
+			"proces", "proce", "proc", "pro", "prov", "provi", "provid", "provide", //
+			"provid", "provi", "prov", "pro", "pr", "pri", "prin", "print", "prin", "pri", "pr", "p" };
+
+	private static class CollectingRequestor extends QuickTextSearchRequestor {
+		final Set<LineItem> items = ConcurrentHashMap.newKeySet();
+
+		@Override
+		public void add(LineItem match) {
+			items.add(match);
+		}
+
+		@Override
+		public void revoke(LineItem line) {
+			items.remove(line);
+		}
+
+		@Override
+		public void clear() {
+			items.clear();
+		}
+	}
+
+	private IProject project;
+	private PriorityFunction priorities;
+
+	@Before
+	public void setUp() throws Exception {
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject("QuickTextSearcherTest"); //$NON-NLS-1$
+		project.create(null);
+		project.open(null);
+		Random random = new Random(42);
+		for (int i = 0; i < FOLDERS; i++) {
+			IFolder folder = project.getFolder("folder" + i); //$NON-NLS-1$
+			folder.create(true, true, null);
+			for (int j = 0; j < FILES_PER_FOLDER; j++) {
+				StringBuilder text = new StringBuilder();
+				for (int k = 0; k < LINES_PER_FILE; k++) {
+					text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+					text.append(WORDS[random.nextInt(WORDS.length)]).append(" = "); //$NON-NLS-1$
+					String[] words = random.nextInt(8) == 0 ? KEYWORDS : WORDS;
+					text.append(words[random.nextInt(words.length)]).append("();\n"); //$NON-NLS-1$
+				}
+				folder.getFile("file" + j + ".txt").create( //$NON-NLS-1$ //$NON-NLS-2$
+						new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)), true, null);
+			}
+		}
+		priorities = new PriorityFunction() {
+			@Override
+			public double priority(IResource r) {
+				return r.getType() == IResource.ROOT || project.equals(r.getProject()) ? PRIORITY_DEFAULT : PRIORITY_IGNORE;
+			}
+		};
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		project.delete(true, true, null);
+	}
+
+	private static void waitFor(QuickTextSearcher searcher) throws InterruptedException {
+		while (Job.getJobManager().find(searcher).length > 0) {
+			Job.getJobManager().join(searcher, null);
+		}
+	}
+
+	private QuickTextSearcher createSearcher(QuickTextQuery query, QuickTextSearchRequestor requestor) {
+		QuickTextSearcher searcher = new QuickTextSearcher(query, priorities, Integer.MAX_VALUE, requestor);
+		searcher.setMaxResults(Integer.MAX_VALUE);
+		return searcher;
+	}
+
+	@Test
+	public void replayTypingSession() throws Exception {
+		CollectingRequestor sessionResults = new CollectingRequestor();
+		QuickTextSearcher session = createSearcher(new QuickTextQuery(SESSION[0], true), sessionResults);
+		try {
+			waitFor(session);
+			for (String pattern : SESSION) {
+				QuickTextQuery query = new QuickTextQuery(pattern, true);
+				session.setQuery(query, false);
+				waitFor(session);
+
+				CollectingRequestor expectedResults = new CollectingRequestor();
+				QuickTextSearcher restart = createSearcher(query, expectedResults);
+				try {
+					waitFor(restart);
+				} finally {
+					restart.cancel();
+				}
+
+				assertFalse(pattern, expectedResults.items.isEmpty());
+				assertEquals(pattern, new HashSet<>(expectedResults.items), new HashSet<>(sessionResults.items));
+			}
+		} finally {
+			session.cancel();
+		}
+	}
+}
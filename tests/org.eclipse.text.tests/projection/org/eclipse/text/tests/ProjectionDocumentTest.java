@@ -2652,4 +2652,156 @@ public class ProjectionDocumentTest {
 			assertTrue(false);
 		}
 	}
+	@Test
+	public void test30_1() {
+		// test replacing all master document ranges at once
+
+		final List<DocumentEvent> receivedEvents= new ArrayList<>();
+
+		IDocumentListener listener= new IDocumentListener() {
+			@Override
+			public void documentAboutToBeChanged(DocumentEvent event) {}
+			@Override
+			public void documentChanged(DocumentEvent event) {
+				receivedEvents.add(event);
+			}
+		};
+
+		createProjectionA();
+
+		fSlaveDocument.addDocumentListener(listener);
+		try {
+			IRegion[] regions= {
+				new Region(140, 20),
+				new Region(30, 10),
+				new Region(20, 10),
+				new Region(100, 20),
+				new Region(60, 20),
+				new Region(65, 5)
+			};
+			fSlaveDocument.replaceMasterDocumentRanges(regions);
+		} catch (BadLocationException e) {
+			assertTrue(false);
+		}
+
+		Position[] expected= {
+			new Position(20, 20),
+			new Position(60, 20),
+			new Position(100, 20),
+			new Position(140, 20)
+		};
+		assertFragmentation(expected);
+		assertSlaveContents(getProjectionBSlaveContents());
+
+		DocumentEvent[] actual= new DocumentEvent[receivedEvents.size()];
+		receivedEvents.toArray(actual);
+		assertSlaveEvents(new DocumentEvent[] { new DocumentEvent(fSlaveDocument, 0, 100, getProjectionBSlaveContents()) }, actual);
+	}
+
+	@Test
+	public void test30_2() {
+		// test replacing all master document ranges at once
+		// the event only covers the changed fragments
+
+		final List<DocumentEvent> receivedEvents= new ArrayList<>();
+
+		IDocumentListener listener= new IDocumentListener() {
+			@Override
+			public void documentAboutToBeChanged(DocumentEvent event) {}
+			@Override
+			public void documentChanged(DocumentEvent event) {
+				receivedEvents.add(event);
+			}
+		};
+
+		createProjectionA();
+
+		fSlaveDocument.addDocumentListener(listener);
+		try {
+			IRegion[] regions= {
+				new Region(0, 20),
+				new Region(40, 20),
+				new Region(100, 20),
+				new Region(160, 20)
+			};
+			fSlaveDocument.replaceMasterDocumentRanges(regions);
+		} catch (BadLocationException e) {
+			assertTrue(false);
+		}
+
+		Position[] expected= {
+			new Position(0, 20),
+			new Position(40, 20),
+			new Position(100, 20),
+			new Position(160, 20)
+		};
+		assertFragmentation(expected);
+
+		StringBuilder buffer= new StringBuilder(getOriginalMasterContents());
+		assertSlaveContents(buffer.substring(0, 20) + buffer.substring(40, 60) + buffer.substring(100, 120) + buffer.substring(160, 180));
+
+		DocumentEvent[] actual= new DocumentEvent[receivedEvents.size()];
+		receivedEvents.toArray(actual);
+		assertSlaveEvents(new DocumentEvent[] { new DocumentEvent(fSlaveDocument, 40, 40, buffer.substring(100, 120)) }, actual);
+
+		// replacing with the same ranges does not change anything
+		receivedEvents.clear();
+		try {
+			fSlaveDocument.replaceMasterDocumentRanges(new IRegion[] { new Region(0, 20), new Region(40, 20), new Region(100, 20), new Region(160, 20) });
+		} catch (BadLocationException e) {
+			assertTrue(false);
+		}
+		assertTrue(receivedEvents.isEmpty());
+	}
+
+	@Test
+	public void test30_3() {
+		// test manipulating the master and the slave document after replacing all master document ranges
+
+		createProjectionA();
+		try {
+			fSlaveDocument.replaceMasterDocumentRanges(new IRegion[] { new Region(20, 20), new Region(60, 20), new Region(100, 20), new Region(140, 20) });
+			fMasterDocument.replace(65, 5, "~");
+			fSlaveDocument.replace(0, 2, "");
+			fMasterDocument.replace(0, 20, "");
+		} catch (BadLocationException e) {
+			assertTrue(false);
+		}
+
+		Position[] expected= {
+			new Position(0, 18),
+			new Position(38, 16),
+			new Position(74, 20),
+			new Position(114, 20)
+		};
+		assertFragmentation(expected);
+
+		StringBuilder buffer= new StringBuilder(getOriginalMasterContents());
+		buffer.replace(65, 70, "~");
+		buffer.delete(20, 22);
+		buffer.delete(0, 20);
+		assertMasterContents(buffer.toString());
+		assertSlaveContents(buffer.substring(0, 18) + buffer.substring(38, 54) + buffer.substring(74, 94) + buffer.substring(114, 134));
+	}
+
+	@Test
+	public void test30_4() {
+		// test replacing all master document ranges with no range
+
+		createProjectionA();
+		try {
+			fSlaveDocument.replaceMasterDocumentRanges(new IRegion[0]);
+		} catch (BadLocationException e) {
+			assertTrue(false);
+		}
+		assertFragmentation(new Position[0]);
+		assertSlaveContents("");
+
+		try {
+			fSlaveDocument.replaceMasterDocumentRanges(new IRegion[] { new Region(0, fMasterDocument.getLength()) });
+		} catch (BadLocationException e) {
+			assertTrue(false);
+		}
+		assertSlaveContents(fMasterDocument.get());
+	}
 }
@@ -18,8 +18,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Random;
+import java.util.Set;
 
 import org.junit.After;
 import org.junit.Before;
@@ -1474,4 +1476,45 @@ public class AnnotationModelStressTest {
 		}
 	}
 
+	@Test
+	public void testStressTestRegionQueries() throws Exception {
+		Random ran= new Random(4711);
+		ArrayList<AnnotationData> added= new ArrayList<>();
+		for (AnnotationData data : RANDOM_ANNOTATIONS)
+			assertAdd(data, added);
+
+		for (int i= 0; i < 200; i++) {
+			int offset= ran.nextInt(fDocument.getLength() - 10);
+			if (i % 3 == 0)
+				fDocument.replace(offset, 10, "");
+			else if (i % 3 == 1)
+				fDocument.replace(offset, 0, "abcdefghij");
+			else
+				getModel(ran.nextInt(3)).addAnnotation(new Annotation(false), new Position(offset, ran.nextInt(10)));
+
+			for (int j= 0; j < 10; j++) {
+				int regionOffset= ran.nextInt(fDocument.getLength());
+				int regionLength= j == 0 ? 0 : ran.nextInt(Math.min(500, fDocument.getLength() - regionOffset + 1));
+				assertRegion(regionOffset, regionLength);
+			}
+		}
+	}
+
+	private void assertRegion(int offset, int length) {
+		Position region= new Position(offset, length);
+		Set<Annotation> expected= new HashSet<>();
+		for (Annotation annotation : getAllAnnotations()) {
+			Position position= fAnnotationModel.getPosition(annotation);
+			if (region.overlapsWith(position.getOffset(), position.getLength()))
+				expected.add(annotation);
+		}
+
+		Set<Annotation> actual= new HashSet<>();
+		Iterator<Annotation> iterator= fAnnotationModel.getAnnotationIterator(offset, length, true, true);
+		while (iterator.hasNext())
+			assertTrue(actual.add(iterator.next()));
+
+		assertEquals(expected, actual);
+	}
+
 }
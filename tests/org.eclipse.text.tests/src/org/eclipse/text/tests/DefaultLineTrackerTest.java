@@ -15,11 +15,17 @@ package org.eclipse.text.tests;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.Random;
+
 import org.junit.Test;
 
 import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DefaultLineTracker;
 import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
 
 public class DefaultLineTrackerTest {
 
@@ -37,4 +43,57 @@ public class DefaultLineTrackerTest {
 		assertEquals(document.getLineDelimiter(2), null);
 
 	}
+
+	@Test
+	public void testSet() throws BadLocationException {
+		StringBuilder text= new StringBuilder();
+		for (int i= 0; i < 1000; i++)
+			text.append("line ").append(i).append(i % 3 == 0 ? "\r\n" : i % 3 == 1 ? "\n" : "\r");
+		DefaultLineTracker tracker= new DefaultLineTracker();
+		tracker.replace(0, 0, "x"); // use the tree implementation
+		tracker.set(text.toString());
+
+		assertEquals(1001, tracker.getNumberOfLines());
+		int offset= 0;
+		for (int i= 0; i < 1000; i++) {
+			String line= "line " + i;
+			assertEquals(offset, tracker.getLineOffset(i));
+			assertEquals(i, tracker.getLineNumberOfOffset(offset + line.length()));
+			IRegion region= tracker.getLineInformation(i);
+			assertEquals(line.length(), region.getLength());
+			offset+= tracker.getLineLength(i);
+		}
+		assertEquals(text.length(), offset);
+		assertEquals(1000, tracker.getLineNumberOfOffset(text.length()));
+
+		tracker.replace(0, text.length(), "a\nb");
+		assertEquals(2, tracker.getNumberOfLines());
+		assertEquals(2, tracker.getLineOffset(1));
+	}
+
+	@Test
+	public void testRewriteSession() throws BadLocationException {
+		StringBuilder text= new StringBuilder();
+		for (int i= 0; i < 2000; i++)
+			text.append("line ").append(i).append('\n');
+		Random random= new Random(17);
+		for (int edits : new int[] { 10, 1000 }) {
+			Document document= new Document(text.toString());
+			document.replace(0, 0, "");
+			DocumentRewriteSession session= document.startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED);
+			for (int i= 0; i < edits; i++) {
+				int offset= random.nextInt(document.getLength());
+				int length= Math.min(random.nextInt(20), document.getLength() - offset);
+				document.replace(offset, length, random.nextBoolean() ? "\n\t" : "x");
+			}
+			document.stopRewriteSession(session);
+
+			Document expected= new Document(document.get());
+			assertEquals(expected.getNumberOfLines(), document.getNumberOfLines());
+			for (int i= 0; i < expected.getNumberOfLines(); i++) {
+				assertEquals(expected.getLineOffset(i), document.getLineOffset(i));
+				assertEquals(expected.getLineLength(i), document.getLineLength(i));
+			}
+		}
+	}
 }
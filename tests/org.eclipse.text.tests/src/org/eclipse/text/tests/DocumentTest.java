@@ -14,8 +14,13 @@
 package org.eclipse.text.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -355,4 +360,73 @@ public class DocumentTest {
 
 		checkPositions(positions);
 	}
+
+	@Test
+	public void testGetCharSequence() throws BadLocationException {
+		CharSequence text= fDocument.getCharSequence();
+		assertEquals(fDocument.get(), text.toString());
+		assertEquals(fDocument.getLength(), text.length());
+		assertEquals(fDocument.getChar(21), text.charAt(21));
+		assertEquals(fDocument.get(21, 15), text.subSequence(21, 36).toString());
+
+		fDocument.replace(0, 7, "module");
+		text= fDocument.getCharSequence();
+		assertEquals(fDocument.get(), text.toString());
+		assertEquals("module TestPackage;", text.subSequence(0, 19).toString());
+	}
+
+	@Test
+	public void testOverlappingPositionsModifiedInPlace() throws BadPositionCategoryException {
+		Position first= fDocument.getPositions(IDocument.DEFAULT_CATEGORY)[0];
+		List<Position> overlapping= Arrays.asList(fDocument.getPositions(IDocument.DEFAULT_CATEGORY, 125, 10, true, true));
+		assertFalse(overlapping.contains(first));
+
+		// clients may move positions without removing and adding them again
+		first.setOffset(130);
+		first.setLength(5);
+
+		overlapping= Arrays.asList(fDocument.getPositions(IDocument.DEFAULT_CATEGORY, 125, 10, true, true));
+		assertTrue(overlapping.contains(first));
+		overlapping= Arrays.asList(fDocument.getPositions(IDocument.DEFAULT_CATEGORY, 0, 10, true, true));
+		assertFalse(overlapping.contains(first));
+	}
+
+	@Test
+	public void testOverlappingPositionsAfterEditKeepIndex() throws BadLocationException, BadPositionCategoryException {
+		IndexCountingDocument document= new IndexCountingDocument();
+		document.set(fDocument.get());
+		for (Position position : fDocument.getPositions(IDocument.DEFAULT_CATEGORY)) {
+			document.addPosition(new Position(position.offset, position.length));
+		}
+		Position[] overlapping= document.getPositions(IDocument.DEFAULT_CATEGORY, 72, 1, true, true);
+		assertEquals(Arrays.asList(new Position(38, 111), new Position(61, 12)), Arrays.asList(overlapping));
+		assertEquals(1, document.fIndexBuilds);
+
+		document.replace(73, 0, "\t");
+		document.replace(100, 0, "\t");
+
+		overlapping= document.getPositions(IDocument.DEFAULT_CATEGORY, 100, 8, true, true);
+		assertEquals(Arrays.asList(new Position(38, 113), new Position(76, 28), new Position(107, 12)), Arrays.asList(overlapping));
+		assertEquals("index rebuilt after edit", 1, document.fIndexBuilds);
+	}
+
+	/**
+	 * Counts how often the range index of the default category is built, which copies the
+	 * positions of the category into an array.
+	 */
+	private static class IndexCountingDocument extends Document {
+		int fIndexBuilds;
+
+		IndexCountingDocument() {
+			getDocumentManagedPositions().put(IDocument.DEFAULT_CATEGORY, new ArrayList<Position>() {
+				private static final long serialVersionUID= 1L;
+
+				@Override
+				public <T> T[] toArray(T[] a) {
+					fIndexBuilds++;
+					return super.toArray(a);
+				}
+			});
+		}
+	}
 }
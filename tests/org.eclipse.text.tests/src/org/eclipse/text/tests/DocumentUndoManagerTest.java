@@ -384,6 +384,78 @@ public class DocumentUndoManagerTest {
 
 	}
 
+	@Test
+	public void testSpilledHistory() throws ExecutionException, BadLocationException {
+		String original = createRandomString(50);
+		final IDocument document = new Document(original);
+		createUndoManager(document);
+		((DocumentUndoManager) fUndoManager).setMaximalUndoSize(0);
+
+		doChange(document, 50);
+		fUndoManager.beginCompoundChange();
+		doChange(document, 50);
+		fUndoManager.endCompoundChange();
+		doChange(document, 50);
+		final String changed = document.get();
+
+		int undos = 0;
+		while (fUndoManager.undoable()) {
+			fUndoManager.undo();
+			undos++;
+		}
+		assertEquals(original, document.get());
+
+		for (int i = 0; i < undos; i++)
+			fUndoManager.redo();
+		assertEquals(changed, document.get());
+	}
+
+	@Test
+	public void testLargeReplace() throws ExecutionException, BadLocationException {
+		StringBuilder buffer = new StringBuilder();
+		for (int i = 0; i < 100; i++)
+			buffer.append("line ").append(i).append('\n');
+		final String original = buffer.toString();
+		final IDocument document = new Document(original);
+		createUndoManager(document);
+
+		final String formatted = original.replace("line 50", "\tline 50");
+		document.replace(0, document.getLength(), formatted);
+		document.replace(0, document.getLength(), formatted.toUpperCase());
+
+		fUndoManager.undo();
+		assertEquals(formatted, document.get());
+		fUndoManager.undo();
+		assertEquals(original, document.get());
+		assertFalse(fUndoManager.undoable());
+
+		fUndoManager.redo();
+		assertEquals(formatted, document.get());
+		fUndoManager.redo();
+		assertEquals(formatted.toUpperCase(), document.get());
+	}
+
+	@Test
+	public void testTypingAsCompound() throws ExecutionException, BadLocationException {
+		final IDocument document = new Document(INITIAL_DOCUMENT_CONTENT);
+		createUndoManager(document);
+
+		fUndoManager.beginCompoundChange();
+		for (int i = 0; i < 2000; i++) {
+			document.replace(10 + i, 0, String.valueOf((char) ('a' + i % 26)));
+			fUndoManager.commit();
+		}
+		document.replace(5, 3, "");
+		fUndoManager.endCompoundChange();
+		final String changed = document.get();
+
+		fUndoManager.undo();
+		assertFalse(fUndoManager.undoable());
+		assertEquals(INITIAL_DOCUMENT_CONTENT, document.get());
+		fUndoManager.redo();
+		assertEquals(changed, document.get());
+	}
+
 	private static String createRandomString(int length) {
 		final StringBuilder buffer = new StringBuilder();
 
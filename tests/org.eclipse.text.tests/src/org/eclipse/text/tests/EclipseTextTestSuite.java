@@ -45,6 +45,7 @@ import org.eclipse.text.tests.templates.TemplatesTestSuite;
 		ProjectionTestSuite.class,
 		LinkTestSuite.class,
 		CopyOnWriteTextStoreTest.class,
+		PieceTableTextStoreTest.class,
 		TextUtilitiesTest.class,
 		AnnotationModelStressTest.class,
 		AnnotationModelExtension2Test.class,
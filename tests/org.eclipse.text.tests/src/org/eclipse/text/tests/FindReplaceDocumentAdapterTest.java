@@ -17,7 +17,9 @@ package org.eclipse.text.tests;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 import java.util.regex.PatternSyntaxException;
 
@@ -27,6 +29,9 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.FindReplaceDocumentAdapter;
@@ -480,6 +485,135 @@ public class FindReplaceDocumentAdapterTest {
 		}
 	}
 
+	@Test
+	public void testFindAll() throws Exception {
+		FindReplaceDocumentAdapter adapter= new FindReplaceDocumentAdapter(fDocument);
+
+		IRegion[] regions= adapter.findAll("comment", true, false, false, null); //$NON-NLS-1$
+		assertArrayEquals(new IRegion[] { new Region(26, 7), new Region(64, 7), new Region(108, 7) }, regions);
+
+		regions= adapter.findAll("public void method\\d", false, false, true, null); //$NON-NLS-1$
+		assertEquals(2, regions.length);
+		assertEquals(adapter.find(0, "public void method\\d", true, false, false, true), regions[0]); //$NON-NLS-1$
+
+		assertEquals(0, adapter.findAll("x*", true, false, true, null).length); //$NON-NLS-1$
+		assertEquals(0, adapter.findAll("", true, false, false, null).length); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testFindAllLargeDocument() throws Exception {
+		StringBuilder text= new StringBuilder();
+		for (int i= 0; text.length() < 3 * 1024 * 1024; i++) {
+			text.append("line ").append(i).append(i % 7 == 0 ? " BEGIN" : "").append(i % 11 == 0 ? " END" : "").append('\n'); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+			if (i % 5000 == 0)
+				text.append("\n\n"); //$NON-NLS-1$
+		}
+		fDocument.set(text.toString());
+		FindReplaceDocumentAdapter adapter= new FindReplaceDocumentAdapter(fDocument);
+
+		String[] patterns= { "BEGIN[^E]*END", "(?s)BEGIN.*?END", "^line \\d+0$", "\\R\\R+", "(?s)9.{300000}", "\\d+ B" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+		for (String pattern : patterns) {
+			IRegion[] expected= findAllSequentially(adapter, pattern, true);
+			assertTrue(pattern, expected.length > 0);
+			assertArrayEquals(pattern, expected, adapter.findAll(pattern, true, false, true, null));
+		}
+		IRegion[] expected= findAllSequentially(adapter, "line 1", false); //$NON-NLS-1$
+		assertArrayEquals(expected, adapter.findAll("LINE 1", false, false, false, null)); //$NON-NLS-1$
+	}
+
+	@Test(timeout= 60000)
+	public void testFindAllLargeDocumentWhileLocked() throws Exception {
+		Object lockObject= new Object();
+		// like a synchronized document, the content view locks the document for every access
+		Document document= new Document("line\n".repeat(1024 * 1024)) { //$NON-NLS-1$
+			@Override
+			public CharSequence getCharSequence() {
+				CharSequence text= super.getCharSequence();
+				return new CharSequence() {
+					@Override
+					public int length() {
+						return text.length();
+					}
+
+					@Override
+					public char charAt(int index) {
+						synchronized (lockObject) {
+							return text.charAt(index);
+						}
+					}
+
+					@Override
+					public CharSequence subSequence(int start, int end) {
+						synchronized (lockObject) {
+							return text.subSequence(start, end).toString();
+						}
+					}
+
+					@Override
+					public String toString() {
+						synchronized (lockObject) {
+							return text.toString();
+						}
+					}
+				};
+			}
+		};
+		FindReplaceDocumentAdapter adapter= new FindReplaceDocumentAdapter(document);
+
+		synchronized (lockObject) {
+			assertEquals(1024 * 1024, adapter.findAll("^line$", true, false, true, null).length); //$NON-NLS-1$
+		}
+	}
+
+	private static IRegion[] findAllSequentially(FindReplaceDocumentAdapter adapter, String findString, boolean regExSearch) throws BadLocationException {
+		List<IRegion> regions= new ArrayList<>();
+		IRegion region= adapter.find(0, findString, true, true, false, regExSearch);
+		while (region != null) {
+			regions.add(region);
+			int end= region.getOffset() + region.getLength();
+			region= end < adapter.length() ? adapter.find(end, findString, true, true, false, regExSearch) : null;
+		}
+		return regions.toArray(new IRegion[regions.size()]);
+	}
+
+	@Test
+	public void testFindAllCanceled() {
+		fDocument.set("a\n".repeat(1024 * 1024)); //$NON-NLS-1$
+		FindReplaceDocumentAdapter adapter= new FindReplaceDocumentAdapter(fDocument);
+		NullProgressMonitor monitor= new NullProgressMonitor();
+		monitor.setCanceled(true);
+		assertThrows(OperationCanceledException.class, () -> adapter.findAll("a", true, false, false, monitor)); //$NON-NLS-1$
+	}
+
+	@Test
+	public void testReplaceAll() throws Exception {
+		FindReplaceDocumentAdapter adapter= new FindReplaceDocumentAdapter(fDocument);
+
+		assertEquals(2, adapter.replaceAll("public void (method)(\\d)", "void $1_$2", true, false, true, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(-1, fDocument.get().indexOf("public void")); //$NON-NLS-1$
+		assertTrue(fDocument.get().contains("void method_1() {\n")); //$NON-NLS-1$
+		assertTrue(fDocument.get().contains("void method_2() {\n")); //$NON-NLS-1$
+
+		assertEquals(3, adapter.replaceAll("COMMENT", "note", false, false, false, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(-1, fDocument.get().indexOf("comment")); //$NON-NLS-1$
+		assertEquals(0, adapter.replaceAll("comment", "note", true, false, false, null)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	@Test
+	public void testReplaceAllLargeDocument() throws Exception {
+		StringBuilder text= new StringBuilder();
+		StringBuilder expected= new StringBuilder();
+		for (int i= 0; i < 100000; i++) {
+			text.append("key").append(i).append("=value").append(i).append('\n'); //$NON-NLS-1$ //$NON-NLS-2$
+			expected.append("value").append(i).append(": key").append(i).append('\n'); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		fDocument.set(text.toString());
+		FindReplaceDocumentAdapter adapter= new FindReplaceDocumentAdapter(fDocument);
+
+		assertEquals(100000, adapter.replaceAll("^(\\w+)=(\\w+)$", "$2: $1", true, false, true, null)); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(expected.toString(), fDocument.get());
+	}
+
 	@Test
 	public void testRegexFindStackOverflow_fail() throws Exception {
 		// test for https://bugs.eclipse.org/bugs/show_bug.cgi?id=102699
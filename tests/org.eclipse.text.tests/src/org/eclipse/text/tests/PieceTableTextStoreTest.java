@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.ITextStore;
+import org.eclipse.jface.text.PieceTableTextStore;
+
+/**
+ * Tests for {@link PieceTableTextStore}.
+ *
+ * @since 3.15
+ */
+public class PieceTableTextStoreTest extends TextStoreTest {
+
+	@Override
+	protected ITextStore createTextStore() {
+		return new PieceTableTextStore();
+	}
+
+	@Test
+	public void testRandomEdits() {
+		Random random= new Random(42);
+		PieceTableTextStore store= new PieceTableTextStore();
+		StringBuilder expected= new StringBuilder("initial content\nof the store\n");
+		store.set(expected.toString());
+		for (int i= 0; i < 5000; i++) {
+			int offset= random.nextInt(expected.length() + 1);
+			int length= random.nextInt(Math.min(10, expected.length() - offset) + 1);
+			String text= randomText(random, random.nextInt(4) == 0 ? 5000 : 8);
+			store.replace(offset, length, text);
+			expected.replace(offset, offset + length, text);
+
+			assertEquals(expected.length(), store.getLength());
+			int probe= random.nextInt(expected.length());
+			assertEquals(expected.charAt(probe), store.get(probe));
+		}
+		assertEquals(expected.toString(), store.get(0, store.getLength()));
+		int from= expected.length() / 3;
+		assertEquals(expected.substring(from, from * 2), store.get(from, from));
+	}
+
+	@Test
+	public void testTyping() {
+		PieceTableTextStore store= new PieceTableTextStore();
+		store.set("ab");
+		String typed= "the quick brown fox";
+		for (int i= 0; i < typed.length(); i++)
+			store.replace(1 + i, 0, typed.substring(i, i + 1));
+		assertEquals("a" + typed + "b", store.get(0, store.getLength()));
+	}
+
+	@Test
+	public void testCharSequenceIsSnapshot() {
+		PieceTableTextStore store= new PieceTableTextStore();
+		store.set("0123456789");
+		CharSequence view= store.getCharSequence(2, 6);
+		store.replace(0, 5, "abc");
+		store.replace(store.getLength(), 0, "xyz");
+
+		assertEquals("234567", view.toString());
+		assertEquals('4', view.charAt(2));
+		assertEquals("45", view.subSequence(2, 4).toString());
+		assertEquals("abc56789xyz", store.getCharSequence(0, store.getLength()).toString());
+	}
+
+	@Test
+	public void testDocument() throws Exception {
+		Document document= new Document(new PieceTableTextStore(), "line1\nline2\n");
+		document.replace(6, 0, "inserted ");
+		assertEquals("line1\ninserted line2\n", document.get());
+		assertEquals(3, document.getNumberOfLines());
+		assertEquals(6, document.getLineOffset(1));
+
+		CharSequence text= document.getCharSequence();
+		document.replace(0, 5, "first");
+		assertEquals("line1\ninserted line2\n", text.toString());
+		assertEquals("first\ninserted line2\n", document.getCharSequence().toString());
+	}
+
+	private static String randomText(Random random, int maxLength) {
+		int length= random.nextInt(maxLength + 1);
+		char[] chars= new char[length];
+		for (int i= 0; i < length; i++)
+			chars[i]= (char) ('a' + random.nextInt(26));
+		return new String(chars);
+	}
+}
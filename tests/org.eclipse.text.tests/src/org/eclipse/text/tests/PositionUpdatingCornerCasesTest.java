@@ -16,11 +16,17 @@ package org.eclipse.text.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.After;
 import org.junit.Test;
 
 import org.eclipse.jface.text.BadPositionCategoryException;
+import org.eclipse.jface.text.DefaultPositionUpdater;
 import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
 import org.eclipse.jface.text.Position;
 
@@ -93,4 +99,103 @@ public class PositionUpdatingCornerCasesTest {
 		checkPositions(positions);
 
 	}
+
+	/**
+	 * Updates all positions of the category, like the default updater did before it skipped the
+	 * positions that end before the change.
+	 */
+	private static class UpdateAllPositionUpdater extends DefaultPositionUpdater {
+		UpdateAllPositionUpdater(String category) {
+			super(category);
+		}
+
+		@Override
+		public void update(DocumentEvent event) {
+			try {
+				fOffset= event.getOffset();
+				fLength= event.getLength();
+				fReplaceLength= (event.getText() == null ? 0 : event.getText().length());
+				fDocument= event.getDocument();
+
+				for (Position position : fDocument.getPositions(getCategory())) {
+					fPosition= position;
+					fOriginalPosition.offset= fPosition.offset;
+					fOriginalPosition.length= fPosition.length;
+					if (notDeleted())
+						adaptToReplace();
+				}
+			} catch (BadPositionCategoryException x) {
+				// do nothing
+			} finally {
+				fDocument= null;
+			}
+		}
+	}
+
+	@Test
+	public void testRandomEditsUpdateLikeAllPositions() throws Exception {
+		String text= "x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x";
+		fDocument= new Document(text);
+		Document expected= new Document(text);
+		expected.removePositionUpdater(expected.getPositionUpdaters()[0]);
+		expected.addPositionUpdater(new UpdateAllPositionUpdater(IDocument.DEFAULT_CATEGORY));
+
+		Random random= new Random(1);
+		for (int i= 0; i < 200; i++) {
+			int offset= random.nextInt(text.length());
+			int length= random.nextInt(Math.min(5, text.length() - offset + 1));
+			fDocument.addPosition(new Position(offset, length));
+			expected.addPosition(new Position(offset, length));
+		}
+		for (int i= 0; i < 500; i++) {
+			int offset= random.nextInt(fDocument.getLength() + 1);
+			int length= random.nextInt(Math.min(4, fDocument.getLength() - offset + 1));
+			String replacement= "yyy".substring(random.nextInt(4));
+			fDocument.replace(offset, length, replacement);
+			expected.replace(offset, length, replacement);
+			checkPositions(expected.getPositions(IDocument.DEFAULT_CATEGORY));
+		}
+	}
+
+	@Test
+	public void testPositionModifiedInPlaceIsUpdated() throws Exception {
+		fDocument= new Document("x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x");
+		Position moved= new Position(2, 2);
+		Position fixed= new Position(10, 2);
+		fDocument.addPosition(moved);
+		fDocument.addPosition(fixed);
+
+		// moves the position behind the other one without the document knowing
+		moved.offset= 14;
+		fDocument.replace(13, 0, "yy");
+
+		assertEquals(new Position(16, 2), moved);
+		assertEquals(new Position(10, 2), fixed);
+
+		fDocument.replace(15, 0, "yy");
+
+		assertEquals(new Position(18, 2), moved);
+	}
+
+	@Test
+	public void testSubclassInvestigatesAllPositions() throws Exception {
+		fDocument= new Document("x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x-x");
+		Position before= new Position(2, 2);
+		fDocument.addPosition(before);
+		fDocument.addPosition(new Position(10, 2));
+		List<Position> investigated= new ArrayList<>();
+		fDocument.removePositionUpdater(fDocument.getPositionUpdaters()[0]);
+		fDocument.addPositionUpdater(new DefaultPositionUpdater(IDocument.DEFAULT_CATEGORY) {
+			@Override
+			protected void adaptToReplace() {
+				investigated.add(fPosition);
+				super.adaptToReplace();
+			}
+		});
+
+		fDocument.replace(15, 0, "yy");
+
+		assertTrue(investigated.contains(before));
+		assertEquals(2, investigated.size());
+	}
 }
@@ -18,6 +18,7 @@ import static org.junit.Assert.*;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -41,8 +42,16 @@ import org.eclipse.text.edits.TextEditCopier;
 import org.eclipse.text.edits.UndoEdit;
 
 import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
 import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.rules.FastPartitioner;
+import org.eclipse.jface.text.rules.IPredicateRule;
+import org.eclipse.jface.text.rules.MultiLineRule;
+import org.eclipse.jface.text.rules.RuleBasedPartitionScanner;
+import org.eclipse.jface.text.rules.Token;
 
 public class TextEditTests {
 
@@ -1385,6 +1394,206 @@ public class TextEditTests {
 		assertEquals(result, 2, 1);
 	}
 
+	@Test
+	public void testBulkUpdate() throws Exception {
+		Random random= new Random(4711);
+		for (int i= 0; i < 200; i++) {
+			String original= createRandomText(random, 200);
+			MultiTextEdit root= createRandomTree(random, original.length());
+			TextEdit bulkRoot= new TextEditCopier(root).perform();
+
+			IDocument document= new Document(original);
+			IDocument bulkDocument= new Document(original);
+			int[] events= new int[1];
+			bulkDocument.addDocumentListener(new IDocumentListener() {
+				@Override
+				public void documentAboutToBeChanged(DocumentEvent event) {
+				}
+
+				@Override
+				public void documentChanged(DocumentEvent event) {
+					events[0]++;
+				}
+			});
+			UndoEdit undo= root.apply(document, TextEdit.CREATE_UNDO | TextEdit.UPDATE_REGIONS);
+			UndoEdit bulkUndo= bulkRoot.apply(bulkDocument, TextEdit.CREATE_UNDO | TextEdit.UPDATE_REGIONS | TextEdit.BULK_UPDATE);
+
+			String message= "tree " + i;
+			Assert.assertEquals(message, document.get(), bulkDocument.get());
+			Assert.assertTrue(message, events[0] <= 1);
+			List<TextEdit> edits= flatten(root);
+			List<TextEdit> bulkEdits= flatten(bulkRoot);
+			for (int j= 0; j < edits.size(); j++) {
+				Assert.assertEquals(message, edits.get(j).getOffset(), bulkEdits.get(j).getOffset());
+				Assert.assertEquals(message, edits.get(j).getLength(), bulkEdits.get(j).getLength());
+			}
+			Assert.assertEquals(message, undo.getOffset(), bulkUndo.getOffset());
+			Assert.assertEquals(message, undo.getLength(), bulkUndo.getLength());
+			Assert.assertEquals(message, undo.getChildrenSize(), bulkUndo.getChildrenSize());
+
+			bulkUndo.apply(bulkDocument);
+			Assert.assertEquals(message, original, bulkDocument.get());
+		}
+	}
+
+	@Test
+	public void testBulkUpdateWithPositions() throws Exception {
+		fRoot.addChild(new InsertEdit(2, "xx"));
+		fRoot.addChild(new ReplaceEdit(4, 2, "y"));
+		fRoot.addChild(new DeleteEdit(7, 1));
+		Position inside= new Position(3, 2);
+		Position enclosing= new Position(1, 8);
+		Position after= new Position(9, 1);
+		fDocument.addPosition(inside);
+		fDocument.addPosition(enclosing);
+		fDocument.addPosition(after);
+
+		UndoEdit undo= fRoot.apply(fDocument, TextEdit.CREATE_UNDO | TextEdit.UPDATE_REGIONS | TextEdit.BULK_UPDATE);
+		Assert.assertEquals("01xx23y689", fDocument.get());
+		assertEquals(inside, 5, 1);
+		assertEquals(enclosing, 1, 8);
+		assertEquals(after, 9, 1);
+		doUndoRedo(undo, "01xx23y689");
+
+		fDocument= new Document("0123456789");
+		enclosing= new Position(1, 8);
+		after= new Position(9, 1);
+		fDocument.addPosition(enclosing);
+		fDocument.addPosition(after);
+		fRoot= new MultiTextEdit();
+		fRoot.addChild(new InsertEdit(2, "xx"));
+		fRoot.addChild(new DeleteEdit(7, 1));
+		undo= fRoot.apply(fDocument, TextEdit.CREATE_UNDO | TextEdit.UPDATE_REGIONS | TextEdit.BULK_UPDATE);
+		Assert.assertEquals("01xx2345689", fDocument.get());
+		assertEquals(enclosing, 1, 9);
+		assertEquals(after, 10, 1);
+		doUndoRedo(undo, "01xx2345689");
+	}
+
+	@Test
+	public void testBulkUpdateWithRandomPositions() throws Exception {
+		Random random= new Random(4711);
+		for (int i= 0; i < 200; i++) {
+			String original= createRandomText(random, 200);
+			MultiTextEdit root= createRandomTree(random, original.length());
+			TextEdit bulkRoot= new TextEditCopier(root).perform();
+
+			IDocument document= new Document(original);
+			IDocument bulkDocument= new Document(original);
+			List<Position> positions= new ArrayList<>();
+			List<Position> bulkPositions= new ArrayList<>();
+			for (int j= 0; j < 10; j++) {
+				int offset= random.nextInt(original.length() + 1);
+				int length= random.nextInt(Math.min(20, original.length() - offset) + 1);
+				Position position= new Position(offset, length);
+				Position bulkPosition= new Position(offset, length);
+				document.addPosition(position);
+				bulkDocument.addPosition(bulkPosition);
+				positions.add(position);
+				bulkPositions.add(bulkPosition);
+			}
+			root.apply(document, TextEdit.NONE);
+			bulkRoot.apply(bulkDocument, TextEdit.BULK_UPDATE);
+
+			String message= "tree " + i;
+			Assert.assertEquals(message, document.get(), bulkDocument.get());
+			for (int j= 0; j < positions.size(); j++) {
+				Assert.assertEquals(message, positions.get(j), bulkPositions.get(j));
+				Assert.assertEquals(message, positions.get(j).isDeleted(), bulkPositions.get(j).isDeleted());
+			}
+		}
+	}
+
+	@Test
+	public void testBulkUpdateWithPartitioner() throws Exception {
+		String original= "a /* b */ c\n/* d\n e */ f\ng /* h */";
+		MultiTextEdit root= new MultiTextEdit();
+		root.addChild(new InsertEdit(2, "/* x */"));
+		root.addChild(new ReplaceEdit(7, 2, "*"));
+		root.addChild(new DeleteEdit(12, 3));
+		root.addChild(new InsertEdit(original.length(), " /*"));
+		TextEdit bulkRoot= new TextEditCopier(root).perform();
+
+		IDocument document= new Document(original);
+		IDocument bulkDocument= new Document(original);
+		connectPartitioner(document);
+		connectPartitioner(bulkDocument);
+		int[] events= new int[1];
+		bulkDocument.addDocumentListener(new IDocumentListener() {
+			@Override
+			public void documentAboutToBeChanged(DocumentEvent event) {
+			}
+
+			@Override
+			public void documentChanged(DocumentEvent event) {
+				events[0]++;
+			}
+		});
+		root.apply(document, TextEdit.NONE);
+		bulkRoot.apply(bulkDocument, TextEdit.BULK_UPDATE);
+
+		Assert.assertEquals(document.get(), bulkDocument.get());
+		// the partitions touch the edits but are computed by the partitioner
+		Assert.assertEquals(1, events[0]);
+		Assert.assertArrayEquals(document.computePartitioning(0, document.getLength()), bulkDocument.computePartitioning(0, bulkDocument.getLength()));
+	}
+
+	private static void connectPartitioner(IDocument document) {
+		RuleBasedPartitionScanner scanner= new RuleBasedPartitionScanner();
+		scanner.setPredicateRules(new IPredicateRule[] { new MultiLineRule("/*", "*/", new Token("comment"), (char) 0, true) });
+		FastPartitioner partitioner= new FastPartitioner(scanner, new String[] { "comment" });
+		document.setDocumentPartitioner(partitioner);
+		partitioner.connect(document);
+	}
+
+	private static String createRandomText(Random random, int length) {
+		StringBuilder buffer= new StringBuilder();
+		for (int i= 0; i < length; i++)
+			buffer.append((char) ('a' + random.nextInt(26)));
+		return buffer.toString();
+	}
+
+	private static MultiTextEdit createRandomTree(Random random, int length) {
+		MultiTextEdit root= new MultiTextEdit();
+		TextEdit parent= root;
+		int offset= random.nextInt(5);
+		while (offset < length) {
+			int editLength= Math.min(random.nextInt(5), length - offset);
+			switch (random.nextInt(5)) {
+				case 0:
+					parent.addChild(new InsertEdit(offset, createRandomText(random, random.nextInt(4))));
+					editLength= 0;
+					break;
+				case 1:
+					parent.addChild(new DeleteEdit(offset, editLength));
+					break;
+				case 2:
+					parent.addChild(new RangeMarker(offset, editLength));
+					break;
+				case 3:
+					if (parent == root) {
+						// group the following edits
+						editLength= Math.min(10 + random.nextInt(20), length - offset);
+						RangeMarker marker= new RangeMarker(offset, editLength);
+						root.addChild(marker);
+						parent= marker;
+						editLength= 0;
+						break;
+					}
+					//$FALL-THROUGH$
+				default:
+					parent.addChild(new ReplaceEdit(offset, editLength, createRandomText(random, random.nextInt(4))));
+					break;
+			}
+			offset+= editLength + random.nextInt(5);
+			if (parent != root && offset + 5 >= parent.getExclusiveEnd()) {
+				offset= parent.getExclusiveEnd();
+				parent= root;
+			}
+		}
+		return root;
+	}
+
 	private void doUndoRedo(UndoEdit undo, String redoResult) throws Exception {
 		UndoEdit redo= undo.apply(fDocument);
 		assertBufferContent();
@@ -1399,6 +1608,11 @@ public class TextEditTests {
 		Assert.assertEquals("Length", length, edit.getLength());
 	}
 
+	private void assertEquals(Position position, int offset, int length) {
+		Assert.assertEquals("Offset", offset, position.getOffset());
+		Assert.assertEquals("Length", length, position.getLength());
+	}
+
 	private void assertEquals(IRegion region, int offset, int length) {
 		Assert.assertEquals("Offset", offset, region.getOffset());
 		Assert.assertEquals("Length", length, region.getLength());
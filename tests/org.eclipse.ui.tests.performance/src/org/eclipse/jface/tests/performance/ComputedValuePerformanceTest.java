@@ -0,0 +1,116 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.value.ComputedValue;
+import org.eclipse.core.databinding.observable.value.IObservableValue;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.ui.tests.performance.BasicPerformanceTest;
+
+/**
+ * The ComputedValuePerformanceTest measures changes propagated through deep
+ * and wide graphs of computed values.
+ */
+public class ComputedValuePerformanceTest extends BasicPerformanceTest {
+
+	private static final int RUNS = 10;
+
+	private static final int CHANGES = 100;
+
+	private static final int GRAPH_SIZE = 1000;
+
+	private Realm realm;
+
+	public ComputedValuePerformanceTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		realm = new Realm() {
+			@Override
+			public boolean isCurrent() {
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Test the time for changing the source of a chain of computed values,
+	 * each depending on its predecessor and the source.
+	 */
+	public void testDeepGraph() throws Throwable {
+		Realm.runWithDefault(realm, () -> {
+			for (int run = 0; run < RUNS; run++) {
+				WritableValue<Integer> source = new WritableValue<>(0, Integer.class);
+				IObservableValue<Integer> last = source;
+				for (int i = 0; i < GRAPH_SIZE; i++) {
+					IObservableValue<Integer> previous = last;
+					last = ComputedValue.create(() -> previous.getValue() + source.getValue());
+				}
+				measureChanges(source, last);
+			}
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test the time for changing the source of many computed values which are
+	 * all read by a single computed value.
+	 */
+	public void testWideGraph() throws Throwable {
+		Realm.runWithDefault(realm, () -> {
+			for (int run = 0; run < RUNS; run++) {
+				WritableValue<Integer> source = new WritableValue<>(0, Integer.class);
+				List<IObservableValue<Integer>> values = new ArrayList<>(GRAPH_SIZE);
+				for (int i = 0; i < GRAPH_SIZE; i++) {
+					int offset = i;
+					values.add(ComputedValue.create(() -> source.getValue() + offset));
+				}
+				IObservableValue<Integer> sum = ComputedValue.create(() -> {
+					int result = 0;
+					for (IObservableValue<Integer> value : values) {
+						result += value.getValue();
+					}
+					return result;
+				});
+				measureChanges(source, sum);
+			}
+		});
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Changes the source while a listener reads the value of the sink after
+	 * every change.
+	 */
+	private void measureChanges(WritableValue<Integer> source, IObservableValue<Integer> sink) {
+		sink.addValueChangeListener(event -> event.diff.getNewValue());
+		sink.getValue();
+		startMeasuring();
+		for (int i = 1; i <= CHANGES; i++) {
+			source.setValue(i);
+		}
+		stopMeasuring();
+		sink.dispose();
+	}
+}
@@ -45,6 +45,9 @@ public class JFacePerformanceSuite extends FilteredTestSuite {
 		addTestSuite(ProgressMonitorDialogPerformanceTest.class);
 		addTestSuite(ShrinkingTreeTest.class);
 		addTestSuite(CollatorPerformanceTest.class);
+		addTestSuite(ObservableListViewerBatchTest.class);
+		addTestSuite(ComputedValuePerformanceTest.class);
+		addTestSuite(WorkerRealmViewerTest.class);
 
 	}
 }
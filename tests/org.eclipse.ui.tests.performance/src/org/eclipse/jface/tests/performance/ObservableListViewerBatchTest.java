@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.list.WritableList;
+import org.eclipse.jface.databinding.swt.DisplayRealm;
+import org.eclipse.jface.databinding.viewers.ObservableListContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * The ObservableListViewerBatchTest measures adding many elements to an
+ * observable list shown in a TableViewer, with and without a batch of the
+ * realm.
+ */
+public class ObservableListViewerBatchTest extends ViewerTest {
+
+	private static final int ELEMENT_COUNT = 1000;
+
+	TableViewer viewer;
+
+	private Realm realm;
+
+	private WritableList<TestElement> list;
+
+	public ObservableListViewerBatchTest(String testName, int tagging) {
+		super(testName, tagging);
+	}
+
+	public ObservableListViewerBatchTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Shell shell) {
+		realm = DisplayRealm.getRealm(shell.getDisplay());
+		list = new WritableList<>(realm);
+		viewer = new TableViewer(shell);
+		viewer.setContentProvider(new ObservableListContentProvider<TestElement>());
+		viewer.setLabelProvider(getLabelProvider());
+		return viewer;
+	}
+
+	@Override
+	protected Object getInitialInput() {
+		return list;
+	}
+
+	/**
+	 * Test the time for adding the elements one by one.
+	 */
+	public void testAdd() throws Throwable {
+		openBrowser();
+
+		exercise(() -> {
+			list.clear();
+			processEvents();
+			startMeasuring();
+			addElements();
+			processEvents();
+			stopMeasuring();
+		}, MIN_ITERATIONS, slowGTKIterations(),
+				JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Test the time for adding the elements one by one within a batch.
+	 */
+	public void testAddInBatch() throws Throwable {
+		openBrowser();
+
+		exercise(() -> {
+			list.clear();
+			processEvents();
+			startMeasuring();
+			realm.runBatch(this::addElements);
+			processEvents();
+			stopMeasuring();
+		}, MIN_ITERATIONS, slowGTKIterations(),
+				JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void addElements() {
+		for (int i = 0; i < ELEMENT_COUNT; i++) {
+			list.add(new TestElement(i));
+		}
+	}
+
+}
@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ ******************************************************************************/
+
+package org.eclipse.jface.tests.performance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.databinding.observable.Observables;
+import org.eclipse.core.databinding.observable.Realm;
+import org.eclipse.core.databinding.observable.WorkerRealm;
+import org.eclipse.core.databinding.observable.list.ComputedList;
+import org.eclipse.core.databinding.observable.list.IObservableList;
+import org.eclipse.core.databinding.observable.value.WritableValue;
+import org.eclipse.jface.databinding.swt.DisplayRealm;
+import org.eclipse.jface.databinding.viewers.ObservableListContentProvider;
+import org.eclipse.jface.viewers.StructuredViewer;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.Shell;
+
+/**
+ * The WorkerRealmViewerTest measures the time until a TableViewer shows the
+ * result of a series of changes to the filter of a computed list, with the
+ * computed list in the realm of the display and in a worker realm. In the
+ * worker realm, the list is computed off the UI thread and only the net
+ * differences are applied to the viewer.
+ */
+public class WorkerRealmViewerTest extends ViewerTest {
+
+	private static final int SOURCE_SIZE = 10000;
+
+	private static final int FIRST_DIVISOR = 2;
+
+	private static final int CHANGES = 20;
+
+	private final TestElement[] elements = new TestElement[SOURCE_SIZE];
+
+	TableViewer viewer;
+
+	private WorkerRealm worker;
+
+	/**
+	 * The realm of the computed list.
+	 */
+	private Realm modelRealm;
+
+	private WritableValue<Integer> divisor;
+
+	private IObservableList<TestElement> input;
+
+	public WorkerRealmViewerTest(String testName, int tagging) {
+		super(testName, tagging);
+	}
+
+	public WorkerRealmViewerTest(String testName) {
+		super(testName);
+	}
+
+	@Override
+	protected void doSetUp() throws Exception {
+		super.doSetUp();
+		for (int i = 0; i < SOURCE_SIZE; i++) {
+			elements[i] = new TestElement(i);
+		}
+		worker = new WorkerRealm(getName());
+	}
+
+	@Override
+	protected void doTearDown() throws Exception {
+		if (input != null) {
+			input.dispose();
+		}
+		worker.dispose();
+		super.doTearDown();
+	}
+
+	@Override
+	protected StructuredViewer createViewer(Shell shell) {
+		Realm displayRealm = DisplayRealm.getRealm(shell.getDisplay());
+		if (modelRealm == null) {
+			modelRealm = displayRealm;
+		}
+		divisor = new WritableValue<>(modelRealm, FIRST_DIVISOR, Integer.class);
+		IObservableList<TestElement> filtered = new ComputedList<>(modelRealm) {
+			@Override
+			protected List<TestElement> calculate() {
+				int value = divisor.getValue();
+				List<TestElement> result = new ArrayList<>();
+				for (int i = 0; i < SOURCE_SIZE; i += value) {
+					result.add(elements[i]);
+				}
+				return result;
+			}
+		};
+		input = modelRealm == displayRealm ? filtered : Observables.observeInRealm(displayRealm, filtered);
+		viewer = new TableViewer(shell);
+		viewer.setContentProvider(new ObservableListContentProvider<TestElement>());
+		viewer.setLabelProvider(getLabelProvider());
+		return viewer;
+	}
+
+	@Override
+	protected Object getInitialInput() {
+		return input;
+	}
+
+	/**
+	 * Test the time for filtering in the realm of the display.
+	 */
+	public void testFilterInDisplayRealm() throws Throwable {
+		measureFiltering();
+	}
+
+	/**
+	 * Test the time for filtering in a worker realm.
+	 */
+	public void testFilterInWorkerRealm() throws Throwable {
+		modelRealm = worker;
+		measureFiltering();
+	}
+
+	private void measureFiltering() throws Throwable {
+		openBrowser();
+		waitForItems(FIRST_DIVISOR);
+
+		exercise(() -> {
+			startMeasuring();
+			for (int i = 1; i <= CHANGES; i++) {
+				setDivisor(FIRST_DIVISOR + i);
+			}
+			waitForItems(FIRST_DIVISOR + CHANGES);
+			stopMeasuring();
+			setDivisor(FIRST_DIVISOR);
+			waitForItems(FIRST_DIVISOR);
+		}, MIN_ITERATIONS, slowGTKIterations(),
+				JFacePerformanceSuite.MAX_TIME);
+
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void setDivisor(int value) {
+		modelRealm.exec(() -> divisor.setValue(value));
+	}
+
+	/**
+	 * Runs the event loop until the viewer shows the elements for the given
+	 * divisor.
+	 */
+	private void waitForItems(int value) {
+		int expected = (SOURCE_SIZE + value - 1) / value;
+		Display display = viewer.getControl().getDisplay();
+		while (viewer.getTable().getItemCount() != expected) {
+			if (!display.readAndDispatch()) {
+				display.sleep();
+			}
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests.performance;
+
+import java.util.Iterator;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.Annotation;
+import org.eclipse.jface.text.source.AnnotationModel;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures typing into a document with many annotations while the annotations of each visible
+ * line are queried after every keystroke, like the annotation rulers do when they are painted.
+ *
+ * @since 3.15
+ */
+public class AnnotationRegionQueryPerformanceTest extends PerformanceTestCase {
+
+	private static final int RUNS= 5;
+
+	private static final int LINES= 20000;
+
+	private static final int ANNOTATIONS_PER_LINE= 5;
+
+	private static final int VISIBLE_LINES= 60;
+
+	private static final int KEYSTROKES= 200;
+
+	private static String fContent;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		if (fContent == null) {
+			StringBuilder buffer= new StringBuilder();
+			for (int line= 0; line < LINES; line++)
+				buffer.append("\tline ").append(line).append(": the quick brown fox jumps over the lazy dog\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			fContent= buffer.toString();
+		}
+	}
+
+	public void testTypingAtStart() throws Exception {
+		measureTyping(LINES / 100);
+	}
+
+	public void testTypingInMiddle() throws Exception {
+		measureTyping(LINES / 2);
+	}
+
+	public void testTypingAtEnd() throws Exception {
+		measureTyping(LINES - LINES / 100);
+	}
+
+	/**
+	 * Types characters in the given line and queries the annotations of each of the lines around
+	 * it.
+	 *
+	 * @param line the line to type in
+	 * @throws BadLocationException if an edit fails
+	 */
+	private void measureTyping(int line) throws BadLocationException {
+		for (int run= 0; run < RUNS; run++) {
+			Document document= new Document(fContent);
+			AnnotationModel model= new AnnotationModel();
+			model.connect(document);
+			for (int i= 0; i < LINES; i++) {
+				int lineOffset= document.getLineOffset(i);
+				for (int j= 0; j < ANNOTATIONS_PER_LINE; j++)
+					model.addAnnotation(new Annotation(false), new Position(lineOffset + 10 * j, 5));
+			}
+			int offset= document.getLineOffset(line) + 10;
+			int firstVisibleLine= line - VISIBLE_LINES / 2;
+
+			int count= 0;
+			startMeasuring();
+			for (int i= 0; i < KEYSTROKES; i++) {
+				document.replace(offset + i, 0, "x"); //$NON-NLS-1$
+				for (int j= firstVisibleLine; j < firstVisibleLine + VISIBLE_LINES; j++) {
+					int lineOffset= document.getLineOffset(j);
+					int lineLength= document.getLineLength(j);
+					Iterator<Annotation> iterator= model.getAnnotationIterator(lineOffset, lineLength, true, true);
+					while (iterator.hasNext()) {
+						iterator.next();
+						count++;
+					}
+				}
+			}
+			stopMeasuring();
+			assertEquals(KEYSTROKES * VISIBLE_LINES * ANNOTATIONS_PER_LINE, count);
+			model.disconnect(document);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests.performance;
+
+import java.util.Random;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.DefaultLineTracker;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DocumentRewriteSession;
+import org.eclipse.jface.text.DocumentRewriteSessionType;
+import org.eclipse.jface.text.ILineTracker;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures the line tracking of a document for formatter-style workloads (many small edits),
+ * paste-heavy workloads and line queries.
+ *
+ * @since 3.15
+ */
+public class LineTrackerPerformanceTest extends PerformanceTestCase {
+
+	private static final int RUNS= 5;
+
+	private static final int LINES= 50000;
+
+	private static final int FORMATTER_EDITS= 5000;
+
+	private static final int PASTES= 50;
+
+	private static final int QUERIES= 1000000;
+
+	private static String fContent;
+
+	private static String fPasted;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		if (fContent == null) {
+			StringBuilder buffer= new StringBuilder();
+			for (int line= 0; line < LINES; line++)
+				buffer.append("\tline ").append(line).append(": the quick brown fox jumps over the lazy dog\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			fContent= buffer.toString();
+			fPasted= fContent.substring(0, fContent.indexOf("line 500:")); //$NON-NLS-1$
+		}
+	}
+
+	public void testFormatterEdits() throws BadLocationException {
+		measureFormatterEdits(false);
+	}
+
+	public void testFormatterEditsInRewriteSession() throws BadLocationException {
+		measureFormatterEdits(true);
+	}
+
+	public void testPastes() throws BadLocationException {
+		measurePastes(false);
+	}
+
+	public void testPastesInRewriteSession() throws BadLocationException {
+		measurePastes(true);
+	}
+
+	public void testSet() throws BadLocationException {
+		ILineTracker tracker= new DefaultLineTracker();
+		tracker.replace(0, 0, ""); // switch to the tree implementation
+		for (int run= 0; run < RUNS; run++) {
+			startMeasuring();
+			tracker.set(fContent);
+			stopMeasuring();
+			assertEquals(LINES + 1, tracker.getNumberOfLines());
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	public void testQueries() throws BadLocationException {
+		Document document= createDocument();
+		Random random= new Random(0);
+		for (int run= 0; run < RUNS; run++) {
+			int checksum= 0;
+			startMeasuring();
+			for (int i= 0; i < QUERIES; i++) {
+				checksum+= document.getLineOffset(random.nextInt(LINES));
+				checksum+= document.getLineOfOffset(random.nextInt(fContent.length()));
+			}
+			stopMeasuring();
+			assertTrue(checksum != 0);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Re-indents lines spread over the whole document, the way a formatter does.
+	 *
+	 * @param inSession whether the edits are done in a rewrite session
+	 * @throws BadLocationException if an edit fails
+	 */
+	private void measureFormatterEdits(boolean inSession) throws BadLocationException {
+		for (int run= 0; run < RUNS; run++) {
+			Document document= createDocument();
+			int[] offsets= new int[FORMATTER_EDITS];
+			for (int i= 0; i < FORMATTER_EDITS; i++)
+				offsets[i]= document.getLineOffset(i * (LINES / FORMATTER_EDITS));
+			startMeasuring();
+			DocumentRewriteSession session= inSession ? document.startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED) : null;
+			for (int i= FORMATTER_EDITS - 1; i >= 0; i--)
+				document.replace(offsets[i], 1, "    "); //$NON-NLS-1$
+			if (session != null)
+				document.stopRewriteSession(session);
+			document.getLineOffset(LINES / 2);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Pastes large blocks of lines into the document.
+	 *
+	 * @param inSession whether the edits are done in a rewrite session
+	 * @throws BadLocationException if an edit fails
+	 */
+	private void measurePastes(boolean inSession) throws BadLocationException {
+		for (int run= 0; run < RUNS; run++) {
+			Document document= createDocument();
+			Random random= new Random(run);
+			int[] offsets= new int[PASTES];
+			for (int i= 0; i < PASTES; i++)
+				offsets[i]= document.getLineOffset(random.nextInt(LINES));
+			startMeasuring();
+			DocumentRewriteSession session= inSession ? document.startRewriteSession(DocumentRewriteSessionType.UNRESTRICTED) : null;
+			for (int offset : offsets)
+				document.replace(offset, 0, fPasted);
+			if (session != null)
+				document.stopRewriteSession(session);
+			document.getLineOffset(LINES / 2);
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static Document createDocument() throws BadLocationException {
+		Document document= new Document(fContent);
+		document.replace(0, 0, ""); // switch to the tree implementation
+		return document;
+	}
+}
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests.performance;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.BadPositionCategoryException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.DefaultPositionUpdater;
+import org.eclipse.jface.text.Position;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures typing into a document with many positions, like an editor showing markers,
+ * occurrences and spelling problems.
+ *
+ * @since 3.15
+ */
+public class PositionUpdatingPerformanceTest extends PerformanceTestCase {
+
+	private static final int RUNS= 5;
+
+	private static final int LINES= 20000;
+
+	private static final int POSITIONS_PER_LINE= 5;
+
+	private static final int KEYSTROKES= 2000;
+
+	private static final String CATEGORY= "annotations"; //$NON-NLS-1$
+
+	private static String fContent;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		if (fContent == null) {
+			StringBuilder buffer= new StringBuilder();
+			for (int line= 0; line < LINES; line++)
+				buffer.append("\tline ").append(line).append(": the quick brown fox jumps over the lazy dog\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			fContent= buffer.toString();
+		}
+	}
+
+	public void testTypingAtStart() throws Exception {
+		measureTyping(LINES / 100);
+	}
+
+	public void testTypingInMiddle() throws Exception {
+		measureTyping(LINES / 2);
+	}
+
+	public void testTypingAtEnd() throws Exception {
+		measureTyping(LINES - LINES / 100);
+	}
+
+	/**
+	 * Types and deletes characters in the given line.
+	 *
+	 * @param line the line to type in
+	 * @throws BadLocationException if an edit fails
+	 * @throws BadPositionCategoryException if the category is not defined
+	 */
+	private void measureTyping(int line) throws BadLocationException, BadPositionCategoryException {
+		for (int run= 0; run < RUNS; run++) {
+			Document document= createDocument();
+			int offset= document.getLineOffset(line) + 10;
+			startMeasuring();
+			for (int i= 0; i < KEYSTROKES; i++) {
+				if (i % 4 == 3)
+					document.replace(offset + i / 2 - 1, 1, ""); //$NON-NLS-1$
+				else
+					document.replace(offset + i / 2, 0, "x"); //$NON-NLS-1$
+			}
+			stopMeasuring();
+			assertEquals(LINES * POSITIONS_PER_LINE, document.getPositions(CATEGORY).length);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static Document createDocument() throws BadLocationException, BadPositionCategoryException {
+		Document document= new Document(fContent);
+		document.addPositionCategory(CATEGORY);
+		document.addPositionUpdater(new DefaultPositionUpdater(CATEGORY));
+		for (int line= 0; line < LINES; line++) {
+			int lineOffset= document.getLineOffset(line);
+			for (int i= 0; i < POSITIONS_PER_LINE; i++)
+				document.addPosition(CATEGORY, new Position(lineOffset + 10 * i, 5));
+		}
+		return document;
+	}
+}
@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests.performance;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IRegion;
+import org.eclipse.jface.text.Region;
+import org.eclipse.jface.text.projection.ProjectionDocument;
+import org.eclipse.jface.text.projection.ProjectionDocumentManager;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures collapsing and expanding all blocks of a large document in a projection document,
+ * one range after the other and with all ranges replaced at once.
+ *
+ * @since 3.15
+ */
+public class ProjectionPerformanceTest extends PerformanceTestCase {
+
+	private static final int RUNS= 5;
+
+	private static final int BLOCKS= 5000;
+
+	private static String fContent;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		if (fContent == null) {
+			StringBuilder buffer= new StringBuilder();
+			for (int block= 0; block < BLOCKS; block++)
+				buffer.append("block ").append(block).append(" {\n\tthe quick brown fox jumps over the lazy dog\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			fContent= buffer.toString();
+		}
+	}
+
+	public void testAddAndRemoveRanges() throws Exception {
+		measureCollapseAndExpand(false);
+	}
+
+	public void testReplaceRanges() throws Exception {
+		measureCollapseAndExpand(true);
+	}
+
+	/**
+	 * Hides the body of each block and shows it again.
+	 *
+	 * @param replace <code>true</code> to replace all ranges at once, <code>false</code> to
+	 *            remove and add one range after the other
+	 * @throws BadLocationException if a range is invalid
+	 */
+	private void measureCollapseAndExpand(boolean replace) throws BadLocationException {
+		for (int run= 0; run < RUNS; run++) {
+			IDocument master= new Document(fContent);
+			ProjectionDocumentManager manager= new ProjectionDocumentManager();
+			ProjectionDocument projection= (ProjectionDocument) manager.createSlaveDocument(master);
+			projection.addMasterDocumentRange(0, master.getLength());
+
+			IRegion[] captions= new IRegion[BLOCKS];
+			IRegion[] bodies= new IRegion[BLOCKS];
+			for (int block= 0; block < BLOCKS; block++) {
+				int caption= master.getLineOffset(3 * block);
+				int body= master.getLineOffset(3 * block + 1);
+				captions[block]= new Region(caption, body - caption);
+				bodies[block]= new Region(body, master.getLineOffset(3 * block + 3) - body);
+			}
+
+			startMeasuring();
+			if (replace) {
+				projection.replaceMasterDocumentRanges(captions);
+				projection.replaceMasterDocumentRanges(new IRegion[] { new Region(0, master.getLength()) });
+			} else {
+				for (IRegion body : bodies)
+					projection.removeMasterDocumentRange(body.getOffset(), body.getLength());
+				for (IRegion body : bodies)
+					projection.addMasterDocumentRange(body.getOffset(), body.getLength());
+			}
+			stopMeasuring();
+			assertEquals(fContent, projection.get());
+			manager.freeSlaveDocument(projection);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
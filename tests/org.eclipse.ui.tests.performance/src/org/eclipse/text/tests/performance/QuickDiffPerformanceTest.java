@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests.performance;
+
+import java.util.Random;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+import org.eclipse.ui.internal.texteditor.quickdiff.DocumentLineDiffer;
+
+import org.eclipse.ui.texteditor.ITextEditor;
+import org.eclipse.ui.texteditor.quickdiff.IQuickDiffReferenceProvider;
+
+/**
+ * Measures edits scattered over a large document while the quick diff differences are updated
+ * after every edit.
+ *
+ * @since 3.15
+ */
+public class QuickDiffPerformanceTest extends PerformanceTestCase {
+
+	private static final int RUNS= 5;
+
+	private static final int LINES= 100000;
+
+	private static final int EDITS= 200;
+
+	private static final int PASTED_LINES= 100;
+
+	private static String fContent;
+
+	/**
+	 * A reference provider returning a fixed reference document.
+	 */
+	private static class ReferenceProvider implements IQuickDiffReferenceProvider {
+
+		private final IDocument fReference;
+
+		ReferenceProvider(IDocument reference) {
+			fReference= reference;
+		}
+
+		@Override
+		public IDocument getReference(IProgressMonitor monitor) {
+			return fReference;
+		}
+
+		@Override
+		public void dispose() {
+		}
+
+		@Override
+		public String getId() {
+			return "performance"; //$NON-NLS-1$
+		}
+
+		@Override
+		public void setActiveEditor(ITextEditor editor) {
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return true;
+		}
+
+		@Override
+		public void setId(String id) {
+		}
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		if (fContent == null) {
+			StringBuilder buffer= new StringBuilder();
+			for (int line= 0; line < LINES; line++)
+				buffer.append("\tline ").append(line).append(": the quick brown fox jumps over the lazy dog\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			fContent= buffer.toString();
+		}
+	}
+
+	public void testTyping() throws Exception {
+		measureEdits(0);
+	}
+
+	public void testPasting() throws Exception {
+		measureEdits(PASTED_LINES);
+	}
+
+	/**
+	 * Applies edits at random lines of the document, either typing a character or pasting the
+	 * given number of lines.
+	 *
+	 * @param pastedLines the number of lines to paste, <code>0</code> to type
+	 * @throws BadLocationException if an edit fails
+	 * @throws InterruptedException if interrupted while waiting for the initial differences
+	 */
+	private void measureEdits(int pastedLines) throws BadLocationException, InterruptedException {
+		StringBuilder paste= new StringBuilder();
+		for (int i= 0; i < pastedLines; i++)
+			paste.append("\tpasted line ").append(i).append('\n'); //$NON-NLS-1$
+		String text= pastedLines > 0 ? paste.toString() : "x"; //$NON-NLS-1$
+
+		for (int run= 0; run < RUNS; run++) {
+			Random random= new Random(4711);
+			Document document= new Document(fContent);
+			DocumentLineDiffer differ= new DocumentLineDiffer();
+			differ.setReferenceProvider(new ReferenceProvider(new Document(fContent)));
+			differ.connect(document);
+			while (!differ.isSynchronized())
+				Thread.sleep(50);
+
+			startMeasuring();
+			for (int i= 0; i < EDITS; i++) {
+				int offset= document.getLineOffset(random.nextInt(LINES)) + 1;
+				document.replace(offset, 0, text);
+			}
+			stopMeasuring();
+			assertTrue(differ.isSynchronized());
+			differ.disconnect(document);
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
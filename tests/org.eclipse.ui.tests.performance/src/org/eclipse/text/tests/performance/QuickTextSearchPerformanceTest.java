@@ -0,0 +1,174 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests.performance;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.test.performance.PerformanceTestCase;
+import org.eclipse.text.quicksearch.internal.core.LineItem;
+import org.eclipse.text.quicksearch.internal.core.QuickTextQuery;
+import org.eclipse.text.quicksearch.internal.core.QuickTextSearchRequestor;
+import org.eclipse.text.quicksearch.internal.core.QuickTextSearcher;
+import org.eclipse.text.quicksearch.internal.core.priority.PriorityFunction;
+
+/**
+ * Measures a Quick Search typing session, including backspaces, in a synthetic workspace. The
+ * session is replayed once with a single searcher whose query is updated for every keystroke,
+ * and once with a new searcher for every keystroke.
+ *
+ * @since 3.15
+ */
+@SuppressWarnings("restriction")
+public class QuickTextSearchPerformanceTest extends PerformanceTestCase {
+
+	private static final int RUNS= 5;
+
+	private static final int FOLDERS= 20;
+
+	private static final int FILES_PER_FOLDER= 100;
+
+	private static final int LINES_PER_FILE= 200;
+
+	private static final String PROJECT= "QuickTextSearchPerformanceTest"; //$NON-NLS-1$
+
+	private static final String[] KEYWORDS= { "process", "provide", "protect", "produce", "print", "prime" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+
+	private static final String[] WORDS= { "value", "count", "items", "result", "buffer", "stream", "reader", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+			"writer", "index", "offset" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static final String[] SESSION= { "p", "pr", "pro", "proc", "proce", "proces", "process", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+			"proces", "proce", "proc", "pro", "prov", "provi", "provid", "provide", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$
+			"provid", "provi", "prov", "pro", "pr", "pri", "prin", "print", "prin", "pri", "pr", "p" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$ //$NON-NLS-8$ //$NON-NLS-9$ //$NON-NLS-10$ //$NON-NLS-11$ //$NON-NLS-12$
+
+	private static class IgnoringRequestor extends QuickTextSearchRequestor {
+		@Override
+		public void add(LineItem match) {
+			// only the time is measured
+		}
+
+		@Override
+		public void revoke(LineItem line) {
+			// only the time is measured
+		}
+
+		@Override
+		public void clear() {
+			// only the time is measured
+		}
+	}
+
+	private IProject fProject;
+
+	private PriorityFunction fPriorities;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fProject= ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT);
+		fProject.create(null);
+		fProject.open(null);
+		Random random= new Random(42);
+		for (int i= 0; i < FOLDERS; i++) {
+			IFolder folder= fProject.getFolder("folder" + i); //$NON-NLS-1$
+			folder.create(true, true, null);
+			for (int j= 0; j < FILES_PER_FOLDER; j++) {
+				StringBuilder text= new StringBuilder();
+				for (int k= 0; k < LINES_PER_FILE; k++) {
+					text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+					text.append(WORDS[random.nextInt(WORDS.length)]).append(" = "); //$NON-NLS-1$
+					String[] words= random.nextInt(8) == 0 ? KEYWORDS : WORDS;
+					text.append(words[random.nextInt(words.length)]).append("();\n"); //$NON-NLS-1$
+				}
+				folder.getFile("file" + j + ".txt").create( //$NON-NLS-1$ //$NON-NLS-2$
+						new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)), true, null);
+			}
+		}
+		fPriorities= new PriorityFunction() {
+			@Override
+			public double priority(IResource r) {
+				return r.getType() == IResource.ROOT || fProject.equals(r.getProject()) ? PRIORITY_DEFAULT : PRIORITY_IGNORE;
+			}
+		};
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fProject.delete(true, true, null);
+		super.tearDown();
+	}
+
+	/**
+	 * Updates the query of one searcher for every keystroke.
+	 *
+	 * @throws Exception if waiting for the searcher is interrupted
+	 */
+	public void testTypingSessionIncremental() throws Exception {
+		for (int run= 0; run < RUNS; run++) {
+			startMeasuring();
+			QuickTextSearcher searcher= createSearcher(new QuickTextQuery(SESSION[0], true));
+			try {
+				waitFor(searcher);
+				for (String pattern : SESSION) {
+					searcher.setQuery(new QuickTextQuery(pattern, true), false);
+					waitFor(searcher);
+				}
+			} finally {
+				searcher.cancel();
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Starts a new searcher for every keystroke.
+	 *
+	 * @throws Exception if waiting for a searcher is interrupted
+	 */
+	public void testTypingSessionRestarting() throws Exception {
+		for (int run= 0; run < RUNS; run++) {
+			startMeasuring();
+			for (String pattern : SESSION) {
+				QuickTextSearcher searcher= createSearcher(new QuickTextQuery(pattern, true));
+				try {
+					waitFor(searcher);
+				} finally {
+					searcher.cancel();
+				}
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private QuickTextSearcher createSearcher(QuickTextQuery query) {
+		QuickTextSearcher searcher= new QuickTextSearcher(query, fPriorities, Integer.MAX_VALUE, new IgnoringRequestor());
+		searcher.setMaxResults(Integer.MAX_VALUE);
+		return searcher;
+	}
+
+	private static void waitFor(QuickTextSearcher searcher) throws InterruptedException {
+		while (Job.getJobManager().find(searcher).length > 0)
+			Job.getJobManager().join(searcher, null);
+	}
+}
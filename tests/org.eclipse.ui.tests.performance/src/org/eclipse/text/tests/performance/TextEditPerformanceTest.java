@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests.performance;
+
+import org.eclipse.text.edits.MultiTextEdit;
+import org.eclipse.text.edits.ReplaceEdit;
+import org.eclipse.text.edits.TextEdit;
+import org.eclipse.text.edits.UndoEdit;
+
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures applying a text edit tree with one replace edit per line to a large document, like a
+ * formatter or a rename refactoring does, with and without {@link TextEdit#BULK_UPDATE}.
+ *
+ * @since 3.15
+ */
+public class TextEditPerformanceTest extends PerformanceTestCase {
+
+	private static final int RUNS= 5;
+
+	private static final int LINES= 100000;
+
+	private static final String PREFIX= "\tline "; //$NON-NLS-1$
+
+	private static String fContent;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		if (fContent == null) {
+			StringBuilder buffer= new StringBuilder();
+			for (int line= 0; line < LINES; line++)
+				buffer.append(PREFIX).append(line).append(": the quick brown fox jumps over the lazy dog\n"); //$NON-NLS-1$
+			fContent= buffer.toString();
+		}
+	}
+
+	public void testApply() throws Exception {
+		measureApply(TextEdit.CREATE_UNDO | TextEdit.UPDATE_REGIONS);
+	}
+
+	public void testBulkApply() throws Exception {
+		measureApply(TextEdit.CREATE_UNDO | TextEdit.UPDATE_REGIONS | TextEdit.BULK_UPDATE);
+	}
+
+	/**
+	 * Replaces the indentation of each line and undoes the change.
+	 *
+	 * @param style the style to apply the edits with
+	 * @throws BadLocationException if an edit fails
+	 */
+	private void measureApply(int style) throws BadLocationException {
+		for (int run= 0; run < RUNS; run++) {
+			IDocument document= new Document(fContent);
+			MultiTextEdit root= new MultiTextEdit();
+			for (int line= 0; line < LINES; line++)
+				root.addChild(new ReplaceEdit(document.getLineOffset(line), 1, "    ")); //$NON-NLS-1$
+
+			startMeasuring();
+			UndoEdit undo= root.apply(document, style);
+			undo.apply(document, style);
+			stopMeasuring();
+			assertEquals(fContent, document.get());
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+}
@@ -0,0 +1,45 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests.performance;
+
+import org.eclipse.ui.tests.performance.FilteredTestSuite;
+
+import junit.framework.Test;
+
+/**
+ * The TextPerformanceSuite are the performance tests for the text infrastructure.
+ */
+public class TextPerformanceSuite extends FilteredTestSuite {
+
+	/**
+	 * Returns the suite. This is required to use the JUnit Launcher.
+	 */
+	public static Test suite() {
+		return new TextPerformanceSuite();
+	}
+
+	public TextPerformanceSuite() {
+		super();
+		addTestSuite(TextStorePerformanceTest.class);
+		addTestSuite(LineTrackerPerformanceTest.class);
+		addTestSuite(PositionUpdatingPerformanceTest.class);
+		addTestSuite(AnnotationRegionQueryPerformanceTest.class);
+		addTestSuite(QuickDiffPerformanceTest.class);
+		addTestSuite(TextEditPerformanceTest.class);
+		addTestSuite(ProjectionPerformanceTest.class);
+		addTestSuite(TextSearchPerformanceTest.class);
+		addTestSuite(QuickTextSearchPerformanceTest.class);
+		addTestSuite(TrigramIndexPerformanceTest.class);
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests.performance;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.search.core.text.TextSearchEngine;
+import org.eclipse.search.core.text.TextSearchMatchAccess;
+import org.eclipse.search.core.text.TextSearchRequestor;
+import org.eclipse.search.core.text.TextSearchScope;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures a text search in a workspace with many small files and a few large ones, which
+ * shows how well the files are distributed over the search threads. The reference builds,
+ * which schedule the files as a group of jobs, serve as the baseline.
+ *
+ * @since 3.15
+ */
+public class TextSearchPerformanceTest extends PerformanceTestCase {
+
+	private static final int RUNS= 5;
+
+	private static final String PROJECT= "TextSearchPerformanceTest"; //$NON-NLS-1$
+
+	private static final String LINE= "the quick brown fox jumps over the lazy dog\n"; //$NON-NLS-1$
+
+	private IProject fProject;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fProject= ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT);
+		fProject.create(null);
+		fProject.open(null);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fProject.delete(true, true, null);
+		super.tearDown();
+	}
+
+	public void testSearchSmallFiles() throws Exception {
+		createFiles("small", 8000, 2 * 1024); //$NON-NLS-1$
+		measureSearch(8000);
+	}
+
+	public void testSearchMixedFileSizes() throws Exception {
+		createFiles("small", 4000, 2 * 1024); //$NON-NLS-1$
+		createFiles("medium", 100, 256 * 1024); //$NON-NLS-1$
+		createFiles("large", 2, 16 * 1024 * 1024); //$NON-NLS-1$
+		measureSearch(4102);
+	}
+
+	/**
+	 * Searches the project for a word that occurs once in every file.
+	 *
+	 * @param expectedMatches the number of files
+	 * @throws CoreException if the search fails
+	 */
+	private void measureSearch(int expectedMatches) throws CoreException {
+		Pattern pattern= TextSearchEngine.createPattern("needle", true, false); //$NON-NLS-1$
+		TextSearchScope scope= TextSearchScope.newSearchScope(new IResource[] { fProject }, Pattern.compile(".*"), false); //$NON-NLS-1$
+		for (int run= 0; run < RUNS; run++) {
+			AtomicInteger matches= new AtomicInteger();
+			TextSearchRequestor requestor= new TextSearchRequestor() {
+				@Override
+				public boolean canRunInParallel() {
+					return true;
+				}
+
+				@Override
+				public boolean acceptPatternMatch(TextSearchMatchAccess matchAccess) {
+					matches.incrementAndGet();
+					return true;
+				}
+			};
+			startMeasuring();
+			IStatus status= TextSearchEngine.create().search(scope, requestor, pattern, null);
+			stopMeasuring();
+			assertTrue(status.toString(), status.isOK());
+			assertEquals(expectedMatches, matches.get());
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Creates files of the given size, each of which contains the word "needle" once in its
+	 * middle.
+	 *
+	 * @param folderName the name of the folder to create the files in
+	 * @param count the number of files
+	 * @param size the approximate size of each file in bytes
+	 * @throws CoreException if the files cannot be created
+	 */
+	private void createFiles(String folderName, int count, int size) throws CoreException {
+		StringBuilder half= new StringBuilder();
+		while (half.length() < size / 2)
+			half.append(LINE);
+		byte[] content= (half + "needle\n" + half).getBytes(StandardCharsets.US_ASCII); //$NON-NLS-1$
+		IFolder folder= fProject.getFolder(folderName);
+		folder.create(true, true, null);
+		for (int i= 0; i < count; i++)
+			folder.getFile("file" + i + ".txt").create(new ByteArrayInputStream(content), true, null); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
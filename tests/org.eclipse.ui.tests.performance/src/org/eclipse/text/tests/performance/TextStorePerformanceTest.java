@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests.performance;
+
+import java.util.Random;
+import java.util.function.Supplier;
+
+import org.eclipse.jface.text.CopyOnWriteTextStore;
+import org.eclipse.jface.text.GapTextStore;
+import org.eclipse.jface.text.ITextStore;
+import org.eclipse.jface.text.PieceTableTextStore;
+import org.eclipse.jface.text.SequentialRewriteTextStore;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Compares the {@link ITextStore} implementations for random edits, appends and full-text reads
+ * on a large document.
+ *
+ * @since 3.15
+ */
+public class TextStorePerformanceTest extends PerformanceTestCase {
+
+	private static final int RUNS= 5;
+
+	private static final int CONTENT_LENGTH= 4 * 1024 * 1024;
+
+	private static final int RANDOM_EDITS= 500;
+
+	private static final int APPENDS= 20000;
+
+	private static String fContent;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		if (fContent == null) {
+			StringBuilder buffer= new StringBuilder(CONTENT_LENGTH);
+			int line= 0;
+			while (buffer.length() < CONTENT_LENGTH)
+				buffer.append("\tline ").append(line++).append(": the quick brown fox jumps over the lazy dog\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			fContent= buffer.toString();
+		}
+	}
+
+	public void testRandomEditsGapTextStore() {
+		measureRandomEdits(GapTextStore::new);
+	}
+
+	public void testRandomEditsCopyOnWriteTextStore() {
+		measureRandomEdits(() -> new CopyOnWriteTextStore(new GapTextStore()));
+	}
+
+	@SuppressWarnings("deprecation")
+	public void testRandomEditsSequentialRewriteTextStore() {
+		measureRandomEdits(() -> new SequentialRewriteTextStore(new GapTextStore()));
+	}
+
+	public void testRandomEditsPieceTableTextStore() {
+		measureRandomEdits(PieceTableTextStore::new);
+	}
+
+	public void testAppendsGapTextStore() {
+		measureAppends(GapTextStore::new);
+	}
+
+	public void testAppendsCopyOnWriteTextStore() {
+		measureAppends(() -> new CopyOnWriteTextStore(new GapTextStore()));
+	}
+
+	@SuppressWarnings("deprecation")
+	public void testAppendsSequentialRewriteTextStore() {
+		measureAppends(() -> new SequentialRewriteTextStore(new GapTextStore()));
+	}
+
+	public void testAppendsPieceTableTextStore() {
+		measureAppends(PieceTableTextStore::new);
+	}
+
+	public void testReadsGapTextStore() {
+		measureReads(GapTextStore::new);
+	}
+
+	public void testReadsCopyOnWriteTextStore() {
+		measureReads(() -> new CopyOnWriteTextStore(new GapTextStore()));
+	}
+
+	@SuppressWarnings("deprecation")
+	public void testReadsSequentialRewriteTextStore() {
+		measureReads(() -> new SequentialRewriteTextStore(new GapTextStore()));
+	}
+
+	public void testReadsPieceTableTextStore() {
+		measureReads(PieceTableTextStore::new);
+	}
+
+	private void measureRandomEdits(Supplier<ITextStore> factory) {
+		for (int run= 0; run < RUNS; run++) {
+			ITextStore store= createStore(factory);
+			Random random= new Random(run);
+			startMeasuring();
+			for (int i= 0; i < RANDOM_EDITS; i++) {
+				int length= store.getLength();
+				int offset= random.nextInt(length);
+				store.replace(offset, Math.min(random.nextInt(8), length - offset), "edit"); //$NON-NLS-1$
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void measureAppends(Supplier<ITextStore> factory) {
+		for (int run= 0; run < RUNS; run++) {
+			ITextStore store= createStore(factory);
+			startMeasuring();
+			for (int i= 0; i < APPENDS; i++)
+				store.replace(store.getLength(), 0, "appended line\n"); //$NON-NLS-1$
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void measureReads(Supplier<ITextStore> factory) {
+		ITextStore store= createStore(factory);
+		Random random= new Random(0);
+		for (int i= 0; i < RANDOM_EDITS; i++)
+			store.replace(random.nextInt(store.getLength()), 0, "x"); //$NON-NLS-1$
+		for (int run= 0; run < RUNS; run++) {
+			startMeasuring();
+			String text= store.get(0, store.getLength());
+			int length= store.getLength();
+			for (int i= 0; i < length; i++)
+				store.get(i);
+			stopMeasuring();
+			assertEquals(length, text.length());
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private static ITextStore createStore(Supplier<ITextStore> factory) {
+		ITextStore store= factory.get();
+		store.set(fContent);
+		return store;
+	}
+}
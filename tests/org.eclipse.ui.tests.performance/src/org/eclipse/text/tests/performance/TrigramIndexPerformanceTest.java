@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.text.tests.performance;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.search.internal.core.text.PatternConstructor;
+import org.eclipse.search.internal.core.text.TrigramIndex;
+import org.eclipse.test.performance.PerformanceTestCase;
+
+/**
+ * Measures building the trigram index of a synthetic workspace and selecting the candidate files
+ * of searches with the index.
+ *
+ * @since 3.15
+ */
+@SuppressWarnings("restriction")
+public class TrigramIndexPerformanceTest extends PerformanceTestCase {
+
+	private static final int RUNS= 5;
+
+	private static final int QUERY_RUNS= 100;
+
+	private static final int FOLDERS= 20;
+
+	private static final int FILES_PER_FOLDER= 100;
+
+	private static final int LINES_PER_FILE= 200;
+
+	private static final String PROJECT= "TrigramIndexPerformanceTest"; //$NON-NLS-1$
+
+	private static final String[] WORDS= { "value", "count", "items", "result", "buffer", "stream", "reader", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$ //$NON-NLS-7$
+			"writer", "index", "offset" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static final String RARE_WORD= "quicksilver"; //$NON-NLS-1$
+
+	private static final String[] QUERIES= { RARE_WORD, "result", "buffer\\.\\w+", "no such text" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	private IProject fProject;
+
+	private IFile[] fFiles;
+
+	private File fIndexDirectory;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fProject= ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT);
+		fProject.create(null);
+		fProject.open(null);
+		fFiles= new IFile[FOLDERS * FILES_PER_FOLDER];
+		Random random= new Random(42);
+		for (int i= 0; i < FOLDERS; i++) {
+			IFolder folder= fProject.getFolder("folder" + i); //$NON-NLS-1$
+			folder.create(true, true, null);
+			for (int j= 0; j < FILES_PER_FOLDER; j++) {
+				StringBuilder text= new StringBuilder();
+				for (int k= 0; k < LINES_PER_FILE; k++) {
+					text.append(WORDS[random.nextInt(WORDS.length)]).append('.');
+					text.append(WORDS[random.nextInt(WORDS.length)]).append(" = "); //$NON-NLS-1$
+					text.append(WORDS[random.nextInt(WORDS.length)]).append(";\n"); //$NON-NLS-1$
+				}
+				if (j % 50 == 0)
+					text.append(RARE_WORD).append('\n');
+				IFile file= folder.getFile("file" + j + ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+				file.create(new ByteArrayInputStream(text.toString().getBytes(StandardCharsets.UTF_8)), true, null);
+				fFiles[i * FILES_PER_FOLDER + j]= file;
+			}
+		}
+		fIndexDirectory= Files.createTempDirectory(PROJECT).toFile();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		deleteIndex();
+		fIndexDirectory.delete();
+		fProject.delete(true, true, null);
+		super.tearDown();
+	}
+
+	/**
+	 * Builds the index of the workspace from scratch.
+	 *
+	 * @throws Exception if waiting for the index is interrupted
+	 */
+	public void testBuildIndex() throws Exception {
+		for (int run= 0; run < RUNS; run++) {
+			deleteIndex();
+			startMeasuring();
+			TrigramIndex index= startIndex();
+			stopMeasuring();
+			index.dispose();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Selects the candidate files of literal and regular expression searches with a built index.
+	 *
+	 * @throws Exception if waiting for the index is interrupted
+	 */
+	public void testSelectCandidates() throws Exception {
+		Pattern[] patterns= new Pattern[QUERIES.length];
+		for (int i= 0; i < QUERIES.length; i++)
+			patterns[i]= PatternConstructor.createPattern(QUERIES[i], true, i == 2);
+		TrigramIndex index= startIndex();
+		try {
+			for (int run= 0; run < RUNS; run++) {
+				startMeasuring();
+				for (int i= 0; i < QUERY_RUNS; i++) {
+					for (Pattern pattern : patterns)
+						index.selectCandidates(fFiles, pattern, file -> false);
+				}
+				stopMeasuring();
+			}
+		} finally {
+			index.dispose();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private TrigramIndex startIndex() throws InterruptedException {
+		TrigramIndex index= new TrigramIndex(fIndexDirectory);
+		index.start();
+		Job.getJobManager().join(index, null);
+		return index;
+	}
+
+	private void deleteIndex() throws IOException {
+		File[] files= fIndexDirectory.listFiles();
+		if (files != null) {
+			for (File file : files)
+				Files.delete(file.toPath());
+		}
+	}
+}
@@ -14,16 +14,29 @@
 package org.eclipse.ui.workbench.texteditor.tests;
 
 import static org.eclipse.jface.text.DocumentRewriteSessionType.SEQUENTIAL;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.Test;
 
+import org.eclipse.core.runtime.IProgressMonitor;
+
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.source.ILineDiffInfo;
 
 import org.eclipse.ui.internal.texteditor.quickdiff.DocumentLineDiffer;
 
+import org.eclipse.ui.texteditor.ITextEditor;
+import org.eclipse.ui.texteditor.quickdiff.IQuickDiffReferenceProvider;
+
 /**
  * Tests for the {@link DocumentLineDiffer}.
  */
@@ -36,6 +49,45 @@ public class DocumentLineDifferTest {
 	/** The {@link DocumentLineDiffer line differ} under test. */
 	private final DocumentLineDiffer fLineDiffer= new DocumentLineDiffer();
 
+	/**
+	 * A reference provider returning a fixed reference document.
+	 */
+	private static class ReferenceProvider implements IQuickDiffReferenceProvider {
+
+		private final IDocument fReference;
+
+		ReferenceProvider(IDocument reference) {
+			fReference= reference;
+		}
+
+		@Override
+		public IDocument getReference(IProgressMonitor monitor) {
+			return fReference;
+		}
+
+		@Override
+		public void dispose() {
+		}
+
+		@Override
+		public String getId() {
+			return "test";
+		}
+
+		@Override
+		public void setActiveEditor(ITextEditor editor) {
+		}
+
+		@Override
+		public boolean isEnabled() {
+			return true;
+		}
+
+		@Override
+		public void setId(String id) {
+		}
+	}
+
 
 	/**
 	 * Test that when a document is {@link DocumentLineDiffer#connect(IDocument) connected} the
@@ -169,4 +221,71 @@ public class DocumentLineDifferTest {
 		assertFalse(fLineDiffer.isSuspended());
 	}
 
+	/**
+	 * Test that edits of any size are merged into the differences without re-initializing the
+	 * differ, and that the lines are classified as after a full compare.
+	 *
+	 * @throws Exception unexpected exception
+	 */
+	@Test
+	public void incrementalUpdatesKeepLineDifferSynchronized() throws Exception {
+		// given
+		StringBuilder content= new StringBuilder();
+		for (int i= 0; i < 2000; i++)
+			content.append("line ").append(i).append('\n');
+		fDocument.set(content.toString());
+		fLineDiffer.setReferenceProvider(new ReferenceProvider(new Document(content.toString())));
+		fLineDiffer.connect(fDocument);
+		waitForSynchronized();
+
+		// original lines are unchanged, all others are new and unique
+		List<Boolean> unchanged= new ArrayList<>(Collections.nCopies(fDocument.getNumberOfLines(), Boolean.TRUE));
+		Random random= new Random(4711);
+		int newLines= 0;
+		for (int i= 0; i < 300; i++) {
+			// when
+			int line= random.nextInt(fDocument.getNumberOfLines() - 1);
+			int count= random.nextInt(random.nextInt(5) == 0 ? 200 : 5) + 1;
+			count= Math.min(count, fDocument.getNumberOfLines() - 1 - line);
+			int offset= fDocument.getLineOffset(line);
+			switch (random.nextInt(4)) {
+				case 0: // type into a line
+					fDocument.replace(offset + random.nextInt(fDocument.getLineLength(line)), 0, "x");
+					unchanged.set(line, Boolean.FALSE);
+					break;
+				case 1: // delete lines
+					fDocument.replace(offset, fDocument.getLineOffset(line + count) - offset, "");
+					unchanged.subList(line, line + count).clear();
+					break;
+				default: // insert or replace lines
+					int length= random.nextBoolean() ? 0 : fDocument.getLineOffset(line + count) - offset;
+					if (length > 0)
+						unchanged.subList(line, line + count).clear();
+					StringBuilder text= new StringBuilder();
+					for (int j= 0; j < count; j++)
+						text.append("new ").append(newLines++).append('\n');
+					fDocument.replace(offset, length, text.toString());
+					unchanged.addAll(line, Collections.nCopies(count, Boolean.FALSE));
+					break;
+			}
+
+			// then
+			assertTrue(fLineDiffer.isSynchronized());
+			assertEquals(unchanged.size(), fDocument.getNumberOfLines());
+			for (int l= 0; l < unchanged.size(); l++) {
+				ILineDiffInfo info= fLineDiffer.getLineInfo(l);
+				assertNotNull(info);
+				assertEquals("edit " + i + ", line " + l, unchanged.get(l).booleanValue(), info.getChangeType() == ILineDiffInfo.UNCHANGED);
+			}
+		}
+	}
+
+	private void waitForSynchronized() throws InterruptedException {
+		long timeout= System.currentTimeMillis() + 10000;
+		while (!fLineDiffer.isSynchronized()) {
+			assertTrue("differ not synchronized", System.currentTimeMillis() < timeout);
+			Thread.sleep(20);
+		}
+	}
+
 }